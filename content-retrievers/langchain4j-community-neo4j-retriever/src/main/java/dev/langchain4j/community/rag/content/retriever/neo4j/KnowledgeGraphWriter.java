@@ -3,10 +3,12 @@ package dev.langchain4j.community.rag.content.retriever.neo4j;
 import static dev.langchain4j.community.rag.content.retriever.neo4j.Neo4jUtils.generateMD5;
 import static dev.langchain4j.community.rag.content.retriever.neo4j.Neo4jUtils.sanitizeOrThrows;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.Experimental;
 import dev.langchain4j.community.data.document.graph.GraphDocument;
+import dev.langchain4j.community.data.document.graph.GraphEdge;
 import dev.langchain4j.community.data.document.graph.GraphNode;
 import dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingStore;
 import dev.langchain4j.data.document.Document;
@@ -16,8 +18,15 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Experimental
 public class KnowledgeGraphWriter {
@@ -28,6 +37,9 @@ public class KnowledgeGraphWriter {
     public static final String DEFAULT_LABEL = "__Entity__";
     public static final String DEFAULT_CONS_NAME = "knowledge_cons";
     public static final String DEFAULT_REL_TYPE = "HAS_ENTITY";
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+    public static final int DEFAULT_EMBEDDING_BATCH_SIZE = 256;
+    public static final int DEFAULT_WRITE_CONCURRENCY = 1;
 
     final String label;
     final String relType;
@@ -44,6 +56,10 @@ public class KnowledgeGraphWriter {
     private final Neo4jEmbeddingStore embeddingStore;
     private EmbeddingModel embeddingModel = null;
 
+    private final int batchSize;
+    private final int embeddingBatchSize;
+    private final int writeConcurrency;
+
     public KnowledgeGraphWriter(
             Neo4jGraph graph,
             String idProperty,
@@ -53,6 +69,37 @@ public class KnowledgeGraphWriter {
             String constraintName,
             Neo4jEmbeddingStore embeddingStore,
             EmbeddingModel embeddingModel) {
+        this(
+                graph,
+                idProperty,
+                label,
+                textProperty,
+                relType,
+                constraintName,
+                embeddingStore,
+                embeddingModel,
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * @param batchSize          the number of rows per {@code UNWIND} batch in {@link #addGraphDocumentsInBulk(List, boolean)} (default: 1000)
+     * @param embeddingBatchSize the number of nodes per {@code embedAll} call in {@link #addGraphDocumentsInBulk(List, boolean)} (default: 256)
+     * @param writeConcurrency   the number of sessions writing in parallel in {@link #addGraphDocumentsInBulk(List, boolean)} (default: 1)
+     */
+    public KnowledgeGraphWriter(
+            Neo4jGraph graph,
+            String idProperty,
+            String label,
+            String textProperty,
+            String relType,
+            String constraintName,
+            Neo4jEmbeddingStore embeddingStore,
+            EmbeddingModel embeddingModel,
+            Integer batchSize,
+            Integer embeddingBatchSize,
+            Integer writeConcurrency) {
         this.graph = ensureNotNull(graph, "graph");
 
         this.embeddingStore = embeddingStore;
@@ -77,6 +124,12 @@ public class KnowledgeGraphWriter {
         this.sanitizedIdProperty = sanitizeOrThrows(this.idProperty, "idProperty");
         this.sanitizedTextProperty = sanitizeOrThrows(this.textProperty, "textProperty");
 
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.embeddingBatchSize = ensureGreaterThanZero(
+                getOrDefault(embeddingBatchSize, DEFAULT_EMBEDDING_BATCH_SIZE), "embeddingBatchSize");
+        this.writeConcurrency =
+                ensureGreaterThanZero(getOrDefault(writeConcurrency, DEFAULT_WRITE_CONCURRENCY), "writeConcurrency");
+
         createConstraint();
     }
 
@@ -105,33 +158,283 @@ public class KnowledgeGraphWriter {
                         "rows", graphDoc.nodes().stream().map(Neo4jUtils::toMap).toList());
             }
             if (includeSource) {
-                // create a copyOf metadata, not to update existing graphDoc,
-                // subsequent tests could potentially fail
-                final Map<String, Object> metadata =
-                        new HashMap<>(Map.copyOf(source.metadata().toMap()));
-                if (!metadata.containsKey(idProperty)) {
-                    metadata.put(idProperty, generateMD5(source.text()));
-                }
-                final Map<String, Object> document = Map.of("metadata", metadata, "text", source.text());
-                nodeParams.put("document", document);
+                nodeParams.put("document", toDocumentRow(source));
             }
 
             insertNodes(includeSource, graphDoc, nodeParams);
 
             // Import relationships
             List<Map<String, String>> relData = graphDoc.relationships().stream()
-                    .map(rel -> Map.of(
-                            "source", rel.sourceNode().id(),
-                            "source_label", rel.sourceNode().type(),
-                            "target", rel.targetNode().id(),
-                            "target_label", rel.targetNode().type(),
-                            "type", rel.type().replace(" ", "_").toUpperCase()))
+                    .map(this::toRelationshipRow)
                     .toList();
             String relImportQuery = getRelImportQuery();
             graph.executeWrite(relImportQuery, Map.of("data", relData));
         }
     }
 
+    /**
+     * Imports the graph documents all together, instead of one document at a time like
+     * {@link #addGraphDocuments(List, boolean)}:
+     * <ul>
+     *     <li>the nodes are de-duplicated across the documents by id, merging their properties and, like the
+     *     documents written one at a time, adding the labels of all their types,
+     *     and the relationships by source, type and target;</li>
+     *     <li>if an embedding store is configured, the nodes are embedded in batches of {@code embeddingBatchSize}
+     *     and stored via {@link Neo4jEmbeddingStore#addAll(List, List, List)},
+     *     otherwise they are written in {@code UNWIND} batches of {@code batchSize} rows;</li>
+     *     <li>the source documents, if included, are written together with their links to the nodes;</li>
+     *     <li>the relationships are written in {@code UNWIND} batches by up to {@code writeConcurrency} sessions.
+     *     The nodes are hashed into {@code writeConcurrency} buckets, and the relationships are grouped by the
+     *     buckets of their endpoints, so that the batches written at the same time never lock the same nodes.</li>
+     * </ul>
+     * Unlike {@link #addGraphDocuments(List, boolean)}, the entity creation query and the additional params of the
+     * embedding store are not modified.
+     *
+     * @param graphDocuments the graph documents to import
+     * @param includeSource  whether the source documents are imported as well, linked to their nodes
+     */
+    @SuppressWarnings("unchecked")
+    public void addGraphDocumentsInBulk(List<GraphDocument> graphDocuments, boolean includeSource) {
+        Map<String, GraphNode> nodes = new LinkedHashMap<>();
+        Map<String, Set<String>> nodeTypes = new HashMap<>();
+        Map<String, Map<String, String>> relationships = new LinkedHashMap<>();
+        Map<Object, Map<String, Object>> documents = new LinkedHashMap<>();
+
+        for (GraphDocument graphDoc : graphDocuments) {
+            for (GraphNode node : graphDoc.nodes()) {
+                nodes.merge(node.id(), node, KnowledgeGraphWriter::mergeNodes);
+                nodeTypes
+                        .computeIfAbsent(node.id(), id -> new LinkedHashSet<>())
+                        .add(node.type());
+            }
+            for (GraphEdge rel : graphDoc.relationships()) {
+                Map<String, String> row = toRelationshipRow(rel);
+                String key = row.get("source") + '\u0000' + row.get("type") + '\u0000' + row.get("target");
+                relationships.putIfAbsent(key, row);
+            }
+            if (includeSource) {
+                Map<String, Object> document = toDocumentRow(graphDoc.source());
+                Map<String, Object> metadata = (Map<String, Object>) document.get("metadata");
+                Map<String, Object> row = documents.computeIfAbsent(metadata.get(idProperty), id -> {
+                    Map<String, Object> newRow = new HashMap<>(document);
+                    newRow.put("entities", new LinkedHashSet<String>());
+                    return newRow;
+                });
+                graphDoc.nodes().forEach(node -> ((Set<String>) row.get("entities")).add(node.id()));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(writeConcurrency);
+        try {
+            insertNodesInBulk(new ArrayList<>(nodes.values()), nodeTypes, executor);
+
+            if (includeSource) {
+                List<Map<String, Object>> documentRows = documents.values().stream()
+                        .map(row -> {
+                            Map<String, Object> documentRow = new HashMap<>(row);
+                            documentRow.put("entities", new ArrayList<>((Set<String>) row.get("entities")));
+                            return documentRow;
+                        })
+                        .toList();
+                // the documents are written by a single session, since they share the entities they link to
+                String documentImportQuery = getDocumentsImportQuery();
+                partition(documentRows, batchSize)
+                        .forEach(rows -> graph.executeWrite(documentImportQuery, Map.of("rows", rows)));
+            }
+
+            insertRelationshipsInBulk(new ArrayList<>(relationships.values()), executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static GraphNode mergeNodes(GraphNode existing, GraphNode node) {
+        if (node.properties().isEmpty()) {
+            return existing;
+        }
+        Map<String, String> properties = new HashMap<>(node.properties());
+        properties.putAll(existing.properties());
+        return GraphNode.from(existing.id(), existing.type(), properties);
+    }
+
+    /**
+     * The row of a node, whose type is the list of the types of the nodes sharing its id,
+     * all set as labels by the node import query.
+     */
+    private static Map<String, Object> toNodeRow(GraphNode node, Set<String> types) {
+        Map<String, Object> row = new HashMap<>(Neo4jUtils.toMap(node));
+        row.put("type", new ArrayList<>(types));
+        return row;
+    }
+
+    private Map<String, String> toRelationshipRow(GraphEdge rel) {
+        return Map.of(
+                "source", rel.sourceNode().id(),
+                "source_label", rel.sourceNode().type(),
+                "target", rel.targetNode().id(),
+                "target_label", rel.targetNode().type(),
+                "type", rel.type().replace(" ", "_").toUpperCase());
+    }
+
+    private Map<String, Object> toDocumentRow(Document source) {
+        // create a copyOf metadata, not to update existing graphDoc,
+        // subsequent tests could potentially fail
+        final Map<String, Object> metadata = new HashMap<>(Map.copyOf(source.metadata().toMap()));
+        if (!metadata.containsKey(idProperty)) {
+            metadata.put(idProperty, generateMD5(source.text()));
+        }
+        return Map.of("metadata", metadata, "text", source.text());
+    }
+
+    private void insertNodesInBulk(
+            List<GraphNode> nodes, Map<String, Set<String>> nodeTypes, ExecutorService executor) {
+        if (embeddingStore == null) {
+            // the nodes are unique, so the batches can be written in parallel without contention
+            String nodeImportQuery = getNodeImportQuery(false);
+            List<Runnable> writes = partition(nodes, batchSize).stream()
+                    .<Runnable>map(batch -> () -> graph.executeWrite(
+                            nodeImportQuery,
+                            Map.of(
+                                    "rows",
+                                    batch.stream()
+                                            .map(node -> toNodeRow(node, nodeTypes.get(node.id())))
+                                            .toList())))
+                    .toList();
+            runAll(writes, executor);
+            return;
+        }
+
+        for (List<GraphNode> batch : partition(nodes, embeddingBatchSize)) {
+            List<String> ids = new ArrayList<>(batch.size());
+            List<TextSegment> segments = new ArrayList<>(batch.size());
+            for (GraphNode node : batch) {
+                ids.add(node.id());
+                segments.add(toTextSegment(node));
+            }
+            final List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            this.embeddingStore.addAll(ids, embeddings, segments);
+        }
+    }
+
+    /**
+     * Writes the relationships in rounds: the first one writes the relationships whose endpoints fall in the same
+     * bucket, one bucket per session, and each following round writes the relationships between the pairs of buckets
+     * of a round-robin schedule, where each bucket appears in a single pair.
+     */
+    private void insertRelationshipsInBulk(List<Map<String, String>> relationships, ExecutorService executor) {
+        int buckets = writeConcurrency;
+        Map<Long, List<Map<String, String>>> relationshipsByBuckets = new HashMap<>();
+        for (Map<String, String> row : relationships) {
+            int sourceBucket = Math.floorMod(row.get("source").hashCode(), buckets);
+            int targetBucket = Math.floorMod(row.get("target").hashCode(), buckets);
+            relationshipsByBuckets
+                    .computeIfAbsent(bucketPair(sourceBucket, targetBucket), key -> new ArrayList<>())
+                    .add(row);
+        }
+
+        String relImportQuery = getRelImportQuery();
+        for (List<Long> round : bucketRounds(buckets)) {
+            List<Runnable> writes = new ArrayList<>();
+            for (Long pair : round) {
+                List<Map<String, String>> rows = relationshipsByBuckets.getOrDefault(pair, List.of());
+                // the batches of the same pair are written sequentially by the same session
+                if (!rows.isEmpty()) {
+                    writes.add(() -> partition(rows, batchSize)
+                            .forEach(batch -> graph.executeWrite(relImportQuery, Map.of("data", batch))));
+                }
+            }
+            runAll(writes, executor);
+        }
+    }
+
+    private static long bucketPair(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    /**
+     * The rounds of bucket pairs, computed with the circle method, such that every pair of buckets is in exactly
+     * one round and no bucket appears twice in the same round.
+     */
+    static List<List<Long>> bucketRounds(int buckets) {
+        List<List<Long>> rounds = new ArrayList<>();
+        List<Long> sameBucket = new ArrayList<>();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            sameBucket.add(bucketPair(bucket, bucket));
+        }
+        rounds.add(sameBucket);
+
+        // with an odd number of buckets, a dummy bucket is added and the pairs including it are skipped
+        int players = buckets % 2 == 0 ? buckets : buckets + 1;
+        for (int round = 0; round < players - 1; round++) {
+            List<Long> pairs = new ArrayList<>();
+            for (int i = 0; i < players / 2; i++) {
+                int first = (round + i) % (players - 1);
+                int second = i == 0 ? players - 1 : (round + players - 1 - i) % (players - 1);
+                if (first < buckets && second < buckets) {
+                    pairs.add(bucketPair(first, second));
+                }
+            }
+            rounds.add(pairs);
+        }
+        return rounds;
+    }
+
+    private static void runAll(List<Runnable> writes, ExecutorService executor) {
+        if (writes.size() <= 1) {
+            writes.forEach(Runnable::run);
+            return;
+        }
+        List<Future<?>> futures = writes.stream().<Future<?>>map(executor::submit).toList();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing the graph documents", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int start = 0; start < list.size(); start += size) {
+            batches.add(list.subList(start, Math.min(start + size, list.size())));
+        }
+        return batches;
+    }
+
+    private static TextSegment toTextSegment(GraphNode node) {
+        final Map<String, String> properties = new HashMap<>(node.properties());
+        properties.put("type", node.type());
+        return TextSegment.from(node.id(), Metadata.from(properties));
+    }
+
+    /**
+     * Links the documents to their entities, merging the entities like {@link #mergeSourceWithDocs(boolean)}:
+     * with the label of the embedding store if configured, and creating the entities which don't exist yet.
+     */
+    private String getDocumentsImportQuery() {
+        return String.format(
+                """
+                        UNWIND $rows AS row
+                        MERGE (d:Document {%1$s: row.metadata.%1$s})
+                        SET d.%2$s = row.text
+                        SET d += row.metadata
+                        WITH d, row
+                        UNWIND row.entities AS entityId
+                        MERGE (source:%3$s {%4$s: entityId})
+                        MERGE (d)-[:%5$s]->(source)
+                        RETURN count(*) AS total
+                        """,
+                sanitizedIdProperty, sanitizedTextProperty, sanitizedLabel, sanitizedIdProperty, sanitizedRelType);
+    }
+
     private void insertNodes(boolean includeSource, GraphDocument graphDoc, Map<String, Object> nodeParams) {
         if (embeddingStore == null) {
             String nodeImportQuery = getNodeImportQuery(includeSource);
@@ -154,12 +457,8 @@ public class KnowledgeGraphWriter {
         List<String> ids = new ArrayList<>();
         List<TextSegment> segments = new ArrayList<>();
         for (GraphNode node : graphDoc.nodes()) {
-            final Map<String, String> properties = new HashMap<>(node.properties());
-            properties.put("type", node.type());
-            final String id = node.id();
-            final TextSegment segment = TextSegment.from(id, Metadata.from(properties));
-            ids.add(id);
-            segments.add(segment);
+            ids.add(node.id());
+            segments.add(toTextSegment(node));
         }
 
         final List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
@@ -221,6 +520,9 @@ public class KnowledgeGraphWriter {
         private Neo4jGraph graph;
         private Neo4jEmbeddingStore embeddingStore;
         private EmbeddingModel embeddingModel;
+        private Integer batchSize;
+        private Integer embeddingBatchSize;
+        private Integer writeConcurrency;
 
         /**
          * @param graph the {@link Neo4jGraph} (required)
@@ -294,9 +596,46 @@ public class KnowledgeGraphWriter {
             return this;
         }
 
+        /**
+         * @param batchSize the number of rows per {@code UNWIND} batch,
+         *                  to be used with {@link #addGraphDocumentsInBulk(List, boolean)} (default: 1000)
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param embeddingBatchSize the maximum number of nodes per {@code embedAll} call, to be used with
+         *                           {@link #addGraphDocumentsInBulk(List, boolean)} (default: 256)
+         */
+        public Builder embeddingBatchSize(Integer embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+            return this;
+        }
+
+        /**
+         * @param writeConcurrency the number of sessions writing in parallel,
+         *                         to be used with {@link #addGraphDocumentsInBulk(List, boolean)} (default: 1)
+         */
+        public Builder writeConcurrency(Integer writeConcurrency) {
+            this.writeConcurrency = writeConcurrency;
+            return this;
+        }
+
         public KnowledgeGraphWriter build() {
             return new KnowledgeGraphWriter(
-                    graph, idProperty, label, textProperty, relType, constraintName, embeddingStore, embeddingModel);
+                    graph,
+                    idProperty,
+                    label,
+                    textProperty,
+                    relType,
+                    constraintName,
+                    embeddingStore,
+                    embeddingModel,
+                    batchSize,
+                    embeddingBatchSize,
+                    writeConcurrency);
         }
     }
 }
@@ -2,10 +2,17 @@ package dev.langchain4j.community.rag.content.retriever.neo4j;
 
 import static dev.langchain4j.community.rag.content.retriever.neo4j.Neo4jGraphSchemaUtils.getSchemaFromMetadata;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 
 import dev.langchain4j.internal.ValidationUtils;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.neo4j.driver.AuthTokens;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
@@ -13,36 +20,93 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Neo4jGraph implements AutoCloseable {
 
     public record StructuredSchema(
             List<String> nodesProperties, List<String> relationshipsProperties, List<String> patterns) {}
 
+    private static final Logger log = LoggerFactory.getLogger(Neo4jGraph.class);
+
+    private static final StructuredSchema EMPTY_SCHEMA = new StructuredSchema(List.of(), List.of(), List.of());
+
+    /**
+     * The structured schema together with its version, swapped atomically by each refresh
+     */
+    private record VersionedSchema(StructuredSchema schema, long version) {}
+
     private final Driver driver;
     private final Long sample;
     private final Long maxRels;
+    private final Integer maxLabels;
+    private final Integer maxRelationshipTypes;
 
-    private StructuredSchema structuredSchema;
+    private final AtomicReference<VersionedSchema> versionedSchema =
+            new AtomicReference<>(new VersionedSchema(EMPTY_SCHEMA, 0));
+    private final AtomicReference<CompletableFuture<StructuredSchema>> runningRefresh = new AtomicReference<>();
+    private ScheduledExecutorService schemaRefresher;
 
     public Neo4jGraph(Driver driver, Long sample, Long maxRels) {
+        this(driver, sample, maxRels, null, null, false, null);
+    }
+
+    /**
+     * @param maxLabels             if not null, the schema includes only the {@code maxLabels} most populated labels
+     * @param maxRelationshipTypes  if not null, the schema includes only the {@code maxRelationshipTypes} most used relationship types
+     * @param asyncSchemaRefresh    if true, the constructor doesn't wait for the schema, which is read in background,
+     *                              and the structured schema is empty until then
+     * @param schemaRefreshInterval if not null, the schema is refreshed in background with this interval
+     */
+    public Neo4jGraph(
+            Driver driver,
+            Long sample,
+            Long maxRels,
+            Integer maxLabels,
+            Integer maxRelationshipTypes,
+            boolean asyncSchemaRefresh,
+            Duration schemaRefreshInterval) {
 
         this.sample = getOrDefault(sample, 1000L);
         this.maxRels = getOrDefault(maxRels, 100L);
+        this.maxLabels = maxLabels == null ? null : ensureGreaterThanZero(maxLabels, "maxLabels");
+        this.maxRelationshipTypes = maxRelationshipTypes == null
+                ? null
+                : ensureGreaterThanZero(maxRelationshipTypes, "maxRelationshipTypes");
         this.driver = ValidationUtils.ensureNotNull(driver, "driver");
         this.driver.verifyConnectivity();
-        try {
+
+        if (asyncSchemaRefresh) {
+            refreshSchemaAsync().exceptionally(e -> {
+                log.warn("Error reading the Neo4j schema", e);
+                return null;
+            });
+        } else {
             refreshSchema();
-        } catch (ClientException e) {
-            if ("Neo.ClientError.Procedure.ProcedureNotFound".equals(e.code())) {
-                throw new Neo4jException("Please ensure the APOC plugin is installed in Neo4j", e);
-            }
-            throw e;
+        }
+
+        if (schemaRefreshInterval != null) {
+            long intervalMillis = schemaRefreshInterval.toMillis();
+            getSchemaRefresher()
+                    .scheduleWithFixedDelay(
+                            this::refreshSchemaQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
         }
     }
 
+    /**
+     * @return the latest structured schema, which is empty until the first refresh completes
+     */
     public StructuredSchema getStructuredSchema() {
-        return structuredSchema;
+        return versionedSchema.get().schema();
+    }
+
+    /**
+     * @return the version of the structured schema, incremented by the first refresh and by each refresh which
+     * changes the schema, so that the data derived from the schema can be invalidated cheaply
+     */
+    public long getSchemaVersion() {
+        return versionedSchema.get().version();
     }
 
     public ResultSummary executeWrite(String queryString) {
@@ -71,12 +135,83 @@ public class Neo4jGraph implements AutoCloseable {
                 .records();
     }
 
+    /**
+     * Reads the schema, and swaps it with the current one when done if it has changed
+     */
     public void refreshSchema() {
-        this.structuredSchema = getSchemaFromMetadata(this, sample, maxRels);
+        final StructuredSchema schema;
+        try {
+            schema = getSchemaFromMetadata(this, sample, maxRels, maxLabels, maxRelationshipTypes);
+        } catch (ClientException e) {
+            if ("Neo.ClientError.Procedure.ProcedureNotFound".equals(e.code())) {
+                throw new Neo4jException("Please ensure the APOC plugin is installed in Neo4j", e);
+            }
+            throw e;
+        }
+        versionedSchema.updateAndGet(previous -> {
+            // an unchanged schema keeps its version, not to invalidate the data derived from it
+            if (previous.version() > 0 && previous.schema().equals(schema)) {
+                return previous;
+            }
+            return new VersionedSchema(schema, previous.version() + 1);
+        });
+    }
+
+    /**
+     * Refreshes the schema in background, without blocking the readers of the current one.
+     * If a refresh is already running, no other one is started.
+     *
+     * @return the running refresh, completed with the new schema
+     */
+    public CompletableFuture<StructuredSchema> refreshSchemaAsync() {
+        while (true) {
+            CompletableFuture<StructuredSchema> running = runningRefresh.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<StructuredSchema> refresh = new CompletableFuture<>();
+            if (runningRefresh.compareAndSet(null, refresh)) {
+                getSchemaRefresher().execute(() -> {
+                    try {
+                        refreshSchema();
+                        runningRefresh.set(null);
+                        refresh.complete(getStructuredSchema());
+                    } catch (Throwable e) {
+                        runningRefresh.set(null);
+                        refresh.completeExceptionally(e);
+                    }
+                });
+                return refresh;
+            }
+        }
+    }
+
+    private void refreshSchemaQuietly() {
+        try {
+            refreshSchemaAsync().join();
+        } catch (RuntimeException e) {
+            log.warn("Error refreshing the Neo4j schema, the previous one is kept", e);
+        }
+    }
+
+    private synchronized ScheduledExecutorService getSchemaRefresher() {
+        if (schemaRefresher == null) {
+            schemaRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "neo4j-schema-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return schemaRefresher;
     }
 
     @Override
     public void close() {
+        synchronized (this) {
+            if (schemaRefresher != null) {
+                schemaRefresher.shutdownNow();
+            }
+        }
         this.driver.close();
     }
 
@@ -88,6 +223,10 @@ public class Neo4jGraph implements AutoCloseable {
         private Driver driver;
         private Long sample;
         private Long maxRels;
+        private Integer maxLabels;
+        private Integer maxRelationshipTypes;
+        private boolean asyncSchemaRefresh;
+        private Duration schemaRefreshInterval;
 
         /**
          * @param driver the {@link Driver} (required)
@@ -113,6 +252,39 @@ public class Neo4jGraph implements AutoCloseable {
             return this;
         }
 
+        /**
+         * @param maxLabels the number of most populated labels included in the schema (default: all)
+         */
+        public Builder maxLabels(Integer maxLabels) {
+            this.maxLabels = maxLabels;
+            return this;
+        }
+
+        /**
+         * @param maxRelationshipTypes the number of most used relationship types included in the schema (default: all)
+         */
+        public Builder maxRelationshipTypes(Integer maxRelationshipTypes) {
+            this.maxRelationshipTypes = maxRelationshipTypes;
+            return this;
+        }
+
+        /**
+         * @param asyncSchemaRefresh if true, the schema is read in background instead of blocking the construction,
+         *                           see {@link Neo4jGraph#refreshSchemaAsync()} (default: false)
+         */
+        public Builder asyncSchemaRefresh(boolean asyncSchemaRefresh) {
+            this.asyncSchemaRefresh = asyncSchemaRefresh;
+            return this;
+        }
+
+        /**
+         * @param schemaRefreshInterval the interval of the periodic schema refresh in background (default: no refresh)
+         */
+        public Builder schemaRefreshInterval(Duration schemaRefreshInterval) {
+            this.schemaRefreshInterval = schemaRefreshInterval;
+            return this;
+        }
+
         /**
          * Creates an instance a {@link Driver}, starting from uri, user and password
          *
@@ -126,7 +298,14 @@ public class Neo4jGraph implements AutoCloseable {
         }
 
         public Neo4jGraph build() {
-            return new Neo4jGraph(driver, sample, maxRels);
+            return new Neo4jGraph(
+                    driver,
+                    sample,
+                    maxRels,
+                    maxLabels,
+                    maxRelationshipTypes,
+                    asyncSchemaRefresh,
+                    schemaRefreshInterval);
         }
     }
 }
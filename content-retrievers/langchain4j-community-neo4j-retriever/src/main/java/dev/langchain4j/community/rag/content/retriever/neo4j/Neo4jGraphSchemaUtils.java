@@ -1,6 +1,7 @@
 package dev.langchain4j.community.rag.content.retriever.neo4j;
 
 import dev.langchain4j.Internal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import org.neo4j.driver.Record;
@@ -11,7 +12,7 @@ class Neo4jGraphSchemaUtils {
 
     static final String SCHEMA_FROM_META_DATA =
             """
-                    CALL apoc.meta.data({maxRels: $maxRels, sample: $sample})
+                    CALL apoc.meta.data({maxRels: $maxRels, sample: $sample, includeLabels: $labels, includeRels: $rels})
                     YIELD label, other, elementType, type, property
                     WITH label, elementType,
                          apoc.text.join(collect(case when NOT type = "RELATIONSHIP" then property+": "+type else null end),", ") AS properties,
@@ -24,8 +25,37 @@ class Neo4jGraphSchemaUtils {
                         collect(case type when "node" then patterns end)[0] as patterns
                     """;
 
+    /**
+     * Reads the per-label and per-type counts from the count store, so it's cheap even on large graphs
+     */
+    static final String LABELS_AND_TYPES_BY_COUNT =
+            """
+                    CALL apoc.meta.stats() YIELD labels, relTypesCount
+                    RETURN [label IN keys(labels) | [label, labels[label]]] AS labels,
+                        [type IN keys(relTypesCount) | [type, relTypesCount[type]]] AS rels
+                    """;
+
     static Neo4jGraph.StructuredSchema getSchemaFromMetadata(Neo4jGraph graph, Long sample, Long maxRels) {
-        final Record record = graph.executeRead(SCHEMA_FROM_META_DATA, Map.of("sample", sample, "maxRels", maxRels))
+        return getSchemaFromMetadata(graph, sample, maxRels, null, null);
+    }
+
+    /**
+     * @param maxLabels            if not null, only the {@code maxLabels} most populated labels are introspected
+     * @param maxRelationshipTypes if not null, only the {@code maxRelationshipTypes} most used relationship types are introspected
+     */
+    static Neo4jGraph.StructuredSchema getSchemaFromMetadata(
+            Neo4jGraph graph, Long sample, Long maxRels, Integer maxLabels, Integer maxRelationshipTypes) {
+        List<String> labels = List.of();
+        List<String> rels = List.of();
+        if (maxLabels != null || maxRelationshipTypes != null) {
+            final Record stats = graph.executeRead(LABELS_AND_TYPES_BY_COUNT).get(0);
+            labels = mostPopulated(stats.get("labels"), maxLabels);
+            rels = mostPopulated(stats.get("rels"), maxRelationshipTypes);
+        }
+
+        final Record record = graph.executeRead(
+                        SCHEMA_FROM_META_DATA,
+                        Map.of("sample", sample, "maxRels", maxRels, "labels", labels, "rels", rels))
                 .get(0);
         final List<String> nodes = record.get("nodes").asList(Value::asString, List.of());
         final List<String> relationships = record.get("relationships").asList(Value::asString, List.of());
@@ -34,6 +64,21 @@ class Neo4jGraphSchemaUtils {
         return new Neo4jGraph.StructuredSchema(nodes, relationships, patterns);
     }
 
+    /**
+     * @return the names with the highest counts, or an empty list, meaning all of them, if there is no limit
+     */
+    private static List<String> mostPopulated(Value namesWithCounts, Integer limit) {
+        if (limit == null) {
+            return List.of();
+        }
+        return namesWithCounts.asList(value -> value).stream()
+                .sorted(Comparator.comparingLong((Value value) -> value.get(1).asLong())
+                        .reversed())
+                .limit(limit)
+                .map(value -> value.get(0).asString())
+                .toList();
+    }
+
     static String toSchemaString(Neo4jGraph.StructuredSchema structuredSchema) {
 
         final String nodesString = String.join(", ", structuredSchema.nodesProperties());
@@ -0,0 +1,214 @@
+package dev.langchain4j.community.rag.content.retriever.neo4j;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe LRU cache of the Cypher statements generated by {@link Neo4jText2CypherRetriever},
+ * keyed by the question.
+ * <p>
+ * Only the statements that returned a non-empty result are cached. The entries expire after the {@code ttl},
+ * and are all invalidated when the schema version of the {@link Neo4jGraph} changes,
+ * i.e. after a {@link Neo4jGraph#refreshSchema()} which finds a different schema.
+ * <p>
+ * If an {@link EmbeddingModel} is configured, a question that is not found by exact match
+ * is matched to the most similar cached question, provided that the cosine similarity is at least {@code minSimilarity}.
+ */
+public class Neo4jText2CypherCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+    public static final double DEFAULT_MIN_SIMILARITY = 0.95;
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final EmbeddingModel embeddingModel;
+    private final double minSimilarity;
+
+    private final LinkedHashMap<String, Entry> entries;
+    private long schemaVersion = -1;
+
+    private record Entry(String cypher, Embedding embedding, long createdAtNanos) {}
+
+    public Neo4jText2CypherCache(Integer maxSize, Duration ttl, EmbeddingModel embeddingModel, Double minSimilarity) {
+        this.maxSize = ensureGreaterThanZero(getOrDefault(maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        this.ttl = ttl;
+        this.embeddingModel = embeddingModel;
+        this.minSimilarity =
+                ensureBetween(getOrDefault(minSimilarity, DEFAULT_MIN_SIMILARITY), 0.0, 1.0, "minSimilarity");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > Neo4jText2CypherCache.this.maxSize;
+            }
+        };
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Looks up the Cypher statement generated for the question, or for a similar one.
+     *
+     * @param question      the question
+     * @param schemaVersion the current schema version of the graph, see {@link Neo4jGraph#getSchemaVersion()}
+     * @return the cached lookup, which is also needed to {@link #put(Lookup, String)} a new statement
+     */
+    public Lookup get(String question, long schemaVersion) {
+        String key = normalize(question);
+        synchronized (this) {
+            invalidateIfSchemaChanged(schemaVersion);
+            Entry entry = entries.get(key);
+            if (entry != null && !isExpired(entry)) {
+                return new Lookup(key, null, schemaVersion, entry.cypher());
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        if (embeddingModel == null) {
+            return new Lookup(key, null, schemaVersion, null);
+        }
+
+        // the question is embedded outside the lock, and reused by put in case of miss
+        Embedding embedding = embeddingModel.embed(key).content();
+        synchronized (this) {
+            invalidateIfSchemaChanged(schemaVersion);
+            String bestCypher = null;
+            double bestSimilarity = minSimilarity;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry candidate = iterator.next();
+                if (isExpired(candidate)) {
+                    iterator.remove();
+                    continue;
+                }
+                if (candidate.embedding() == null) {
+                    continue;
+                }
+                double similarity = CosineSimilarity.between(embedding, candidate.embedding());
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestCypher = candidate.cypher();
+                }
+            }
+            return new Lookup(key, embedding, schemaVersion, bestCypher);
+        }
+    }
+
+    /**
+     * Caches the Cypher statement for the question of a lookup.
+     * The statement is discarded if the schema has changed since the lookup.
+     *
+     * @param lookup the lookup returned by {@link #get(String, long)}
+     * @param cypher the validated Cypher statement
+     */
+    public synchronized void put(Lookup lookup, String cypher) {
+        if (lookup.schemaVersion() != schemaVersion) {
+            return;
+        }
+        entries.put(lookup.key(), new Entry(cypher, lookup.embedding(), System.nanoTime()));
+    }
+
+    /**
+     * Removes the Cypher statement of a lookup, e.g. because it doesn't return results anymore.
+     *
+     * @param lookup the lookup returned by {@link #get(String, long)}
+     */
+    public synchronized void evict(Lookup lookup) {
+        entries.values().removeIf(entry -> entry.cypher().equals(lookup.cypher()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private void invalidateIfSchemaChanged(long schemaVersion) {
+        if (this.schemaVersion != schemaVersion) {
+            entries.clear();
+            this.schemaVersion = schemaVersion;
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttl != null && System.nanoTime() - entry.createdAtNanos() > ttl.toNanos();
+    }
+
+    private static String normalize(String question) {
+        return question.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The result of {@link #get(String, long)}.
+     *
+     * @param key           the normalized question
+     * @param embedding     the embedding of the question, if an embedding model is configured and there was no exact match
+     * @param schemaVersion the schema version at lookup time
+     * @param cypher        the cached Cypher statement, or {@code null} in case of miss
+     */
+    public record Lookup(String key, Embedding embedding, long schemaVersion, String cypher) {
+
+        public boolean isHit() {
+            return cypher != null;
+        }
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration ttl;
+        private EmbeddingModel embeddingModel;
+        private Double minSimilarity;
+
+        /**
+         * @param maxSize the maximum number of cached statements, the least recently used are evicted first (default: 1000)
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param ttl the time after which a cached statement expires (optional, default: no expiration)
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * @param embeddingModel the {@link EmbeddingModel} used to match similar questions
+         *                       (optional, default: only exact matches)
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param minSimilarity the minimum cosine similarity between two questions to share the statement,
+         *                      to be used with {@link #embeddingModel(EmbeddingModel)} (default: 0.95)
+         */
+        public Builder minSimilarity(Double minSimilarity) {
+            this.minSimilarity = minSimilarity;
+            return this;
+        }
+
+        public Neo4jText2CypherCache build() {
+            return new Neo4jText2CypherCache(maxSize, ttl, embeddingModel, minSimilarity);
+        }
+    }
+}
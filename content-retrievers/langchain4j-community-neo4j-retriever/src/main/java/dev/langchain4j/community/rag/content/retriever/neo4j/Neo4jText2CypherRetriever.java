@@ -24,9 +24,13 @@ import org.neo4j.cypherdsl.parser.CypherParser;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.types.Type;
 import org.neo4j.driver.types.TypeSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Neo4jText2CypherRetriever implements ContentRetriever {
 
+    private static final Logger log = LoggerFactory.getLogger(Neo4jText2CypherRetriever.class);
+
     private static final PromptTemplate DEFAULT_PROMPT_TEMPLATE = PromptTemplate.from(
             """
                     Task:Generate Cypher statement to query a graph database.
@@ -68,6 +72,12 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
     private final List<String> examples;
     private final List<String> relationships;
     private final String dialect;
+    private final Neo4jText2CypherCache cache;
+    private final String examplesString;
+
+    private volatile SchemaSnapshot schemaSnapshot;
+
+    private record SchemaSnapshot(long version, String schema) {}
 
     public Neo4jText2CypherRetriever(
             Neo4jGraph graph,
@@ -77,6 +87,21 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
             int maxRetries,
             List<String> relationships,
             String dialect) {
+        this(graph, chatModel, promptTemplate, examples, maxRetries, relationships, dialect, null);
+    }
+
+    /**
+     * @param cache the cache of the generated Cypher statements, if null every question is sent to the {@link ChatModel}
+     */
+    public Neo4jText2CypherRetriever(
+            Neo4jGraph graph,
+            ChatModel chatModel,
+            PromptTemplate promptTemplate,
+            List<String> examples,
+            int maxRetries,
+            List<String> relationships,
+            String dialect,
+            Neo4jText2CypherCache cache) {
 
         this.graph = ensureNotNull(graph, "graph");
         this.chatModel = ensureNotNull(chatModel, "chatModel");
@@ -85,6 +110,10 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
         this.maxRetries = maxRetries;
         this.relationships = getOrDefault(relationships, List.of());
         this.dialect = getOrDefault(dialect, Dialect.NEO4J_5_26.name());
+        this.cache = cache;
+        this.examplesString = this.examples.isEmpty()
+                ? ""
+                : String.format("Cypher examples: \n%s\n", String.join("\n", this.examples));
     }
 
     public static Builder builder() {
@@ -106,6 +135,10 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
         return promptTemplate;
     }
 
+    public Neo4jText2CypherCache getCache() {
+        return cache;
+    }
+
     private record RetrieveResult(String cypherQuery, List<Content> contents) {}
 
     @Override
@@ -116,13 +149,19 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
 
     private RetrieveResult getRetrieveResult(Query query) {
         String question = query.text();
-        String schema = toSchemaString(graph.getStructuredSchema());
 
-        String examplesString = "";
-        if (!this.examples.isEmpty()) {
-            String exampleJoin = String.join("\n", this.examples);
-            examplesString = String.format("Cypher examples: \n%s\n", exampleJoin);
+        final Neo4jText2CypherCache.Lookup lookup =
+                cache == null ? null : cache.get(question, graph.getSchemaVersion());
+        if (lookup != null && lookup.isHit()) {
+            List<Content> cachedContents = executeCachedQuery(lookup.cypher());
+            if (!cachedContents.isEmpty()) {
+                return new RetrieveResult(lookup.cypher(), cachedContents);
+            }
+            // e.g. the data has changed, so the statement is generated again
+            cache.evict(lookup);
         }
+
+        String schema = getSchemaString();
         Map<String, Object> templateVariables =
                 Map.of("schema", schema, "question", question, "examples", examplesString);
         String cypherPrompt = promptTemplate.apply(templateVariables).text();
@@ -165,6 +204,9 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
                             messages.add(UserMessage.from(errorUserMsg));
                             throw new RuntimeException(emptyResultMsg);
                         }
+                        if (lookup != null) {
+                            cache.put(lookup, cypherQuery);
+                        }
                         return new RetrieveResult(cypherQuery, list);
                     },
                     maxRetries);
@@ -176,6 +218,28 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
         }
     }
 
+    /**
+     * The schema string is rendered once per schema version, see {@link Neo4jGraph#getSchemaVersion()}
+     */
+    private String getSchemaString() {
+        long version = graph.getSchemaVersion();
+        SchemaSnapshot snapshot = schemaSnapshot;
+        if (snapshot == null || snapshot.version() != version) {
+            snapshot = new SchemaSnapshot(version, toSchemaString(graph.getStructuredSchema()));
+            schemaSnapshot = snapshot;
+        }
+        return snapshot.schema();
+    }
+
+    private List<Content> executeCachedQuery(String cypherQuery) {
+        try {
+            return executeQuery(cypherQuery).stream().map(Content::from).toList();
+        } catch (Exception e) {
+            log.warn("Unable to execute the cached Cypher query, generating a new one: {}", cypherQuery, e);
+            return List.of();
+        }
+    }
+
     public String fromLLM(Query query) {
         RetrieveResult result = getRetrieveResult(query);
 
@@ -241,6 +305,7 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
         protected String dialect;
         protected int maxRetries = 3;
         protected List<String> examples;
+        protected Neo4jText2CypherCache cache;
 
         /**
          * @param graph the {@link Neo4jGraph} (required)
@@ -304,9 +369,17 @@ public class Neo4jText2CypherRetriever implements ContentRetriever {
             return this;
         }
 
+        /**
+         * @param cache the {@link Neo4jText2CypherCache} of the generated Cypher statements (optional, default: no cache)
+         */
+        public Builder cache(Neo4jText2CypherCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
         public Neo4jText2CypherRetriever build() {
             return new Neo4jText2CypherRetriever(
-                    graph, chatModel, promptTemplate, examples, maxRetries, relationships, dialect);
+                    graph, chatModel, promptTemplate, examples, maxRetries, relationships, dialect, cache);
         }
     }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import dev.langchain4j.community.store.embedding.ParentChildEmbeddingStoreIngestor;
@@ -25,12 +26,15 @@ import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2Quantize
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.rag.query.Query;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
 
 @ExtendWith(MockitoExtension.class)
 public class Neo4jEmbeddingStoreIngestorTest extends Neo4jEmbeddingStoreIngestorBaseTest {
@@ -271,6 +275,120 @@ public class Neo4jEmbeddingStoreIngestorTest extends Neo4jEmbeddingStoreIngestor
         hypotheticalQuestionIngestorCommon(chatLanguageModel);
     }
 
+    @Test
+    public void testSummaryGraphIngestorConcurrent() {
+
+        when(chatLanguageModel.chat(anyList()))
+                .thenReturn(ChatResponse.builder()
+                        .aiMessage(AiMessage.aiMessage("Machine Learning (ML) is a subset of AI"))
+                        .build());
+
+        Neo4jEmbeddingStoreIngestor ingestor = SummaryGraphIngestor.builder()
+                .driver(driver)
+                .embeddingModel(embeddingModel)
+                .questionModel(chatLanguageModel)
+                .documentSplitter(new DocumentBySentenceSplitter(250, 0))
+                .concurrent(true)
+                .llmConcurrency(4)
+                .maxRequestsPerSecond(100.0)
+                .parentBatchSize(2)
+                .build();
+
+        ingestor.ingest(getDocumentAI());
+
+        // each parent is linked to its own summary
+        try (Session session = driver.session()) {
+            Record record = session.run(
+                            "MATCH (p:SummaryChunk) OPTIONAL MATCH (p)-[:HAS_SUMMARY]->(s:Summary) "
+                                    + "RETURN count(DISTINCT p) AS parents, count(s) AS summaries, "
+                                    + "min(COUNT { (p)-[:HAS_SUMMARY]->() }) AS minSummariesPerParent")
+                    .single();
+            assertThat(record.get("parents").asLong()).isGreaterThan(1);
+            assertThat(record.get("summaries").asLong()).isEqualTo(record.get("parents").asLong());
+            assertThat(record.get("minSummariesPerParent").asLong()).isEqualTo(1);
+        }
+
+        EmbeddingStoreContentRetriever retriever = getEmbeddingStoreContentRetriever(ingestor);
+        List<Content> results = retriever.retrieve(Query.from("What is Machine Learning?"));
+        assertFalse(results.isEmpty(), "Should retrieve at least one parent document");
+        assertThat(results.get(0).textSegment().metadata().getString("url")).isEqualTo("https://example.com/ai");
+    }
+
+    @Test
+    public void testParentChildRetrieverConcurrent() {
+        int maxSegmentSize = 250;
+        final String expectedQuery = "\\n\\n";
+        DocumentSplitter parentSplitter = new DocumentByRegexSplitter(expectedQuery, expectedQuery, maxSegmentSize, 0);
+        DocumentSplitter childSplitter = new DocumentBySentenceSplitter(maxSegmentSize, 0);
+
+        Neo4jEmbeddingStoreIngestor ingestor = ParentChildGraphIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .driver(driver)
+                .documentSplitter(parentSplitter)
+                .documentChildSplitter(childSplitter)
+                .concurrent(true)
+                .build();
+
+        ingestor.ingest(getDocumentAI());
+
+        EmbeddingStoreContentRetriever retriever = getEmbeddingStoreContentRetriever(ingestor);
+        List<Content> results = retriever.retrieve(Query.from("What is Machine Learning?"));
+        commonResults(results, "machine learning");
+    }
+
+    @Test
+    public void testCustomTextSegmentTransformerReplacesParentNodesInBothModes() {
+        Map<Boolean, Long> transformedChildrenByMode = new HashMap<>();
+        for (boolean concurrent : List.of(false, true)) {
+            try (Session session = driver.session()) {
+                session.run("MATCH (n) DETACH DELETE n").consume();
+            }
+            Neo4jEmbeddingStore neo4jEmbeddingStore = Neo4jEmbeddingStore.builder()
+                    .driver(driver)
+                    .label("Chunk")
+                    .indexName("chunk_embedding_index")
+                    .dimension(384)
+                    .build();
+
+            Neo4jEmbeddingStoreIngestor ingestor = Neo4jEmbeddingStoreIngestor.builder()
+                    .documentSplitter(new DocumentByRegexSplitter("\\n\\n", "\\n\\n", 250, 0))
+                    .documentChildSplitter(new DocumentBySentenceSplitter(250, 0))
+                    .textSegmentTransformer(segment -> {
+                        segment.metadata().put("transformed", "true");
+                        return segment;
+                    })
+                    .embeddingStore(neo4jEmbeddingStore)
+                    .embeddingModel(embeddingModel)
+                    .driver(driver)
+                    .query("CREATE (:MainDoc $metadata)")
+                    .questionModel(chatLanguageModel)
+                    .userPrompt("mock prompt user")
+                    .systemPrompt("mock prompt system")
+                    .concurrent(concurrent)
+                    .build();
+            ingestor.ingest(getDocumentMiscTopics());
+
+            try (Session session = driver.session()) {
+                long parents = session.run("MATCH (n:MainDoc) RETURN count(n) AS count")
+                        .single()
+                        .get("count")
+                        .asLong();
+                assertThat(parents).isZero();
+                transformedChildrenByMode.put(
+                        concurrent,
+                        session.run("MATCH (n:Chunk {transformed: 'true'}) RETURN count(n) AS count")
+                                .single()
+                                .get("count")
+                                .asLong());
+            }
+        }
+
+        verifyNoInteractions(chatLanguageModel);
+        assertThat(transformedChildrenByMode.get(true))
+                .isPositive()
+                .isEqualTo(transformedChildrenByMode.get(false));
+    }
+
     @Test
     public void testParentChildRetriever() {
         EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
@@ -0,0 +1,101 @@
+package dev.langchain4j.community.rag.content.retriever.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+
+class Neo4jGraphTest extends Neo4jContainerBaseTest {
+
+    @BeforeEach
+    void beforeEach() {
+        try (Session session = driver.session()) {
+            session.run(
+                    """
+                    CREATE (:Person {name: 'Frank Herbert'})-[:WROTE]->(:Book {title: 'Dune'}),
+                        (:Person {name: 'Isaac Asimov'})-[:WROTE]->(:Book {title: 'Foundation'}),
+                        (:Person {name: 'Ursula K. Le Guin'})-[:WROTE]->(:Book {title: 'Earthsea'}),
+                        (:Person {name: 'Ursula K. Le Guin'})-[:LIVED_IN]->(:City {name: 'Portland'})
+                    """);
+        }
+    }
+
+    @Test
+    void shouldRefreshSchemaAsynchronously() throws Exception {
+        try (Neo4jGraph graph =
+                Neo4jGraph.builder().driver(newDriver()).asyncSchemaRefresh(true).build()) {
+
+            // the refresh started by the constructor, if still running
+            final Neo4jGraph.StructuredSchema schema = graph.refreshSchemaAsync().get(30, TimeUnit.SECONDS);
+
+            assertThat(schema.patterns())
+                    .containsExactlyInAnyOrder("(:Person)-[:WROTE]->(:Book)", "(:Person)-[:LIVED_IN]->(:City)");
+            assertThat(graph.getStructuredSchema()).isEqualTo(schema);
+            final long version = graph.getSchemaVersion();
+            assertThat(version).isPositive();
+
+            // the schema is unchanged
+            graph.refreshSchemaAsync().get(30, TimeUnit.SECONDS);
+            assertThat(graph.getSchemaVersion()).isEqualTo(version);
+
+            try (Session session = driver.session()) {
+                session.run("CREATE (:Movie {title: 'Dune'})");
+            }
+            graph.refreshSchemaAsync().get(30, TimeUnit.SECONDS);
+            assertThat(graph.getSchemaVersion()).isEqualTo(version + 1);
+        }
+    }
+
+    @Test
+    void shouldIncludeOnlyTheMostPopulatedLabelsAndTypes() {
+        try (Neo4jGraph graph = Neo4jGraph.builder()
+                .driver(newDriver())
+                .maxLabels(2)
+                .maxRelationshipTypes(1)
+                .build()) {
+
+            final Neo4jGraph.StructuredSchema schema = graph.getStructuredSchema();
+
+            assertThat(schema.nodesProperties())
+                    .containsExactlyInAnyOrder(":Book {title: STRING}", ":Person {name: STRING}");
+            assertThat(schema.relationshipsProperties()).containsExactly(":WROTE {}");
+            assertThat(schema.patterns()).containsExactly("(:Person)-[:WROTE]->(:Book)");
+        }
+    }
+
+    @Test
+    void shouldRefreshSchemaPeriodically() throws InterruptedException {
+        try (Neo4jGraph graph = Neo4jGraph.builder()
+                .driver(newDriver())
+                .schemaRefreshInterval(Duration.ofMillis(100))
+                .build()) {
+            assertThat(graph.getSchemaVersion()).isPositive();
+
+            try (Session session = driver.session()) {
+                session.run("CREATE (:Movie {title: 'Dune'})");
+            }
+
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (!graph.getStructuredSchema().nodesProperties().contains(":Movie {title: STRING}")
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+
+            assertThat(graph.getStructuredSchema().nodesProperties()).contains(":Movie {title: STRING}");
+            assertThat(graph.getSchemaVersion()).isGreaterThan(1);
+        }
+    }
+
+    /**
+     * Closing a {@link Neo4jGraph} closes its driver, so each graph gets its own one
+     */
+    private static Driver newDriver() {
+        return GraphDatabase.driver(neo4jContainer.getBoltUrl(), AuthTokens.none());
+    }
+}
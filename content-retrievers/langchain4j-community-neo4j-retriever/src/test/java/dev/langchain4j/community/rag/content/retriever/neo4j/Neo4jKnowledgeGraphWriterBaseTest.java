@@ -7,20 +7,29 @@ import static dev.langchain4j.community.rag.content.retriever.neo4j.KnowledgeGra
 import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.langchain4j.community.data.document.graph.GraphDocument;
+import dev.langchain4j.community.data.document.graph.GraphEdge;
+import dev.langchain4j.community.data.document.graph.GraphNode;
 import dev.langchain4j.community.data.document.transformer.graph.LLMGraphTransformer;
+import dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingStore;
 import dev.langchain4j.data.document.DefaultDocument;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.value.PathValue;
 import org.neo4j.driver.types.Node;
@@ -152,10 +161,10 @@ abstract class Neo4jKnowledgeGraphWriterBaseTest {
     @Test
     void testAddGraphDocuments() {
 
-        addGraphDocumentsCommon();
+        addGraphDocumentsCommon(false);
 
         // retry to check that merge works correctly
-        addGraphDocumentsCommon();
+        addGraphDocumentsCommon(false);
     }
 
     @Test
@@ -176,10 +185,10 @@ abstract class Neo4jKnowledgeGraphWriterBaseTest {
 
     @Test
     void testAddGraphDocumentsWithIncludeSource() {
-        testWithIncludeSourceCommon(DEFAULT_REL_TYPE);
+        testWithIncludeSourceCommon(DEFAULT_REL_TYPE, false);
 
         // retry to check that merge works correctly
-        testWithIncludeSourceCommon(DEFAULT_REL_TYPE);
+        testWithIncludeSourceCommon(DEFAULT_REL_TYPE, false);
     }
 
     @Test
@@ -190,10 +199,10 @@ abstract class Neo4jKnowledgeGraphWriterBaseTest {
                 .relType(customRelType)
                 .build();
 
-        testWithIncludeSourceCommon(customRelType);
+        testWithIncludeSourceCommon(customRelType, false);
 
         // retry to check that merge works correctly
-        testWithIncludeSourceCommon(customRelType);
+        testWithIncludeSourceCommon(customRelType, false);
     }
 
     @Test
@@ -230,9 +239,153 @@ abstract class Neo4jKnowledgeGraphWriterBaseTest {
         testWithIncludeSourceAndCustomIdTextAndLabelCommon(customRelType);
     }
 
-    private static void addGraphDocumentsCommon() {
+    @Test
+    void testAddGraphDocumentsInBulk() {
+        knowledgeGraphWriter = KnowledgeGraphWriter.builder()
+                .graph(neo4jGraph)
+                .batchSize(1)
+                .writeConcurrency(4)
+                .build();
+
+        addGraphDocumentsCommon(true);
+
+        // retry to check that merge works correctly
+        addGraphDocumentsCommon(true);
+    }
+
+    @Test
+    void testAddGraphDocumentsInBulkWithIncludeSource() {
+        knowledgeGraphWriter = KnowledgeGraphWriter.builder()
+                .graph(neo4jGraph)
+                .batchSize(1)
+                .writeConcurrency(3)
+                .build();
+
+        testWithIncludeSourceCommon(DEFAULT_REL_TYPE, true);
+
+        // retry to check that merge works correctly
+        testWithIncludeSourceCommon(DEFAULT_REL_TYPE, true);
+    }
+
+    @Test
+    void testAddGraphDocumentsInBulkDeduplicatesNodesAcrossDocuments() {
+        knowledgeGraphWriter = KnowledgeGraphWriter.builder()
+                .graph(neo4jGraph)
+                .writeConcurrency(2)
+                .build();
+
+        // the same documents twice in a single call
+        List<GraphDocument> duplicatedGraphDocs = new ArrayList<>(graphDocs);
+        duplicatedGraphDocs.addAll(graphDocs);
+        knowledgeGraphWriter.addGraphDocumentsInBulk(duplicatedGraphDocs, true);
+
+        List<Record> records = neo4jGraph.executeRead(
+                "MATCH (n:%s) RETURN count(n) AS nodes, COUNT { ()-[r]->() } AS rels".formatted(DEFAULT_LABEL));
+        assertThat(records.get(0).get("nodes").asInt()).isEqualTo(4);
+        // 2 relationships between the entities and 4 from the documents
+        assertThat(records.get(0).get("rels").asInt()).isEqualTo(6);
+        assertThat(neo4jGraph.executeRead("MATCH (d:Document) RETURN d")).hasSize(2);
+    }
+
+    @Test
+    void testAddGraphDocumentsInBulkMergesTheLabelsOfNodesSharingAnId() {
+        knowledgeGraphWriter = KnowledgeGraphWriter.builder()
+                .graph(neo4jGraph)
+                .writeConcurrency(2)
+                .build();
+        GraphNode parisCity = GraphNode.from("Paris", "City");
+        GraphNode parisPerson = GraphNode.from("Paris", "Person");
+        GraphNode france = GraphNode.from("France", "Country");
+        GraphNode helen = GraphNode.from("Helen", "Person");
+        List<GraphDocument> documents = List.of(
+                GraphDocument.from(
+                        Set.of(parisCity, france),
+                        Set.of(GraphEdge.from(parisCity, france, "CAPITAL_OF")),
+                        Document.from("Paris is the capital of France")),
+                GraphDocument.from(
+                        Set.of(parisPerson, helen),
+                        Set.of(GraphEdge.from(parisPerson, helen, "LOVES")),
+                        Document.from("Paris loves Helen")));
+
+        knowledgeGraphWriter.addGraphDocuments(documents, false);
+        Map<String, Set<String>> expected = labelsById();
+        neo4jGraph.executeWrite("MATCH (n) DETACH DELETE n");
+
+        knowledgeGraphWriter.addGraphDocumentsInBulk(documents, false);
+
+        assertThat(labelsById()).isEqualTo(expected);
+        assertThat(expected.get("Paris")).containsExactlyInAnyOrder(DEFAULT_LABEL, "City", "Person");
+    }
+
+    private static Map<String, Set<String>> labelsById() {
+        String query = "MATCH (n:%s) RETURN n.%s AS id, labels(n) AS labels".formatted(DEFAULT_LABEL, DEFAULT_ID_PROP);
+        Map<String, Set<String>> labelsById = new HashMap<>();
+        for (Record record : neo4jGraph.executeRead(query)) {
+            labelsById.put(record.get("id").asString(), new HashSet<>(record.get("labels").asList(Value::asString)));
+        }
+        return labelsById;
+    }
+
+    @Test
+    void testAddGraphDocumentsInBulkWithEmbeddingStoreOfAnotherLabel() {
+        final String storeLabel = "StoreEntity";
+        final String writerLabel = "WriterEntity";
+        Neo4jEmbeddingStore embeddingStore = Neo4jEmbeddingStore.builder()
+                .withBasicAuth(neo4jContainer.getBoltUrl(), USERNAME, ADMIN_PASSWORD)
+                .dimension(384)
+                .label(storeLabel)
+                .indexName("store_entity_index")
+                .build();
+        knowledgeGraphWriter = KnowledgeGraphWriter.builder()
+                .graph(neo4jGraph)
+                .label(writerLabel)
+                .embeddingStore(embeddingStore)
+                .embeddingModel(new AllMiniLmL6V2QuantizedEmbeddingModel())
+                .build();
+
+        knowledgeGraphWriter.addGraphDocumentsInBulk(graphDocs, true);
+
+        // the documents are linked to the entities written by the embedding store
+        List<Record> records = neo4jGraph.executeRead(
+                "MATCH (d:Document)-[:%s]->(n:%s) RETURN count(DISTINCT d) AS docs, count(n) AS links"
+                        .formatted(DEFAULT_REL_TYPE, storeLabel));
+        assertThat(records.get(0).get("docs").asInt()).isEqualTo(2);
+        assertThat(records.get(0).get("links").asInt()).isEqualTo(4);
+        records = neo4jGraph.executeRead("MATCH (n:%s) RETURN count(n) AS nodes".formatted(storeLabel));
+        assertThat(records.get(0).get("nodes").asInt()).isEqualTo(4);
+        assertThat(neo4jGraph.executeRead("MATCH (n:%s) RETURN n".formatted(writerLabel)))
+                .isEmpty();
+    }
+
+    @Test
+    void testBucketRoundsNeverShareABucket() {
+        for (int buckets = 1; buckets <= 7; buckets++) {
+            List<List<Long>> rounds = KnowledgeGraphWriter.bucketRounds(buckets);
+            Set<Long> allPairs = new HashSet<>();
+            for (List<Long> round : rounds) {
+                Set<Long> roundBuckets = new HashSet<>();
+                for (Long pair : round) {
+                    assertThat(allPairs.add(pair)).isTrue();
+                    long first = pair >>> 32;
+                    long second = pair & 0xFFFFFFFFL;
+                    assertThat(roundBuckets.add(first)).isTrue();
+                    if (first != second) {
+                        assertThat(roundBuckets.add(second)).isTrue();
+                    }
+                }
+            }
+            // every unordered pair, including the same bucket twice
+            assertThat(allPairs).hasSize(buckets * (buckets + 1) / 2);
+        }
+    }
+
+    private static void addGraphDocumentsCommon(boolean bulk) {
         // when
-        knowledgeGraphWriter.addGraphDocuments(graphDocs, false);
+        if (bulk) {
+            knowledgeGraphWriter.addGraphDocumentsInBulk(graphDocs, false);
+        } else {
+            knowledgeGraphWriter.addGraphDocuments(graphDocs, false);
+        }
 
         // then
         List<Record> records = neo4jGraph.executeRead(MATCH_AND_RETURN_NODE.formatted(DEFAULT_ID_PROP));
@@ -292,9 +445,13 @@ abstract class Neo4jKnowledgeGraphWriterBaseTest {
         assertThat(rel.type()).containsIgnoringCase(ON);
     }
 
-    private static void testWithIncludeSourceCommon(String relType) {
+    private static void testWithIncludeSourceCommon(String relType, boolean bulk) {
         // when
-        knowledgeGraphWriter.addGraphDocuments(graphDocs, true);
+        if (bulk) {
+            knowledgeGraphWriter.addGraphDocumentsInBulk(graphDocs, true);
+        } else {
+            knowledgeGraphWriter.addGraphDocuments(graphDocs, true);
+        }
 
         // then
         List<Record> records = neo4jGraph.executeRead(MATCH_WITH_DOCUMENT_RETURN_NODE.formatted(DEFAULT_ID_PROP));
@@ -5,21 +5,29 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.driver.Session;
 
 @ExtendWith(MockitoExtension.class)
 class Neo4jText2CypherRetrieverTest extends Neo4jText2CypherRetrieverBaseTest {
@@ -372,4 +380,126 @@ class Neo4jText2CypherRetrieverTest extends Neo4jText2CypherRetrieverBaseTest {
         // Then
         assertThat(response).isEqualTo(llmResponse);
     }
+
+    @Test
+    void shouldReuseCachedCypherUntilSchemaChanges() {
+        // Given
+        when(chatModel.chat(anyList()))
+                .thenReturn(getChatResponse(
+                        "MATCH(book:Book {title: 'Dune'})<-[:WROTE]-(author:Person) RETURN author.name AS output"));
+        Neo4jText2CypherCache cache = Neo4jText2CypherCache.builder().build();
+        retriever = Neo4jText2CypherRetriever.builder()
+                .graph(graph)
+                .chatModel(chatModel)
+                .cache(cache)
+                .build();
+
+        // When
+        List<Content> contents = retriever.retrieve(new Query("Who is the author of the book 'Dune'?"));
+        List<Content> cachedContents = retriever.retrieve(new Query("  Who is the author of  the book 'Dune'? "));
+
+        // Then
+        assertThat(contents).hasSize(1);
+        assertThat(cachedContents).isEqualTo(contents);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(chatModel, times(1)).chat(anyList());
+
+        // When
+        graph.refreshSchema();
+        List<Content> contentsAfterRefresh = retriever.retrieve(new Query("Who is the author of the book 'Dune'?"));
+
+        // Then
+        // the schema is unchanged, so the cached statement is still used
+        assertThat(contentsAfterRefresh).isEqualTo(contents);
+        verify(chatModel, times(1)).chat(anyList());
+
+        // When
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Movie {title: 'Dune'})");
+        }
+        graph.refreshSchema();
+        List<Content> contentsAfterChange = retriever.retrieve(new Query("Who is the author of the book 'Dune'?"));
+
+        // Then
+        assertThat(contentsAfterChange).hasSize(1);
+        verify(chatModel, times(2)).chat(anyList());
+    }
+
+    @Test
+    void shouldRegenerateCypherWhenCachedOneIsExpiredOrReturnsNoResults() throws InterruptedException {
+        // Given
+        when(chatModel.chat(anyList()))
+                .thenReturn(getChatResponse(
+                        "MATCH(book:Book {title: 'Dune'})<-[:WROTE]-(author:Person) RETURN author.name AS output"));
+        retriever = Neo4jText2CypherRetriever.builder()
+                .graph(graph)
+                .chatModel(chatModel)
+                .cache(Neo4jText2CypherCache.builder().ttl(Duration.ofMillis(50)).build())
+                .maxRetries(0)
+                .build();
+        Query query = new Query("Who is the author of the book 'Dune'?");
+
+        // When
+        retriever.retrieve(query);
+        Thread.sleep(100);
+        retriever.retrieve(query);
+
+        // Then
+        verify(chatModel, times(2)).chat(anyList());
+
+        // When
+        try (Session session = driver.session()) {
+            session.run("MATCH (author:Person) SET author:Removed REMOVE author:Person");
+        }
+        List<Content> contents = retriever.retrieve(query);
+
+        // Then
+        assertThat(contents).isEmpty();
+        verify(chatModel, times(3)).chat(anyList());
+    }
+
+    @Test
+    void shouldReuseCachedCypherForSimilarQuestions() {
+        // Given
+        when(chatModel.chat(anyList()))
+                .thenReturn(getChatResponse(
+                        "MATCH(book:Book {title: 'Dune'})<-[:WROTE]-(author:Person) RETURN author.name AS output"));
+        retriever = Neo4jText2CypherRetriever.builder()
+                .graph(graph)
+                .chatModel(chatModel)
+                .cache(Neo4jText2CypherCache.builder()
+                        .embeddingModel(new KeywordEmbeddingModel())
+                        .minSimilarity(0.9)
+                        .build())
+                .build();
+
+        // When
+        List<Content> contents = retriever.retrieve(new Query("Who is the author of the book 'Dune'?"));
+        List<Content> similarContents = retriever.retrieve(new Query("Who wrote 'Dune'?"));
+
+        // Then
+        assertThat(similarContents).isEqualTo(contents).hasSize(1);
+        verify(chatModel, times(1)).chat(anyList());
+
+        // When
+        retriever.retrieve(new Query("Who wrote 'Foundation'?"));
+
+        // Then
+        verify(chatModel, times(2)).chat(anyList());
+    }
+
+    /**
+     * Embeds the questions by the book they are about
+     */
+    private static class KeywordEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(TextSegment::text)
+                    .map(text -> Embedding.from(
+                            new float[] {text.contains("Dune") ? 1 : 0, text.contains("Foundation") ? 1 : 0, 0.1f}))
+                    .toList());
+        }
+    }
 }
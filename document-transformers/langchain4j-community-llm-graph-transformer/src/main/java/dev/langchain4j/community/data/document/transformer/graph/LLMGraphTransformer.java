@@ -3,6 +3,8 @@ package dev.langchain4j.community.data.document.transformer.graph;
 import static dev.langchain4j.community.data.document.transformer.graph.LLMGraphTransformerUtils.getBacktickText;
 import static dev.langchain4j.community.data.document.transformer.graph.LLMGraphTransformerUtils.parseJson;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.Experimental;
@@ -17,19 +19,66 @@ import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.input.PromptTemplate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A llm-based graph transformer which transforms documents into graph-based documents using a LLM.
+ * <p>
+ * By default, {@link #transformAll(Collection)} transforms the documents one after another.
+ * Setting any of {@code concurrency}, {@code maxRequestsPerSecond}, {@code timeout}, {@code continueOnFailure}
+ * or {@code checkpointFile} switches it to a parallel mode, where:
+ * <ul>
+ *     <li>up to {@code concurrency} documents are transformed at the same time;</li>
+ *     <li>the LLM calls are throttled by a token bucket refilled with {@code maxRequestsPerSecond} tokens per second;</li>
+ *     <li>a document whose transformation takes longer than {@code timeout} is interrupted and considered failed;</li>
+ *     <li>if {@code continueOnFailure} is set, a failed document is logged and skipped,
+ *     otherwise the first failure stops the remaining transformations and is rethrown;</li>
+ *     <li>if a {@code checkpointFile} is set, the hash of each successfully transformed document is appended to it,
+ *     and the documents whose hash is already in the file are skipped, so that an interrupted run can be resumed
+ *     without transforming the completed documents again;</li>
+ *     <li>if a {@code graphDocumentConsumer} is set, each graph document is passed to it as soon as it's transformed,
+ *     before its hash is written to the checkpoint file.</li>
+ * </ul>
+ * The returned graph documents keep the order of the input documents. They only contain the documents transformed
+ * by the call: the graph documents of the documents skipped through the checkpoint are not transformed again,
+ * so when resuming a run they must have been persisted by the {@code graphDocumentConsumer} of the previous runs.
  *
  * @since 1.0.0-beta4
  */
 @Experimental
 public class LLMGraphTransformer implements GraphTransformer {
 
+    private static final Logger log = LoggerFactory.getLogger(LLMGraphTransformer.class);
+
     private static final String DEFAULT_NODE_TYPE = "Node";
     private static final PromptTemplate SYSTEM_TEMPLATE = PromptTemplate.from(
             """
@@ -60,6 +109,13 @@ public class LLMGraphTransformer implements GraphTransformer {
     private final String additionalInstructions;
     private final ChatModel chatModel;
     private final Integer maxAttempts;
+    private final int concurrency;
+    private final TokenBucket rateLimiter;
+    private final Duration timeout;
+    private final boolean continueOnFailure;
+    private final Path checkpointFile;
+    private final Consumer<GraphDocument> graphDocumentConsumer;
+    private final boolean parallel;
 
     /**
      * It allows specifying constraints on the types of nodes and relationships to include in the output graph.
@@ -80,6 +136,53 @@ public class LLMGraphTransformer implements GraphTransformer {
             String additionalInstructions,
             String examples,
             Integer maxAttempts) {
+        this(
+                chatModel,
+                allowedNodes,
+                allowedRelationships,
+                prompt,
+                additionalInstructions,
+                examples,
+                maxAttempts,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * It allows specifying constraints on the types of nodes and relationships to include in the output graph,
+     * and how {@link #transformAll(Collection)} runs the transformations.
+     *
+     * @param chatModel              the {@link ChatModel} (required)
+     * @param allowedNodes           Specifies which node types are allowed in the graph. If null or empty allows all node types (default: [])
+     * @param allowedRelationships   Specifies which relationship types are allowed in the graph. If null or empty allows all relationship types (default: [])
+     * @param prompt                 The chat messages to pass to the LLM with additional instructions. (optional)
+     * @param additionalInstructions Allows you to add additional instructions to the prompt without having to change the whole prompt (default: '')
+     * @param maxAttempts            Retry N times the transformation if it fails (default: 1)
+     * @param concurrency            The maximum number of documents transformed at the same time by {@code transformAll} (default: 1)
+     * @param maxRequestsPerSecond   The maximum rate of LLM calls made by {@code transformAll}, allowing bursts of up to {@code concurrency} calls (default: unlimited)
+     * @param timeout                The maximum time spent transforming a single document in {@code transformAll} (default: unlimited)
+     * @param continueOnFailure      Whether {@code transformAll} skips the failed documents instead of failing (default: false)
+     * @param checkpointFile         The file recording the documents already transformed by {@code transformAll} (optional)
+     * @param graphDocumentConsumer  Receives each graph document transformed by {@code transformAll}, before it's checkpointed (optional)
+     */
+    public LLMGraphTransformer(
+            ChatModel chatModel,
+            List<String> allowedNodes,
+            List<String> allowedRelationships,
+            List<ChatMessage> prompt,
+            String additionalInstructions,
+            String examples,
+            Integer maxAttempts,
+            Integer concurrency,
+            Double maxRequestsPerSecond,
+            Duration timeout,
+            Boolean continueOnFailure,
+            Path checkpointFile,
+            Consumer<GraphDocument> graphDocumentConsumer) {
 
         this.chatModel = ensureNotNull(chatModel, "chatModel");
         this.examples = ensureNotNull(examples, "examples");
@@ -90,6 +193,22 @@ public class LLMGraphTransformer implements GraphTransformer {
 
         this.maxAttempts = getOrDefault(maxAttempts, 1);
         this.additionalInstructions = getOrDefault(additionalInstructions, "");
+
+        this.concurrency = ensureGreaterThanZero(getOrDefault(concurrency, 1), "concurrency");
+        this.rateLimiter = maxRequestsPerSecond == null
+                ? null
+                : new TokenBucket(
+                        ensureGreaterThanZero(maxRequestsPerSecond, "maxRequestsPerSecond"), this.concurrency);
+        this.timeout = timeout;
+        this.continueOnFailure = getOrDefault(continueOnFailure, false);
+        this.checkpointFile = checkpointFile;
+        this.graphDocumentConsumer = graphDocumentConsumer;
+        this.parallel = concurrency != null
+                || maxRequestsPerSecond != null
+                || timeout != null
+                || continueOnFailure != null
+                || checkpointFile != null
+                || graphDocumentConsumer != null;
     }
 
     public static Builder builder() {
@@ -162,6 +281,196 @@ public class LLMGraphTransformer implements GraphTransformer {
         return new GraphDocument(nodesSet, relationships, document);
     }
 
+    @Override
+    public List<GraphDocument> transformAll(Collection<Document> documents) {
+        if (!parallel) {
+            return GraphTransformer.super.transformAll(documents);
+        }
+        if (isNullOrEmpty(documents)) {
+            return new ArrayList<>();
+        }
+
+        Set<String> completed = readCheckpoint();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<GraphDocument>> results = new ArrayList<>(documents.size());
+        int skipped = 0;
+        try {
+            for (Document document : documents) {
+                String hash = hash(document);
+                if (completed.contains(hash)) {
+                    log.debug("Skipping document {} already present in the checkpoint", hash);
+                    skipped++;
+                    continue;
+                }
+                permits.acquire();
+                if (failed.get()) {
+                    permits.release();
+                    break;
+                }
+                results.add(submit(executor, permits, document, hash, completed, failed));
+            }
+            if (skipped > 0) {
+                log.warn(
+                        "Skipped {} documents already present in the checkpoint file {}, "
+                                + "their graph documents are not part of the result",
+                        skipped,
+                        checkpointFile);
+            }
+
+            List<GraphDocument> graphDocuments = new ArrayList<>(results.size());
+            for (CompletableFuture<GraphDocument> result : results) {
+                GraphDocument graphDocument = result.join();
+                if (graphDocument != null) {
+                    graphDocuments.add(graphDocument);
+                }
+            }
+            return graphDocuments;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while transforming the documents", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Transforms the document on the executor, and returns its result, or {@code null} if it failed and
+     * {@code continueOnFailure} is set.
+     * The permit is released by the task once the transformation is over, so that a timed out transformation
+     * keeps its permit until it actually stops. It's only released by the timeout if the task never started.
+     * A transformation finishing after its timeout is dropped: it's neither consumed nor checkpointed.
+     */
+    private CompletableFuture<GraphDocument> submit(
+            ExecutorService executor,
+            Semaphore permits,
+            Document document,
+            String hash,
+            Set<String> completed,
+            AtomicBoolean failed) {
+        CompletableFuture<GraphDocument> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicBoolean settled = new AtomicBoolean();
+
+        Future<?> task = executor.submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                // timed out before starting, the permit has been released by the timeout
+                return;
+            }
+            try {
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                GraphDocument graphDocument = transform(document);
+                if (!settled.compareAndSet(false, true)) {
+                    // timed out while transforming
+                    return;
+                }
+                complete(hash, graphDocument, completed);
+                result.complete(graphDocument);
+            } catch (Throwable e) {
+                settled.set(true);
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        if (timeout != null) {
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> {
+                        if (settled.compareAndSet(false, true)) {
+                            result.completeExceptionally(new TimeoutException());
+                        }
+                    });
+        }
+
+        return result.handle((graphDocument, error) -> {
+            if (error == null) {
+                return graphDocument;
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof TimeoutException) {
+                if (started.compareAndSet(false, true)) {
+                    permits.release();
+                }
+                task.cancel(true);
+                cause = new RuntimeException("Timed out transforming the document after " + timeout, cause);
+            }
+            if (continueOnFailure) {
+                log.warn("Skipping document {} which failed to be transformed", hash, cause);
+                return null;
+            }
+            failed.set(true);
+            throw cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new RuntimeException(cause);
+        });
+    }
+
+    private Set<String> readCheckpoint() {
+        Set<String> completed = ConcurrentHashMap.newKeySet();
+        if (checkpointFile != null && Files.exists(checkpointFile)) {
+            try {
+                Files.readAllLines(checkpointFile).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty())
+                        .forEach(completed::add);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read the checkpoint file " + checkpointFile, e);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Passes the graph document to the consumer, then records the document in the checkpoint,
+     * so that a document is only skipped by the following runs once its graph document has been consumed.
+     */
+    private void complete(String hash, GraphDocument graphDocument, Set<String> completed) {
+        if (graphDocumentConsumer != null && graphDocument != null) {
+            synchronized (graphDocumentConsumer) {
+                graphDocumentConsumer.accept(graphDocument);
+            }
+        }
+        if (checkpointFile == null || !completed.add(hash)) {
+            return;
+        }
+        synchronized (this) {
+            try {
+                Files.writeString(
+                        checkpointFile,
+                        hash + System.lineSeparator(),
+                        StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to write the checkpoint file " + checkpointFile, e);
+            }
+        }
+    }
+
+    /**
+     * The SHA-256 of the text and the metadata of the document.
+     */
+    static String hash(Document document) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(Objects.toString(document.text()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            // sorted by key, the iteration order of the metadata map is not stable across runs
+            digest.update(new TreeMap<>(document.metadata().toMap()).toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private List<Map<String, String>> getJsonResult(List<ChatMessage> messages) {
 
         return RetryUtils.withRetry(
@@ -172,6 +481,39 @@ public class LLMGraphTransformer implements GraphTransformer {
                 maxAttempts);
     }
 
+    /**
+     * A token bucket holding up to `capacity` tokens, refilled at `permitsPerSecond` tokens per second.
+     */
+    private static class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(double permitsPerSecond, int capacity) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+                lastRefillNanos = now;
+                // the token is taken in advance, the caller waits until the bucket would have refilled it
+                tokens -= 1;
+                waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+
     /**
      * Builder class for LLMGraphTransformer.
      */
@@ -184,6 +526,12 @@ public class LLMGraphTransformer implements GraphTransformer {
         private String additionalInstructions = ""; // Default: empty string
         private String examples; // Default examples
         private Integer maxAttempts = 1; // Default: 1 attempt
+        private Integer concurrency;
+        private Double maxRequestsPerSecond;
+        private Duration timeout;
+        private Boolean continueOnFailure;
+        private Path checkpointFile;
+        private Consumer<GraphDocument> graphDocumentConsumer;
 
         /**
          * Sets the required ChatModel.
@@ -262,6 +610,76 @@ public class LLMGraphTransformer implements GraphTransformer {
             return this;
         }
 
+        /**
+         * Sets the maximum number of documents transformed at the same time by {@code transformAll}.
+         *
+         * @param concurrency number of concurrent transformations (default: 1)
+         * @return the Builder instance
+         */
+        public Builder concurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum rate of LLM calls made by {@code transformAll}.
+         *
+         * @param maxRequestsPerSecond number of calls per second (default: unlimited)
+         * @return the Builder instance
+         */
+        public Builder maxRequestsPerSecond(Double maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time spent transforming a single document in {@code transformAll}.
+         *
+         * @param timeout the timeout of a document transformation (default: unlimited)
+         * @return the Builder instance
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets whether {@code transformAll} skips the documents which fail to be transformed instead of failing.
+         *
+         * @param continueOnFailure whether the failed documents are skipped (default: false)
+         * @return the Builder instance
+         */
+        public Builder continueOnFailure(Boolean continueOnFailure) {
+            this.continueOnFailure = continueOnFailure;
+            return this;
+        }
+
+        /**
+         * Sets the file recording the hashes of the documents already transformed by {@code transformAll},
+         * which are skipped by the following calls. The graph documents of the skipped documents are not part of
+         * the result of the following calls, set a {@link #graphDocumentConsumer(Consumer)} to persist them.
+         *
+         * @param checkpointFile the checkpoint file (optional)
+         * @return the Builder instance
+         */
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        /**
+         * Sets the consumer receiving each graph document transformed by {@code transformAll} as soon as it's
+         * transformed, and before the document is written to the checkpoint file.
+         * It's called by one transformation at a time, and a failure of the consumer fails the document.
+         *
+         * @param graphDocumentConsumer the consumer of the graph documents (optional)
+         * @return the Builder instance
+         */
+        public Builder graphDocumentConsumer(Consumer<GraphDocument> graphDocumentConsumer) {
+            this.graphDocumentConsumer = graphDocumentConsumer;
+            return this;
+        }
+
         /**
          * Builds and returns an instance of LLMGraphTransformer.
          *
@@ -270,7 +688,19 @@ public class LLMGraphTransformer implements GraphTransformer {
          */
         public LLMGraphTransformer build() {
             return new LLMGraphTransformer(
-                    model, allowedNodes, allowedRelationships, prompt, additionalInstructions, examples, maxAttempts);
+                    model,
+                    allowedNodes,
+                    allowedRelationships,
+                    prompt,
+                    additionalInstructions,
+                    examples,
+                    maxAttempts,
+                    concurrency,
+                    maxRequestsPerSecond,
+                    timeout,
+                    continueOnFailure,
+                    checkpointFile,
+                    graphDocumentConsumer);
         }
     }
 }
@@ -0,0 +1,290 @@
+package dev.langchain4j.community.data.document.transformer.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.community.data.document.graph.GraphDocument;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LLMGraphTransformerTest {
+
+    private static final String EXAMPLES = "[]";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_transform_documents_concurrently_keeping_their_order() {
+        StubChatModel chatModel = new StubChatModel(50);
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(chatModel)
+                .examples(EXAMPLES)
+                .concurrency(8)
+                .build();
+
+        List<Document> documents = documents(16);
+        long start = System.nanoTime();
+        List<GraphDocument> graphDocuments = transformer.transformAll(documents);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(graphDocuments).hasSize(16);
+        assertThat(graphDocuments)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactlyElementsOf(documents.stream().map(Document::text).toList());
+        assertThat(chatModel.maxConcurrentCalls.get()).isGreaterThan(1).isLessThanOrEqualTo(8);
+        // sequentially it would take at least 16 * 50 ms
+        assertThat(elapsedMillis).isLessThan(16 * 50);
+    }
+
+    @Test
+    void should_skip_failed_and_timed_out_documents() {
+        StubChatModel chatModel = new StubChatModel(0);
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(chatModel)
+                .examples(EXAMPLES)
+                .concurrency(4)
+                .timeout(Duration.ofMillis(500))
+                .continueOnFailure(true)
+                .build();
+
+        List<GraphDocument> graphDocuments = transformer.transformAll(List.of(
+                Document.from("Alice knows Bob"),
+                Document.from("fail"),
+                Document.from("slow"),
+                Document.from("Bob knows Carol")));
+
+        assertThat(graphDocuments)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactly("Alice knows Bob", "Bob knows Carol");
+    }
+
+    @Test
+    void should_keep_the_permit_of_a_timed_out_document_until_it_stops() {
+        StubChatModel chatModel = new StubChatModel(0);
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(chatModel)
+                .examples(EXAMPLES)
+                .concurrency(1)
+                .timeout(Duration.ofMillis(200))
+                .continueOnFailure(true)
+                .build();
+
+        // the stubborn document ignores the interruption and runs for 500 ms,
+        // the next documents must not wait for it in the queue of the executor and time out
+        List<GraphDocument> graphDocuments = transformer.transformAll(List.of(
+                Document.from("stubborn"), Document.from("Alice knows Bob"), Document.from("Bob knows Carol")));
+
+        assertThat(graphDocuments)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactly("Alice knows Bob", "Bob knows Carol");
+        assertThat(chatModel.maxConcurrentCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_not_checkpoint_a_document_transformed_after_its_timeout() throws Exception {
+        Path checkpointFile = tempDir.resolve("checkpoint.txt");
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(new StubChatModel(0))
+                .examples(EXAMPLES)
+                .timeout(Duration.ofMillis(200))
+                .checkpointFile(checkpointFile)
+                .continueOnFailure(true)
+                .build();
+
+        // the stubborn document ignores the interruption and completes 300 ms after its timeout
+        assertThat(transformer.transformAll(List.of(Document.from("stubborn"), Document.from("Alice knows Bob"))))
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactly("Alice knows Bob");
+        Thread.sleep(500);
+
+        assertThat(Files.readAllLines(checkpointFile))
+                .containsExactly(LLMGraphTransformer.hash(Document.from("Alice knows Bob")));
+    }
+
+    @Test
+    void should_fail_on_first_failure_by_default() {
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(new StubChatModel(0))
+                .examples(EXAMPLES)
+                .concurrency(2)
+                .build();
+
+        List<Document> documents = List.of(Document.from("Alice knows Bob"), Document.from("fail"));
+
+        assertThatThrownBy(() -> transformer.transformAll(documents)).hasStackTraceContaining("LLM failure");
+    }
+
+    @Test
+    void should_resume_from_checkpoint() throws Exception {
+        Path checkpointFile = tempDir.resolve("checkpoint.txt");
+        List<Document> documents = documents(6);
+
+        List<GraphDocument> persisted = new CopyOnWriteArrayList<>();
+
+        StubChatModel firstChatModel = new StubChatModel(0);
+        LLMGraphTransformer first = LLMGraphTransformer.builder()
+                .model(firstChatModel)
+                .examples(EXAMPLES)
+                .concurrency(2)
+                .checkpointFile(checkpointFile)
+                .graphDocumentConsumer(persisted::add)
+                .build();
+        assertThat(first.transformAll(documents.subList(0, 4))).hasSize(4);
+        assertThat(Files.readAllLines(checkpointFile)).hasSize(4);
+        assertThat(persisted).hasSize(4);
+
+        StubChatModel secondChatModel = new StubChatModel(0);
+        LLMGraphTransformer second = LLMGraphTransformer.builder()
+                .model(secondChatModel)
+                .examples(EXAMPLES)
+                .concurrency(2)
+                .checkpointFile(checkpointFile)
+                .graphDocumentConsumer(persisted::add)
+                .build();
+        List<GraphDocument> graphDocuments = second.transformAll(documents);
+
+        assertThat(graphDocuments)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactly(documents.get(4).text(), documents.get(5).text());
+        assertThat(secondChatModel.calls.get()).isEqualTo(2);
+        assertThat(Files.readAllLines(checkpointFile)).hasSize(6);
+        // the consumer received the graph documents of both runs
+        assertThat(persisted)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactlyInAnyOrderElementsOf(documents.stream().map(Document::text).toList());
+    }
+
+    @Test
+    void should_not_checkpoint_a_document_whose_graph_document_failed_to_be_consumed() throws Exception {
+        Path checkpointFile = tempDir.resolve("checkpoint.txt");
+        List<String> persisted = new ArrayList<>();
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(new StubChatModel(0))
+                .examples(EXAMPLES)
+                .checkpointFile(checkpointFile)
+                .continueOnFailure(true)
+                .graphDocumentConsumer(graphDocument -> {
+                    if (graphDocument.source().text().startsWith("Bob")) {
+                        throw new IllegalStateException("Unable to persist");
+                    }
+                    persisted.add(graphDocument.source().text());
+                })
+                .build();
+
+        List<GraphDocument> graphDocuments =
+                transformer.transformAll(List.of(Document.from("Alice knows Bob"), Document.from("Bob knows Carol")));
+
+        assertThat(graphDocuments)
+                .extracting(graphDocument -> graphDocument.source().text())
+                .containsExactly("Alice knows Bob");
+        assertThat(persisted).containsExactly("Alice knows Bob");
+        assertThat(Files.readAllLines(checkpointFile))
+                .containsExactly(LLMGraphTransformer.hash(Document.from("Alice knows Bob")));
+    }
+
+    @Test
+    void should_hash_the_metadata_regardless_of_its_order() {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        Map<String, Object> reversedMetadata = new LinkedHashMap<>();
+        IntStream.range(0, 20).forEach(i -> metadata.put("key" + i, i));
+        IntStream.iterate(19, i -> i >= 0, i -> i - 1).forEach(i -> reversedMetadata.put("key" + i, i));
+
+        assertThat(LLMGraphTransformer.hash(Document.from("Alice knows Bob", Metadata.from(metadata))))
+                .isEqualTo(LLMGraphTransformer.hash(Document.from("Alice knows Bob", Metadata.from(reversedMetadata))))
+                .isNotEqualTo(LLMGraphTransformer.hash(Document.from("Alice knows Bob")));
+    }
+
+    @Test
+    void should_throttle_llm_calls() {
+        StubChatModel chatModel = new StubChatModel(0);
+        LLMGraphTransformer transformer = LLMGraphTransformer.builder()
+                .model(chatModel)
+                .examples(EXAMPLES)
+                .concurrency(2)
+                .maxRequestsPerSecond(20.0)
+                .build();
+
+        long start = System.nanoTime();
+        assertThat(transformer.transformAll(documents(12))).hasSize(12);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // a burst of 2 calls, then 10 calls spaced by 50 ms
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(400);
+    }
+
+    private static List<Document> documents(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Document.from("Person" + i + " knows Person" + (i + 1)))
+                .toList();
+    }
+
+    /**
+     * Extracts a single "KNOWS" relationship from texts like "Alice knows Bob".
+     * The text "fail" makes it throw, the text "slow" makes it hang,
+     * and the text "stubborn" makes it run for 500 ms ignoring the interruptions.
+     */
+    private static class StubChatModel implements ChatModel {
+
+        private final long latencyMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+        private StubChatModel(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public ChatResponse chat(List<ChatMessage> messages) {
+            calls.incrementAndGet();
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                String prompt = ((UserMessage) messages.get(1)).singleText();
+                String text = prompt.substring(prompt.indexOf("Text: ") + "Text: ".length())
+                        .trim();
+                if (text.equals("fail")) {
+                    throw new IllegalStateException("LLM failure");
+                }
+                if (text.equals("stubborn")) {
+                    long end = System.nanoTime() + 500_000_000L;
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                    return ChatResponse.builder().aiMessage(AiMessage.from("[]")).build();
+                }
+                Thread.sleep(text.equals("slow") ? 10_000 : latencyMillis);
+
+                String[] words = text.split(" ");
+                String json =
+                        """
+                        [{"head": "%s", "head_type": "Person", "relation": "KNOWS", "tail": "%s", "tail_type": "Person"}]
+                        """
+                                .formatted(words[0], words[2]);
+                return ChatResponse.builder().aiMessage(AiMessage.from(json)).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+        }
+    }
+}
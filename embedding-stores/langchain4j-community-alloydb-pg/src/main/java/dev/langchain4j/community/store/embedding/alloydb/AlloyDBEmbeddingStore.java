@@ -6,6 +6,7 @@ import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.internal.Utils.isNotNullOrEmpty;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
@@ -25,6 +26,7 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import java.io.IOException;
 import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -39,7 +41,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
 
 /**
  * AlloyDB EmbeddingStore Implementation
@@ -49,10 +60,15 @@ import java.util.stream.Collectors;
  * EmbeddingStore<TextSegment> store = new AlloyDBEmbeddingStore.Builder(alloyDBEngine, "TABLE_NAME")
  * .metadataColumns(metadataColumnNames)
  * .build();}
+ * <p>
+ * For bulk ingestion, {@link Builder#insertMode(InsertMode)} can be set to stream the rows with the binary
+ * <code>COPY</code> protocol instead of batched <code>INSERT</code> statements.
  */
 public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
+    private static final String COPY_STAGING_TABLE = "langchain4j_copy_staging";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
     private final AlloyDBFilterMapper FILTER_MAPPER = new AlloyDBFilterMapper();
     private final AlloyDBEngine engine;
     private final String tableName;
@@ -66,6 +82,17 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final String insertQuery;
     private final String deleteQuery;
     private String metadataJsonColumn;
+    private final InsertMode insertMode;
+    private final int copyBatchSize;
+    private final int copyConcurrency;
+    private Map<String, String> columnTypes;
+    private List<String> copyColumns;
+    private String copyColumnNames;
+    private final boolean returnEmbeddings;
+    private final String queryOptionsStatement;
+    // the parts of the search query around its WHERE clause, which only depend on the options of the store
+    private final String searchQueryPrefix;
+    private final String searchQuerySuffix;
 
     /**
      * Constructor for AlloyDBEmbeddingStore
@@ -83,11 +110,26 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         this.metadataColumns = builder.metadataColumns;
         this.distanceStrategy = builder.distanceStrategy;
         this.queryOptions = builder.queryOptions;
+        this.insertMode = getOrDefault(builder.insertMode, InsertMode.BATCH);
+        this.copyBatchSize = ensureGreaterThanZero(builder.copyBatchSize, "copyBatchSize");
+        this.copyConcurrency = ensureGreaterThanZero(builder.copyConcurrency, "copyConcurrency");
+        this.returnEmbeddings = getOrDefault(builder.returnEmbeddings, true);
+        this.queryOptionsStatement = queryOptions != null && isNotNullOrEmpty(queryOptions.getParameterSettings())
+                ? queryOptions.getParameterSettings().stream()
+                        .map(option -> "SET LOCAL " + option)
+                        .collect(Collectors.joining("; "))
+                : null;
 
         // check columns exist in the table
-        verifyEmbeddingStoreColumns(builder.ignoreMetadataColumnNames);
+        Map<String, String> allColumns = verifyEmbeddingStoreColumns(builder.ignoreMetadataColumnNames);
         insertQuery = generateInsertQuery();
         deleteQuery = String.format("DELETE FROM \"%s\".\"%s\" WHERE %s = ANY(?)", schemaName, tableName, idColumn);
+        searchQueryPrefix = generateSearchQueryPrefix();
+        searchQuerySuffix =
+                String.format(" ORDER BY %s %s ? LIMIT ?;", embeddingColumn, distanceStrategy.getOperator());
+        if (insertMode != InsertMode.BATCH) {
+            verifyCopyColumns(allColumns);
+        }
     }
 
     /**
@@ -101,7 +143,7 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new Builder(engine, tableName);
     }
 
-    private void verifyEmbeddingStoreColumns(List<String> ignoredColumns) {
+    private Map<String, String> verifyEmbeddingStoreColumns(List<String> ignoredColumns) {
         if (!metadataColumns.isEmpty() && !ignoredColumns.isEmpty()) {
             throw new IllegalArgumentException(
                     "Cannot use both metadataColumns and ignoreMetadataColumns at the same time.");
@@ -163,6 +205,7 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
                 metadataColumns.addAll(allColumnsCopy.keySet());
             }
 
+            return allColumns;
         } catch (SQLException ex) {
             throw new RuntimeException(
                     "Exception caught when verifying vector store table: \"" + schemaName + "\".\"" + tableName + "\"",
@@ -170,6 +213,27 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    private void verifyCopyColumns(Map<String, String> allColumns) {
+        copyColumns = new ArrayList<>();
+        copyColumns.add(idColumn);
+        copyColumns.add(embeddingColumn);
+        copyColumns.add(contentColumn);
+        copyColumns.addAll(metadataColumns);
+        if (isNotNullOrEmpty(metadataJsonColumn)) {
+            copyColumns.add(metadataJsonColumn);
+        }
+        columnTypes = new HashMap<>();
+        for (String column : copyColumns) {
+            String type = allColumns.get(column).toLowerCase();
+            if (!column.equals(embeddingColumn) && !PgCopyBinaryWriter.SUPPORTED_TYPES.contains(type)) {
+                throw new IllegalStateException(
+                        "Column, " + column + ", is type " + type + ", which is not supported by " + insertMode);
+            }
+            columnTypes.put(column, type);
+        }
+        copyColumnNames = copyColumns.stream().map(c -> "\"" + c + "\"").collect(Collectors.joining(", "));
+    }
+
     private String generateInsertQuery() {
         String metadataColumnNames =
                 metadataColumns.stream().map(column -> "\"" + column + "\"").collect(Collectors.joining(", "));
@@ -246,92 +310,109 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        String selectQuery = generateSearchQuery(FILTER_MAPPER.map(request.filter()));
+
+        try (Connection conn = engine.getConnection()) {
+            if (queryOptionsStatement == null) {
+                return new EmbeddingSearchResult<>(executeSearch(conn, selectQuery, request));
+            }
+            // SET LOCAL only applies inside a transaction, the options are sent with its BEGIN in one round-trip
+            conn.setAutoCommit(false);
+            try {
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute(queryOptionsStatement);
+                }
+                List<EmbeddingMatch<TextSegment>> embeddingMatches = executeSearch(conn, selectQuery, request);
+                conn.commit();
+                return new EmbeddingSearchResult<>(embeddingMatches);
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
+            throw new RuntimeException(
+                    "Exception caught when searching in store table: \"" + schemaName + "\".\"" + tableName + "\"", ex);
+        }
+    }
+
+    private String generateSearchQuery(String filterString) {
+        if (isNotNullOrBlank(filterString)) {
+            return searchQueryPrefix + "WHERE " + filterString + searchQuerySuffix;
+        }
+        return searchQueryPrefix + searchQuerySuffix;
+    }
+
+    private String generateSearchQueryPrefix() {
         List<String> columns = new ArrayList<>(metadataColumns);
         columns.add(idColumn);
         columns.add(contentColumn);
-        columns.add(embeddingColumn);
+        if (returnEmbeddings) {
+            columns.add(embeddingColumn);
+        }
         if (isNotNullOrBlank(metadataJsonColumn)) {
             columns.add(metadataJsonColumn);
         }
         String columnNames =
                 columns.stream().map(c -> String.format("\"%s\"", c)).collect(Collectors.joining(", "));
 
-        String filterString = FILTER_MAPPER.map(request.filter());
-
-        String whereClause = isNotNullOrBlank(filterString) ? String.format("WHERE %s", filterString) : "";
-
-        String selectQuery = String.format(
-                "SELECT %s, %s(%s, ?) as distance FROM \"%s\".\"%s\" %s ORDER BY %s %s ? LIMIT ?;",
-                columnNames,
-                distanceStrategy.getSearchFunction(),
-                embeddingColumn,
-                schemaName,
-                tableName,
-                whereClause,
-                embeddingColumn,
-                distanceStrategy.getOperator());
+        return String.format(
+                "SELECT %s, %s(%s, ?) as distance FROM \"%s\".\"%s\" ",
+                columnNames, distanceStrategy.getSearchFunction(), embeddingColumn, schemaName, tableName);
+    }
 
+    private List<EmbeddingMatch<TextSegment>> executeSearch(
+            Connection conn, String selectQuery, EmbeddingSearchRequest request) throws SQLException {
         List<EmbeddingMatch<TextSegment>> embeddingMatches = new ArrayList<>();
+        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
+            PGvector queryVector = new PGvector(request.queryEmbedding().vector());
+            preparedStatement.setObject(1, queryVector);
+            preparedStatement.setObject(2, queryVector);
+            preparedStatement.setInt(3, request.maxResults());
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                double score = calculateRelevanceScore(resultSet.getDouble("distance"));
 
-        try (Connection conn = engine.getConnection()) {
-            PGvector.registerTypes(conn);
-            try (Statement statement = conn.createStatement()) {
-                if (queryOptions != null) {
-                    for (String option : queryOptions.getParameterSettings()) {
-                        statement.executeQuery(String.format("SET LOCAL %s;", option));
-                    }
+                if (score < request.minScore()) {
+                    continue;
                 }
-            }
-            try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-                preparedStatement.setObject(
-                        1, new PGvector(request.queryEmbedding().vector()));
-                preparedStatement.setObject(
-                        2, new PGvector(request.queryEmbedding().vector()));
-                preparedStatement.setInt(3, request.maxResults());
-                ResultSet resultSet = preparedStatement.executeQuery();
-                while (resultSet.next()) {
-                    double score = calculateRelevanceScore(resultSet.getDouble("distance"));
-
-                    if (score < request.minScore()) {
-                        continue;
-                    }
 
-                    String embeddingId = resultSet.getString(idColumn);
+                String embeddingId = resultSet.getString(idColumn);
 
+                Embedding embedding = null;
+                if (returnEmbeddings) {
                     PGvector pgVector = (PGvector) resultSet.getObject(embeddingColumn);
+                    embedding = Embedding.from(pgVector.toArray());
+                }
 
-                    Embedding embedding = Embedding.from(pgVector.toArray());
-
-                    String embeddedText = resultSet.getString(contentColumn);
+                String embeddedText = resultSet.getString(contentColumn);
 
-                    Map<String, Object> metadataMap = new HashMap<>();
+                Map<String, Object> metadataMap = new HashMap<>();
 
-                    for (String metadataColumn : metadataColumns) {
-                        if (resultSet.getObject(metadataColumn) != null) {
-                            metadataMap.put(metadataColumn, resultSet.getObject(metadataColumn));
-                        }
+                for (String metadataColumn : metadataColumns) {
+                    Object value = resultSet.getObject(metadataColumn);
+                    if (value != null) {
+                        metadataMap.put(metadataColumn, value);
                     }
+                }
 
-                    if (isNotNullOrBlank(metadataJsonColumn)) {
-                        String metadataJsonString = getOrDefault(resultSet.getString(metadataJsonColumn), "{}");
-                        Map<String, Object> metadataJsonMap = OBJECT_MAPPER.readValue(metadataJsonString, Map.class);
-                        metadataMap.putAll(metadataJsonMap);
-                    }
+                if (isNotNullOrBlank(metadataJsonColumn)) {
+                    String metadataJsonString = getOrDefault(resultSet.getString(metadataJsonColumn), "{}");
+                    Map<String, Object> metadataJsonMap = OBJECT_MAPPER.readValue(metadataJsonString, Map.class);
+                    metadataMap.putAll(metadataJsonMap);
+                }
 
-                    Metadata metadata = Metadata.from(metadataMap);
+                Metadata metadata = Metadata.from(metadataMap);
 
-                    TextSegment embedded = embeddedText != null ? new TextSegment(embeddedText, metadata) : null;
+                TextSegment embedded = embeddedText != null ? new TextSegment(embeddedText, metadata) : null;
 
-                    embeddingMatches.add(new EmbeddingMatch<>(score, embeddingId, embedding, embedded));
-                }
-            } catch (JsonProcessingException ex) {
-                throw new RuntimeException("Exception caught when processing JSON metadata", ex);
+                embeddingMatches.add(new EmbeddingMatch<>(score, embeddingId, embedding, embedded));
             }
-        } catch (SQLException ex) {
-            throw new RuntimeException(
-                    "Exception caught when searching in store table: \"" + schemaName + "\".\"" + tableName + "\"", ex);
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Exception caught when processing JSON metadata", ex);
         }
-        return new EmbeddingSearchResult<>(embeddingMatches);
+        return embeddingMatches;
     }
 
     @Override
@@ -366,9 +447,12 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             throw new IllegalArgumentException(
                     "List parameters ids and embeddings and textSegments shouldn't be different sizes!");
         }
+        if (insertMode != InsertMode.BATCH) {
+            copyAll(ids, embeddings, textSegments);
+            return;
+        }
         try (Connection connection = engine.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
-                PGvector.registerTypes(connection);
                 for (int i = 0; i < ids.size(); i++) {
                     String id = ids.get(i);
                     Embedding embedding = embeddings.get(i);
@@ -418,6 +502,157 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    private void copyAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        List<Integer> rows = new ArrayList<>();
+        if (insertMode == InsertMode.COPY_UPSERT) {
+            // a row can only be upserted once per statement, the last one wins
+            Map<String, Integer> lastRows = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                lastRows.put(ids.get(i), i);
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (lastRows.get(ids.get(i)) == i) {
+                    rows.add(i);
+                }
+            }
+        } else {
+            for (int i = 0; i < ids.size(); i++) {
+                rows.add(i);
+            }
+        }
+
+        if (copyConcurrency == 1 || rows.size() <= copyBatchSize) {
+            for (int from = 0; from < rows.size(); from += copyBatchSize) {
+                List<Integer> chunk = rows.subList(from, Math.min(from + copyBatchSize, rows.size()));
+                copyChunk(chunk, ids, embeddings, textSegments);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(copyConcurrency);
+        Semaphore permits = new Semaphore(copyConcurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < rows.size() && failure.get() == null; from += copyBatchSize) {
+                List<Integer> chunk = rows.subList(from, Math.min(from + copyBatchSize, rows.size()));
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        copyChunk(chunk, ids, embeddings, textSegments);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void copyChunk(
+            List<Integer> rows, List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        try (Connection connection = engine.getConnection()) {
+            if (insertMode == InsertMode.COPY) {
+                String target = String.format("\"%s\".\"%s\"", schemaName, tableName);
+                copyIn(connection, target, rows, ids, embeddings, textSegments);
+                return;
+            }
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(String.format(
+                        "CREATE TEMP TABLE \"%s\" (LIKE \"%s\".\"%s\" INCLUDING DEFAULTS) ON COMMIT DROP",
+                        COPY_STAGING_TABLE, schemaName, tableName));
+                copyIn(connection, "\"" + COPY_STAGING_TABLE + "\"", rows, ids, embeddings, textSegments);
+                String updates = copyColumns.stream()
+                        .filter(c -> !c.equals(idColumn))
+                        .map(c -> String.format("\"%s\" = EXCLUDED.\"%s\"", c, c))
+                        .collect(Collectors.joining(", "));
+                statement.executeUpdate(String.format(
+                        "INSERT INTO \"%s\".\"%s\" (%s) SELECT %s FROM \"%s\" ON CONFLICT (\"%s\") DO UPDATE SET %s",
+                        schemaName,
+                        tableName,
+                        copyColumnNames,
+                        copyColumnNames,
+                        COPY_STAGING_TABLE,
+                        idColumn,
+                        updates));
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | IOException ex) {
+            throw new RuntimeException(
+                    "Exception caught when copying into vector store table: \"" + schemaName + "\".\"" + tableName
+                            + "\"",
+                    ex);
+        }
+    }
+
+    private void copyIn(
+            Connection connection,
+            String target,
+            List<Integer> rows,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> textSegments)
+            throws SQLException, IOException {
+        CopyIn copyIn = connection
+                .unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyIn(String.format("COPY %s (%s) FROM STDIN (FORMAT binary)", target, copyColumnNames));
+        try {
+            PgCopyBinaryWriter writer = new PgCopyBinaryWriter(new PGCopyOutputStream(copyIn, COPY_BUFFER_SIZE));
+            for (int row : rows) {
+                writeCopyRow(writer, ids.get(row), embeddings.get(row), textSegments.get(row));
+            }
+            writer.close();
+        } finally {
+            // the copy is only ended by closing the writer, a partially written copy is cancelled
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void writeCopyRow(PgCopyBinaryWriter writer, String id, Embedding embedding, TextSegment textSegment)
+            throws IOException {
+        Map<String, Object> embeddedMetadataCopy =
+                textSegment != null ? new HashMap<>(textSegment.metadata().toMap()) : null;
+        boolean hasMetadata = embeddedMetadataCopy != null && !embeddedMetadataCopy.isEmpty();
+
+        writer.startRow(copyColumns.size());
+        writer.writeValue(columnTypes.get(idColumn), UUID.fromString(id));
+        writer.writeVector(embedding.vector());
+        writer.writeValue(columnTypes.get(contentColumn), textSegment != null ? textSegment.text() : null);
+        for (String metadataColumn : metadataColumns) {
+            writer.writeValue(
+                    columnTypes.get(metadataColumn), hasMetadata ? embeddedMetadataCopy.remove(metadataColumn) : null);
+        }
+        if (isNotNullOrEmpty(metadataJsonColumn)) {
+            // the metadata which is not stored in the metadata columns
+            writer.writeValue(
+                    columnTypes.get(metadataJsonColumn),
+                    hasMetadata ? OBJECT_MAPPER.writeValueAsString(embeddedMetadataCopy) : null);
+        }
+    }
+
     /**
      * Create index in the vector store table
      *
@@ -551,6 +786,10 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         private List<String> ignoreMetadataColumnNames = new ArrayList<>();
         private DistanceStrategy distanceStrategy = DistanceStrategy.COSINE_DISTANCE;
         private QueryOptions queryOptions;
+        private InsertMode insertMode = InsertMode.BATCH;
+        private Integer copyBatchSize = 10_000;
+        private Integer copyConcurrency = 1;
+        private Boolean returnEmbeddings = true;
 
         /**
          * Constructor for Builder
@@ -670,6 +909,54 @@ public class AlloyDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * Insert Mode
+         *
+         * @param insertMode (Default: BATCH) how the rows are written by addAll,
+         *                   see {@link InsertMode}
+         * @return this builder
+         */
+        public Builder insertMode(InsertMode insertMode) {
+            this.insertMode = insertMode;
+            return this;
+        }
+
+        /**
+         * Copy Batch Size
+         *
+         * @param copyBatchSize (Default: 10000) number of rows per COPY statement,
+         *                      with the COPY insert modes
+         * @return this builder
+         */
+        public Builder copyBatchSize(Integer copyBatchSize) {
+            this.copyBatchSize = copyBatchSize;
+            return this;
+        }
+
+        /**
+         * Copy Concurrency
+         *
+         * @param copyConcurrency (Default: 1) number of pooled connections copying
+         *                        the batches in parallel, with the COPY insert modes
+         * @return this builder
+         */
+        public Builder copyConcurrency(Integer copyConcurrency) {
+            this.copyConcurrency = copyConcurrency;
+            return this;
+        }
+
+        /**
+         * Return Embeddings
+         *
+         * @param returnEmbeddings (Default: true) whether the search matches contain
+         *                         the embeddings, they are not selected if false
+         * @return this builder
+         */
+        public Builder returnEmbeddings(Boolean returnEmbeddings) {
+            this.returnEmbeddings = returnEmbeddings;
+            return this;
+        }
+
         /**
          * Builds an {@link AlloyDBEmbeddingStore} store with the configuration applied to this builder.
          *
@@ -11,14 +11,20 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.alloydb.ConnectorConfig;
 import com.google.cloud.alloydb.ConnectorRegistry;
 import com.google.cloud.alloydb.RefreshStrategy;
+import com.pgvector.PGvector;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,9 @@ public class AlloyDBEngine {
     private static final Logger log = LoggerFactory.getLogger(AlloyDBEngine.class.getName());
     private static final String USER_AGENT = "langchain4j-alloydb-pg";
     private final HikariDataSource dataSource;
+    private final List<ConnectionInitializer> connectionInitializers;
+    // the physical connections of the pool which have been initialized
+    private final Set<PGConnection> initializedConnections = Collections.newSetFromMap(new WeakHashMap<>());
     private ConnectorConfig namedConnectorConfig;
 
     /**
@@ -45,6 +54,8 @@ public class AlloyDBEngine {
      * @param builder builder.
      */
     public AlloyDBEngine(Builder builder) {
+        this.connectionInitializers = List.copyOf(builder.connectionInitializers);
+
         if (isNotNullOrBlank(builder.host)
                 && (isNotNullOrBlank(builder.projectId) || isNotNullOrBlank(builder.cluster))) {
             throw new IllegalStateException(
@@ -150,7 +161,34 @@ public class AlloyDBEngine {
      * @throws SQLException if database error occurs
      */
     public Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+        try {
+            initialize(connection);
+        } catch (SQLException | RuntimeException ex) {
+            connection.close();
+            throw ex;
+        }
+        return connection;
+    }
+
+    /**
+     * Registers the pgvector types and runs the {@link ConnectionInitializer}s,
+     * the first time a physical connection of the pool is handed out.
+     */
+    private void initialize(Connection connection) throws SQLException {
+        PGConnection physicalConnection = connection.unwrap(PGConnection.class);
+        synchronized (initializedConnections) {
+            if (initializedConnections.contains(physicalConnection)) {
+                return;
+            }
+        }
+        PGvector.registerTypes(connection);
+        for (ConnectionInitializer connectionInitializer : connectionInitializers) {
+            connectionInitializer.initialize(connection);
+        }
+        synchronized (initializedConnections) {
+            initializedConnections.add(physicalConnection);
+        }
     }
 
     /**
@@ -232,6 +270,7 @@ public class AlloyDBEngine {
         private String password;
         private String ipType = "public";
         private String iamAccountEmail;
+        private List<ConnectionInitializer> connectionInitializers = List.of();
 
         /**
          * Project Id
@@ -352,6 +391,18 @@ public class AlloyDBEngine {
             return this;
         }
 
+        /**
+         * Connection Initializers
+         *
+         * @param connectionInitializers (Optional) run once on each new pooled connection,
+         *                               after the pgvector types are registered
+         * @return this builder
+         */
+        public Builder connectionInitializers(List<ConnectionInitializer> connectionInitializers) {
+            this.connectionInitializers = connectionInitializers;
+            return this;
+        }
+
         /**
          * Builds an {@link AlloyDBEngine} store with the configuration applied to this builder.
          *
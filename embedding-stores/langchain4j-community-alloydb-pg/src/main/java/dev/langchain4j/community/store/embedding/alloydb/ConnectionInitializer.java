@@ -0,0 +1,19 @@
+package dev.langchain4j.community.store.embedding.alloydb;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Initializes a pooled connection of a {@link AlloyDBEngine}, once per physical connection,
+ * before it is handed out for the first time.
+ * For example, it can register custom types or set session parameters.
+ */
+@FunctionalInterface
+public interface ConnectionInitializer {
+
+    /**
+     * @param connection the new connection
+     * @throws SQLException if database error occurs
+     */
+    void initialize(Connection connection) throws SQLException;
+}
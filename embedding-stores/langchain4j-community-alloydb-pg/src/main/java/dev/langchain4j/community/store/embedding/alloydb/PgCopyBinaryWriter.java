@@ -0,0 +1,140 @@
+package dev.langchain4j.community.store.embedding.alloydb;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes rows in the binary format of the PostgreSQL <code>COPY ... FROM STDIN (FORMAT binary)</code> command.
+ * <p>
+ * Vectors are written in the binary representation of pgvector: the dimension and an unused field as int16,
+ * followed by the components as float4, so they are neither formatted nor parsed as text.
+ */
+class PgCopyBinaryWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    /**
+     * The column types, as reported by <code>information_schema.columns.data_type</code>,
+     * which can be written by {@link #writeValue(String, Object)}
+     */
+    static final Set<String> SUPPORTED_TYPES = Set.of(
+            "text",
+            "character varying",
+            "character",
+            "uuid",
+            "smallint",
+            "integer",
+            "bigint",
+            "real",
+            "double precision",
+            "boolean",
+            "json",
+            "jsonb");
+
+    private final DataOutputStream out;
+
+    PgCopyBinaryWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        // flags and header extension length
+        this.out.writeInt(0);
+        this.out.writeInt(0);
+    }
+
+    void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    void writeNull() throws IOException {
+        out.writeInt(-1);
+    }
+
+    void writeUuid(UUID value) throws IOException {
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeText(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeVector(float[] vector) throws IOException {
+        out.writeInt(4 + 4 * vector.length);
+        out.writeShort(vector.length);
+        out.writeShort(0);
+        for (float value : vector) {
+            out.writeFloat(value);
+        }
+    }
+
+    /**
+     * Writes a value into a column of one of the {@link #SUPPORTED_TYPES}.
+     */
+    void writeValue(String type, Object value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        switch (type) {
+            case "text", "character varying", "character", "json" -> writeText(value.toString());
+            case "jsonb" -> {
+                byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length + 1);
+                // jsonb version
+                out.writeByte(1);
+                out.write(bytes);
+            }
+            case "uuid" -> writeUuid(value instanceof UUID uuid ? uuid : UUID.fromString(value.toString()));
+            case "smallint" -> {
+                out.writeInt(2);
+                out.writeShort(toNumber(value).shortValue());
+            }
+            case "integer" -> {
+                out.writeInt(4);
+                out.writeInt(toNumber(value).intValue());
+            }
+            case "bigint" -> {
+                out.writeInt(8);
+                out.writeLong(toNumber(value).longValue());
+            }
+            case "real" -> {
+                out.writeInt(4);
+                out.writeFloat(toNumber(value).floatValue());
+            }
+            case "double precision" -> {
+                out.writeInt(8);
+                out.writeDouble(toNumber(value).doubleValue());
+            }
+            case "boolean" -> {
+                out.writeInt(1);
+                out.writeBoolean(value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString()));
+            }
+            default -> throw new IllegalArgumentException("Unsupported column type for COPY: " + type);
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        return value instanceof Number number ? number : Double.valueOf(value.toString());
+    }
+
+    /**
+     * Writes the trailer and closes the underlying stream, which ends the copy.
+     */
+    @Override
+    public void close() throws IOException {
+        out.writeShort(-1);
+        out.close();
+    }
+}
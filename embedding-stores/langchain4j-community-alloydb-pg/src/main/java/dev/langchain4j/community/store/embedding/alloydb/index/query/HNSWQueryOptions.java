@@ -20,7 +20,7 @@ public class HNSWQueryOptions implements QueryOptions {
 
     @Override
     public List<String> getParameterSettings() {
-        return List.of("nsw.efS_search = " + efSearch);
+        return List.of("hnsw.ef_search = " + efSearch);
     }
 
     public static Builder builder() {
@@ -9,6 +9,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -170,4 +172,54 @@ class AlloyDBLoaderIT {
         assertEquals("{\"content\":\"test content 1\"}", documents.get(0).text());
         assertEquals("{\"content\":\"test content 2\"}", documents.get(1).text());
     }
+
+    @Test
+    void testStreamDocuments() throws SQLException {
+        insertRows(250);
+        AlloyDBLoader loader = new AlloyDBLoader.Builder(engine)
+                .query("SELECT id, content, metadata FROM test_table ORDER BY id")
+                .contentColumns(List.of("content"))
+                .metadataColumns(List.of("id"))
+                .fetchSize(50)
+                .build();
+
+        List<Document> documents;
+        try (Stream<Document> stream = loader.stream()) {
+            documents = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(252, documents.size());
+        assertEquals("test content 1", documents.get(0).text());
+        assertEquals("row 250", documents.get(251).text());
+    }
+
+    @Test
+    void testParallelStreamDocuments() throws SQLException {
+        insertRows(1000);
+        AlloyDBLoader loader = new AlloyDBLoader.Builder(engine)
+                .query("SELECT id, content FROM test_table")
+                .contentColumns(List.of("content"))
+                .metadataColumns(List.of("id"))
+                .keyColumn("id")
+                .fetchSize(64)
+                .build();
+
+        List<Integer> ids = loader.parallelStream(4)
+                .map(document -> document.metadata().getInteger("id"))
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(1002, ids.size());
+        assertEquals(1002, ids.stream().distinct().count());
+        assertEquals(1, ids.get(0));
+        assertEquals(1002, ids.get(1001));
+    }
+
+    private void insertRows(int count) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format(
+                    "INSERT INTO test_table (content, metadata) SELECT 'row ' || i, 'metadata ' || i FROM generate_series(1, %d) AS i",
+                    count));
+        }
+    }
 }
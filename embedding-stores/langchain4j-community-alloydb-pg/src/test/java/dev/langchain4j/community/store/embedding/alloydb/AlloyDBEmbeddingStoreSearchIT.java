@@ -0,0 +1,141 @@
+package dev.langchain4j.community.store.embedding.alloydb;
+
+import static dev.langchain4j.community.store.embedding.alloydb.AlloyDBTestUtils.randomPGvector;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.community.store.embedding.alloydb.index.HNSWIndex;
+import dev.langchain4j.community.store.embedding.alloydb.index.query.HNSWQueryOptions;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class AlloyDBEmbeddingStoreSearchIT {
+
+    private static final String TABLE_NAME = "search_test";
+    private static final int VECTOR_SIZE = 8;
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg15");
+
+    private static final AtomicInteger initializedConnections = new AtomicInteger();
+    private static AlloyDBEngine engine;
+    private static final List<Embedding> embeddings = new ArrayList<>();
+
+    @BeforeAll
+    static void beforeAll() {
+        engine = new AlloyDBEngine.Builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .connectionInitializers(List.of(connection -> {
+                    initializedConnections.incrementAndGet();
+                    connection.createStatement().execute("SET application_name = 'langchain4j-search-it'");
+                }))
+                .build();
+
+        engine.initVectorStoreTable(new EmbeddingStoreConfig.Builder(TABLE_NAME, VECTOR_SIZE)
+                .metadataColumns(List.of(new MetadataColumn("name", "text", true)))
+                .storeMetadata(true)
+                .overwriteExisting(true)
+                .build());
+
+        AlloyDBEmbeddingStore store = new AlloyDBEmbeddingStore.Builder(engine, TABLE_NAME)
+                .metadataColumns(new ArrayList<>(List.of("name")))
+                .build();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            embeddings.add(new Embedding(randomPGvector(VECTOR_SIZE).toArray()));
+            segments.add(TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i)));
+        }
+        store.addAll(embeddings, segments);
+        store.applyVectorIndex(HNSWIndex.builder().build(), "search_test_hnsw", false);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        engine.close();
+    }
+
+    @Test
+    void should_initialize_each_pooled_connection_once() throws SQLException {
+        for (int i = 0; i < 20; i++) {
+            try (Connection connection = engine.getConnection();
+                    ResultSet resultSet = connection.createStatement().executeQuery("SHOW application_name")) {
+                resultSet.next();
+                assertThat(resultSet.getString(1)).isEqualTo("langchain4j-search-it");
+            }
+        }
+
+        // at most one initialization per connection of the pool, which has 10 connections by default
+        assertThat(initializedConnections.get()).isBetween(1, 10);
+    }
+
+    @Test
+    void should_search_without_returning_embeddings() {
+        AlloyDBEmbeddingStore store = new AlloyDBEmbeddingStore.Builder(engine, TABLE_NAME)
+                .metadataColumns(new ArrayList<>(List.of("name")))
+                .returnEmbeddings(false)
+                .build();
+
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(3))
+                        .maxResults(3)
+                        .build())
+                .matches();
+
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).embedded())
+                .isEqualTo(TextSegment.from("text-3", new Metadata().put("name", "name-3")));
+        assertThat(matches).allSatisfy(match -> assertThat(match.embedding()).isNull());
+    }
+
+    @Test
+    void should_apply_query_options_to_the_search() {
+        AlloyDBEmbeddingStore store = new AlloyDBEmbeddingStore.Builder(engine, TABLE_NAME)
+                .metadataColumns(new ArrayList<>(List.of("name")))
+                .queryOptions(HNSWQueryOptions.builder().efSearch(100).build())
+                .build();
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(5))
+                .maxResults(5)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+            assertThat(matches).hasSize(5);
+            assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(5));
+        }
+    }
+
+    @Test
+    void should_fail_the_search_with_invalid_query_options() {
+        AlloyDBEmbeddingStore store = new AlloyDBEmbeddingStore.Builder(engine, TABLE_NAME)
+                .metadataColumns(new ArrayList<>(List.of("name")))
+                .queryOptions(() -> List.of("statement_timeout = 'not a duration'"))
+                .build();
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(1)
+                .build();
+
+        assertThatThrownBy(() -> store.search(request)).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toList;
 import com.clickhouse.client.api.Client;
 import com.clickhouse.client.api.data_formats.internal.BinaryStreamReader;
 import com.clickhouse.client.api.insert.InsertResponse;
+import com.clickhouse.client.api.insert.InsertSettings;
 import com.clickhouse.client.api.metrics.ServerMetrics;
 import com.clickhouse.client.api.query.GenericRecord;
 import com.clickhouse.client.api.query.Records;
@@ -41,7 +42,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -244,6 +251,14 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
                 "embeddings size is not equal to embedded size");
         int length = ids.size();
 
+        if (settings.isStreamingInsert()) {
+            if (ClickHouseRowBinaryWriter.supports(settings)) {
+                addAllStreaming(ids, embeddings, embedded);
+                return;
+            }
+            log.warn("Some metadata types can't be streamed in RowBinary format, falling back to JSON");
+        }
+
         List<Map<String, Object>> dataList = new ArrayList<>();
         for (int i = 0; i < length; i++) {
             dataList.add(toInsertData(ids.get(i), embeddings.get(i), embedded == null ? null : embedded.get(i)));
@@ -266,6 +281,83 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
         }
     }
 
+    /**
+     * Inserts the rows in chunks of {@link ClickHouseSettings#getInsertBatchSize()} rows, each one streamed in
+     * RowBinary format by a separate request. Up to {@link ClickHouseSettings#getInsertConcurrency()} requests run in
+     * parallel, and no new chunk is started after the first failure.
+     */
+    private void addAllStreaming(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        int batchSize = settings.getInsertBatchSize();
+        int concurrency = settings.getInsertConcurrency();
+        int length = ids.size();
+
+        if (concurrency == 1 || length <= batchSize) {
+            for (int from = 0; from < length; from += batchSize) {
+                int to = Math.min(from + batchSize, length);
+                insertChunk(ids.subList(from, to), embeddings.subList(from, to), subList(embedded, from, to));
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < length && failure.get() == null; from += batchSize) {
+                int to = Math.min(from + batchSize, length);
+                List<String> chunkIds = ids.subList(from, to);
+                List<Embedding> chunkEmbeddings = embeddings.subList(from, to);
+                List<TextSegment> chunkEmbedded = subList(embedded, from, to);
+
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        insertChunk(chunkIds, chunkEmbeddings, chunkEmbedded);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void insertChunk(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        ClickHouseRowBinaryWriter writer = new ClickHouseRowBinaryWriter(settings, ids, embeddings, embedded);
+        try (InsertResponse response = client.insert(
+                        settings.getTable(), writer, ClickHouseFormat.RowBinaryWithNames, new InsertSettings())
+                .get(settings.getTimeout(), TimeUnit.MILLISECONDS)) {
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "Streaming insert finished: {} rows written",
+                        response.getMetrics()
+                                .getMetric(ServerMetrics.NUM_ROWS_WRITTEN)
+                                .getLong());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static <T> List<T> subList(List<T> list, int from, int to) {
+        return list == null ? null : list.subList(from, to);
+    }
+
     public ClickHouseSettings getSettings() {
         return settings;
     }
@@ -289,12 +381,14 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
             }
         }
         String metadataCreateSql = metadataColumns.isEmpty() ? "" : String.join(",", metadataColumns) + ", ";
+        String signBitsColumnSql = settings.isQuantizedSearch() ? signBitsColumnDefinition() + ", " : "";
 
         String createTableSql = String.format(
                 "CREATE TABLE IF NOT EXISTS %s.%s(" + "%s String,"
                         + "%s Nullable(String),"
                         + "%s Array(Float64),"
                         + "%s"
+                        + "%s"
                         + "CONSTRAINT cons_vec_len CHECK length(%s) = %d,"
                         + "INDEX vec_idx %s TYPE vector_similarity('hnsw', 'cosineDistance', %d) GRANULARITY 1000"
                         + ") ENGINE = MergeTree ORDER BY id SETTINGS index_granularity = 8192",
@@ -304,15 +398,80 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
                 settings.getColumnMapping(TEXT_MAPPING_KEY),
                 settings.getColumnMapping(EMBEDDING_MAPPING_KEY),
                 metadataCreateSql,
+                signBitsColumnSql,
                 settings.getColumnMapping(EMBEDDING_MAPPING_KEY),
                 settings.getDimension(),
                 settings.getColumnMapping(EMBEDDING_MAPPING_KEY),
                 settings.getDimension());
 
-        client.execute(createTableSql);
+        executeAndWait(createTableSql);
+
+        if (settings.isQuantizedSearch() && !hasSignBitsColumn()) {
+            // the table was created without it: a materialized column is only computed on read for the existing
+            // parts, until it's materialized by the mutation rewriting them
+            executeAndWait(String.format(
+                    "ALTER TABLE %s.%s ADD COLUMN IF NOT EXISTS %s",
+                    settings.getDatabase(), settings.getTable(), signBitsColumnDefinition()));
+            executeAndWait(String.format(
+                    "ALTER TABLE %s.%s MATERIALIZE COLUMN %s",
+                    settings.getDatabase(), settings.getTable(), signBitsColumn()));
+        }
+    }
+
+    private boolean hasSignBitsColumn() {
+        List<GenericRecord> records = client.queryAll(String.format(
+                "SELECT count() AS columns FROM system.columns WHERE database = '%s' AND table = '%s' AND name = '%s'",
+                settings.getDatabase(), settings.getTable(), signBitsColumn()));
+        return records.get(0).getLong("columns") > 0;
+    }
+
+    private void executeAndWait(String sql) {
+        try {
+            client.execute(sql).get(settings.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The sign bits of the embedding, packed in 64-bit words, computed by ClickHouse at insert time.
+     */
+    private String signBitsColumnDefinition() {
+        String embeddingColumn = settings.getColumnMapping(EMBEDDING_MAPPING_KEY);
+        int dimension = settings.getDimension();
+        return String.format(
+                "%s Array(UInt64) MATERIALIZED arrayMap(w -> arraySum(arrayMap("
+                        + "j -> if(%s[w * 64 + j + 1] > 0, bitShiftLeft(toUInt64(1), j), toUInt64(0)), "
+                        + "range(toUInt64(least(64, %d - w * 64))))), range(%d))",
+                signBitsColumn(),
+                embeddingColumn,
+                dimension,
+                (dimension + 63) / 64);
     }
 
-    private String buildQuerySql(EmbeddingSearchRequest request) {
+    private String signBitsColumn() {
+        return settings.getColumnMapping(EMBEDDING_MAPPING_KEY) + "_bits";
+    }
+
+    /**
+     * @return the sign bits of the vector, packed like the materialized column, as a ClickHouse array literal
+     */
+    static String toSignBitsLiteral(float[] vector) {
+        long[] words = new long[(vector.length + 63) / 64];
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] > 0) {
+                words[i / 64] |= 1L << (i % 64);
+            }
+        }
+        return Arrays.stream(words)
+                .mapToObj(Long::toUnsignedString)
+                .collect(Collectors.joining(",", "CAST([", "] AS Array(UInt64))"));
+    }
+
+    String buildQuerySql(EmbeddingSearchRequest request) {
         Embedding refEmbedding = request.queryEmbedding();
         int maxResults = request.maxResults();
         Filter filter = request.filter();
@@ -328,6 +487,10 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
             queryColumnList.addAll(settings.getMetadataTypeMap().keySet());
         }
 
+        if (settings.isQuantizedSearch()) {
+            return buildQuantizedQuerySql(request, refEmbeddingStr, queryColumnList, whereClause);
+        }
+
         return String.format(
                 "WITH %s AS reference_vector " + "SELECT %s, dist "
                         + "FROM %s.%s "
@@ -344,6 +507,44 @@ public class ClickHouseEmbeddingStore implements EmbeddingStore<TextSegment>, Au
                 maxResults);
     }
 
+    /**
+     * The first phase selects the ids of the closest candidates by the Hamming distance of the sign bits,
+     * reading only the id and the sign bits columns, then the candidates are reranked by the exact cosine distance,
+     * reading the other columns only for the candidates thanks to the primary key on the id.
+     */
+    private String buildQuantizedQuerySql(
+            EmbeddingSearchRequest request, String refEmbeddingStr, List<String> queryColumnList, String whereClause) {
+        String idColumn = settings.getColumnMapping(ID_MAPPING_KEY);
+        String table = settings.getDatabase() + "." + settings.getTable();
+        int candidates = request.maxResults() * settings.getRerankMultiplier();
+
+        return String.format(
+                "WITH %s AS reference_vector, %s AS reference_bits "
+                        + "SELECT %s, dist "
+                        + "FROM %s "
+                        + "WHERE %s IN ("
+                        + "SELECT %s FROM %s %s "
+                        + "ORDER BY arraySum(arrayMap((a, b) -> bitCount(bitXor(a, b)), %s, reference_bits)) ASC "
+                        + "LIMIT %d) "
+                        + "ORDER BY cosineDistance(%s, reference_vector) AS %s ASC "
+                        + "LIMIT %d "
+                        // the vector similarity index would be applied before the candidates filter
+                        + "SETTINGS use_skip_indexes = 0",
+                refEmbeddingStr,
+                toSignBitsLiteral(request.queryEmbedding().vector()),
+                String.join(",", queryColumnList),
+                table,
+                idColumn,
+                idColumn,
+                table,
+                whereClause,
+                signBitsColumn(),
+                candidates,
+                settings.getColumnMapping(EMBEDDING_MAPPING_KEY),
+                DISTANCE_COLUMN_NAME,
+                request.maxResults());
+    }
+
     private EmbeddingMatch<TextSegment> toEmbeddingMatch(GenericRecord r) {
         String id = r.getString(settings.getColumnMapping(ID_MAPPING_KEY));
         String text = r.getString(settings.getColumnMapping(TEXT_MAPPING_KEY));
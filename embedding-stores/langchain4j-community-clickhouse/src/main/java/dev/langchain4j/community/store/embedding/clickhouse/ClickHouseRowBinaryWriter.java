@@ -0,0 +1,174 @@
+package dev.langchain4j.community.store.embedding.clickhouse;
+
+import static dev.langchain4j.community.store.embedding.clickhouse.ClickHouseMappingKey.EMBEDDING_MAPPING_KEY;
+import static dev.langchain4j.community.store.embedding.clickhouse.ClickHouseMappingKey.ID_MAPPING_KEY;
+import static dev.langchain4j.community.store.embedding.clickhouse.ClickHouseMappingKey.TEXT_MAPPING_KEY;
+
+import com.clickhouse.client.api.DataStreamWriter;
+import com.clickhouse.data.ClickHouseDataType;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a chunk of rows in the <code>RowBinaryWithNames</code> format, straight from the embedding vectors,
+ * so that no intermediate representation of the whole chunk is kept in memory.
+ * <p>
+ * The rows are encoded again on each call of {@link #onOutput(OutputStream)}, so the insert can be retried.
+ */
+class ClickHouseRowBinaryWriter implements DataStreamWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<ClickHouseDataType> SUPPORTED_METADATA_TYPES = EnumSet.of(
+            ClickHouseDataType.String,
+            ClickHouseDataType.UUID,
+            ClickHouseDataType.Bool,
+            ClickHouseDataType.Int8,
+            ClickHouseDataType.Int16,
+            ClickHouseDataType.Int32,
+            ClickHouseDataType.Int64,
+            ClickHouseDataType.UInt8,
+            ClickHouseDataType.UInt16,
+            ClickHouseDataType.UInt32,
+            ClickHouseDataType.UInt64,
+            ClickHouseDataType.Float32,
+            ClickHouseDataType.Float64);
+
+    private final ClickHouseSettings settings;
+    private final List<String> ids;
+    private final List<Embedding> embeddings;
+    private final List<TextSegment> embedded;
+
+    private final byte[] scratch = new byte[8];
+
+    ClickHouseRowBinaryWriter(
+            ClickHouseSettings settings, List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        this.settings = settings;
+        this.ids = ids;
+        this.embeddings = embeddings;
+        this.embedded = embedded;
+    }
+
+    /**
+     * @return whether all the metadata columns can be written in RowBinary format
+     */
+    static boolean supports(ClickHouseSettings settings) {
+        return !settings.containsMetadata()
+                || SUPPORTED_METADATA_TYPES.containsAll(
+                        settings.getMetadataTypeMap().values());
+    }
+
+    @Override
+    public void onOutput(OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+
+        List<String> metadataColumns = settings.containsMetadata()
+                ? new ArrayList<>(settings.getMetadataTypeMap().keySet())
+                : List.of();
+        List<String> columns = new ArrayList<>();
+        columns.add(settings.getColumnMapping(ID_MAPPING_KEY));
+        columns.add(settings.getColumnMapping(TEXT_MAPPING_KEY));
+        columns.add(settings.getColumnMapping(EMBEDDING_MAPPING_KEY));
+        columns.addAll(metadataColumns);
+
+        writeVarInt(buffered, columns.size());
+        for (String column : columns) {
+            writeString(buffered, column);
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            TextSegment segment = embedded == null ? null : embedded.get(i);
+
+            writeString(buffered, ids.get(i));
+            writeNullableString(buffered, segment == null ? null : segment.text());
+
+            float[] vector = embeddings.get(i).vector();
+            writeVarInt(buffered, vector.length);
+            for (float value : vector) {
+                writeLong(buffered, Double.doubleToLongBits(value), 8);
+            }
+
+            Map<String, Object> metadata = segment == null ? null : segment.metadata().toMap();
+            for (String column : metadataColumns) {
+                Object value = metadata == null ? null : metadata.get(column);
+                if (value == null) {
+                    buffered.write(1);
+                } else {
+                    buffered.write(0);
+                    writeValue(buffered, settings.getMetadataTypeMap().get(column), value);
+                }
+            }
+        }
+        buffered.flush();
+    }
+
+    private void writeValue(OutputStream out, ClickHouseDataType type, Object value) throws IOException {
+        switch (type) {
+            case String -> writeString(out, value.toString());
+            case UUID -> {
+                UUID uuid = value instanceof UUID ? (UUID) value : UUID.fromString(value.toString());
+                writeLong(out, uuid.getMostSignificantBits(), 8);
+                writeLong(out, uuid.getLeastSignificantBits(), 8);
+            }
+            case Bool -> out.write(Boolean.parseBoolean(value.toString()) ? 1 : 0);
+            case Int8, UInt8 -> out.write(toNumber(value).intValue());
+            case Int16, UInt16 -> writeLong(out, toNumber(value).longValue(), 2);
+            case Int32, UInt32 -> writeLong(out, toNumber(value).longValue(), 4);
+            case Int64, UInt64 -> writeLong(out, toNumber(value).longValue(), 8);
+            case Float32 -> writeLong(out, Float.floatToIntBits(toNumber(value).floatValue()), 4);
+            case Float64 -> writeLong(out, Double.doubleToLongBits(toNumber(value).doubleValue()), 8);
+            default -> throw new IllegalArgumentException("Unsupported metadata type for RowBinary: " + type);
+        }
+    }
+
+    private static Number toNumber(Object value) {
+        return value instanceof Number number ? number : Double.valueOf(value.toString());
+    }
+
+    private void writeNullableString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.write(1);
+        } else {
+            out.write(0);
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the lowest {@code bytes} bytes of the value in little-endian order
+     */
+    private void writeLong(OutputStream out, long value, int bytes) throws IOException {
+        for (int i = 0; i < bytes; i++) {
+            scratch[i] = (byte) (value >>> (8 * i));
+        }
+        out.write(scratch, 0, bytes);
+    }
+
+    /**
+     * Writes the value as unsigned LEB128, used for the lengths of strings and arrays
+     */
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        long remaining = Integer.toUnsignedLong(value);
+        while (remaining >= 0x80) {
+            out.write((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+}
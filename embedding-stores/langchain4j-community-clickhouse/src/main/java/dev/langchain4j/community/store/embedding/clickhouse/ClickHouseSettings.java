@@ -3,9 +3,11 @@ package dev.langchain4j.community.store.embedding.clickhouse;
 import static dev.langchain4j.community.store.embedding.clickhouse.ClickHouseMappingKey.REQUIRED_COLUMN_MAP_KEYS;
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import com.clickhouse.data.ClickHouseDataType;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +45,28 @@ public class ClickHouseSettings {
 
     private Integer dimension;
     private Long timeout;
+    /**
+     * Whether {@link ClickHouseEmbeddingStore#addAll(List, List, List)} streams the rows in RowBinary format,
+     * instead of serializing them to a single JSON payload.
+     */
+    private boolean streamingInsert;
+    /**
+     * The number of rows per insert request, when {@link #streamingInsert} is enabled.
+     */
+    private Integer insertBatchSize;
+    /**
+     * The number of insert requests running in parallel, when {@link #streamingInsert} is enabled.
+     */
+    private Integer insertConcurrency;
+    /**
+     * Whether the table stores the sign bits of the embeddings, used by a first search phase on the Hamming distance.
+     */
+    private boolean quantizedSearch;
+    /**
+     * The number of candidates of the first search phase, as a multiple of the requested results,
+     * when {@link #quantizedSearch} is enabled.
+     */
+    private Integer rerankMultiplier;
 
     /**
      * Construct a ClickHouseSettings instance
@@ -68,6 +92,57 @@ public class ClickHouseSettings {
             Map<String, ClickHouseDataType> metadataTypeMap,
             Integer dimension,
             Long timeout) {
+        this(
+                url,
+                username,
+                password,
+                database,
+                table,
+                columnMap,
+                metadataTypeMap,
+                dimension,
+                timeout,
+                false,
+                null,
+                null,
+                false,
+                null);
+    }
+
+    /**
+     * Construct a ClickHouseSettings instance
+     *
+     * @param url               ClickHouse http endpoint. (e.g. http://localhost:8123)
+     * @param username          Username. (Optional)
+     * @param password          Password. (Optional)
+     * @param database          Database name. (Optional)
+     * @param table             Table name. (Optional)
+     * @param columnMap         Column type map to project column name onto langchain4j semantics.
+     *                          Must have keys: `text`, `id` and `embedding`, other keys will be ignored. (Optional)
+     * @param metadataTypeMap   Metadata type map to project column name onto ClickHouseDataType in order to filter.
+     * @param dimension         Embedding dimension.
+     * @param timeout           Request timeout in milliseconds. (Optional)
+     * @param streamingInsert   Whether the rows are streamed in RowBinary format. (Optional, default: false)
+     * @param insertBatchSize   Rows per insert request, if streamingInsert is enabled. (Optional, default: 10000)
+     * @param insertConcurrency Parallel insert requests, if streamingInsert is enabled. (Optional, default: 1)
+     * @param quantizedSearch   Whether the search runs a first phase on the sign bits of the embeddings. (Optional, default: false)
+     * @param rerankMultiplier  Candidates of the first phase per requested result, if quantizedSearch is enabled. (Optional, default: 10)
+     */
+    public ClickHouseSettings(
+            String url,
+            String username,
+            String password,
+            String database,
+            String table,
+            Map<String, String> columnMap,
+            Map<String, ClickHouseDataType> metadataTypeMap,
+            Integer dimension,
+            Long timeout,
+            boolean streamingInsert,
+            Integer insertBatchSize,
+            Integer insertConcurrency,
+            boolean quantizedSearch,
+            Integer rerankMultiplier) {
         this.url = ensureNotNull(url, "url");
         this.username = username;
         this.password = password;
@@ -77,6 +152,11 @@ public class ClickHouseSettings {
         this.metadataTypeMap = metadataTypeMap;
         this.dimension = ensureNotNull(dimension, "dimension");
         this.timeout = getOrDefault(timeout, 3000L);
+        this.streamingInsert = streamingInsert;
+        this.insertBatchSize = ensureGreaterThanZero(getOrDefault(insertBatchSize, 10_000), "insertBatchSize");
+        this.insertConcurrency = ensureGreaterThanZero(getOrDefault(insertConcurrency, 1), "insertConcurrency");
+        this.quantizedSearch = quantizedSearch;
+        this.rerankMultiplier = ensureGreaterThanZero(getOrDefault(rerankMultiplier, 10), "rerankMultiplier");
 
         ensureColumnMap(this.columnMap);
     }
@@ -153,6 +233,46 @@ public class ClickHouseSettings {
         this.timeout = timeout;
     }
 
+    public boolean isStreamingInsert() {
+        return streamingInsert;
+    }
+
+    public void setStreamingInsert(boolean streamingInsert) {
+        this.streamingInsert = streamingInsert;
+    }
+
+    public Integer getInsertBatchSize() {
+        return insertBatchSize;
+    }
+
+    public void setInsertBatchSize(Integer insertBatchSize) {
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    public Integer getInsertConcurrency() {
+        return insertConcurrency;
+    }
+
+    public void setInsertConcurrency(Integer insertConcurrency) {
+        this.insertConcurrency = insertConcurrency;
+    }
+
+    public boolean isQuantizedSearch() {
+        return quantizedSearch;
+    }
+
+    public void setQuantizedSearch(boolean quantizedSearch) {
+        this.quantizedSearch = quantizedSearch;
+    }
+
+    public Integer getRerankMultiplier() {
+        return rerankMultiplier;
+    }
+
+    public void setRerankMultiplier(Integer rerankMultiplier) {
+        this.rerankMultiplier = rerankMultiplier;
+    }
+
     public boolean containsMetadata() {
         return metadataTypeMap != null && !metadataTypeMap.isEmpty();
     }
@@ -188,6 +308,11 @@ public class ClickHouseSettings {
         private Map<String, ClickHouseDataType> metadataTypeMap;
         private Integer dimension;
         private Long timeout;
+        private boolean streamingInsert;
+        private Integer insertBatchSize;
+        private Integer insertConcurrency;
+        private boolean quantizedSearch;
+        private Integer rerankMultiplier;
 
         /**
          * ClickHouse HTTP endpoint. e.g. http://localhost:8123
@@ -254,9 +379,77 @@ public class ClickHouseSettings {
             return this;
         }
 
+        /**
+         * Stream the rows of {@link ClickHouseEmbeddingStore#addAll(List, List, List)} in RowBinary format,
+         * written straight from the embedding vectors, instead of building a single JSON payload.
+         * Only metadata columns of type String, UUID, Bool, (U)Int8-64 and Float32/64 are supported,
+         * otherwise the JSON format is used.
+         *
+         * @param streamingInsert whether the rows are streamed (default: false)
+         * @return builder
+         */
+        public Builder streamingInsert(boolean streamingInsert) {
+            this.streamingInsert = streamingInsert;
+            return this;
+        }
+
+        /**
+         * @param insertBatchSize the number of rows per insert request, when streaming (default: 10000)
+         * @return builder
+         */
+        public Builder insertBatchSize(Integer insertBatchSize) {
+            this.insertBatchSize = insertBatchSize;
+            return this;
+        }
+
+        /**
+         * @param insertConcurrency the number of insert requests running in parallel, when streaming (default: 1)
+         * @return builder
+         */
+        public Builder insertConcurrency(Integer insertConcurrency) {
+            this.insertConcurrency = insertConcurrency;
+            return this;
+        }
+
+        /**
+         * Store the sign bits of the embeddings in an additional materialized column, and search in two phases:
+         * the candidates are first selected by the Hamming distance of their sign bits, reading a fraction of the data,
+         * then reranked by the exact cosine distance.
+         *
+         * @param quantizedSearch whether the search runs in two phases (default: false)
+         * @return builder
+         */
+        public Builder quantizedSearch(boolean quantizedSearch) {
+            this.quantizedSearch = quantizedSearch;
+            return this;
+        }
+
+        /**
+         * @param rerankMultiplier the number of candidates of the first phase per requested result,
+         *                         when the search is quantized (default: 10)
+         * @return builder
+         */
+        public Builder rerankMultiplier(Integer rerankMultiplier) {
+            this.rerankMultiplier = rerankMultiplier;
+            return this;
+        }
+
         public ClickHouseSettings build() {
             return new ClickHouseSettings(
-                    url, username, password, database, table, columnMap, metadataTypeMap, dimension, timeout);
+                    url,
+                    username,
+                    password,
+                    database,
+                    table,
+                    columnMap,
+                    metadataTypeMap,
+                    dimension,
+                    timeout,
+                    streamingInsert,
+                    insertBatchSize,
+                    insertConcurrency,
+                    quantizedSearch,
+                    rerankMultiplier);
         }
     }
 }
@@ -0,0 +1,290 @@
+package dev.langchain4j.community.store.embedding.clickhouse;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clickhouse.client.api.metrics.ServerMetrics;
+import com.clickhouse.client.api.query.GenericRecord;
+import com.clickhouse.client.api.query.QueryResponse;
+import com.clickhouse.data.ClickHouseDataType;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.clickhouse.ClickHouseContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Checks the two-phase quantized search of {@link ClickHouseEmbeddingStore} against the exact search,
+ * and compares their latency and bytes read.
+ * The comparison only runs when the `clickhouseBenchmarkRows` system property is set,
+ * e.g. `-DclickhouseBenchmarkRows=10000000` for the 10M rows comparison,
+ * the number of queries can be changed via `clickhouseBenchmarkQueries`.
+ */
+class ClickHouseQuantizedSearchIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ClickHouseQuantizedSearchIT.class);
+
+    private static final String USERNAME = "test-username";
+    private static final String PASSWORD = "test-password";
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("clickhouseBenchmarkRows", 100_000);
+    private static final int BENCHMARK_QUERIES = Integer.getInteger("clickhouseBenchmarkQueries", 100);
+    private static final int BENCHMARK_DIMENSION = 384;
+    private static final int BENCHMARK_BATCH_SIZE = 50_000;
+    private static final int MAX_RESULTS = 10;
+
+    static ClickHouseContainer clickhouse = new ClickHouseContainer(
+                    DockerImageName.parse("clickhouse/clickhouse-server:latest"))
+            .withDatabaseName("default")
+            .withUsername(USERNAME)
+            .withPassword(PASSWORD);
+
+    private final Random random = new Random(42);
+    private final List<ClickHouseEmbeddingStore> embeddingStores = new ArrayList<>();
+
+    @BeforeAll
+    static void beforeAll() {
+        clickhouse.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        clickhouse.stop();
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        for (ClickHouseEmbeddingStore embeddingStore : embeddingStores) {
+            embeddingStore.close();
+        }
+    }
+
+    @Test
+    void should_return_the_exact_matches_when_all_rows_are_candidates() {
+        // a dimension which is not a multiple of 64, to check the last partial word of sign bits
+        int dimension = 100;
+        String table = randomTable();
+        ClickHouseEmbeddingStore quantized = embeddingStore(table, dimension, true, 1_000);
+
+        List<Embedding> embeddings = randomEmbeddings(2_000, dimension);
+        List<TextSegment> segments = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("group", i % 2)))
+                .toList();
+        List<String> ids = quantized.addAll(embeddings, segments);
+
+        for (int i = 0; i < 5; i++) {
+            boolean filtered = i % 2 == 1;
+            Filter filter = filtered ? metadataKey("group").isEqualTo(1) : null;
+            Embedding query = randomEmbedding(dimension);
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(MAX_RESULTS)
+                    .filter(filter)
+                    .build();
+
+            // brute force
+            List<String> expected = IntStream.range(0, embeddings.size())
+                    .filter(j -> !filtered || j % 2 == 1)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(
+                                    (Integer j) -> CosineSimilarity.between(query, embeddings.get(j)))
+                            .reversed())
+                    .limit(MAX_RESULTS)
+                    .map(ids::get)
+                    .toList();
+            List<EmbeddingMatch<TextSegment>> actual = quantized.search(request).matches();
+
+            assertThat(actual).extracting(EmbeddingMatch::embeddingId).containsExactlyElementsOf(expected);
+        }
+
+        // the sign bits computed by ClickHouse match the ones computed for the queries
+        List<GenericRecord> records = quantized
+                .getClient()
+                .queryAll(String.format(
+                        "SELECT embedding_bits = %s AS same FROM %s WHERE id = '%s'",
+                        ClickHouseEmbeddingStore.toSignBitsLiteral(embeddings.get(0).vector()),
+                        table,
+                        ids.get(0)));
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getBoolean("same")).isTrue();
+    }
+
+    @Test
+    void should_materialize_the_sign_bits_of_an_existing_table() throws Exception {
+        int dimension = 100;
+        String table = randomTable();
+        ClickHouseEmbeddingStore exact = embeddingStore(table, dimension, false, null);
+        List<Embedding> embeddings = randomEmbeddings(1_000, dimension);
+        List<String> ids = exact.addAll(embeddings);
+
+        // the sign bits column is added to the table, and computed for the rows inserted before
+        ClickHouseEmbeddingStore quantized = embeddingStore(table, dimension, true, 1_000);
+        for (int i = 0; i < 100 && hasPendingMutations(quantized, table); i++) {
+            Thread.sleep(100);
+        }
+
+        List<GenericRecord> records = quantized
+                .getClient()
+                .queryAll(String.format(
+                        "SELECT count() AS parts FROM system.parts_columns "
+                                + "WHERE table = '%s' AND column = 'embedding_bits' AND active",
+                        table));
+        assertThat(records.get(0).getLong("parts")).isPositive();
+        Embedding query = embeddings.get(0);
+        assertThat(quantized.search(request(query)).matches())
+                .extracting(EmbeddingMatch::embeddingId)
+                .first()
+                .isEqualTo(ids.get(0));
+    }
+
+    private static boolean hasPendingMutations(ClickHouseEmbeddingStore embeddingStore, String table) {
+        List<GenericRecord> records = embeddingStore
+                .getClient()
+                .queryAll(String.format(
+                        "SELECT count() AS pending FROM system.mutations WHERE table = '%s' AND NOT is_done", table));
+        return records.get(0).getLong("pending") > 0;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "clickhouseBenchmarkRows", matches = "\\d+")
+    void should_compare_single_phase_and_quantized_search() throws Exception {
+        String table = randomTable();
+        ClickHouseEmbeddingStore quantized = embeddingStore(table, BENCHMARK_DIMENSION, true, null);
+        ClickHouseEmbeddingStore exact = embeddingStore(table, BENCHMARK_DIMENSION, false, null);
+
+        for (int from = 0; from < BENCHMARK_ROWS; from += BENCHMARK_BATCH_SIZE) {
+            int size = Math.min(BENCHMARK_BATCH_SIZE, BENCHMARK_ROWS - from);
+            quantized.addAll(randomEmbeddings(size, BENCHMARK_DIMENSION));
+        }
+        quantized.getClient().execute("OPTIMIZE TABLE " + table + " FINAL").get();
+
+        List<Embedding> queries = randomEmbeddings(BENCHMARK_QUERIES, BENCHMARK_DIMENSION);
+        Stats exactStats = run(exact, queries);
+        Stats quantizedStats = run(quantized, queries);
+
+        double recall = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            Set<String> expected = new HashSet<>(exactStats.ids().get(i));
+            recall += quantizedStats.ids().get(i).stream()
+                            .filter(expected::contains)
+                            .count()
+                    / (double) MAX_RESULTS;
+        }
+        recall /= queries.size();
+
+        log.info(
+                "[{} rows, {} queries] single-phase: p95 {} ms, {} bytes read/query; "
+                        + "quantized: p95 {} ms, {} bytes read/query, recall@{} {}",
+                BENCHMARK_ROWS,
+                BENCHMARK_QUERIES,
+                exactStats.p95Millis(),
+                exactStats.bytesReadPerQuery(),
+                quantizedStats.p95Millis(),
+                quantizedStats.bytesReadPerQuery(),
+                MAX_RESULTS,
+                String.format("%.3f", recall));
+
+        assertThat(quantizedStats.ids()).allMatch(queryIds -> queryIds.size() == MAX_RESULTS);
+        assertThat(recall).isPositive();
+    }
+
+    private record Stats(double p95Millis, long bytesReadPerQuery, List<List<String>> ids) {}
+
+    private Stats run(ClickHouseEmbeddingStore embeddingStore, List<Embedding> queries) throws Exception {
+        // warm up
+        for (Embedding query : queries.subList(0, Math.min(5, queries.size()))) {
+            embeddingStore.search(request(query));
+        }
+
+        long[] latencies = new long[queries.size()];
+        long bytesRead = 0;
+        List<List<String>> ids = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            String sql = embeddingStore.buildQuerySql(request(queries.get(i)));
+            long start = System.nanoTime();
+            try (QueryResponse response =
+                    embeddingStore.getClient().query(sql).get(60, TimeUnit.SECONDS)) {
+                List<String> queryIds = new ArrayList<>();
+                var reader = embeddingStore.getClient().newBinaryFormatReader(response);
+                while (reader.hasNext()) {
+                    reader.next();
+                    queryIds.add(reader.getString("id"));
+                }
+                latencies[i] = System.nanoTime() - start;
+                bytesRead += response.getMetrics()
+                        .getMetric(ServerMetrics.NUM_BYTES_READ)
+                        .getLong();
+                ids.add(queryIds);
+            }
+        }
+        Arrays.sort(latencies);
+        double p95Millis = latencies[(int) Math.ceil(latencies.length * 0.95) - 1] / 1_000_000d;
+        return new Stats(p95Millis, bytesRead / queries.size(), ids);
+    }
+
+    private static EmbeddingSearchRequest request(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(MAX_RESULTS)
+                .build();
+    }
+
+    private ClickHouseEmbeddingStore embeddingStore(
+            String table, int dimension, boolean quantizedSearch, Integer rerankMultiplier) {
+        ClickHouseEmbeddingStore embeddingStore = ClickHouseEmbeddingStore.builder()
+                .settings(ClickHouseSettings.builder()
+                        .url("http://" + clickhouse.getHost() + ":" + clickhouse.getMappedPort(8123))
+                        .table(table)
+                        .username(USERNAME)
+                        .password(PASSWORD)
+                        .dimension(dimension)
+                        .metadataTypeMap(Map.of("group", ClickHouseDataType.Int32))
+                        .timeout(600_000L)
+                        .streamingInsert(true)
+                        .insertConcurrency(4)
+                        .quantizedSearch(quantizedSearch)
+                        .rerankMultiplier(rerankMultiplier)
+                        .build())
+                .build();
+        embeddingStores.add(embeddingStore);
+        return embeddingStore;
+    }
+
+    private static String randomTable() {
+        return "langchain4j_" + ThreadLocalRandom.current().nextInt(0, Integer.MAX_VALUE);
+    }
+
+    private List<Embedding> randomEmbeddings(int count, int dimension) {
+        return IntStream.range(0, count).mapToObj(i -> randomEmbedding(dimension)).toList();
+    }
+
+    private Embedding randomEmbedding(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
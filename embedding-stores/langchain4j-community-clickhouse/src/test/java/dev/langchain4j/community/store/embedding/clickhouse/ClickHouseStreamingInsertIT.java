@@ -0,0 +1,140 @@
+package dev.langchain4j.community.store.embedding.clickhouse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clickhouse.data.ClickHouseDataType;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.clickhouse.ClickHouseContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class ClickHouseStreamingInsertIT {
+
+    private static final String USERNAME = "test-username";
+    private static final String PASSWORD = "test-password";
+    private static final int DIMENSION = 8;
+    private static final int ROWS = 1_000;
+
+    static ClickHouseContainer clickhouse = new ClickHouseContainer(
+                    DockerImageName.parse("clickhouse/clickhouse-server:latest"))
+            .withDatabaseName("default")
+            .withUsername(USERNAME)
+            .withPassword(PASSWORD);
+
+    Map<String, ClickHouseDataType> metadataTypeMap = Map.of(
+            "name", ClickHouseDataType.String,
+            "age", ClickHouseDataType.Int32,
+            "views", ClickHouseDataType.Int64,
+            "score", ClickHouseDataType.Float64,
+            "uid", ClickHouseDataType.UUID);
+
+    ClickHouseEmbeddingStore jsonEmbeddingStore = ClickHouseEmbeddingStore.builder()
+            .settings(settings(false))
+            .build();
+
+    ClickHouseEmbeddingStore streamingEmbeddingStore = ClickHouseEmbeddingStore.builder()
+            .settings(settings(true))
+            .build();
+
+    @BeforeAll
+    static void beforeAll() {
+        clickhouse.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        clickhouse.stop();
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        jsonEmbeddingStore.close();
+        streamingEmbeddingStore.close();
+    }
+
+    @Test
+    void should_stream_the_same_rows_as_the_json_insert() {
+        Random random = new Random(42);
+        List<String> ids = IntStream.range(0, ROWS)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+        List<Embedding> embeddings = IntStream.range(0, ROWS)
+                .mapToObj(i -> {
+                    float[] vector = new float[DIMENSION];
+                    for (int j = 0; j < DIMENSION; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+        List<TextSegment> segments = IntStream.range(0, ROWS)
+                .mapToObj(i -> i % 10 == 0
+                        ? TextSegment.from("text-" + i)
+                        : TextSegment.from(
+                                "text-" + i,
+                                new Metadata()
+                                        .put("name", "name-" + i)
+                                        .put("age", i)
+                                        .put("views", i * 1_000_000_000L)
+                                        .put("score", i / 3.0)
+                                        .put("uid", UUID.nameUUIDFromBytes(("uid-" + i).getBytes()))))
+                .toList();
+
+        jsonEmbeddingStore.addAll(ids, embeddings, segments);
+        streamingEmbeddingStore.addAll(ids, embeddings, segments);
+
+        // the vector index is approximate, so the matches are compared to the inserted rows by id
+        Map<String, Integer> indexById =
+                IntStream.range(0, ROWS).boxed().collect(Collectors.toMap(ids::get, i -> i));
+        for (int i = 0; i < 5; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 7))
+                    .maxResults(10)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> expected =
+                    jsonEmbeddingStore.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual =
+                    streamingEmbeddingStore.search(request).matches();
+
+            assertThat(actual).hasSize(10);
+            assertThat(actual.get(0).embeddingId())
+                    .isEqualTo(expected.get(0).embeddingId())
+                    .isEqualTo(ids.get(i * 7));
+            for (EmbeddingMatch<TextSegment> match : actual) {
+                int index = indexById.get(match.embeddingId());
+                assertThat(match.embedded()).isEqualTo(segments.get(index));
+                assertThat(match.embedding()).isEqualTo(embeddings.get(index));
+            }
+        }
+    }
+
+    private ClickHouseSettings settings(boolean streamingInsert) {
+        return ClickHouseSettings.builder()
+                .url("http://" + clickhouse.getHost() + ":" + clickhouse.getMappedPort(8123))
+                .table("langchain4j_" + ThreadLocalRandom.current().nextInt(0, Integer.MAX_VALUE))
+                .username(USERNAME)
+                .password(PASSWORD)
+                .dimension(DIMENSION)
+                .metadataTypeMap(metadataTypeMap)
+                .streamingInsert(streamingInsert)
+                .insertBatchSize(100)
+                .insertConcurrency(4)
+                .timeout(30_000L)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package dev.langchain4j.community.data.document.loader.cloudsql;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -7,15 +9,23 @@ import dev.langchain4j.community.store.embedding.cloudsql.PostgresEngine;
 import dev.langchain4j.data.document.DefaultDocument;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.Metadata;
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * PostgresLoader
@@ -27,6 +37,11 @@ import java.util.function.BiFunction;
  * custom formatter. Metadata can be loaded from specified columns or from a
  * JSON column.
  * </p>
+ * <p>
+ * Large tables can be loaded without holding every row in memory with {@link #stream()}, which reads the rows
+ * through a server-side cursor, or with {@link #parallelStream(int)}, which reads partitions of the rows in
+ * parallel with keyset pagination on the {@link Builder#keyColumn(String) key column}.
+ * </p>
  */
 public class PostgresLoader {
 
@@ -39,6 +54,8 @@ public class PostgresLoader {
     private final List<String> metadataColumns;
     private final BiFunction<Map<String, Object>, List<String>, String> formatter;
     private final String metadataJsonColumn;
+    private final int fetchSize;
+    private final String keyColumn;
 
     /**
      * Create a new {@link PostgresLoader} from the Builder.
@@ -52,6 +69,8 @@ public class PostgresLoader {
         this.contentColumns = builder.contentColumns;
         this.metadataColumns = builder.metadataColumns;
         this.metadataJsonColumn = builder.metadataJsonColumn;
+        this.fetchSize = builder.fetchSize;
+        this.keyColumn = builder.keyColumn;
     }
 
     /**
@@ -147,23 +166,200 @@ public class PostgresLoader {
                 PreparedStatement statement = pool.prepareStatement(query)) {
             ResultSet resultSet = statement.executeQuery();
             while (resultSet.next()) {
-                Map<String, Object> rowData = new HashMap<>();
-                for (String column : contentColumns) {
-                    rowData.put(column, resultSet.getString(column));
-                }
-                for (String column : metadataColumns) {
-                    rowData.put(column, resultSet.getObject(column));
-                }
-                if (metadataJsonColumn != null) {
-                    rowData.put(metadataJsonColumn, resultSet.getObject(metadataJsonColumn));
-                }
-                Document doc = parseDocFromRow(rowData);
-                documents.add(doc);
+                documents.add(readDocument(resultSet));
             }
         }
         return documents;
     }
 
+    /**
+     * Streams the rows of the configured SQL query as {@link Document}s, without holding them all in memory.
+     * <p>
+     * The query runs inside a read-only transaction, so that the driver reads the rows through a server-side
+     * cursor, {@link Builder#fetchSize(Integer) fetchSize} rows at a time. The connection is held until the
+     * stream is closed, so the stream must be closed, for example with a try-with-resources statement.
+     * </p>
+     *
+     * @return A stream of {@link Document} objects, one per row.
+     * @throws SQLException If a database error occurs during the execution of the query.
+     */
+    public Stream<Document> stream() throws SQLException {
+        Connection connection = engine.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            PreparedStatement statement = connection.prepareStatement(query);
+            statement.setFetchSize(fetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            Spliterator<Document> rows =
+                    new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                        @Override
+                        public boolean tryAdvance(Consumer<? super Document> action) {
+                            try {
+                                if (!resultSet.next()) {
+                                    return false;
+                                }
+                                action.accept(readDocument(resultSet));
+                                return true;
+                            } catch (SQLException e) {
+                                throw new RuntimeException("Failed to read the next row of the query", e);
+                            }
+                        }
+                    };
+            return StreamSupport.stream(rows, false).onClose(() -> closeCursor(connection));
+        } catch (SQLException | RuntimeException e) {
+            closeCursor(connection);
+            throw e;
+        }
+    }
+
+    private static void closeCursor(Connection connection) {
+        try (connection) {
+            // nothing was written, ending the transaction closes the cursor
+            connection.rollback();
+            connection.setReadOnly(false);
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to close the cursor of the query", e);
+        }
+    }
+
+    /**
+     * Streams the rows of the configured SQL query as {@link Document}s, reading partitions of the rows in parallel.
+     * <p>
+     * The rows are split into partitions of about the same size by the values of the
+     * {@link Builder#keyColumn(String) key column}, which must be unique and not null. Each partition is read with
+     * keyset pagination, {@link Builder#fetchSize(Integer) fetchSize} rows per query, on a connection which is only
+     * held during each query. The returned stream is parallel, each partition is read by one thread.
+     * The order of the documents is only kept within a partition.
+     * </p>
+     *
+     * @param partitions The number of partitions.
+     * @return A parallel stream of {@link Document} objects, one per row.
+     * @throws SQLException If a database error occurs while computing the partitions.
+     */
+    public Stream<Document> parallelStream(int partitions) throws SQLException {
+        ensureGreaterThanZero(partitions, "partitions");
+        if (keyColumn == null) {
+            throw new IllegalStateException("keyColumn must be specified to stream partitions.");
+        }
+
+        List<Object> bounds = new ArrayList<>();
+        bounds.add(null);
+        if (partitions > 1) {
+            Double[] fractions = new Double[partitions - 1];
+            for (int i = 1; i < partitions; i++) {
+                fractions[i - 1] = (double) i / partitions;
+            }
+            try (Connection connection = engine.getConnection();
+                    PreparedStatement statement = connection.prepareStatement(String.format(
+                            "SELECT percentile_disc(?) WITHIN GROUP (ORDER BY \"%s\") FROM (%s) AS langchain4j_rows",
+                            keyColumn, query))) {
+                statement.setArray(1, connection.createArrayOf("float8", fractions));
+                ResultSet resultSet = statement.executeQuery();
+                Array keys = resultSet.next() ? resultSet.getArray(1) : null;
+                if (keys != null) {
+                    for (Object key : (Object[]) keys.getArray()) {
+                        // with few distinct keys, some bounds are equal
+                        if (key != null && !key.equals(bounds.get(bounds.size() - 1))) {
+                            bounds.add(key);
+                        }
+                    }
+                }
+            }
+        }
+        bounds.add(null);
+
+        List<Object[]> ranges = new ArrayList<>();
+        for (int i = 0; i < bounds.size() - 1; i++) {
+            ranges.add(new Object[] {bounds.get(i), bounds.get(i + 1)});
+        }
+        return ranges.parallelStream().flatMap(range -> streamPartition(range[0], range[1]));
+    }
+
+    /**
+     * Streams the rows with a key in {@code (lowerKey, upperKey]}, a {@code null} bound is unbounded.
+     */
+    private Stream<Document> streamPartition(Object lowerKey, Object upperKey) {
+        Spliterator<Document> rows =
+                new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+                    private Object lastKey = lowerKey;
+                    private Iterator<Document> page = Collections.emptyIterator();
+                    private boolean lastPage;
+
+                    @Override
+                    public boolean tryAdvance(Consumer<? super Document> action) {
+                        if (!page.hasNext()) {
+                            if (lastPage) {
+                                return false;
+                            }
+                            List<Document> documents = new ArrayList<>();
+                            lastKey = loadPage(lastKey, upperKey, documents);
+                            lastPage = documents.size() < fetchSize;
+                            page = documents.iterator();
+                            if (!page.hasNext()) {
+                                return false;
+                            }
+                        }
+                        action.accept(page.next());
+                        return true;
+                    }
+                };
+        return StreamSupport.stream(rows, false);
+    }
+
+    /**
+     * Loads the next page of a partition into {@code documents}, and returns the key of its last row.
+     */
+    private Object loadPage(Object lowerKey, Object upperKey, List<Document> documents) {
+        List<String> conditions = new ArrayList<>();
+        if (lowerKey != null) {
+            conditions.add(String.format("\"%s\" > ?", keyColumn));
+        }
+        if (upperKey != null) {
+            conditions.add(String.format("\"%s\" <= ?", keyColumn));
+        }
+        String pageQuery = String.format(
+                "SELECT * FROM (%s) AS langchain4j_rows %s ORDER BY \"%s\" LIMIT ?",
+                query, conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions), keyColumn);
+
+        Object lastKey = lowerKey;
+        try (Connection connection = engine.getConnection();
+                PreparedStatement statement = connection.prepareStatement(pageQuery)) {
+            int index = 1;
+            if (lowerKey != null) {
+                statement.setObject(index++, lowerKey);
+            }
+            if (upperKey != null) {
+                statement.setObject(index++, upperKey);
+            }
+            statement.setInt(index, fetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                documents.add(readDocument(resultSet));
+                lastKey = resultSet.getObject(keyColumn);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to load a page of the partition after key " + lowerKey, e);
+        }
+        return lastKey;
+    }
+
+    private Document readDocument(ResultSet resultSet) throws SQLException {
+        Map<String, Object> rowData = new HashMap<>();
+        for (String column : contentColumns) {
+            rowData.put(column, resultSet.getString(column));
+        }
+        for (String column : metadataColumns) {
+            rowData.put(column, resultSet.getObject(column));
+        }
+        if (metadataJsonColumn != null) {
+            rowData.put(metadataJsonColumn, resultSet.getObject(metadataJsonColumn));
+        }
+        return parseDocFromRow(rowData);
+    }
+
     /**
      * Parses a {@link Document} from a row of data.
      *
@@ -218,6 +414,8 @@ public class PostgresLoader {
         private List<String> metadataColumns;
         private String format;
         private BiFunction<Map<String, Object>, List<String>, String> formatter;
+        private Integer fetchSize = 1000;
+        private String keyColumn;
 
         /**
          * Construct a LoaderBuilder.
@@ -320,6 +518,31 @@ public class PostgresLoader {
             return this;
         }
 
+        /**
+         * Sets the number of rows fetched at a time by {@link PostgresLoader#stream()}, and the
+         * number of rows per page of {@link PostgresLoader#parallelStream(int)}. Defaults to 1000.
+         *
+         * @param fetchSize The fetch size.
+         * @return This Builder.
+         */
+        public Builder fetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the column used to partition and paginate the rows in
+         * {@link PostgresLoader#parallelStream(int)}. Its values must be unique, not null and
+         * sortable, for example a primary key.
+         *
+         * @param keyColumn The key column name.
+         * @return This Builder.
+         */
+        public Builder keyColumn(String keyColumn) {
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
         /**
          * Builds an {@link PostgresLoader} with the configuration applied to
          * this builder.
@@ -389,8 +612,13 @@ public class PostgresLoader {
                 metadataJsonColumn = DEFAULT_METADATA_COL;
             }
 
+            ensureGreaterThanZero(fetchSize, "fetchSize");
+
             List<String> allNames = new ArrayList<>(contentColumns);
             allNames.addAll(metadataColumns);
+            if (keyColumn != null) {
+                allNames.add(keyColumn);
+            }
             for (String name : allNames) {
                 if (!columnNames.contains(name)) {
                     throw new IllegalArgumentException(
@@ -0,0 +1,25 @@
+package dev.langchain4j.community.store.embedding.cloudsql;
+
+/**
+ * How {@link PostgresEmbeddingStore#addAll(java.util.List, java.util.List, java.util.List)} writes the rows.
+ */
+public enum InsertMode {
+
+    /**
+     * A batch of <code>INSERT</code> statements on a single connection.
+     */
+    BATCH,
+
+    /**
+     * Chunks of rows streamed with <code>COPY ... FROM STDIN (FORMAT binary)</code>,
+     * optionally over several pooled connections. A row with an existing id fails its chunk.
+     */
+    COPY,
+
+    /**
+     * Like {@link #COPY}, but each chunk is copied into a temporary staging table and then merged into the table
+     * with <code>INSERT ... ON CONFLICT DO UPDATE</code>, so the rows with an existing id are replaced.
+     * Requires a unique constraint on the id column.
+     */
+    COPY_UPSERT
+}
@@ -11,14 +11,20 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.sql.ConnectorConfig;
 import com.google.cloud.sql.ConnectorRegistry;
 import com.google.cloud.sql.RefreshStrategy;
+import com.pgvector.PGvector;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +41,9 @@ public class PostgresEngine {
     private static final Logger log = LoggerFactory.getLogger(PostgresEngine.class.getName());
 
     private final HikariDataSource dataSource;
+    private final List<ConnectionInitializer> connectionInitializers;
+    // the physical connections of the pool which have been initialized
+    private final Set<PGConnection> initializedConnections = Collections.newSetFromMap(new WeakHashMap<>());
     private static ConnectorConfig namedConnectorConfig;
     private static final String USER_AGENT = "langchain4j-cloud-sql-pg";
     static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
@@ -45,6 +54,7 @@ public class PostgresEngine {
      * @param builder builder.
      */
     public PostgresEngine(Builder builder) {
+        this.connectionInitializers = List.copyOf(builder.connectionInitializers);
 
         if (isNotNullOrBlank(builder.host)
                 && (isNotNullOrBlank(builder.projectId) || isNotNullOrBlank(builder.instance))) {
@@ -168,9 +178,35 @@ public class PostgresEngine {
      */
     public Connection getConnection() throws SQLException {
         Connection connection = dataSource.getConnection();
+        try {
+            initialize(connection);
+        } catch (SQLException | RuntimeException ex) {
+            connection.close();
+            throw ex;
+        }
         return connection;
     }
 
+    /**
+     * Registers the pgvector types and runs the {@link ConnectionInitializer}s,
+     * the first time a physical connection of the pool is handed out.
+     */
+    private void initialize(Connection connection) throws SQLException {
+        PGConnection physicalConnection = connection.unwrap(PGConnection.class);
+        synchronized (initializedConnections) {
+            if (initializedConnections.contains(physicalConnection)) {
+                return;
+            }
+        }
+        PGvector.registerTypes(connection);
+        for (ConnectionInitializer connectionInitializer : connectionInitializers) {
+            connectionInitializer.initialize(connection);
+        }
+        synchronized (initializedConnections) {
+            initializedConnections.add(physicalConnection);
+        }
+    }
+
     /**
      * @param embeddingStoreConfig contains the parameters necesary to intialize the Vector table
      */
@@ -242,6 +278,7 @@ public class PostgresEngine {
         private String password;
         private String ipType = "public";
         private String iamAccountEmail;
+        private List<ConnectionInitializer> connectionInitializers = List.of();
 
         /** Creates a new {@code Builder} instance. */
         public Builder() {}
@@ -336,6 +373,16 @@ public class PostgresEngine {
             return this;
         }
 
+        /**
+         * @param connectionInitializers (Optional) run once on each new pooled connection,
+         *                               after the pgvector types are registered
+         * @return this builder
+         */
+        public Builder connectionInitializers(List<ConnectionInitializer> connectionInitializers) {
+            this.connectionInitializers = connectionInitializers;
+            return this;
+        }
+
         /**
          * Builds an {@link PostgresEngine} store with the configuration applied to this builder.
          *
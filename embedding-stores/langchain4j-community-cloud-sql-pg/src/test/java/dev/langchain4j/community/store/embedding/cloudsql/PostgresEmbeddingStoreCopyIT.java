@@ -0,0 +1,231 @@
+package dev.langchain4j.community.store.embedding.cloudsql;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks the COPY insert modes of {@link PostgresEmbeddingStore} against the batch insert,
+ * and compares their throughput.
+ * The throughput comparison only runs when the `copyBenchmarkRows` system property is set,
+ * e.g. `-DcopyBenchmarkRows=20000`, the dimension can be changed via `copyBenchmarkDimension`.
+ */
+@Testcontainers
+class PostgresEmbeddingStoreCopyIT {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresEmbeddingStoreCopyIT.class);
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("copyBenchmarkRows", 100);
+    private static final int BENCHMARK_DIMENSION = Integer.getInteger("copyBenchmarkDimension", 768);
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg15");
+
+    private static PostgresEngine engine;
+
+    private final Random random = new Random(42);
+
+    @BeforeAll
+    static void beforeAll() {
+        engine = new PostgresEngine.Builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .build();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        engine.close();
+    }
+
+    @Test
+    void should_copy_the_same_rows_as_the_batch_insert() {
+        int dimension = 8;
+        List<String> ids = IntStream.range(0, 500).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(ids.size(), dimension);
+        List<TextSegment> segments = IntStream.range(0, ids.size())
+                .mapToObj(i -> i % 10 == 0
+                        ? null
+                        : TextSegment.from(
+                                "text-" + i,
+                                new Metadata()
+                                        .put("name", "name-" + i)
+                                        .put("age", i)
+                                        .put("views", i * 1_000_000_000L)
+                                        .put("score", i / 3.0)
+                                        .put("uid", UUID.nameUUIDFromBytes(("uid-" + i).getBytes()))
+                                        .put("extra", "extra-" + i)))
+                .toList();
+
+        PostgresEmbeddingStore batchStore = embeddingStore("batch_insert", dimension, InsertMode.BATCH, 1);
+        PostgresEmbeddingStore copyStore = embeddingStore("copy_insert", dimension, InsertMode.COPY, 4);
+        batchStore.addAll(ids, embeddings, segments);
+        // smaller than the copy batch size
+        copyStore.addAll(ids.subList(0, 50), embeddings.subList(0, 50), segments.subList(0, 50));
+        copyStore.addAll(ids.subList(50, 500), embeddings.subList(50, 500), segments.subList(50, 500));
+
+        for (int i = 0; i < 5; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 13))
+                    .maxResults(10)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> expected = batchStore.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> actual = copyStore.search(request).matches();
+
+            assertThat(actual).hasSize(10);
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_replace_the_existing_rows_with_copy_upsert() throws SQLException {
+        int dimension = 8;
+        List<String> ids = IntStream.range(0, 100).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(ids.size(), dimension);
+        List<TextSegment> segments = IntStream.range(0, ids.size())
+                .mapToObj(i -> TextSegment.from("text-" + i))
+                .toList();
+
+        PostgresEmbeddingStore store = embeddingStore("copy_upsert", dimension, InsertMode.COPY_UPSERT, 2);
+        store.addAll(ids, embeddings, segments);
+
+        // the first half again with new texts, and the last row twice
+        List<String> upsertIds = new ArrayList<>(ids.subList(0, 50));
+        upsertIds.add(ids.get(99));
+        upsertIds.add(ids.get(99));
+        List<Embedding> upsertEmbeddings = randomEmbeddings(upsertIds.size(), dimension);
+        List<TextSegment> upsertSegments = IntStream.range(0, upsertIds.size())
+                .mapToObj(i -> TextSegment.from("updated-" + i))
+                .toList();
+        store.addAll(upsertIds, upsertEmbeddings, upsertSegments);
+
+        try (Connection connection = engine.getConnection();
+                ResultSet resultSet = connection
+                        .createStatement()
+                        .executeQuery("SELECT count(*), count(*) FILTER (WHERE content LIKE 'updated-%') "
+                                + "FROM \"public\".\"copy_upsert\"")) {
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).isEqualTo(100);
+            assertThat(resultSet.getInt(2)).isEqualTo(51);
+        }
+
+        EmbeddingMatch<TextSegment> match = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(upsertEmbeddings.get(51))
+                        .maxResults(1)
+                        .build())
+                .matches()
+                .get(0);
+        assertThat(match.embeddingId()).isEqualTo(ids.get(99));
+        assertThat(match.embedded().text()).isEqualTo("updated-51");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "copyBenchmarkRows", matches = "\\d+")
+    void should_compare_batch_insert_and_copy_throughput() {
+        List<String> ids =
+                IntStream.range(0, BENCHMARK_ROWS).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(BENCHMARK_ROWS, BENCHMARK_DIMENSION);
+        List<TextSegment> segments = IntStream.range(0, BENCHMARK_ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i)))
+                .toList();
+
+        for (int batchSize : new int[] {1_000, 10_000}) {
+            for (InsertMode insertMode : InsertMode.values()) {
+                for (int concurrency : new int[] {1, 4}) {
+                    if (insertMode == InsertMode.BATCH && concurrency > 1) {
+                        continue;
+                    }
+                    PostgresEmbeddingStore store =
+                            embeddingStore("benchmark", BENCHMARK_DIMENSION, insertMode, concurrency, batchSize);
+
+                    long start = System.nanoTime();
+                    if (insertMode == InsertMode.BATCH) {
+                        for (int from = 0; from < BENCHMARK_ROWS; from += batchSize) {
+                            int to = Math.min(from + batchSize, BENCHMARK_ROWS);
+                            store.addAll(
+                                    ids.subList(from, to), embeddings.subList(from, to), segments.subList(from, to));
+                        }
+                    } else {
+                        // chunked by the store
+                        store.addAll(ids, embeddings, segments);
+                    }
+                    double seconds = (System.nanoTime() - start) / 1e9;
+
+                    log.info(
+                            "[{} rows, {} dimensions, batch size {}] {} x{}: {} rows/s",
+                            BENCHMARK_ROWS,
+                            BENCHMARK_DIMENSION,
+                            batchSize,
+                            insertMode,
+                            concurrency,
+                            Math.round(BENCHMARK_ROWS / seconds));
+                }
+            }
+        }
+    }
+
+    private PostgresEmbeddingStore embeddingStore(
+            String tableName, int dimension, InsertMode insertMode, int concurrency) {
+        return embeddingStore(tableName, dimension, insertMode, concurrency, 100);
+    }
+
+    private PostgresEmbeddingStore embeddingStore(
+            String tableName, int dimension, InsertMode insertMode, int concurrency, int copyBatchSize) {
+        List<MetadataColumn> metadataColumns = List.of(
+                new MetadataColumn("name", "text", true),
+                new MetadataColumn("age", "integer", true),
+                new MetadataColumn("views", "bigint", true),
+                new MetadataColumn("score", "double precision", true),
+                new MetadataColumn("uid", "uuid", true));
+        engine.initVectorStoreTable(new EmbeddingStoreConfig.Builder(tableName, dimension)
+                .metadataColumns(metadataColumns)
+                .storeMetadata(true)
+                .overwriteExisting(true)
+                .build());
+
+        return new PostgresEmbeddingStore.Builder(engine, tableName)
+                .metadataColumns(new ArrayList<>(List.of("name", "age", "views", "score", "uid")))
+                .insertMode(insertMode)
+                .copyBatchSize(copyBatchSize)
+                .copyConcurrency(concurrency)
+                .build();
+    }
+
+    private List<Embedding> randomEmbeddings(int count, int dimension) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    float[] vector = new float[dimension];
+                    for (int j = 0; j < dimension; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+    }
+}
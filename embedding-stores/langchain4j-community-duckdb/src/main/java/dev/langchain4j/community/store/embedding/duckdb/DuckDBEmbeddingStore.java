@@ -3,6 +3,7 @@ package dev.langchain4j.community.store.embedding.duckdb;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
@@ -20,15 +21,24 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.duckdb.DuckDBAppender;
 import org.duckdb.DuckDBConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,28 +46,56 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of  {@link EmbeddingStore} using <a href="https://duckdb.org/">DuckDB</a>
  * This implementation uses cosine distance and supports storing {@link Metadata}
+ * <p>
+ * With a {@link DuckDBHnswIndex}, the embeddings are stored in a fixed-size column indexed by the vss extension,
+ * and the searches without filter are approximate nearest neighbour searches of the index.
  */
-public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment>, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(DuckDBEmbeddingStore.class);
 
     private static final String CREATE_TABLE_TEMPLATE =
             """
-            create table if not exists %s (id UUID, embedding FLOAT[], text TEXT NULL, metadata JSON NULL);
+            create table if not exists %s (id UUID, embedding %s, text TEXT NULL, metadata JSON NULL);
             """;
 
     private static final String SEARCH_QUERY_TEMPLATE =
             """
-            select id, embedding, text, metadata, (list_cosine_similarity(embedding,%s)+1.0)/2.0 as score
+            select id, %stext, metadata, (list_cosine_similarity(embedding,?::%s)+1.0)/2.0 as score
             from %s
-            where score >= %s %s
+            where score >= ? %s
             order by score DESC
-            limit %d
+            limit ?
             """;
 
-    private static final String INSERT_QUERY_TEMPLATE =
+    /**
+     * Search of the HNSW index: the planner of the vss extension only replaces the scan with an index scan
+     * for an {@code order by <distance> limit k} without filter, whose query vector is a constant.
+     */
+    private static final String INDEX_SEARCH_QUERY_TEMPLATE =
+            """
+            select id, %stext, metadata, %s(embedding, %s) as distance
+            from %s %s
+            order by distance
+            limit %s
+            """;
+
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    private static final int DEFAULT_MAX_IDLE_SEARCH_CONNECTIONS =
+            Runtime.getRuntime().availableProcessors();
+
+    private static final TypeReference<HashMap<String, Object>> METADATA_TYPE = new TypeReference<>() {};
+
+    private static final String EXPORT_PARQUET_QUERY_TEMPLATE =
+            """
+            copy (select id, embedding, text, metadata from %s) to '%s' (format parquet)
+            """;
+
+    private static final String IMPORT_PARQUET_QUERY_TEMPLATE =
             """
-            insert into %s (id, embedding, text, metadata) values (?,?,?,?)
+            insert into %s (id, embedding, text, metadata)
+            select id::UUID, embedding::%s, text::TEXT, metadata::JSON from read_parquet('%s')
             """;
 
     private static final String DELETE_BY_IDS_QUERY_TEMPLATE = """
@@ -73,9 +111,16 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             """;
 
     private final String tableName;
+    private final String appenderSchema;
+    private final String appenderTable;
     private final DuckDBConnection duckDBConnection;
     private final DuckDBMetadataFilterMapper jsonFilterMapper = new DuckDBMetadataFilterMapper();
     private final ObjectMapper jsonMetadataSerializer = new ObjectMapper();
+    private final boolean returnEmbeddings;
+    private final DuckDBHnswIndex hnswIndex;
+    private final String embeddingType;
+    private final BlockingQueue<SearchConnection> searchConnections;
+    private volatile boolean closed;
 
     /**
      * Initializes a new instance of DuckDBEmbeddingStore with the specified parameters.
@@ -84,11 +129,31 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param tableName The database table name to use. If not specified, "embeddings" will be used
      */
     public DuckDBEmbeddingStore(String filePath, String tableName) {
+        this(builder().filePath(filePath).tableName(tableName));
+    }
+
+    private DuckDBEmbeddingStore(Builder builder) {
         try {
-            var dbUrl = filePath != null ? "jdbc:duckdb:" + filePath : "jdbc:duckdb:";
-            this.tableName = getOrDefault(tableName, "embeddings");
+            var dbUrl = builder.filePath != null ? "jdbc:duckdb:" + builder.filePath : "jdbc:duckdb:";
+            this.tableName = getOrDefault(builder.tableName, "embeddings");
+            // the appender takes the schema and the table separately
+            var qualifiedName = tableName.split("\\.");
+            ensureTrue(qualifiedName.length <= 2, "tableName must be a table name, optionally qualified by its schema");
+            this.appenderSchema = qualifiedName.length == 2 ? qualifiedName[0] : DuckDBConnection.DEFAULT_SCHEMA;
+            this.appenderTable = qualifiedName[qualifiedName.length - 1];
+            this.returnEmbeddings = getOrDefault(builder.returnEmbeddings, true);
+            this.hnswIndex = builder.hnswIndex;
+            ensureTrue(
+                    hnswIndex == null || builder.filePath == null || hnswIndex.experimentalPersistence(),
+                    "the HNSW index of a database file requires its experimentalPersistence to be enabled");
+            this.searchConnections = new ArrayBlockingQueue<>(ensureGreaterThanZero(
+                    getOrDefault(builder.maxIdleSearchConnections, DEFAULT_MAX_IDLE_SEARCH_CONNECTIONS),
+                    "maxIdleSearchConnections"));
+            this.embeddingType = hnswIndex != null
+                    ? "FLOAT[" + ensureGreaterThanZero(builder.dimension, "dimension") + "]"
+                    : "FLOAT[]";
             this.duckDBConnection = (DuckDBConnection) DriverManager.getConnection(dbUrl);
-            initTable();
+            initTable(builder.filePath != null);
         } catch (SQLException e) {
             throw new DuckDBSQLException("Unable to load duckdb connection", e);
         }
@@ -108,6 +173,10 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
     public static class Builder {
         private String filePath;
         private String tableName;
+        private Boolean returnEmbeddings;
+        private Integer dimension;
+        private DuckDBHnswIndex hnswIndex;
+        private Integer maxIdleSearchConnections;
 
         /**
          * @param filePath File used to persist DuckDB database. If not specified, the database will be stored in-memory.
@@ -119,7 +188,8 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
 
         /**
-         * @param tableName The database table name to use. If not specified, "embeddings" will be used
+         * @param tableName The database table name to use, optionally qualified by its schema, e.g.
+         *                  "my_schema.embeddings". If not specified, "embeddings" will be used
          * @return builder
          */
         public Builder tableName(String tableName) {
@@ -135,8 +205,52 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             return filePath(null);
         }
 
+        /**
+         * @param returnEmbeddings Whether the search results should contain the embeddings. If not specified, true will be used.
+         *                         Skipping them avoids reading and converting the vectors of every match.
+         * @return builder
+         */
+        public Builder returnEmbeddings(Boolean returnEmbeddings) {
+            this.returnEmbeddings = returnEmbeddings;
+            return this;
+        }
+
+        /**
+         * @param dimension The dimension of the embeddings, required by the HNSW index
+         * @return builder
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        /**
+         * @param hnswIndex The HNSW index of the embeddings. If specified, the embeddings are stored in a
+         *                  {@code FLOAT[dimension]} column, and the vss extension is installed and loaded.
+         *                  An existing table must already have this column type. With a {@code filePath},
+         *                  the {@link DuckDBHnswIndex.Builder#experimentalPersistence(Boolean)} of the index
+         *                  must be enabled
+         * @return builder
+         */
+        public Builder hnswIndex(DuckDBHnswIndex hnswIndex) {
+            this.hnswIndex = hnswIndex;
+            return this;
+        }
+
+        /**
+         * @param maxIdleSearchConnections The maximum number of search connections, with their prepared statements,
+         *                                 kept for the next searches. The connections of the concurrent searches
+         *                                 above this number are closed after the search.
+         *                                 If not specified, the number of available processors will be used
+         * @return builder
+         */
+        public Builder maxIdleSearchConnections(Integer maxIdleSearchConnections) {
+            this.maxIdleSearchConnections = maxIdleSearchConnections;
+            return this;
+        }
+
         public DuckDBEmbeddingStore build() {
-            return new DuckDBEmbeddingStore(filePath, tableName);
+            return new DuckDBEmbeddingStore(this);
         }
     }
 
@@ -206,43 +320,272 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    /**
+     * Searches the embeddings using a prepared statement, with the query vector bound as a parameter.
+     * The statements are cached per distinct query text (i.e. per filter) on pooled connections,
+     * so repeated searches don't pay for parsing and planning the query again.
+     * <p>
+     * With an HNSW index, the searches without filter use the index instead, see {@link DuckDBHnswIndex}.
+     */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        var param = embeddingToParam(request.queryEmbedding());
+        var searchConnection = borrowSearchConnection();
+        var reusable = true;
+        try {
+            var matches = hnswIndex != null
+                    ? searchIndex(searchConnection, request)
+                    : searchTable(searchConnection, request);
+            return new EmbeddingSearchResult<>(matches);
+        } catch (SQLException e) {
+            reusable = false;
+            throw new DuckDBSQLException("Error while searching embeddings", e);
+        } catch (JsonProcessingException e) {
+            throw new DuckDBSQLException("Error while searching embeddings", e);
+        } finally {
+            releaseSearchConnection(searchConnection, reusable);
+        }
+    }
+
+    private List<EmbeddingMatch<TextSegment>> searchTable(
+            SearchConnection searchConnection, EmbeddingSearchRequest request)
+            throws SQLException, JsonProcessingException {
         var filterClause = request.filter() != null ? "and " + jsonFilterMapper.map(request.filter()) : "";
-        var query =
-                format(SEARCH_QUERY_TEMPLATE, param, tableName, request.minScore(), filterClause, request.maxResults());
+        var query = format(
+                SEARCH_QUERY_TEMPLATE, returnEmbeddings ? "embedding, " : "", embeddingType, tableName, filterClause);
 
-        try (var connection = duckDBConnection.duplicate();
-                var statement = connection.prepareStatement(query)) {
-            var matches = new ArrayList<EmbeddingMatch<TextSegment>>();
+        var statement = searchConnection.prepare(query);
+        log.debug(query);
+        statement.setObject(1, vectorParameter(searchConnection.connection, request.queryEmbedding()));
+        statement.setDouble(2, request.minScore());
+        statement.setInt(3, request.maxResults());
 
-            log.debug(query);
-            var resultSet = statement.executeQuery();
+        var matches = new ArrayList<EmbeddingMatch<TextSegment>>();
+        try (var resultSet = statement.executeQuery()) {
             while (resultSet.next()) {
+                matches.add(toMatch(resultSet, resultSet.getDouble("score")));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Searches the HNSW index, or scans the table ordered by the distance of the index metric when there is a filter.
+     * The min score is applied to the ordered results, a where clause on the distance would prevent the index scan.
+     */
+    private List<EmbeddingMatch<TextSegment>> searchIndex(
+            SearchConnection searchConnection, EmbeddingSearchRequest request)
+            throws SQLException, JsonProcessingException {
+        var metric = hnswIndex.metric();
+        var embeddingColumn = returnEmbeddings ? "embedding, " : "";
+        var matches = new ArrayList<EmbeddingMatch<TextSegment>>();
+
+        if (request.filter() != null) {
+            var query = format(
+                    INDEX_SEARCH_QUERY_TEMPLATE,
+                    embeddingColumn,
+                    metric.distanceFunction(),
+                    "?::" + embeddingType,
+                    tableName,
+                    "where " + jsonFilterMapper.map(request.filter()),
+                    "?");
+            var statement = searchConnection.prepare(query);
+            log.debug(query);
+            statement.setObject(1, vectorParameter(searchConnection.connection, request.queryEmbedding()));
+            statement.setInt(2, request.maxResults());
+            try (var resultSet = statement.executeQuery()) {
+                addMatches(resultSet, metric, request.minScore(), matches);
+            }
+            return matches;
+        }
+
+        var query = indexSearchQuery(request);
+        try (var statement = searchConnection.connection.createStatement();
+                var resultSet = statement.executeQuery(query)) {
+            addMatches(resultSet, metric, request.minScore(), matches);
+        }
+        return matches;
+    }
+
+    /**
+     * The search of the HNSW index without filter, not prepared: the query vector must be a constant for the index
+     * to be used.
+     */
+    String indexSearchQuery(EmbeddingSearchRequest request) {
+        return format(
+                INDEX_SEARCH_QUERY_TEMPLATE,
+                returnEmbeddings ? "embedding, " : "",
+                hnswIndex.metric().distanceFunction(),
+                vectorLiteral(request.queryEmbedding()),
+                tableName,
+                "",
+                request.maxResults());
+    }
+
+    private void addMatches(
+            ResultSet resultSet,
+            DuckDBHnswIndex.Metric metric,
+            double minScore,
+            List<EmbeddingMatch<TextSegment>> matches)
+            throws SQLException, JsonProcessingException {
+        while (resultSet.next()) {
+            var score = metric.toScore(resultSet.getDouble("distance"));
+            if (score < minScore) {
+                // ordered by distance: the next ones are below the min score too
+                return;
+            }
+            matches.add(toMatch(resultSet, score));
+        }
+    }
+
+    private EmbeddingMatch<TextSegment> toMatch(ResultSet resultSet, double score)
+            throws SQLException, JsonProcessingException {
+        var id = resultSet.getString("id");
+        var text = resultSet.getString("text");
+        var metadataJson = resultSet.getString("metadata");
+
+        Map<String, ?> metadataMap = metadataJson != null
+                ? jsonMetadataSerializer.readValue(metadataJson, METADATA_TYPE)
+                : Collections.emptyMap();
+
+        Embedding embedding = null;
+        if (returnEmbeddings) {
+            // the JDBC driver reads the list as an array of boxed floats, it has no accessor of a primitive array
+            var sqlList = (Object[]) resultSet.getArray("embedding").getArray();
+            var vector = new float[sqlList.length];
+            for (int i = 0; i < sqlList.length; i++) {
+                vector[i] = (Float) sqlList[i];
+            }
+            embedding = new Embedding(vector);
+        }
+        var ts = text != null ? TextSegment.from(text, Metadata.from(metadataMap)) : null;
+        return new EmbeddingMatch<>(score, id, embedding, ts);
+    }
+
+    private String vectorLiteral(Embedding embedding) {
+        return vectorText(embedding) + "::" + embeddingType;
+    }
+
+    /**
+     * Binds the query vector as a typed {@code FLOAT} list, cast to the embedding type by the queries, so that the
+     * floats are passed as such instead of being rendered and parsed as decimal text.
+     * The JDBC driver has no binding of a primitive {@code float[]} parameter, only of an array of boxed floats.
+     */
+    private static Array vectorParameter(Connection connection, Embedding embedding) throws SQLException {
+        var vector = embedding.vector();
+        var values = new Float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            values[i] = vector[i];
+        }
+        return connection.createArrayOf("FLOAT", values);
+    }
 
-                var id = resultSet.getString("id");
-                var text = resultSet.getString("text");
-                var score = resultSet.getDouble("score");
-                var sqlArray = resultSet.getArray("embedding");
-                var metadataJson = resultSet.getString("metadata");
-
-                var typeReference = new TypeReference<HashMap<String, Object>>() {};
-                Map<String, ?> metadataMap = metadataJson != null
-                        ? jsonMetadataSerializer.readValue(metadataJson, typeReference)
-                        : Collections.emptyMap();
-
-                var sqlList = (Object[]) sqlArray.getArray();
-                var vector = new float[sqlList.length];
-                for (int i = 0; i < sqlList.length; i++) {
-                    vector[i] = (float) sqlList[i];
+    /**
+     * Renders the vector as a DuckDB list, for the constant query vector of the searches of the HNSW index.
+     */
+    private static String vectorText(Embedding embedding) {
+        var vector = embedding.vector();
+        var text = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(vector[i]);
+        }
+        return text.append(']').toString();
+    }
+
+    private SearchConnection borrowSearchConnection() {
+        var searchConnection = searchConnections.poll();
+        if (searchConnection != null) {
+            return searchConnection;
+        }
+        try {
+            var connection = (DuckDBConnection) duckDBConnection.duplicate();
+            if (hnswIndex != null && hnswIndex.efSearch() != null) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("SET hnsw_ef_search = " + hnswIndex.efSearch());
                 }
-                var ts = text != null ? TextSegment.from(text, Metadata.from(metadataMap)) : null;
-                matches.add(new EmbeddingMatch<>(score, id, new Embedding(vector), ts));
             }
-            return new EmbeddingSearchResult<>(matches);
-        } catch (SQLException | JsonProcessingException e) {
-            throw new DuckDBSQLException("Error while searching embeddings", e);
+            return new SearchConnection(connection);
+        } catch (SQLException e) {
+            throw new DuckDBSQLException("Unable to open a duckdb connection", e);
+        }
+    }
+
+    /**
+     * Keeps the connection for the next searches, unless it failed, the store is closed
+     * or {@code maxIdleSearchConnections} connections are already kept.
+     */
+    private void releaseSearchConnection(SearchConnection searchConnection, boolean reusable) {
+        if (!reusable || closed || !searchConnections.offer(searchConnection)) {
+            searchConnection.close();
+        } else if (closed && searchConnections.remove(searchConnection)) {
+            // the store was closed while the connection was released
+            searchConnection.close();
+        }
+    }
+
+    /**
+     * Closes the search connections and the connection to the database.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        SearchConnection searchConnection;
+        while ((searchConnection = searchConnections.poll()) != null) {
+            searchConnection.close();
+        }
+        try {
+            duckDBConnection.close();
+        } catch (SQLException e) {
+            throw new DuckDBSQLException("Unable to close duckdb connection", e);
+        }
+    }
+
+    /**
+     * A duplicated connection with its own cache of prepared statements.
+     * It is used by one search at a time, and returned to the pool afterwards.
+     */
+    private static class SearchConnection {
+
+        private final DuckDBConnection connection;
+        private final Map<String, PreparedStatement> statements =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() > STATEMENT_CACHE_SIZE) {
+                            closeQuietly(eldest.getValue());
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+
+        private SearchConnection(DuckDBConnection connection) {
+            this.connection = connection;
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            var statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        private void close() {
+            statements.values().forEach(SearchConnection::closeQuietly);
+            statements.clear();
+            closeQuietly(connection);
+        }
+
+        private static void closeQuietly(AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("Unable to close {}", closeable, e);
+            }
         }
     }
 
@@ -261,46 +604,114 @@ public class DuckDBEmbeddingStore implements EmbeddingStore<TextSegment> {
                 embedded == null || embeddings.size() == embedded.size(),
                 "embeddings size is not equal to embedded size");
 
-        try (var connection = duckDBConnection.duplicate();
-                var statement = connection.prepareStatement(format(INSERT_QUERY_TEMPLATE, tableName))) {
+        // one transaction, so that a failure doesn't leave the rows already flushed by the appender
+        try (var connection = (DuckDBConnection) duckDBConnection.duplicate()) {
+            connection.setAutoCommit(false);
+            try {
+                appendRows(connection, ids, embeddings, embedded);
+                connection.commit();
+            } catch (SQLException | JsonProcessingException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException | JsonProcessingException e) {
+            throw new DuckDBSQLException("Unable to add embeddings in DuckDB", e);
+        }
+    }
+
+    /**
+     * Appends the rows with the appender of DuckDB, which writes the vectors directly in the columns of the table
+     * instead of binding and casting the parameters of an insert statement for every row.
+     */
+    private void appendRows(
+            DuckDBConnection connection, List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded)
+            throws SQLException, JsonProcessingException {
+        try (var appender = connection.createAppender(appenderSchema, appenderTable)) {
             for (int i = 0; i < ids.size(); i++) {
-                String textParam = null;
-                if (embedded != null && embedded.get(i) != null) {
-                    textParam = embedded.get(i).text();
-                }
-                var metadata = embedded != null && embedded.get(i) != null
-                        ? embedded.get(i).metadata().toMap()
+                var textSegment = embedded != null ? embedded.get(i) : null;
+                var metadata = textSegment != null
+                        ? jsonMetadataSerializer.writeValueAsString(textSegment.metadata().toMap())
                         : null;
 
-                statement.setString(1, ids.get(i));
-                var embeddingsParam = connection.createArrayOf(
-                        "float", embeddings.get(i).vectorAsList().toArray());
-                statement.setObject(2, embeddingsParam);
-                statement.setString(3, textParam);
-                statement.setString(4, jsonMetadataSerializer.writeValueAsString(metadata));
-                statement.addBatch();
+                appender.beginRow();
+                appender.append(UUID.fromString(ids.get(i)));
+                appender.append(embeddings.get(i).vector());
+                appendNullable(appender, textSegment != null ? textSegment.text() : null);
+                appendNullable(appender, metadata);
+                appender.endRow();
             }
-            statement.executeBatch();
-        } catch (SQLException | JsonProcessingException e) {
-            throw new DuckDBSQLException("Unable to add embeddings in DuckDB", e);
         }
     }
 
-    private void initTable() {
-        var sql = format(CREATE_TABLE_TEMPLATE, tableName);
+    private static void appendNullable(DuckDBAppender appender, String value) throws SQLException {
+        if (value == null) {
+            appender.appendNull();
+        } else {
+            appender.append(value);
+        }
+    }
+
+    /**
+     * Exports the id, embedding, text and metadata columns of the table to a Parquet file,
+     * which can be imported by {@link #importParquet(Path)} into the store of another node.
+     *
+     * @param path The Parquet file to write, replaced if it exists
+     */
+    public void exportParquet(Path path) {
+        ensureNotNull(path, "path");
+        var sql = format(EXPORT_PARQUET_QUERY_TEMPLATE, tableName, toSqlLiteral(path));
         try (var connection = duckDBConnection.duplicate();
                 var statement = connection.createStatement()) {
             log.debug(sql);
             statement.execute(sql);
         } catch (SQLException e) {
-            throw new DuckDBSQLException(format("Failed to init duckDB table:  '%s'", sql), e);
+            throw new DuckDBSQLException(format("Unable to export embeddings to '%s'", path), e);
+        }
+    }
+
+    /**
+     * Adds the rows of a Parquet file with id, embedding, text and metadata columns, such as the files written by
+     * {@link #exportParquet(Path)}. The file is read by DuckDB directly, the rows don't go through the JVM.
+     *
+     * @param path The Parquet file to read
+     */
+    public void importParquet(Path path) {
+        ensureNotNull(path, "path");
+        var sql = format(IMPORT_PARQUET_QUERY_TEMPLATE, tableName, embeddingType, toSqlLiteral(path));
+        try (var connection = duckDBConnection.duplicate();
+                var statement = connection.createStatement()) {
+            log.debug(sql);
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new DuckDBSQLException(format("Unable to import embeddings from '%s'", path), e);
         }
     }
 
-    protected String embeddingToParam(Embedding embedding) {
-        return embedding.vectorAsList().stream()
-                .map(Object::toString)
-                .collect(Collectors.joining(",", "[", "]"))
-                .concat("::float[]");
+    private static String toSqlLiteral(Path path) {
+        return path.toAbsolutePath().toString().replace("'", "''");
+    }
+
+    private void initTable(boolean persistent) {
+        var sql = format(CREATE_TABLE_TEMPLATE, tableName, embeddingType);
+        try (var connection = duckDBConnection.duplicate();
+                var statement = connection.createStatement()) {
+            if (hnswIndex != null) {
+                statement.execute("INSTALL vss");
+                statement.execute("LOAD vss");
+                if (persistent) {
+                    // opted in by the index, HNSW indexes of database files are experimental in the vss extension
+                    statement.execute("SET hnsw_enable_experimental_persistence = true");
+                }
+            }
+            log.debug(sql);
+            statement.execute(sql);
+            if (hnswIndex != null) {
+                sql = hnswIndex.createIndexStatement(tableName);
+                log.debug(sql);
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new DuckDBSQLException(format("Failed to init duckDB table:  '%s'", sql), e);
+        }
     }
 }
@@ -0,0 +1,177 @@
+package dev.langchain4j.community.store.embedding.duckdb;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HNSW index of the embedding column, created with the <a href="https://duckdb.org/docs/extensions/vss">vss</a>
+ * extension of DuckDB.
+ * <p>
+ * The index stores the embeddings in a fixed-size {@code FLOAT[dimension]} column, and is used by the searches
+ * without filter, which are rewritten to {@code order by <distance> limit k}. The searches with a filter scan the
+ * table, the index can't be combined with a filter.
+ * <p>
+ * The scores of all the metrics are the cosine relevance score of the other searches when the embeddings are
+ * normalized.
+ * <p>
+ * The persistence of the index in a database file is an experimental feature of the vss extension, which has to be
+ * enabled with {@link Builder#experimentalPersistence(Boolean)} to use the index with a {@code filePath}.
+ */
+public class DuckDBHnswIndex {
+
+    /**
+     * Distance metric of the HNSW index.
+     */
+    public enum Metric {
+        /** Cosine distance, {@code array_cosine_distance}. */
+        COSINE("cosine", "array_cosine_distance"),
+        /** Euclidean distance, {@code array_distance}. */
+        L2SQ("l2sq", "array_distance"),
+        /** Negative inner product, {@code array_negative_inner_product}. */
+        INNER_PRODUCT("ip", "array_negative_inner_product");
+
+        private final String option;
+        private final String distanceFunction;
+
+        Metric(String option, String distanceFunction) {
+            this.option = option;
+            this.distanceFunction = distanceFunction;
+        }
+
+        String distanceFunction() {
+            return distanceFunction;
+        }
+
+        /**
+         * Converts the distance to the relevance score {@code (cosine + 1) / 2}, exact for normalized embeddings.
+         */
+        double toScore(double distance) {
+            return switch (this) {
+                case COSINE -> 1.0 - distance / 2.0;
+                case L2SQ -> 1.0 - distance * distance / 4.0;
+                case INNER_PRODUCT -> (1.0 - distance) / 2.0;
+            };
+        }
+    }
+
+    private final Metric metric;
+    private final Integer efConstruction;
+    private final Integer efSearch;
+    private final Integer m;
+    private final boolean experimentalPersistence;
+
+    private DuckDBHnswIndex(Builder builder) {
+        this.metric = getOrDefault(builder.metric, Metric.COSINE);
+        this.efConstruction = builder.efConstruction;
+        this.efSearch = builder.efSearch;
+        this.m = builder.m;
+        this.experimentalPersistence = getOrDefault(builder.experimentalPersistence, false);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Metric metric() {
+        return metric;
+    }
+
+    public Integer efConstruction() {
+        return efConstruction;
+    }
+
+    public Integer efSearch() {
+        return efSearch;
+    }
+
+    public Integer m() {
+        return m;
+    }
+
+    public boolean experimentalPersistence() {
+        return experimentalPersistence;
+    }
+
+    String createIndexStatement(String tableName) {
+        List<String> options = new ArrayList<>();
+        options.add("metric = '" + metric.option + "'");
+        if (efConstruction != null) {
+            options.add("ef_construction = " + efConstruction);
+        }
+        if (m != null) {
+            options.add("M = " + m);
+        }
+        // the index is created in the schema of the table, its name can't be qualified
+        var indexName = tableName.substring(tableName.lastIndexOf('.') + 1) + "_hnsw_idx";
+        return String.format(
+                "create index if not exists %s on %s using HNSW (embedding) with (%s)",
+                indexName, tableName, String.join(", ", options));
+    }
+
+    public static class Builder {
+        private Metric metric;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Integer m;
+        private Boolean experimentalPersistence;
+
+        /**
+         * @param metric The distance metric of the index. If not specified, {@link Metric#COSINE} will be used
+         * @return builder
+         */
+        public Builder metric(Metric metric) {
+            this.metric = metric;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The number of candidates considered when the index is built.
+         *                       If not specified, the default of the vss extension (128) will be used
+         * @return builder
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = ensureGreaterThanZero(efConstruction, "efConstruction");
+            return this;
+        }
+
+        /**
+         * @param efSearch The number of candidates considered by a search, set on the search connections.
+         *                 If not specified, the default of the vss extension (64) will be used
+         * @return builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = ensureGreaterThanZero(efSearch, "efSearch");
+            return this;
+        }
+
+        /**
+         * @param m The maximum number of neighbours of a node of the graph.
+         *          If not specified, the default of the vss extension (16) will be used
+         * @return builder
+         */
+        public Builder m(Integer m) {
+            this.m = ensureGreaterThanZero(m, "m");
+            return this;
+        }
+
+        /**
+         * @param experimentalPersistence Whether the index is persisted in the database file, with the
+         *                                {@code hnsw_enable_experimental_persistence} setting of the vss extension.
+         *                                It must be enabled to use the index with a {@code filePath}, the index
+         *                                may be lost or corrupted if the database isn't shut down cleanly.
+         *                                If not specified, it's disabled
+         * @return builder
+         */
+        public Builder experimentalPersistence(Boolean experimentalPersistence) {
+            this.experimentalPersistence = experimentalPersistence;
+            return this;
+        }
+
+        public DuckDBHnswIndex build() {
+            return new DuckDBHnswIndex(this);
+        }
+    }
+}
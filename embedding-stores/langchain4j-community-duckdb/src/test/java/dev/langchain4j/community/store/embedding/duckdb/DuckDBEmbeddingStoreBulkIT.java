@@ -0,0 +1,205 @@
+package dev.langchain4j.community.store.embedding.duckdb;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks the appender-based {@code addAll} and the Parquet import/export of {@link DuckDBEmbeddingStore},
+ * and compares the ingestion throughput of the appender with the previous batch of insert statements.
+ * The throughput comparison only runs when the `duckdbBenchmarkRows` system property is set,
+ * e.g. `-DduckdbBenchmarkRows=10000`.
+ */
+class DuckDBEmbeddingStoreBulkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(DuckDBEmbeddingStoreBulkIT.class);
+
+    private static final int ROWS = Integer.getInteger("duckdbBenchmarkRows", 100);
+    private static final int DIMENSION = 384;
+
+    private final Random random = new Random(42);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_import_the_exported_parquet_file() {
+        List<Embedding> embeddings = randomEmbeddings(1_000);
+        List<TextSegment> segments = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> i % 10 == 0
+                        ? null
+                        : TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i).put("index", i)))
+                .toList();
+        DuckDBEmbeddingStore source = DuckDBEmbeddingStore.inMemory();
+        source.addAll(embeddings, segments);
+
+        Path parquet = tempDir.resolve("embeddings.parquet");
+        source.exportParquet(parquet);
+        DuckDBEmbeddingStore target = DuckDBEmbeddingStore.inMemory();
+        target.importParquet(parquet);
+
+        assertThat(parquet).exists();
+        for (int i = 0; i < 5; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 17))
+                    .maxResults(10)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> expected = source.search(request).matches();
+
+            assertThat(expected).hasSize(10);
+            assertThat(target.search(request).matches())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_not_add_any_row_when_a_row_fails() {
+        DuckDBEmbeddingStore store = DuckDBEmbeddingStore.inMemory();
+        List<String> ids = List.of(randomUUID(), randomUUID(), "not a uuid", randomUUID());
+        List<Embedding> embeddings = randomEmbeddings(ids.size());
+
+        assertThatThrownBy(() -> store.addAll(ids, embeddings, null)).isInstanceOf(IllegalArgumentException.class);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(10)
+                .build();
+        assertThat(store.search(request).matches()).isEmpty();
+    }
+
+    @Test
+    void should_not_add_any_row_when_duckdb_rejects_a_row() {
+        DuckDBEmbeddingStore store = DuckDBEmbeddingStore.builder()
+                .dimension(DIMENSION)
+                .hnswIndex(DuckDBHnswIndex.builder().build())
+                .build();
+        List<Embedding> embeddings = new ArrayList<>(randomEmbeddings(3));
+        // doesn't fit the FLOAT[384] column of the index
+        embeddings.add(2, Embedding.from(new float[DIMENSION - 1]));
+
+        assertThatThrownBy(() -> store.addAll(embeddings)).isInstanceOf(DuckDBSQLException.class);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(10)
+                .build();
+        assertThat(store.search(request).matches()).isEmpty();
+    }
+
+    @Test
+    void should_append_the_rows_to_a_table_qualified_by_its_schema() throws SQLException {
+        String filePath = tempDir.resolve("embeddings.db").toString();
+        try (var connection = DriverManager.getConnection("jdbc:duckdb:" + filePath);
+                var statement = connection.createStatement()) {
+            statement.execute("create schema vectors");
+        }
+        List<Embedding> embeddings = randomEmbeddings(10);
+
+        try (DuckDBEmbeddingStore store = DuckDBEmbeddingStore.builder()
+                .filePath(filePath)
+                .tableName("vectors.embeddings")
+                .build()) {
+            List<String> ids = store.addAll(embeddings);
+
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(3))
+                    .maxResults(10)
+                    .build();
+            assertThat(store.search(request).matches())
+                    .extracting(EmbeddingMatch::embeddingId)
+                    .hasSize(10)
+                    .first()
+                    .isEqualTo(ids.get(3));
+        }
+    }
+
+    @Test
+    void should_reject_a_table_name_with_a_catalog() {
+        assertThatThrownBy(() -> DuckDBEmbeddingStore.builder()
+                        .tableName("memory.main.embeddings")
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tableName");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "duckdbBenchmarkRows", matches = "\\d+")
+    void should_compare_the_insert_and_appender_throughput() throws SQLException {
+        List<Embedding> embeddings = randomEmbeddings(ROWS);
+        List<TextSegment> segments = IntStream.range(0, ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i)))
+                .toList();
+        List<String> ids = IntStream.range(0, ROWS).mapToObj(i -> randomUUID()).toList();
+
+        long start = System.nanoTime();
+        try (var connection = DriverManager.getConnection("jdbc:duckdb:")) {
+            try (var statement = connection.createStatement()) {
+                statement.execute(
+                        "create table embeddings (id UUID, embedding FLOAT[], text TEXT NULL, metadata JSON NULL)");
+            }
+            try (var statement = connection.prepareStatement("insert into embeddings values (?,?,?,?)")) {
+                for (int i = 0; i < ROWS; i++) {
+                    statement.setString(1, ids.get(i));
+                    statement.setObject(
+                            2,
+                            connection.createArrayOf(
+                                    "float", embeddings.get(i).vectorAsList().toArray()));
+                    statement.setString(3, segments.get(i).text());
+                    statement.setString(4, "{\"name\":\"name-" + i + "\"}");
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        double insertRowsPerSecond = rowsPerSecond(start);
+
+        start = System.nanoTime();
+        DuckDBEmbeddingStore.inMemory().addAll(ids, embeddings, segments);
+        double appenderRowsPerSecond = rowsPerSecond(start);
+
+        log.info(
+                "[{} rows, {} dimensions] insert statements: {} rows/s, appender: {} rows/s",
+                ROWS,
+                DIMENSION,
+                Math.round(insertRowsPerSecond),
+                Math.round(appenderRowsPerSecond));
+
+        assertThat(appenderRowsPerSecond).isPositive();
+    }
+
+    private static double rowsPerSecond(long start) {
+        return ROWS * 1_000_000_000d / (System.nanoTime() - start);
+    }
+
+    private List<Embedding> randomEmbeddings(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    float[] vector = new float[DIMENSION];
+                    for (int j = 0; j < DIMENSION; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+    }
+}
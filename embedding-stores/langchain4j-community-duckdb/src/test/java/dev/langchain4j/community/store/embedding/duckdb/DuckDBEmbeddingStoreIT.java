@@ -1,10 +1,19 @@
 package dev.langchain4j.community.store.embedding.duckdb;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
 
 class DuckDBEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
 
@@ -24,4 +33,27 @@ class DuckDBEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
     protected void clearStore() {
         embeddingStore().removeAll();
     }
+
+    @Test
+    void should_search_concurrently_and_close_the_search_connections() {
+        DuckDBEmbeddingStore store =
+                DuckDBEmbeddingStore.builder().maxIdleSearchConnections(1).build();
+        Embedding embedding = embeddingModel.embed("hello").content();
+        String id = store.add(embedding, TextSegment.from("hello"));
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build();
+
+        // more concurrent searches than kept connections
+        List<String> ids = IntStream.range(0, 32)
+                .parallel()
+                .mapToObj(i -> store.search(request).matches().get(0))
+                .map(EmbeddingMatch::embeddingId)
+                .toList();
+        assertThat(ids).hasSize(32).containsOnly(id);
+
+        store.close();
+        assertThatThrownBy(() -> store.search(request)).isInstanceOf(DuckDBSQLException.class);
+    }
 }
@@ -0,0 +1,243 @@
+package dev.langchain4j.community.store.embedding.duckdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the search throughput of the prepared-statement path of {@link DuckDBEmbeddingStore}, which binds the
+ * query vector as a typed array, with a prepared statement binding it as decimal text
+ * and with the previous string-templated query, which rendered the query vector as a SQL literal.
+ * The throughput comparison only runs when the `duckdbBenchmarkRows` system property is set,
+ * e.g. `-DduckdbBenchmarkRows=10000`, the number of queries can be changed via `duckdbBenchmarkQueries`.
+ */
+class DuckDBEmbeddingStoreSearchBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(DuckDBEmbeddingStoreSearchBenchmarkIT.class);
+
+    private static final int ROWS = Integer.getInteger("duckdbBenchmarkRows", 100);
+    private static final int QUERIES = Integer.getInteger("duckdbBenchmarkQueries", 200);
+    private static final int DIMENSION = 384;
+    private static final int MAX_RESULTS = 10;
+
+    private static final String TEMPLATED_SEARCH_QUERY =
+            """
+            select id, embedding, text, metadata, (list_cosine_similarity(embedding,%s)+1.0)/2.0 as score
+            from embeddings
+            where score >= %s
+            order by score DESC
+            limit %d
+            """;
+
+    private static final String TEXT_BOUND_SEARCH_QUERY =
+            """
+            select id, embedding, text, metadata, (list_cosine_similarity(embedding,?::float[])+1.0)/2.0 as score
+            from embeddings
+            where score >= ?
+            order by score DESC
+            limit ?
+            """;
+
+    private static final Random random = new Random(42);
+
+    private static DuckDBEmbeddingStore embeddingStore;
+    private static DuckDBEmbeddingStore embeddingStoreWithoutEmbeddings;
+    private static Connection templatedConnection;
+    private static PreparedStatement textBoundStatement;
+    private static List<Embedding> queries;
+
+    @BeforeAll
+    static void beforeAll() throws SQLException {
+        List<Embedding> embeddings =
+                IntStream.range(0, ROWS).mapToObj(i -> randomEmbedding()).toList();
+        List<TextSegment> segments = IntStream.range(0, ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i))
+                .toList();
+        List<String> ids = embeddingStore().addAll(embeddings, segments);
+        embeddingStoreWithoutEmbeddings().addAll(ids, embeddings, segments);
+
+        templatedConnection = DriverManager.getConnection("jdbc:duckdb:");
+        try (var statement = templatedConnection.createStatement()) {
+            statement.execute(
+                    "create table embeddings (id UUID, embedding FLOAT[], text TEXT NULL, metadata JSON NULL)");
+        }
+        try (var statement = templatedConnection.prepareStatement("insert into embeddings values (?,?,?,?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setString(1, ids.get(i));
+                statement.setObject(
+                        2,
+                        templatedConnection.createArrayOf(
+                                "float", embeddings.get(i).vectorAsList().toArray()));
+                statement.setString(3, segments.get(i).text());
+                statement.setString(4, null);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        textBoundStatement = templatedConnection.prepareStatement(TEXT_BOUND_SEARCH_QUERY);
+        queries = IntStream.range(0, QUERIES).mapToObj(i -> randomEmbedding()).toList();
+    }
+
+    @AfterAll
+    static void afterAll() throws SQLException {
+        textBoundStatement.close();
+        templatedConnection.close();
+    }
+
+    @Test
+    void should_return_the_same_matches_as_the_templated_query() throws SQLException {
+        Embedding query = queries.get(0);
+
+        List<String> expected = templatedSearch(query);
+        List<String> actual = embeddingStore.search(request(query)).matches().stream()
+                .map(EmbeddingMatch::embeddingId)
+                .toList();
+        List<String> actualWithoutEmbeddings =
+                embeddingStoreWithoutEmbeddings.search(request(query)).matches().stream()
+                        .peek(match -> assertThat(match.embedding()).isNull())
+                        .map(EmbeddingMatch::embeddingId)
+                        .toList();
+
+        assertThat(actual).hasSize(MAX_RESULTS).isEqualTo(expected);
+        assertThat(textBoundSearch(query)).isEqualTo(expected);
+        assertThat(actualWithoutEmbeddings).isEqualTo(expected);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "duckdbBenchmarkRows", matches = "\\d+")
+    void should_compare_search_throughput() throws SQLException {
+        // warm up
+        for (Embedding query : queries.subList(0, Math.min(20, QUERIES))) {
+            templatedSearch(query);
+            textBoundSearch(query);
+            embeddingStore.search(request(query));
+            embeddingStoreWithoutEmbeddings.search(request(query));
+        }
+
+        long start = System.nanoTime();
+        for (Embedding query : queries) {
+            templatedSearch(query);
+        }
+        double templatedQps = qps(start);
+
+        start = System.nanoTime();
+        for (Embedding query : queries) {
+            textBoundSearch(query);
+        }
+        double textBoundQps = qps(start);
+
+        start = System.nanoTime();
+        for (Embedding query : queries) {
+            embeddingStore.search(request(query));
+        }
+        double preparedQps = qps(start);
+
+        start = System.nanoTime();
+        for (Embedding query : queries) {
+            embeddingStoreWithoutEmbeddings.search(request(query));
+        }
+        double preparedWithoutEmbeddingsQps = qps(start);
+
+        log.info(
+                "[{} rows, {} queries] templated: {} QPS, prepared with text binding: {} QPS, "
+                        + "prepared with array binding: {} QPS, prepared without embeddings: {} QPS",
+                ROWS,
+                QUERIES,
+                String.format("%.1f", templatedQps),
+                String.format("%.1f", textBoundQps),
+                String.format("%.1f", preparedQps),
+                String.format("%.1f", preparedWithoutEmbeddingsQps));
+
+        assertThat(preparedQps).isPositive();
+        assertThat(preparedWithoutEmbeddingsQps).isPositive();
+    }
+
+    private static List<String> templatedSearch(Embedding query) throws SQLException {
+        String sql = String.format(
+                TEMPLATED_SEARCH_QUERY, vectorLiteral(query), 0.0, MAX_RESULTS);
+        try (var statement = templatedConnection.prepareStatement(sql);
+                var resultSet = statement.executeQuery()) {
+            return readIds(resultSet);
+        }
+    }
+
+    private static List<String> textBoundSearch(Embedding query) throws SQLException {
+        textBoundStatement.setString(1, vectorText(query));
+        textBoundStatement.setDouble(2, 0.0);
+        textBoundStatement.setInt(3, MAX_RESULTS);
+        try (var resultSet = textBoundStatement.executeQuery()) {
+            return readIds(resultSet);
+        }
+    }
+
+    private static List<String> readIds(ResultSet resultSet) throws SQLException {
+        List<String> ids = new ArrayList<>();
+        while (resultSet.next()) {
+            ids.add(resultSet.getString("id"));
+            var sqlList = (Object[]) resultSet.getArray("embedding").getArray();
+            var vector = new float[sqlList.length];
+            for (int i = 0; i < sqlList.length; i++) {
+                vector[i] = (float) sqlList[i];
+            }
+        }
+        return ids;
+    }
+
+    private static String vectorLiteral(Embedding embedding) {
+        return vectorText(embedding).concat("::float[]");
+    }
+
+    private static String vectorText(Embedding embedding) {
+        return embedding.vectorAsList().stream().map(Object::toString).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static EmbeddingSearchRequest request(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(MAX_RESULTS)
+                .build();
+    }
+
+    private static double qps(long start) {
+        return QUERIES * 1_000_000_000d / (System.nanoTime() - start);
+    }
+
+    private static DuckDBEmbeddingStore embeddingStore() {
+        embeddingStore = DuckDBEmbeddingStore.builder().build();
+        return embeddingStore;
+    }
+
+    private static DuckDBEmbeddingStore embeddingStoreWithoutEmbeddings() {
+        embeddingStoreWithoutEmbeddings =
+                DuckDBEmbeddingStore.builder().returnEmbeddings(false).build();
+        return embeddingStoreWithoutEmbeddings;
+    }
+
+    private static Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,184 @@
+package dev.langchain4j.community.store.embedding.duckdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the embedding store tests against a {@link DuckDBEmbeddingStore} with an HNSW index, once per metric.
+ */
+class DuckDBHnswEmbeddingStoreIT {
+
+    private static final int DIMENSION = 384;
+
+    private static final EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Nested
+    class CosineIT extends HnswEmbeddingStoreIT {
+
+        @Override
+        DuckDBHnswIndex.Metric metric() {
+            return DuckDBHnswIndex.Metric.COSINE;
+        }
+    }
+
+    @Nested
+    class L2sqIT extends HnswEmbeddingStoreIT {
+
+        @Override
+        DuckDBHnswIndex.Metric metric() {
+            return DuckDBHnswIndex.Metric.L2SQ;
+        }
+    }
+
+    @Nested
+    class InnerProductIT extends HnswEmbeddingStoreIT {
+
+        @Override
+        DuckDBHnswIndex.Metric metric() {
+            return DuckDBHnswIndex.Metric.INNER_PRODUCT;
+        }
+    }
+
+    abstract static class HnswEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
+
+        DuckDBEmbeddingStore embeddingStore = store(null);
+
+        abstract DuckDBHnswIndex.Metric metric();
+
+        @Override
+        protected EmbeddingStore<TextSegment> embeddingStore() {
+            return embeddingStore;
+        }
+
+        @Override
+        protected EmbeddingModel embeddingModel() {
+            return embeddingModel;
+        }
+
+        @Override
+        protected void clearStore() {
+            embeddingStore.removeAll();
+        }
+
+        @Test
+        void should_not_find_the_removed_embeddings_with_the_index() {
+            List<TextSegment> segments = segments("hello", "hi", "goodbye");
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            List<String> ids = embeddingStore.addAll(embeddings, segments);
+
+            embeddingStore.removeAll(List.of(ids.get(0)));
+
+            assertThat(search(embeddingStore, embeddings.get(0))).containsExactlyInAnyOrder(ids.get(1), ids.get(2));
+
+            embeddingStore.removeAll();
+
+            assertThat(search(embeddingStore, embeddings.get(0))).isEmpty();
+        }
+
+        @Test
+        void should_search_the_index_of_a_reopened_database_file(@TempDir Path tempDir) {
+            String filePath = tempDir.resolve("embeddings.db").toString();
+            List<TextSegment> segments = segments("hello", "hi", "goodbye");
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+            List<String> ids;
+            try (DuckDBEmbeddingStore store = store(filePath)) {
+                ids = store.addAll(embeddings, segments);
+            }
+
+            try (DuckDBEmbeddingStore store = store(filePath)) {
+                for (int i = 0; i < ids.size(); i++) {
+                    assertThat(search(store, embeddings.get(i))).hasSize(3).first().isEqualTo(ids.get(i));
+                }
+            }
+        }
+
+        @Test
+        void should_scan_the_index_for_an_unfiltered_search(@TempDir Path tempDir) throws SQLException {
+            String filePath = tempDir.resolve("embeddings.db").toString();
+            List<TextSegment> segments = segments("hello", "hi", "goodbye");
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(0))
+                    .maxResults(2)
+                    .build();
+
+            String query;
+            try (DuckDBEmbeddingStore store = store(filePath)) {
+                store.addAll(embeddings, segments);
+                query = store.indexSearchQuery(request);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (Connection connection = DriverManager.getConnection("jdbc:duckdb:" + filePath);
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LOAD vss");
+                statement.execute("SET hnsw_enable_experimental_persistence = true");
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(2));
+                    }
+                }
+            }
+            assertThat(plan).contains("HNSW_INDEX_SCAN");
+        }
+
+        @Test
+        void should_require_the_experimental_persistence_of_the_index_of_a_database_file(@TempDir Path tempDir) {
+            String filePath = tempDir.resolve("embeddings.db").toString();
+
+            assertThatThrownBy(() -> DuckDBEmbeddingStore.builder()
+                            .filePath(filePath)
+                            .dimension(DIMENSION)
+                            .hnswIndex(DuckDBHnswIndex.builder().metric(metric()).build())
+                            .build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("experimentalPersistence");
+        }
+
+        private DuckDBEmbeddingStore store(String filePath) {
+            return DuckDBEmbeddingStore.builder()
+                    .filePath(filePath)
+                    .dimension(DIMENSION)
+                    .hnswIndex(DuckDBHnswIndex.builder()
+                            .metric(metric())
+                            .experimentalPersistence(filePath != null)
+                            .build())
+                    .build();
+        }
+
+        private static List<String> search(DuckDBEmbeddingStore store, Embedding query) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(10)
+                    .build();
+            return store.search(request).matches().stream()
+                    .map(EmbeddingMatch::embeddingId)
+                    .toList();
+        }
+
+        private static List<TextSegment> segments(String... texts) {
+            return Stream.of(texts).map(TextSegment::from).toList();
+        }
+    }
+}
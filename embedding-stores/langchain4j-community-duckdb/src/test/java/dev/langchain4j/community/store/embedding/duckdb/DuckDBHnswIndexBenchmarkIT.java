@@ -0,0 +1,177 @@
+package dev.langchain4j.community.store.embedding.duckdb;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the searches of the HNSW index of {@link DuckDBEmbeddingStore} with the scan of the table,
+ * which finds the exact nearest neighbours.
+ * The benchmark only runs when the `duckdbBenchmarkRows` system property is set, e.g. `-DduckdbBenchmarkRows=100000`,
+ * the number of queries can be changed via the `duckdbBenchmarkQueries` system property.
+ * The functional tests of the index are in {@link DuckDBHnswEmbeddingStoreIT}.
+ */
+@EnabledIfSystemProperty(named = "duckdbBenchmarkRows", matches = "\\d+")
+class DuckDBHnswIndexBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(DuckDBHnswIndexBenchmarkIT.class);
+
+    private static final int ROWS = Integer.getInteger("duckdbBenchmarkRows", 100_000);
+    private static final int QUERIES = Integer.getInteger("duckdbBenchmarkQueries", 100);
+    private static final int DIMENSION = 128;
+    private static final int MAX_RESULTS = 10;
+    private static final int CHUNK_SIZE = 10_000;
+
+    private static final Random random = new Random(42);
+
+    private static DuckDBEmbeddingStore scanStore;
+    private static DuckDBEmbeddingStore indexStore;
+    private static List<Embedding> queries;
+
+    @BeforeAll
+    static void beforeAll() {
+        scanStore = DuckDBEmbeddingStore.builder().build();
+        indexStore = DuckDBEmbeddingStore.builder()
+                .dimension(DIMENSION)
+                .hnswIndex(DuckDBHnswIndex.builder()
+                        .metric(DuckDBHnswIndex.Metric.COSINE)
+                        .efConstruction(128)
+                        .efSearch(64)
+                        .m(16)
+                        .build())
+                .build();
+
+        for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, ROWS);
+            List<Embedding> embeddings =
+                    IntStream.range(from, to).mapToObj(i -> randomEmbedding()).toList();
+            List<TextSegment> segments = IntStream.range(from, to)
+                    .mapToObj(i -> TextSegment.from(
+                            "text-" + i, new Metadata().put("parity", i % 2 == 0 ? "even" : "odd")))
+                    .toList();
+            List<String> ids = scanStore.addAll(embeddings, segments);
+            indexStore.addAll(ids, embeddings, segments);
+        }
+
+        queries = IntStream.range(0, QUERIES).mapToObj(i -> randomEmbedding()).toList();
+    }
+
+    @Test
+    void should_find_the_nearest_neighbours_with_the_index() {
+        int found = 0;
+        for (Embedding query : queries) {
+            List<EmbeddingMatch<TextSegment>> expected = scanStore.search(request(query)).matches();
+            List<EmbeddingMatch<TextSegment>> actual = indexStore.search(request(query)).matches();
+
+            assertThat(actual).hasSize(MAX_RESULTS);
+            assertThat(actual).isSortedAccordingTo((a, b) -> Double.compare(b.score(), a.score()));
+            List<String> expectedIds = expected.stream().map(EmbeddingMatch::embeddingId).toList();
+            found += (int) actual.stream()
+                    .filter(match -> expectedIds.contains(match.embeddingId()))
+                    .count();
+        }
+
+        double recall = found / (double) (QUERIES * MAX_RESULTS);
+        log.info("[{} rows, {} queries] recall@{}: {}", ROWS, QUERIES, MAX_RESULTS, recall);
+        assertThat(recall).isGreaterThan(0.5);
+    }
+
+    @Test
+    void should_find_an_indexed_embedding_with_the_score_of_the_scan() {
+        EmbeddingMatch<TextSegment> indexed =
+                scanStore.search(request(queries.get(0))).matches().get(0);
+
+        EmbeddingMatch<TextSegment> expected =
+                scanStore.search(request(indexed.embedding())).matches().get(0);
+        EmbeddingMatch<TextSegment> actual =
+                indexStore.search(request(indexed.embedding())).matches().get(0);
+
+        assertThat(actual.embeddingId()).isEqualTo(indexed.embeddingId());
+        assertThat(actual.score()).isCloseTo(expected.score(), offset(1e-5));
+        assertThat(actual.embedded()).isEqualTo(expected.embedded());
+    }
+
+    @Test
+    void should_scan_the_table_for_filtered_searches() {
+        for (Embedding query : queries.subList(0, Math.min(10, QUERIES))) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(query)
+                    .maxResults(MAX_RESULTS)
+                    .filter(metadataKey("parity").isEqualTo("odd"))
+                    .build();
+
+            List<String> expected = scanStore.search(request).matches().stream()
+                    .map(EmbeddingMatch::embeddingId)
+                    .toList();
+            List<String> actual = indexStore.search(request).matches().stream()
+                    .map(EmbeddingMatch::embeddingId)
+                    .toList();
+
+            // the filtered searches are exact
+            assertThat(actual).hasSize(MAX_RESULTS).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_compare_search_latency() {
+        // warm up
+        for (Embedding query : queries.subList(0, Math.min(10, QUERIES))) {
+            scanStore.search(request(query));
+            indexStore.search(request(query));
+        }
+
+        long start = System.nanoTime();
+        for (Embedding query : queries) {
+            scanStore.search(request(query));
+        }
+        double scanMillis = millisPerQuery(start);
+
+        start = System.nanoTime();
+        for (Embedding query : queries) {
+            indexStore.search(request(query));
+        }
+        double indexMillis = millisPerQuery(start);
+
+        log.info(
+                "[{} rows, {} queries] scan: {} ms/query, HNSW index: {} ms/query",
+                ROWS,
+                QUERIES,
+                String.format("%.2f", scanMillis),
+                String.format("%.2f", indexMillis));
+
+        assertThat(indexMillis).isPositive();
+    }
+
+    private static EmbeddingSearchRequest request(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(MAX_RESULTS)
+                .build();
+    }
+
+    private static double millisPerQuery(long start) {
+        return (System.nanoTime() - start) / 1_000_000d / QUERIES;
+    }
+
+    private static Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -64,6 +64,11 @@ public class HypotheticalQuestionGraphIngestor extends Neo4jEmbeddingStoreIngest
                         Hypothetical questions:
                         """;
         public static final String DEFAULT_CHUNK_CREATION_QUERY = "CREATE (:QuestionChunk $metadata)";
+        public static final String DEFAULT_CHUNK_BATCH_CREATION_QUERY =
+                """
+                        UNWIND $rows AS row
+                        CREATE (p:QuestionChunk)
+                        SET p = row.metadata""";
 
         private Neo4jEmbeddingStore defaultEmbeddingStore() {
             return Neo4jEmbeddingStore.builder()
@@ -85,7 +90,10 @@ public class HypotheticalQuestionGraphIngestor extends Neo4jEmbeddingStoreIngest
         public HypotheticalQuestionGraphIngestor build() {
             systemPrompt = getOrDefault(systemPrompt, DEFAULT_SYSTEM_PROMPT);
             userPrompt = getOrDefault(userPrompt, DEFAULT_USER_PROMPT);
-            query = getOrDefault(query, DEFAULT_CHUNK_CREATION_QUERY);
+            if (query == null) {
+                query = DEFAULT_CHUNK_CREATION_QUERY;
+                parentBatchQuery = getOrDefault(parentBatchQuery, DEFAULT_CHUNK_BATCH_CREATION_QUERY);
+            }
             embeddingStore = getOrDefault(embeddingStore, defaultEmbeddingStore());
 
             return new HypotheticalQuestionGraphIngestor(this);
@@ -1,6 +1,7 @@
 package dev.langchain4j.community.store.embedding.neo4j;
 
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_AWAIT_INDEX_TIMEOUT;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_BATCH_SIZE;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_DATABASE_NAME;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_EMBEDDING_PROP;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_FULLTEXT_IDX_NAME;
@@ -8,13 +9,19 @@ import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtil
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_ID_PROP;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_LABEL;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_TEXT_PROP;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_TRANSACTION_BATCH_SIZE;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_WRITE_CONCURRENCY;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.EMBEDDINGS_ROW_KEY;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.METADATA;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.PROPS;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.QUERY_CACHE_SIZE;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.SCORE;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.boundedCache;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.getRowsBatched;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.sanitizeOrThrows;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.toEmbeddingMatch;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.parametersOf;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.shapeOf;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.toCypherLiteral;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jUtils.functionDef;
 import static dev.langchain4j.internal.Utils.copy;
@@ -22,6 +29,7 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
@@ -43,13 +51,25 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.neo4j.cypherdsl.core.Condition;
@@ -68,8 +88,10 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionContext;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,6 +119,20 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
                     WITH row, u
                     CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.%4$s)
                     RETURN count(*)""";
+    /**
+     * Server-side batched variant of {@link #ENTITIES_CREATION},
+     * which commits every {@code $transactionBatchSize} rows via {@code CALL { } IN TRANSACTIONS}
+     */
+    public static final String ENTITIES_CREATION_IN_TRANSACTIONS =
+            """
+                    UNWIND $rows AS row
+                    CALL {
+                        WITH row
+                        MERGE (u:%1$s {%2$s: row.%2$s})
+                        SET u += row.%3$s
+                        WITH row, u
+                        CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.%4$s)
+                    } IN TRANSACTIONS OF $transactionBatchSize ROWS""";
     public static final String INDEX_ALREADY_EXISTS_ERROR =
             """
                     It's not possible to create an index for the label `%s` and the property `%s`,
@@ -140,6 +176,20 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final String fullTextRetrievalQuery;
     private final boolean autoCreateFullText;
 
+    /* bulk ingestion settings */
+    private final int batchSize;
+    private final int writeConcurrency;
+    private final int maxInFlightBatches;
+    private final boolean callInTransactions;
+    private final int transactionBatchSize;
+    private final Neo4jIngestionMetrics ingestionMetrics = new Neo4jIngestionMetrics();
+
+    /* search query caches */
+    private final String vectorIndexSearchQuery;
+    // keyed on the shape of the filter, its values are parameters of the query
+    private final Map<List<Object>, String> filteredSearchQueries = boundedCache(QUERY_CACHE_SIZE);
+    private volatile boolean vectorIndexSearchQueryValidated;
+
     /**
      * Creates an instance of Neo4jEmbeddingStore
      *
@@ -184,6 +234,88 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
             boolean initializeSchema,
             String entityCreationQuery,
             Map<String, Object> additionalParams) {
+        this(
+                config,
+                driver,
+                dimension,
+                label,
+                embeddingProperty,
+                idProperty,
+                metadataPrefix,
+                textProperty,
+                indexName,
+                databaseName,
+                retrievalQuery,
+                awaitIndexTimeout,
+                fullTextIndexName,
+                fullTextQuery,
+                fullTextRetrievalQuery,
+                autoCreateFullText,
+                initializeSchema,
+                entityCreationQuery,
+                additionalParams,
+                null,
+                null,
+                null,
+                false,
+                null);
+    }
+
+    /**
+     * Creates an instance of Neo4jEmbeddingStore
+     *
+     * @param driver                 the {@link Driver} (required)
+     * @param dimension              the dimension (required)
+     * @param config                 the {@link SessionConfig}  (optional, default is `SessionConfig.forDatabase(`databaseName`)`)
+     * @param label                  the optional label name (default: "Document")
+     * @param embeddingProperty      the optional embeddingProperty name (default: "embedding")
+     * @param idProperty             the optional id property name (default: "id")
+     * @param metadataPrefix         the optional metadata prefix (default: "")
+     * @param textProperty           the optional textProperty property name (default: "text")
+     * @param indexName              the optional index name (default: "vector")
+     * @param databaseName           the optional database name (default: "neo4j")
+     * @param awaitIndexTimeout      the optional awaiting timeout for all indexes to come online, in seconds (default: 60s)
+     * @param retrievalQuery         the optional retrieval query
+     *                               (default: "RETURN properties(node) AS metadata, node.`idProperty` AS `idProperty`, node.`textProperty` AS `textProperty`, node.`embeddingProperty` AS `embeddingProperty`, score")
+     * @param fullTextIndexName      the optional full-text index name, to perform a hybrid search (default: `fulltext`)
+     * @param fullTextQuery          the optional full-text index query, required if we want to perform a hybrid search
+     * @param fullTextRetrievalQuery the optional full-text retrieval query (default: {@param retrievalQuery})
+     * @param autoCreateFullText     if true, it will auto create the full-text index if not exists (default: false)
+     * @param initializeSchema       if true, it will create vector index and constraints (default: true)
+     * @param entityCreationQuery    the optional entity creation query
+     *                               (default: {@link Neo4jEmbeddingStore#ENTITIES_CREATION}, or {@link Neo4jEmbeddingStore#ENTITIES_CREATION_IN_TRANSACTIONS} if `callInTransactions` is true)
+     * @param additionalParams       the additional entity creation parameters (default: empty maps)
+     * @param batchSize              the optional number of rows sent to Neo4j per batch by `addAll` (default: 10000)
+     * @param writeConcurrency       the optional number of concurrent write sessions used by `addAll` (default: 1)
+     * @param maxInFlightBatches     the optional maximum number of batches built but not yet written (default: 2 * `writeConcurrency`)
+     * @param callInTransactions     if true, batches are committed server-side via `CALL { } IN TRANSACTIONS` (default: false)
+     * @param transactionBatchSize   the optional number of rows per server-side transaction, used if `callInTransactions` is true (default: 1000)
+     */
+    public Neo4jEmbeddingStore(
+            SessionConfig config,
+            Driver driver,
+            int dimension,
+            String label,
+            String embeddingProperty,
+            String idProperty,
+            String metadataPrefix,
+            String textProperty,
+            String indexName,
+            String databaseName,
+            String retrievalQuery,
+            long awaitIndexTimeout,
+            String fullTextIndexName,
+            String fullTextQuery,
+            String fullTextRetrievalQuery,
+            boolean autoCreateFullText,
+            boolean initializeSchema,
+            String entityCreationQuery,
+            Map<String, Object> additionalParams,
+            Integer batchSize,
+            Integer writeConcurrency,
+            Integer maxInFlightBatches,
+            boolean callInTransactions,
+            Integer transactionBatchSize) {
 
         /* required configs */
         this.driver = ensureNotNull(driver, "driver");
@@ -227,7 +359,21 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         this.fullTextQuery = fullTextQuery;
         this.fullTextRetrievalQuery = getOrDefault(fullTextRetrievalQuery, this.retrievalQuery);
 
-        this.entityCreationQuery = getOrDefault(entityCreationQuery, ENTITIES_CREATION);
+        /* bulk ingestion */
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.writeConcurrency = ensureGreaterThanZero(
+                getOrDefault(writeConcurrency, DEFAULT_WRITE_CONCURRENCY), "writeConcurrency");
+        this.maxInFlightBatches = ensureGreaterThanZero(
+                getOrDefault(maxInFlightBatches, 2 * this.writeConcurrency), "maxInFlightBatches");
+        this.callInTransactions = callInTransactions;
+        this.transactionBatchSize = ensureGreaterThanZero(
+                getOrDefault(transactionBatchSize, DEFAULT_TRANSACTION_BATCH_SIZE), "transactionBatchSize");
+
+        this.entityCreationQuery = getOrDefault(
+                entityCreationQuery, callInTransactions ? ENTITIES_CREATION_IN_TRANSACTIONS : ENTITIES_CREATION);
+
+        /* the search query without filters only depends on the configs above, so it is rendered just once */
+        this.vectorIndexSearchQuery = buildVectorIndexSearchQuery();
 
         if (initializeSchema) {
             createSchema();
@@ -281,6 +427,14 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         return sanitizedEmbeddingProperty;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public Neo4jIngestionMetrics getIngestionMetrics() {
+        return ingestionMetrics;
+    }
+
     public void setAdditionalParams(final Map<String, Object> additionalParams) {
         this.additionalParams = additionalParams;
     }
@@ -289,6 +443,15 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         this.entityCreationQuery = entityCreationQuery;
     }
 
+    /**
+     * Clears the cached search queries and the cached validation of their returned columns,
+     * e.g. after the procedures or the schema used by the retrieval query have been changed
+     */
+    public void clearQueryCache() {
+        filteredSearchQueries.clear();
+        vectorIndexSearchQueryValidated = false;
+    }
+
     /*
     Methods with `@Override`
     */
@@ -390,28 +553,106 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-
-        Value embeddingValue = Values.value(request.queryEmbedding().vector());
+        Filter filter = request.filter();
+        String cypherQuery = getSearchQuery(filter);
+        Map<String, Object> params = getSearchParams(request);
 
         try (Session session = session()) {
-            Filter filter = request.filter();
             if (filter == null) {
-                return getSearchResUsingVectorIndex(request, embeddingValue, session);
+                validateColumns(session, cypherQuery);
             }
-            return getSearchResUsingVectorSimilarity(request, filter, embeddingValue, session);
+            return getEmbeddingSearchResult(session, cypherQuery, params);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #search(EmbeddingSearchRequest)}, built on the driver's {@link AsyncSession}.
+     * <p>
+     * No thread is held while waiting for Neo4j, so a large number of concurrent searches
+     * can be issued without a matching thread pool.
+     * As in the blocking variant, if a `fullTextQuery` is configured and no filter is provided,
+     * a hybrid vector and full-text search is performed.
+     *
+     * @param request the search request
+     * @return a {@link CompletionStage} completed with the search result, or exceptionally if the search fails,
+     * including the failures to map the request
+     */
+    public CompletionStage<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+        Filter filter;
+        String cypherQuery;
+        Map<String, Object> params;
+        AsyncSession session;
+        try {
+            filter = request.filter();
+            cypherQuery = getSearchQuery(filter);
+            params = getSearchParams(request);
+            session = asyncSession();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
+
+        CompletionStage<Void> validation = filter == null
+                ? validateColumnsAsync(session, cypherQuery)
+                : CompletableFuture.completedFuture(null);
+
+        CompletionStage<EmbeddingSearchResult<TextSegment>> result = validation
+                .thenCompose(ignored -> session.executeReadAsync(tx -> tx.runAsync(cypherQuery, params)
+                        .thenCompose(cursor -> cursor.listAsync(item -> toEmbeddingMatch(this, item)))))
+                .thenApply(matches -> new EmbeddingSearchResult<>(matches));
+
+        // always close the session, then propagate either the result or the original failure
+        return result.handle((searchResult, error) -> session.closeAsync().thenApply(ignored -> {
+                    if (error != null) {
+                        throw error instanceof CompletionException completionException
+                                ? completionException
+                                : new CompletionException(error);
+                    }
+                    return searchResult;
+                }))
+                .thenCompose(Function.identity());
     }
 
     /*
     Private methods
     */
-    private EmbeddingSearchResult<TextSegment> getSearchResUsingVectorSimilarity(
-            EmbeddingSearchRequest request, Filter filter, Value embeddingValue, Session session) {
+    String getSearchQuery(Filter filter) {
+        if (filter == null) {
+            return vectorIndexSearchQuery;
+        }
+
+        List<Object> shape = shapeOf(filter);
+        String cypherQuery = filteredSearchQueries.get(shape);
+        if (cypherQuery == null) {
+            cypherQuery = buildVectorSimilaritySearchQuery(filter);
+            filteredSearchQueries.put(shape, cypherQuery);
+        }
+        return cypherQuery;
+    }
+
+    private Map<String, Object> getSearchParams(EmbeddingSearchRequest request) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("embeddingValue", Values.value(request.queryEmbedding().vector()));
+        params.put("minScore", request.minScore());
+        params.put("maxResults", request.maxResults());
+
+        if (request.filter() == null) {
+            params.put("indexName", indexName);
+            if (fullTextQuery != null) {
+                params.put("fullTextIndexName", fullTextIndexName);
+                params.put("fullTextQuery", fullTextQuery);
+            }
+        } else {
+            params.putAll(parametersOf(request.filter()));
+        }
+        return params;
+    }
+
+    private String buildVectorSimilaritySearchQuery(Filter filter) {
         /* Build an
             CYPHER runtime = parallel parallelRuntimeSupport=all
             MATCH (n:%1$s)
             WHERE n.%2$s IS NOT NULL AND size(n.%2$s) = toInteger(%3$s) AND %4$s
-            WITH n, vector.similarity.cosine(n.%2$s, %5$s) AS score
+            WITH n, vector.similarity.cosine(n.%2$s, $embeddingValue) AS score
             WHERE score >= $minScore
             WITH n AS node, score
             ORDER BY score DESC
@@ -421,7 +662,7 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         // Match Clause
         Node node = node(this.label).named("node");
 
-        Neo4jFilterMapper neo4jFilterMapper = new Neo4jFilterMapper(node);
+        Neo4jFilterMapper neo4jFilterMapper = new Neo4jFilterMapper(node, true);
 
         // WHERE conditions
         Condition condition = node.property(this.embeddingProperty)
@@ -433,7 +674,7 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         Expression similarity = FunctionInvocation.create(
                 functionDef("vector.similarity.cosine"),
                 node.property(this.embeddingProperty),
-                toCypherLiteral(embeddingValue));
+                parameter("embeddingValue"));
 
         // Filtering by score
         Condition scoreCondition = similarity.gte(parameter("minScore"));
@@ -450,27 +691,10 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
                 .build();
 
         // Render the Cypher query
-        String cypherQuery = getRender(statement);
-
-        Map<String, Object> params = new HashMap<>(); // entry.getValue();
-        params.put("minScore", request.minScore());
-        params.put("maxResults", request.maxResults());
-        return getEmbeddingSearchResult(session, cypherQuery, params);
+        return getRender(statement);
     }
 
-    private EmbeddingSearchResult<TextSegment> getSearchResUsingVectorIndex(
-            EmbeddingSearchRequest request, Value embeddingValue, Session session) {
-
-        Map<String, Object> params = new HashMap<>(Map.of(
-                "indexName",
-                indexName,
-                "embeddingValue",
-                embeddingValue,
-                "minScore",
-                request.minScore(),
-                "maxResults",
-                request.maxResults()));
-
+    private String buildVectorIndexSearchQuery() {
         Parameter<Object> indexNameParam = parameter("indexName");
         Parameter<Object> maxResultsParam = parameter("maxResults");
         Parameter<Object> embeddingValueParam = parameter("embeddingValue");
@@ -507,25 +731,49 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
 
             // UNION with full-text search
             statement = Cypher.union(vectorQuery, fullTextSearch);
-
-            params.putAll(Map.of(
-                    "fullTextIndexName", fullTextIndexName,
-                    "fullTextQuery", fullTextQuery));
         } else {
             statement = vectorQuery;
         }
 
         // Render the Cypher query
-        String cypherQuery = getRender(statement);
+        return getRender(statement);
+    }
+
+    boolean isVectorIndexSearchQueryValidated() {
+        return vectorIndexSearchQueryValidated;
+    }
+
+    /**
+     * Checks, via an `EXPLAIN`, that the vector index search query only returns the allowed columns.
+     * The query only depends on the store configuration, so the check is performed once
+     */
+    private void validateColumns(Session session, String query) {
+        if (vectorIndexSearchQueryValidated) {
+            return;
+        }
+
+        List<String> keys = session.run("EXPLAIN " + query).keys();
+        checkColumns(query, keys);
+    }
+
+    private CompletionStage<Void> validateColumnsAsync(AsyncSession session, String query) {
+        if (vectorIndexSearchQueryValidated) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return session.runAsync("EXPLAIN " + query)
+                .thenCompose(cursor -> cursor.consumeAsync().thenApply(summary -> cursor.keys()))
+                .thenAccept(keys -> checkColumns(query, keys));
+    }
 
-        Set<String> columns = getColumnNames(session, cypherQuery);
+    private void checkColumns(String query, List<String> keys) {
+        Set<String> columns = getColumnNames(keys);
         Set<Object> allowedColumn = Set.of(textProperty, embeddingProperty, idProperty, SCORE, METADATA);
 
         if (!allowedColumn.containsAll(columns) || columns.size() > allowedColumn.size()) {
             throw new RuntimeException(COLUMNS_NOT_ALLOWED_ERR + columns);
         }
-
-        return getEmbeddingSearchResult(session, cypherQuery, params);
+        vectorIndexSearchQueryValidated = true;
     }
 
     /**
@@ -552,9 +800,7 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(matches);
     }
 
-    private Set<String> getColumnNames(Session session, String query) {
-        // retrieve column names
-        List<String> keys = session.run("EXPLAIN " + query).keys();
+    private static Set<String> getColumnNames(List<String> keys) {
         // when there are multiple variables with the same name, e.g. within a "UNION ALL" Neo4j adds a suffix
         // "@<number>" to distinguish them,
         //  so to check the correctness of the output parameters we must first remove this suffix from the column names
@@ -580,25 +826,137 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private void bulk(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
-        Stream<List<Map<String, Object>>> rowsBatched = getRowsBatched(this, ids, embeddings, embedded);
+        Stream<List<Map<String, Object>>> rowsBatched = getRowsBatched(this, ids, embeddings, embedded, batchSize);
+
+        // the creation query and the params are captured once,
+        // so that all the batches of this call are consistent even if they are changed meanwhile
+        String statement = getEntityCreationStatement();
+        Map<String, Object> params = getEntityCreationParams(Map.of());
+
+        long start = System.nanoTime();
+        try {
+            if (writeConcurrency == 1) {
+                try (Session session = session()) {
+                    rowsBatched.forEach(rows -> writeBatch(session, statement, params, rows));
+                }
+            } else {
+                bulkConcurrently(rowsBatched, statement, params);
+            }
+        } finally {
+            ingestionMetrics.recordElapsed(System.nanoTime() - start);
+            log.debug("[neo4j ingestion] {}", ingestionMetrics);
+        }
+    }
 
-        try (Session session = session()) {
-            rowsBatched.forEach(rows -> {
-                String statement = String.format(
-                        this.entityCreationQuery,
-                        this.sanitizedLabel,
-                        this.sanitizedIdProperty,
-                        PROPS,
-                        EMBEDDINGS_ROW_KEY);
+    /**
+     * Writes the embeddings within an existing transaction, so that they can be committed together with
+     * related entities, e.g. the parent nodes created by {@link Neo4jEmbeddingStoreIngestor}.
+     * The `params` are added to the {@link #setAdditionalParams(Map) additional params} for this call only,
+     * so concurrent callers can pass different values without affecting each other.
+     * <p>
+     * The entity creation query must not use {@code CALL { } IN TRANSACTIONS},
+     * which is not allowed in explicit transactions.
+     */
+    void addAll(
+            TransactionContext tx,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> embedded,
+            Map<String, Object> params) {
+        if (isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
+            return;
+        }
+        ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
+
+        String statement = getEntityCreationStatement();
+        Map<String, Object> creationParams = getEntityCreationParams(params);
+        getRowsBatched(this, ids, embeddings, embedded, batchSize).forEach(rows -> {
+            Map<String, Object> batchParams = new HashMap<>(creationParams);
+            batchParams.put("rows", rows);
+
+            long start = System.nanoTime();
+            tx.run(statement, batchParams).consume();
+            ingestionMetrics.recordBatch(rows.size(), System.nanoTime() - start);
+        });
+    }
 
-                Map<String, Object> params = new HashMap<>();
-                params.put("rows", rows);
-                params.put("embeddingProperty", this.embeddingProperty);
-                params.putAll(additionalParams);
+    private String getEntityCreationStatement() {
+        return String.format(
+                this.entityCreationQuery, this.sanitizedLabel, this.sanitizedIdProperty, PROPS, EMBEDDINGS_ROW_KEY);
+    }
+
+    private Map<String, Object> getEntityCreationParams(Map<String, Object> params) {
+        Map<String, Object> creationParams = new HashMap<>();
+        creationParams.put("embeddingProperty", this.embeddingProperty);
+        if (callInTransactions) {
+            creationParams.put("transactionBatchSize", transactionBatchSize);
+        }
+        creationParams.putAll(additionalParams);
+        creationParams.putAll(params);
+        return creationParams;
+    }
+
+    /**
+     * Writes the batches using up to `writeConcurrency` sessions at the same time.
+     * The batches are built lazily, and at most `maxInFlightBatches` of them are held in memory
+     * waiting to be written, so that huge inputs don't materialize all the rows at once.
+     */
+    private void bulkConcurrently(
+            Stream<List<Map<String, Object>>> rowsBatched, String statement, Map<String, Object> params) {
+        ExecutorService executor = Executors.newFixedThreadPool(writeConcurrency);
+        Semaphore inFlight = new Semaphore(maxInFlightBatches);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            Iterator<List<Map<String, Object>>> iterator = rowsBatched.iterator();
+            while (iterator.hasNext() && !failed.get()) {
+                inFlight.acquire();
+                List<Map<String, Object>> rows = iterator.next();
+                futures.add(executor.submit(() -> {
+                    try (Session session = session()) {
+                        writeBatch(session, statement, params, rows);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while writing the embeddings", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-                session.executeWrite(tx -> tx.run(statement, params).consume());
-            });
+    private void writeBatch(
+            Session session, String statement, Map<String, Object> params, List<Map<String, Object>> rows) {
+        Map<String, Object> batchParams = new HashMap<>(params);
+        batchParams.put("rows", rows);
+
+        long start = System.nanoTime();
+        try {
+            if (callInTransactions) {
+                // `CALL { } IN TRANSACTIONS` is only allowed in implicit (auto-commit) transactions
+                session.run(statement, batchParams).consume();
+            } else {
+                session.executeWrite(tx -> tx.run(statement, batchParams).consume());
+            }
+        } catch (RuntimeException e) {
+            ingestionMetrics.recordFailedBatch();
+            throw e;
         }
+        ingestionMetrics.recordBatch(rows.size(), System.nanoTime() - start);
     }
 
     private void createSchema() {
@@ -701,6 +1059,10 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         return this.driver.session(this.config);
     }
 
+    private AsyncSession asyncSession() {
+        return this.driver.session(AsyncSession.class, this.config);
+    }
+
     public static class Builder {
 
         private String indexName;
@@ -722,6 +1084,11 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
         private boolean initializeSchema = true;
         private String entityCreationQuery;
         private Map<String, Object> additionalParams;
+        private Integer batchSize;
+        private Integer writeConcurrency;
+        private Integer maxInFlightBatches;
+        private boolean callInTransactions;
+        private Integer transactionBatchSize;
 
         /**
          * @param indexName the optional index name (default: "vector")
@@ -876,6 +1243,46 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param batchSize the optional number of rows sent to Neo4j per batch by `addAll` (default: 10000)
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param writeConcurrency the optional number of concurrent write sessions used by `addAll` (default: 1)
+         */
+        public Builder writeConcurrency(Integer writeConcurrency) {
+            this.writeConcurrency = writeConcurrency;
+            return this;
+        }
+
+        /**
+         * @param maxInFlightBatches the optional maximum number of batches built but not yet written (default: 2 * `writeConcurrency`)
+         */
+        public Builder maxInFlightBatches(Integer maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * @param callInTransactions if true, batches are committed server-side via `CALL { } IN TRANSACTIONS` (default: false)
+         */
+        public Builder callInTransactions(boolean callInTransactions) {
+            this.callInTransactions = callInTransactions;
+            return this;
+        }
+
+        /**
+         * @param transactionBatchSize the optional number of rows per server-side transaction, used if `callInTransactions` is true (default: 1000)
+         */
+        public Builder transactionBatchSize(Integer transactionBatchSize) {
+            this.transactionBatchSize = transactionBatchSize;
+            return this;
+        }
+
         /**
          * Creates an instance a {@link Driver}, starting from uri, user and password
          *
@@ -908,7 +1315,12 @@ public class Neo4jEmbeddingStore implements EmbeddingStore<TextSegment> {
                     autoCreateFullText,
                     initializeSchema,
                     entityCreationQuery,
-                    additionalParams);
+                    additionalParams,
+                    batchSize,
+                    writeConcurrency,
+                    maxInFlightBatches,
+                    callInTransactions,
+                    transactionBatchSize);
         }
     }
 }
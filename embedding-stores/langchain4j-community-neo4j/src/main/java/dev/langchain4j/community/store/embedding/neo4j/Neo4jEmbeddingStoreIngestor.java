@@ -3,12 +3,16 @@ package dev.langchain4j.community.store.embedding.neo4j;
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.community.store.embedding.ParentChildEmbeddingStoreIngestor;
+import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
@@ -18,11 +22,21 @@ import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.input.Prompt;
 import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.IngestionResult;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Session;
 
@@ -54,10 +68,30 @@ import org.neo4j.driver.Session;
  *     <li><b>userPrompt</b> – a user prompt for the {@link ChatModel} to guide transformation of parent text segments; ignored if {@code questionModel} is {@code null}.</li>
  *     <li><b>questionModel</b> – a {@link ChatModel} used to manipulate the text of parent segments using the given prompts.</li>
  * </ul>
+ *
+ * <p><b>Concurrent mode:</b></p>
+ * By default, each parent segment is processed by the {@link TextSegmentTransformer}, which calls the
+ * {@code questionModel} and creates the parent node one segment at a time, and the child segments are then
+ * embedded and stored one parent at a time.
+ * When {@code concurrent} is enabled, the parent segments are instead processed in chunks of {@code parentBatchSize}:
+ * <ul>
+ *     <li>the {@code questionModel} calls of a chunk are issued by up to {@code llmConcurrency} threads,
+ *     throttled to at most {@code maxRequestsPerSecond} calls per second if set;</li>
+ *     <li>the child segments of the whole chunk are embedded with a single {@code embedAll} call;</li>
+ *     <li>the parent nodes and their children are written in a single transaction, the parents through the
+ *     {@code UNWIND $rows} based {@code parentBatchQuery} if set, otherwise through one {@code query} per parent.</li>
+ * </ul>
+ * The {@code parentId} of each parent is passed along with its own children, so the shared
+ * {@link Neo4jEmbeddingStore#setAdditionalParams(Map) additional params} of the store are not modified.
+ * <p>
+ * In both modes, a custom {@code textSegmentTransformer} replaces the creation of the parent nodes
+ * and the {@code questionModel} calls.
  */
 public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngestor {
 
     public static final String DEFAULT_PARENT_ID_KEY = "parentId";
+    public static final int DEFAULT_LLM_CONCURRENCY = 1;
+    public static final int DEFAULT_PARENT_BATCH_SIZE = 100;
 
     protected final Driver driver;
     protected final String query;
@@ -68,6 +102,14 @@ public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngest
     protected final String systemPrompt;
     protected final ChatModel questionModel;
 
+    private final boolean createsParentNodes;
+    private final boolean concurrent;
+    private final int llmConcurrency;
+    private final long minNanosBetweenRequests;
+    private final int parentBatchSize;
+    private final String parentBatchQuery;
+    private long nextRequestNanos;
+
     public Neo4jEmbeddingStoreIngestor(Builder builder) {
         this(
                 builder.documentTransformer,
@@ -83,7 +125,12 @@ public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngest
                 builder.params,
                 builder.systemPrompt,
                 builder.userPrompt,
-                builder.questionModel);
+                builder.questionModel,
+                builder.concurrent,
+                builder.llmConcurrency,
+                builder.maxRequestsPerSecond,
+                builder.parentBatchSize,
+                builder.parentBatchQuery);
     }
 
     /**
@@ -126,6 +173,72 @@ public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngest
             String systemPrompt,
             String userPrompt,
             ChatModel questionModel) {
+        this(
+                documentTransformer,
+                documentSplitter,
+                textSegmentTransformer,
+                childTextSegmentTransformer,
+                embeddingModel,
+                embeddingStore,
+                documentChildSplitter,
+                driver,
+                query,
+                parentIdKey,
+                params,
+                systemPrompt,
+                userPrompt,
+                questionModel,
+                false,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * Constructs a new {@code Neo4jEmbeddingStoreIngestor}, optionally processing the parent segments in
+     * concurrent mode (see the class documentation).
+     *
+     * @param documentTransformer         The {@link DocumentTransformer} applied to the original documents.
+     * @param documentSplitter            The {@link DocumentSplitter} used to split documents into parent segments.
+     * @param textSegmentTransformer      The {@link TextSegmentTransformer} applied to parent segments.
+     * @param childTextSegmentTransformer The {@link TextSegmentTransformer} applied to child segments.
+     * @param embeddingModel              The {@link EmbeddingModel} used to generate embeddings from text segments.
+     * @param embeddingStore              The {@link EmbeddingStore} (specifically {@link Neo4jEmbeddingStore}) used to persist embeddings.
+     * @param documentChildSplitter       The {@link DocumentSplitter} used to generate child segments from parent segments.
+     * @param driver                      The {@link Driver} used to execute Cypher queries against the Neo4j database.
+     * @param query                       The Cypher query used to insert processed segments and metadata into Neo4j.
+     * @param parentIdKey                 The metadata key used to extract the parent segment ID; if absent, a UUID will be generated.
+     * @param params                      Additional query parameters to include in the Cypher execution, beyond segment metadata and text.
+     * @param systemPrompt                A system prompt for manipulating parent segment text via a {@link ChatModel}. Ignored if {@code questionModel} is {@code null}.
+     * @param userPrompt                  A user prompt for manipulating parent segment text via a {@link ChatModel}. Ignored if {@code questionModel} is {@code null}.
+     * @param questionModel               A {@link ChatModel} used to further transform parent segment text based on provided prompts. If {@code null}, no chat-based manipulation occurs.
+     * @param concurrent                  Whether the parent segments are processed in concurrent mode.
+     * @param llmConcurrency              The maximum number of concurrent {@code questionModel} calls in concurrent mode. Default: {@value #DEFAULT_LLM_CONCURRENCY}
+     * @param maxRequestsPerSecond        The maximum number of {@code questionModel} calls per second in concurrent mode. If {@code null}, the calls are not throttled.
+     * @param parentBatchSize             The number of parent segments processed and written together in concurrent mode. Default: {@value #DEFAULT_PARENT_BATCH_SIZE}
+     * @param parentBatchQuery            The Cypher query creating a batch of parent nodes from the {@code $rows} parameter in concurrent mode, each row having the same shape as the {@code query} parameters. If {@code null}, {@code query} is run once per parent.
+     */
+    public Neo4jEmbeddingStoreIngestor(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            TextSegmentTransformer childTextSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            Neo4jEmbeddingStore embeddingStore,
+            DocumentSplitter documentChildSplitter,
+            Driver driver,
+            String query,
+            String parentIdKey,
+            Map<String, Object> params,
+            String systemPrompt,
+            String userPrompt,
+            ChatModel questionModel,
+            boolean concurrent,
+            Integer llmConcurrency,
+            Double maxRequestsPerSecond,
+            Integer parentBatchSize,
+            String parentBatchQuery) {
         super(
                 documentTransformer,
                 documentSplitter,
@@ -140,14 +253,210 @@ public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngest
         this.parentIdKey = getOrDefault(parentIdKey, DEFAULT_PARENT_ID_KEY);
 
         this.neo4jEmbeddingStore = embeddingStore;
-        super.textSegmentTransformer = getOrDefault(textSegmentTransformer, getTextSegmentTransformer());
+        // a custom parent transformer replaces the creation of the parent nodes, in both modes
+        this.createsParentNodes = textSegmentTransformer == null;
+        super.textSegmentTransformer = createsParentNodes ? getTextSegmentTransformer() : textSegmentTransformer;
         super.childTextSegmentTransformer =
                 getOrDefault(childTextSegmentTransformer, getDefaultChildTextSegmentTransformer());
         this.userPrompt = userPrompt;
         this.systemPrompt = systemPrompt;
         this.questionModel = questionModel;
+
+        this.concurrent = concurrent;
+        this.llmConcurrency =
+                ensureGreaterThanZero(getOrDefault(llmConcurrency, DEFAULT_LLM_CONCURRENCY), "llmConcurrency");
+        this.minNanosBetweenRequests = maxRequestsPerSecond == null
+                ? 0
+                : (long) (TimeUnit.SECONDS.toNanos(1)
+                        / ensureGreaterThanZero(maxRequestsPerSecond, "maxRequestsPerSecond"));
+        this.parentBatchSize =
+                ensureGreaterThanZero(getOrDefault(parentBatchSize, DEFAULT_PARENT_BATCH_SIZE), "parentBatchSize");
+        this.parentBatchQuery = parentBatchQuery;
+    }
+
+    @Override
+    public IngestionResult ingest(List<Document> documents) {
+        if (!concurrent) {
+            return super.ingest(documents);
+        }
+
+        List<TextSegment> parents = splitIntoParents(documents);
+        TokenUsage totalUsage = new TokenUsage();
+        ExecutorService executor = Executors.newFixedThreadPool(llmConcurrency);
+        try {
+            for (int start = 0; start < parents.size(); start += parentBatchSize) {
+                List<TextSegment> chunk = parents.subList(start, Math.min(start + parentBatchSize, parents.size()));
+                List<ParentRow> parentRows =
+                        createsParentNodes ? createParentRows(chunk, executor) : transformParents(chunk);
+                totalUsage = totalUsage.add(writeParentsAndChildren(parentRows));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new IngestionResult(totalUsage);
+    }
+
+    private List<TextSegment> splitIntoParents(List<Document> documents) {
+        if (documentTransformer != null) {
+            documents = documentTransformer.transformAll(documents);
+        }
+        return documentSplitter != null
+                ? documentSplitter.splitAll(documents)
+                : documents.stream().map(Document::toTextSegment).collect(toList());
+    }
+
+    /**
+     * Applies the custom {@link TextSegmentTransformer} of the parents, which replaces the creation of the parent nodes
+     * as in the sequential mode: the rows have no parent node to write, and the children no parent id.
+     */
+    private List<ParentRow> transformParents(List<TextSegment> segments) {
+        return textSegmentTransformer.transformAll(segments).stream()
+                .map(segment -> new ParentRow(null, segment, null))
+                .toList();
+    }
+
+    /**
+     * Computes the text and the metadata of the parent nodes of a chunk, issuing the {@code questionModel} calls
+     * concurrently. The rows are returned in the same order as the segments.
+     */
+    private List<ParentRow> createParentRows(List<TextSegment> segments, ExecutorService executor) {
+        List<Future<ParentRow>> futures = new ArrayList<>(segments.size());
+        for (TextSegment segment : segments) {
+            futures.add(executor.submit(() -> createParentRow(segment)));
+        }
+        List<ParentRow> rows = new ArrayList<>(segments.size());
+        try {
+            for (Future<ParentRow> future : futures) {
+                rows.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating the parent segments", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return rows;
+    }
+
+    private ParentRow createParentRow(TextSegment segment) throws InterruptedException {
+        TextSegment parentSegment = getTextSegmentWithUniqueId(segment, neo4jEmbeddingStore.getIdProperty(), null);
+        Map<String, Object> metadataMap = parentSegment.metadata().toMap();
+        String parentId = "parent_" + UUID.randomUUID();
+        metadataMap.put(parentIdKey, parentId);
+
+        String text;
+        if (this.questionModel != null) {
+            awaitRequestSlot();
+            text = this.questionModel.chat(toChatMessages(parentSegment.text())).aiMessage().text();
+        } else {
+            text = parentSegment.text();
+        }
+        metadataMap.putIfAbsent("text", text);
+        metadataMap.putAll(this.params);
+
+        Map<String, Object> row = new HashMap<>(Map.of("metadata", metadataMap));
+        row.put(parentIdKey, parentId);
+        return new ParentRow(parentId, parentSegment, row);
+    }
+
+    private List<ChatMessage> toChatMessages(String textInput) {
+        if (systemPrompt == null || userPrompt == null) {
+            throw new RuntimeException(
+                    "Prompts cannot be null: systemPrompt=" + systemPrompt + ", userPrompt=" + userPrompt);
+        }
+        SystemMessage systemMessage = Prompt.from(systemPrompt).toSystemMessage();
+        UserMessage userMessage =
+                PromptTemplate.from(userPrompt).apply(Map.of("input", textInput)).toUserMessage();
+        return List.of(systemMessage, userMessage);
     }
 
+    /**
+     * Spaces out the {@code questionModel} calls by at least {@code 1 / maxRequestsPerSecond} seconds.
+     */
+    private void awaitRequestSlot() throws InterruptedException {
+        if (minNanosBetweenRequests == 0) {
+            return;
+        }
+        long slot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slot = Math.max(now, nextRequestNanos);
+            nextRequestNanos = slot + minNanosBetweenRequests;
+        }
+        TimeUnit.NANOSECONDS.sleep(slot - System.nanoTime());
+    }
+
+    /**
+     * Embeds the children of all the parents with a single call,
+     * then writes the parents and the children in the same transaction.
+     */
+    private TokenUsage writeParentsAndChildren(List<ParentRow> parentRows) {
+        List<List<TextSegment>> childrenByParent = new ArrayList<>(parentRows.size());
+        List<TextSegment> allChildren = new ArrayList<>();
+        for (ParentRow parentRow : parentRows) {
+            List<TextSegment> children = splitIntoChildren(parentRow.segment());
+            childrenByParent.add(children);
+            allChildren.addAll(children);
+        }
+
+        Response<List<Embedding>> embeddingsResponse =
+                allChildren.isEmpty() ? null : embeddingModel.embedAll(allChildren);
+
+        try (Session session = driver.session()) {
+            session.executeWrite(tx -> {
+                List<Map<String, Object>> rows = parentRows.stream()
+                        .map(ParentRow::row)
+                        .filter(Objects::nonNull)
+                        .toList();
+                if (parentBatchQuery != null && !rows.isEmpty()) {
+                    tx.run(parentBatchQuery, Map.of("rows", rows)).consume();
+                } else {
+                    rows.forEach(row -> tx.run(query, row).consume());
+                }
+
+                int offset = 0;
+                for (int i = 0; i < parentRows.size(); i++) {
+                    List<TextSegment> children = childrenByParent.get(i);
+                    if (children.isEmpty()) {
+                        continue;
+                    }
+                    List<Embedding> embeddings =
+                            embeddingsResponse.content().subList(offset, offset + children.size());
+                    List<String> ids = children.stream().map(child -> randomUUID()).toList();
+
+                    Map<String, Object> childParams = new HashMap<>();
+                    String parentId = parentRows.get(i).parentId();
+                    if (parentId != null) {
+                        childParams.putAll(this.params);
+                        childParams.put(parentIdKey, parentId);
+                    }
+                    neo4jEmbeddingStore.addAll(tx, ids, embeddings, children, childParams);
+                    offset += children.size();
+                }
+                return null;
+            });
+        }
+        return embeddingsResponse == null ? null : embeddingsResponse.tokenUsage();
+    }
+
+    private List<TextSegment> splitIntoChildren(TextSegment parent) {
+        if (documentChildSplitter == null) {
+            // as in the sequential mode, the parent segment itself is embedded
+            return List.of(parent);
+        }
+        // Convert back to Document to apply DocumentSplitter
+        Document parentDoc = Document.from(parent.text(), parent.metadata());
+        return documentChildSplitter.split(parentDoc).stream()
+                .map(childTextSegmentTransformer::transform)
+                .toList();
+    }
+
+    private record ParentRow(String parentId, TextSegment segment, Map<String, Object> row) {}
+
     private TextSegmentTransformer getTextSegmentTransformer() {
         return segment -> {
             TextSegment parentSegment = getTextSegmentWithUniqueId(segment, neo4jEmbeddingStore.getIdProperty(), null);
@@ -224,12 +533,58 @@ public class Neo4jEmbeddingStoreIngestor extends ParentChildEmbeddingStoreIngest
         protected String systemPrompt;
         protected String userPrompt;
         protected ChatModel questionModel;
+        protected boolean concurrent;
+        protected Integer llmConcurrency;
+        protected Double maxRequestsPerSecond;
+        protected Integer parentBatchSize;
+        protected String parentBatchQuery;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
          */
         public Builder() {}
 
+        /**
+         * @param concurrent Whether the parent segments are processed in concurrent mode (default: false).
+         */
+        public Builder concurrent(boolean concurrent) {
+            this.concurrent = concurrent;
+            return self();
+        }
+
+        /**
+         * @param llmConcurrency The maximum number of concurrent {@code questionModel} calls in concurrent mode (default: 1).
+         */
+        public Builder llmConcurrency(Integer llmConcurrency) {
+            this.llmConcurrency = llmConcurrency;
+            return self();
+        }
+
+        /**
+         * @param maxRequestsPerSecond The maximum number of {@code questionModel} calls per second in concurrent mode (default: unlimited).
+         */
+        public Builder maxRequestsPerSecond(Double maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return self();
+        }
+
+        /**
+         * @param parentBatchSize The number of parent segments processed and written together in concurrent mode (default: 100).
+         */
+        public Builder parentBatchSize(Integer parentBatchSize) {
+            this.parentBatchSize = parentBatchSize;
+            return self();
+        }
+
+        /**
+         * @param parentBatchQuery The Cypher query creating a batch of parent nodes from the {@code $rows} parameter in concurrent mode.
+         *                         If not set, the {@code query} is run once per parent.
+         */
+        public Builder parentBatchQuery(String parentBatchQuery) {
+            this.parentBatchQuery = parentBatchQuery;
+            return self();
+        }
+
         /**
          * @param driver The {@link Driver} used to execute Cypher queries against the Neo4j database.
          */
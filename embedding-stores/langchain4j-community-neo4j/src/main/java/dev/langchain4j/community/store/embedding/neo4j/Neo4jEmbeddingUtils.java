@@ -7,7 +7,9 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -37,6 +39,10 @@ class Neo4jEmbeddingUtils {
     static final String DEFAULT_LABEL = "Document";
     static final String DEFAULT_TEXT_PROP = "text";
     static final long DEFAULT_AWAIT_INDEX_TIMEOUT = 60L;
+    static final int DEFAULT_BATCH_SIZE = 10_000;
+    static final int DEFAULT_WRITE_CONCURRENCY = 1;
+    static final int DEFAULT_TRANSACTION_BATCH_SIZE = 1_000;
+    static final int QUERY_CACHE_SIZE = 128;
     static final String METADATA = "metadata";
     static final String SCORE = "score";
 
@@ -98,8 +104,11 @@ class Neo4jEmbeddingUtils {
     }
 
     static Stream<List<Map<String, Object>>> getRowsBatched(
-            Neo4jEmbeddingStore store, List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
-        int batchSize = 10_000;
+            Neo4jEmbeddingStore store,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> embedded,
+            int batchSize) {
         AtomicInteger batchCounter = new AtomicInteger();
         int total = ids.size();
         int batchNumber = (int) Math.ceil((double) total / batchSize);
@@ -112,6 +121,18 @@ class Neo4jEmbeddingUtils {
         });
     }
 
+    /**
+     * Creates a thread-safe map which evicts its least recently accessed entry once it holds more than `maxSize` ones
+     */
+    static <K, V> Map<K, V> boundedCache(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
     static String sanitizeOrThrows(String value, String config) {
         return sanitize(value).orElseThrow(() -> {
             String invalidSanitizeValue = String.format(
@@ -21,6 +21,10 @@ import dev.langchain4j.store.embedding.filter.logical.And;
 import dev.langchain4j.store.embedding.filter.logical.Not;
 import dev.langchain4j.store.embedding.filter.logical.Or;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
@@ -37,6 +41,8 @@ class Neo4jFilterMapper {
 
     static final String UNSUPPORTED_FILTER_TYPE_ERROR = "Unsupported filter type: ";
 
+    static final String FILTER_PARAMETER_PREFIX = "filter_";
+
     private static FunctionInvocation convertToPoint(PointValue value1) {
         try {
             String s = OBJECT_MAPPER.writeValueAsString(value1.asObject());
@@ -69,36 +75,146 @@ class Neo4jFilterMapper {
         return literalOf(value);
     }
 
+    /**
+     * The structure of the filter, its operators and keys without the compared values.
+     * The filters of the same structure are mapped to the same parameterized condition.
+     */
+    static List<Object> shapeOf(Filter filter) {
+        if (filter instanceof And item) {
+            return List.of(And.class, shapeOf(item.left()), shapeOf(item.right()));
+        } else if (filter instanceof Or item) {
+            return List.of(Or.class, shapeOf(item.left()), shapeOf(item.right()));
+        } else if (filter instanceof Not item) {
+            return List.of(Not.class, shapeOf(item.expression()));
+        }
+        return List.of(filter.getClass(), keyOf(filter));
+    }
+
+    /**
+     * The compared values of the filter, named as the parameters of the condition of a parameterized mapper.
+     */
+    static Map<String, Object> parametersOf(Filter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        addParameters(filter, parameters);
+        return parameters;
+    }
+
+    private static void addParameters(Filter filter, Map<String, Object> parameters) {
+        // same order as getCondition
+        if (filter instanceof And item) {
+            addParameters(item.left(), parameters);
+            addParameters(item.right(), parameters);
+        } else if (filter instanceof Or item) {
+            addParameters(item.left(), parameters);
+            addParameters(item.right(), parameters);
+        } else if (filter instanceof Not item) {
+            addParameters(item.expression(), parameters);
+        } else {
+            parameters.put(FILTER_PARAMETER_PREFIX + parameters.size(), toParameterValue(valueOf(filter)));
+        }
+    }
+
+    private static String keyOf(Filter filter) {
+        if (filter instanceof IsEqualTo item) {
+            return item.key();
+        } else if (filter instanceof IsNotEqualTo item) {
+            return item.key();
+        } else if (filter instanceof IsGreaterThan item) {
+            return item.key();
+        } else if (filter instanceof IsGreaterThanOrEqualTo item) {
+            return item.key();
+        } else if (filter instanceof IsLessThan item) {
+            return item.key();
+        } else if (filter instanceof IsLessThanOrEqualTo item) {
+            return item.key();
+        } else if (filter instanceof IsIn item) {
+            return item.key();
+        } else if (filter instanceof IsNotIn item) {
+            return item.key();
+        }
+        throw new UnsupportedOperationException(UNSUPPORTED_FILTER_TYPE_ERROR + filter.getClass().getName());
+    }
+
+    private static Object valueOf(Filter filter) {
+        if (filter instanceof IsEqualTo item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsNotEqualTo item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsGreaterThan item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsGreaterThanOrEqualTo item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsLessThan item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsLessThanOrEqualTo item) {
+            return item.comparisonValue();
+        } else if (filter instanceof IsIn item) {
+            return item.comparisonValues();
+        } else if (filter instanceof IsNotIn item) {
+            return item.comparisonValues();
+        }
+        throw new UnsupportedOperationException(UNSUPPORTED_FILTER_TYPE_ERROR + filter.getClass().getName());
+    }
+
+    /**
+     * The driver converts the java.time values, the points and the maps, only the collections are copied to lists.
+     */
+    private static Object toParameterValue(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        }
+        return value;
+    }
+
     private final Node node;
+    private final boolean parameterized;
+    private int parameterCount;
 
     Neo4jFilterMapper(Node node) {
+        this(node, false);
+    }
+
+    /**
+     * @param node          the filtered node
+     * @param parameterized whether the compared values are rendered as the parameters {@code $filter_0},
+     *                      {@code $filter_1}... given by {@link #parametersOf(Filter)}, instead of literals
+     */
+    Neo4jFilterMapper(Node node, boolean parameterized) {
         this.node = node;
+        this.parameterized = parameterized;
+    }
+
+    private Expression toValue(Object value) {
+        if (parameterized) {
+            return Cypher.parameter(FILTER_PARAMETER_PREFIX + parameterCount++);
+        }
+        return toCypherLiteral(value);
     }
 
     Condition getCondition(Filter filter) {
         if (filter instanceof IsEqualTo item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).eq(cypherLiteral1);
         } else if (filter instanceof IsNotEqualTo item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).isNotEqualTo(cypherLiteral1);
         } else if (filter instanceof IsGreaterThan item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).gt(cypherLiteral1);
         } else if (filter instanceof IsGreaterThanOrEqualTo item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).gte(cypherLiteral1);
         } else if (filter instanceof IsLessThan item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).lt(cypherLiteral1);
         } else if (filter instanceof IsLessThanOrEqualTo item) {
             Expression cypherLiteral = toCypherLiteral(item.key());
-            Expression cypherLiteral1 = toCypherLiteral(item.comparisonValue());
+            Expression cypherLiteral1 = toValue(item.comparisonValue());
             return node.property(cypherLiteral).lte(cypherLiteral1);
         } else if (filter instanceof IsIn item) {
             return mapIn(item);
@@ -118,13 +234,13 @@ class Neo4jFilterMapper {
 
     Condition mapIn(IsIn filter) {
         Expression cypherLiteral = toCypherLiteral(filter.key());
-        Expression cypherLiteral1 = toCypherLiteral(filter.comparisonValues());
+        Expression cypherLiteral1 = toValue(filter.comparisonValues());
         return Cypher.includesAny(node.property(cypherLiteral), cypherLiteral1);
     }
 
     Condition mapNotIn(IsNotIn filter) {
         Expression cypherLiteral = toCypherLiteral(filter.key());
-        Expression cypherLiteral1 = toCypherLiteral(filter.comparisonValues());
+        Expression cypherLiteral1 = toValue(filter.comparisonValues());
         Condition condition1 = Cypher.includesAny(node.property(cypherLiteral), cypherLiteral1);
         return not(condition1);
     }
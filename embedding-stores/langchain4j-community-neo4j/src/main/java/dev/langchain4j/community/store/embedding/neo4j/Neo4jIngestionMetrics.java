@@ -0,0 +1,95 @@
+package dev.langchain4j.community.store.embedding.neo4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative, thread-safe throughput counters collected by {@link Neo4jEmbeddingStore} while writing embeddings.
+ * <p>
+ * A single instance is shared by all the {@code addAll} calls of a store, and can be obtained via
+ * {@link Neo4jEmbeddingStore#getIngestionMetrics()}.
+ */
+public class Neo4jIngestionMetrics {
+
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    void recordBatch(int batchRows, long nanos) {
+        rows.add(batchRows);
+        batches.increment();
+        batchNanos.add(nanos);
+    }
+
+    void recordFailedBatch() {
+        failedBatches.increment();
+    }
+
+    void recordElapsed(long nanos) {
+        elapsedNanos.add(nanos);
+    }
+
+    /**
+     * @return the number of rows successfully written
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * @return the number of batches successfully written
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of batches whose write failed
+     */
+    public long getFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    /**
+     * @return the average time spent writing a single batch, in milliseconds
+     */
+    public double getAverageBatchMillis() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(batchNanos.sum()) / 1000 / count;
+    }
+
+    /**
+     * @return the wall-clock time spent in {@code addAll}, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+    }
+
+    /**
+     * @return the rows written per second of wall-clock time spent in {@code addAll}
+     */
+    public double getRowsPerSecond() {
+        long nanos = elapsedNanos.sum();
+        return nanos == 0 ? 0 : rows.sum() * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * Resets all the counters
+     */
+    public void reset() {
+        rows.reset();
+        batches.reset();
+        failedBatches.reset();
+        batchNanos.reset();
+        elapsedNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Neo4jIngestionMetrics{" + "rows=" + getRows() + ", batches=" + getBatches() + ", failedBatches="
+                + getFailedBatches() + ", averageBatchMillis=" + getAverageBatchMillis() + ", elapsedMillis="
+                + getElapsedMillis() + ", rowsPerSecond=" + getRowsPerSecond() + '}';
+    }
+}
@@ -51,6 +51,11 @@ public class ParentChildGraphIngestor extends Neo4jEmbeddingStoreIngestor {
                         CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.%4$s)
                         RETURN count(*)""";
         private static final String DEFAULT_CHUNK_CREATION_QUERY = "CREATE (:ParentChunk $metadata)";
+        private static final String DEFAULT_CHUNK_BATCH_CREATION_QUERY =
+                """
+                        UNWIND $rows AS row
+                        CREATE (p:ParentChunk)
+                        SET p = row.metadata""";
 
         private EmbeddingStore<TextSegment> defaultEmbeddingStore() {
             return Neo4jEmbeddingStore.builder()
@@ -70,7 +75,10 @@ public class ParentChildGraphIngestor extends Neo4jEmbeddingStoreIngestor {
 
         @Override
         public ParentChildGraphIngestor build() {
-            query = getOrDefault(query, DEFAULT_CHUNK_CREATION_QUERY);
+            if (query == null) {
+                query = DEFAULT_CHUNK_CREATION_QUERY;
+                parentBatchQuery = getOrDefault(parentBatchQuery, DEFAULT_CHUNK_BATCH_CREATION_QUERY);
+            }
             embeddingStore = getOrDefault(embeddingStore, defaultEmbeddingStore());
 
             return new ParentChildGraphIngestor(this);
@@ -59,6 +59,11 @@ public class SummaryGraphIngestor extends Neo4jEmbeddingStoreIngestor {
                         CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.%4$s)
                         RETURN count(*)""";
         private static final String DEFAULT_CHUNK_CREATION_QUERY = "CREATE (:SummaryChunk $metadata)";
+        private static final String DEFAULT_CHUNK_BATCH_CREATION_QUERY =
+                """
+                        UNWIND $rows AS row
+                        CREATE (p:SummaryChunk)
+                        SET p = row.metadata""";
 
         private Neo4jEmbeddingStore defaultEmbeddingStore() {
             return Neo4jEmbeddingStore.builder()
@@ -80,7 +85,10 @@ public class SummaryGraphIngestor extends Neo4jEmbeddingStoreIngestor {
         public SummaryGraphIngestor build() {
             systemPrompt = getOrDefault(systemPrompt, DEFAULT_SYSTEM_PROMPT);
             userPrompt = getOrDefault(userPrompt, DEFAULT_USER_PROMPT);
-            query = getOrDefault(query, DEFAULT_CHUNK_CREATION_QUERY);
+            if (query == null) {
+                query = DEFAULT_CHUNK_CREATION_QUERY;
+                parentBatchQuery = getOrDefault(parentBatchQuery, DEFAULT_CHUNK_BATCH_CREATION_QUERY);
+            }
             embeddingStore = getOrDefault(embeddingStore, defaultEmbeddingStore());
 
             return new SummaryGraphIngestor(this);
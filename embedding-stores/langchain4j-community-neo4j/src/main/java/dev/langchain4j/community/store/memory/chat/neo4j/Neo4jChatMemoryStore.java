@@ -2,9 +2,11 @@ package dev.langchain4j.community.store.memory.chat.neo4j;
 
 import static dev.langchain4j.community.store.memory.chat.neo4j.Neo4jUtils.functionDef;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static org.neo4j.cypherdsl.core.Cypher.anyNode;
+import static org.neo4j.cypherdsl.core.Cypher.literalOf;
 import static org.neo4j.cypherdsl.core.Cypher.match;
 import static org.neo4j.cypherdsl.core.Cypher.merge;
 import static org.neo4j.cypherdsl.core.Cypher.name;
@@ -16,23 +18,25 @@ import static org.neo4j.cypherdsl.core.FunctionInvocation.create;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import org.neo4j.cypherdsl.core.AliasedExpression;
+import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.FunctionInvocation;
 import org.neo4j.cypherdsl.core.NamedPath;
 import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Relationship;
-import org.neo4j.cypherdsl.core.RelationshipChain;
 import org.neo4j.cypherdsl.core.RelationshipPattern;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.driver.AuthTokens;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.exceptions.Neo4jException;
@@ -47,6 +51,25 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
     public static final String DEFAULT_MESSAGE_PROP = "message";
     public static final String DEFAULT_DATABASE_NAME = "neo4j";
     public static final int DEFAULT_SIZE_VALUE = 10;
+    public static final int DEFAULT_DELETE_BATCH_SIZE = 1000;
+
+    /**
+     * Deletes up to `deleteBatchSize` messages starting from the last one,
+     * and moves the last message relationship to the message preceding the deleted ones, if any
+     */
+    private static final String DELETE_MESSAGES_BATCH =
+            """
+                    MATCH (s:%1$s)-[lastRel:%2$s]->(lastNode)
+                    WHERE s.%3$s = $memoryId
+                    MATCH p=(lastNode)<-[:%4$s*0..%5$d]-(oldestNode)
+                    WHERE length(p) = %5$d OR NOT ()-[:%4$s]->(oldestNode)
+                    OPTIONAL MATCH (previous)-[:%4$s]->(oldestNode)
+                    DELETE lastRel
+                    WITH s, previous, nodes(p) AS messages
+                    FOREACH (ignored IN CASE WHEN previous IS NULL THEN [] ELSE [1] END |
+                        CREATE (s)-[:%2$s]->(previous))
+                    FOREACH (message IN messages | DETACH DELETE message)
+                    RETURN size(messages) AS deleted""";
 
     private final Driver driver;
     private final SessionConfig config;
@@ -57,6 +80,8 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
     private final String idProperty;
     private final String messageProperty;
     private final int size;
+    private final boolean incrementalUpdates;
+    private final int deleteBatchSize;
 
     /**
      * Creates an instance of Neo4jChatMemoryStore
@@ -84,6 +109,52 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
             String messageProperty,
             String databaseName,
             Integer size) {
+        this(
+                driver,
+                config,
+                memoryLabel,
+                messageLabel,
+                lastMessageRelType,
+                nextMessageRelType,
+                idProperty,
+                messageProperty,
+                databaseName,
+                size,
+                false,
+                null);
+    }
+
+    /**
+     * Creates an instance of Neo4jChatMemoryStore
+     *
+     * @param driver             the {@link Driver} (required)
+     * @param config             the {@link SessionConfig}  (optional, default is `SessionConfig.forDatabase(`databaseName`)`)
+     * @param memoryLabel        the node label to be used for the memory ID (default: "Memory")
+     * @param messageLabel       the node label to be used for the message (default: "Message")
+     * @param idProperty         the optional memory ID property name of the node (default: "id")
+     * @param messageProperty    the property name to be used for the message text (default: "message")
+     * @param lastMessageRelType the relationship type to be used to store the last message (default: "LAST_MESSAGE")
+     * @param nextMessageRelType the relationship type to be used to store the next messages (default: "NEXT")
+     * @param databaseName       the optional database name (default: "neo4j")
+     * @param size               the optional message size to be retrieved from {@link Neo4jChatMemoryStore#getMessages(Object)}} (default: 10)
+     *                           If the size is 0 or negative, all messages will be retrieved
+     * @param incrementalUpdates if true, {@link Neo4jChatMemoryStore#updateMessages(Object, List)} treats the given messages
+     *                           as the whole current memory, and only appends the ones not already stored (default: false)
+     * @param deleteBatchSize    the optional number of messages deleted per transaction by {@link Neo4jChatMemoryStore#deleteMessages(Object)} (default: 1000)
+     */
+    public Neo4jChatMemoryStore(
+            Driver driver,
+            SessionConfig config,
+            String memoryLabel,
+            String messageLabel,
+            String lastMessageRelType,
+            String nextMessageRelType,
+            String idProperty,
+            String messageProperty,
+            String databaseName,
+            Integer size,
+            boolean incrementalUpdates,
+            Integer deleteBatchSize) {
         /* required configs */
         this.driver = ensureNotNull(driver, "driver");
 
@@ -97,6 +168,9 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
         this.idProperty = getOrDefault(idProperty, DEFAULT_ID_PROP);
         this.messageProperty = getOrDefault(messageProperty, DEFAULT_MESSAGE_PROP);
         this.size = getOrDefault(size, DEFAULT_SIZE_VALUE);
+        this.incrementalUpdates = incrementalUpdates;
+        this.deleteBatchSize =
+                ensureGreaterThanZero(getOrDefault(deleteBatchSize, DEFAULT_DELETE_BATCH_SIZE), "deleteBatchSize");
     }
 
     public static Builder builder() {
@@ -123,16 +197,35 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
     public List<ChatMessage> getMessages(Object memoryIdObj) {
         String memoryId = toMemoryIdString(memoryIdObj);
         try (var session = session()) {
+            return readMessages(session, memoryId, this.size < 1 ? -1 : this.size).stream()
+                    .map(ChatMessageDeserializer::messageFromJson)
+                    .toList();
+        } catch (Neo4jException e) {
+            getDescriptiveProcedureNotFoundError(e);
+            throw new RuntimeException(e);
+        }
+    }
 
-            String windowPar = this.size < 1 ? "" : Long.toString(this.size);
-            Map<String, Object> params = Map.of("label", memoryLabel, "window", windowPar, "memoryId", memoryId);
-
-            Statement statement = buildHistoryQuery();
-            String cypher = Renderer.getDefaultRenderer().render(statement);
+    /**
+     * Retrieves a page of the message history, walking back from the last message
+     * only for the number of hops required by the page.
+     *
+     * @param memoryIdObj the memory ID
+     * @param offset      the number of most recent messages to skip
+     * @param limit       the maximum number of messages to return
+     * @return the messages of the page, from the oldest to the most recent one
+     */
+    public List<ChatMessage> getMessages(Object memoryIdObj, int offset, int limit) {
+        String memoryId = toMemoryIdString(memoryIdObj);
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset cannot be negative");
+        }
+        ensureGreaterThanZero(limit, "limit");
 
-            return session.run(cypher, params).stream()
-                    .map(i -> i.get("msg").asString(null))
-                    .filter(Objects::nonNull)
+        try (var session = session()) {
+            List<String> messages = readMessages(session, memoryId, offset + limit - 1);
+            // the most recent messages are the last ones, so the skipped ones are removed from the tail
+            return messages.subList(0, Math.max(0, messages.size() - offset)).stream()
                     .map(ChatMessageDeserializer::messageFromJson)
                     .toList();
         } catch (Neo4jException e) {
@@ -141,18 +234,40 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
         }
     }
 
+    /**
+     * Reads the serialized messages, from the oldest to the most recent one,
+     * walking back at most `maxHops` relationships from the last message (all of them if `maxHops` is negative)
+     */
+    private List<String> readMessages(Session session, String memoryId, int maxHops) {
+        String cypher = Renderer.getDefaultRenderer().render(buildHistoryQuery(maxHops));
+
+        return session.run(cypher, Map.of("memoryId", memoryId)).stream()
+                .map(i -> i.get("msg").asString(null))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public Statement buildHistoryQuery() {
+        return buildHistoryQuery(size < 1 ? -1 : size);
+    }
+
+    private Statement buildHistoryQuery(int maxHops) {
         // Nodes
         Node firstNode = Cypher.node(memoryLabel).named("s");
         Node lastNode = Cypher.anyNode().named("lastNode");
+        Node oldestNode = Cypher.anyNode().named("oldestNode");
 
         // Path pattern
-        Relationship relationship = lastNode.relationshipFrom(Cypher.anyNode(), nextMessageRelType);
-        RelationshipPattern pathRel = size < 1 ? relationship.min(0) : relationship.length(0, size);
+        Relationship relationship = lastNode.relationshipFrom(oldestNode, nextMessageRelType);
+        RelationshipPattern pathRel = maxHops < 0 ? relationship.min(0) : relationship.length(0, maxHops);
         NamedPath p = Cypher.path("p").definedBy(pathRel);
 
-        // Second MATCH + WITH + ORDER BY
-        AliasedExpression pathLength = create(functionDef("length"), name("p")).as("length");
+        // only keep the longest path: the one with `maxHops` length, or the one reaching the first message
+        Condition isFirstMessage = Cypher.not(
+                oldestNode.relationshipFrom(anyNode(), nextMessageRelType).asCondition());
+        Condition isLongestPath = maxHops < 0
+                ? isFirstMessage
+                : create(functionDef("length"), name("p")).eq(literalOf(maxHops)).or(isFirstMessage);
 
         // reverse(nodes(p)) AS node
         FunctionInvocation reverseNodes = create(functionDef("reverse"), create(functionDef("nodes"), name("p")));
@@ -160,18 +275,18 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
         /*
         Build a
         MATCH (s:<memoryLabel>)-[:<lastMessageRelType>]->(lastNode)
-        WHERE s.<idProperty> = $memoryId MATCH p=(lastNode)<-[:<nextMessageRelType>*0..<size>]-()
-        WITH p, length(p) AS length
-        ORDER BY length DESC LIMIT 1
+        WHERE s.<idProperty> = $memoryId
+        MATCH p=(lastNode)<-[:<nextMessageRelType>*0..<maxHops>]-(oldestNode)
+        WHERE length(p) = <maxHops> OR NOT (oldestNode)<-[:<nextMessageRelType>]-()
+        WITH p LIMIT 1
         UNWIND reverse(nodes(p)) AS node
         RETURN node.<messageProperty> AS msg
          */
         return match(firstNode.relationshipTo(lastNode, lastMessageRelType))
                 .where(firstNode.property(idProperty).isEqualTo(parameter("memoryId")))
                 .match(p)
-                .with(p, pathLength)
-                .orderBy(name("length"))
-                .descending()
+                .where(isLongestPath)
+                .with(p)
                 .limit(1)
                 .unwind(reverseNodes)
                 .as("node")
@@ -179,15 +294,142 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
                 .build();
     }
 
+    /**
+     * Stores the messages.
+     * <p>
+     * By default, the messages are appended after the last stored one.
+     * If `incrementalUpdates` is enabled, the messages are treated as the whole current memory,
+     * as passed by {@link dev.langchain4j.memory.ChatMemory} implementations:
+     * only the trailing messages not already stored are appended,
+     * reading back just as many stored messages as the given ones.
+     * A leading system message, kept by the memory while the following messages are evicted, is not appended again
+     * when it is equal to the first stored message.
+     * If the given messages don't continue the stored ones, they replace the stored history.
+     */
     @Override
     public void updateMessages(Object memoryIdObj, List<ChatMessage> messages) {
         String memoryId = toMemoryIdString(memoryIdObj);
 
         ensureNotEmpty(messages, "messages");
-        List<Map<String, String>> messagesValues = messages.stream()
-                .map(ChatMessageSerializer::messageToJson)
-                .map(i -> Map.of(messageProperty, i))
-                .toList();
+        List<String> messagesJson =
+                messages.stream().map(ChatMessageSerializer::messageToJson).toList();
+
+        if (incrementalUpdates) {
+            int newMessagesStart;
+            try (var session = session()) {
+                List<String> storedTail = readMessages(session, memoryId, messagesJson.size() - 1);
+                newMessagesStart = getNewMessagesStart(session, memoryId, storedTail, messages, messagesJson);
+            } catch (Neo4jException e) {
+                getDescriptiveProcedureNotFoundError(e);
+                throw new RuntimeException(e);
+            }
+            if (newMessagesStart < 0) {
+                // the given memory doesn't continue the stored history, so it replaces it
+                deleteMessages(memoryIdObj);
+                newMessagesStart = 0;
+            }
+            messagesJson = messagesJson.subList(newMessagesStart, messagesJson.size());
+            if (messagesJson.isEmpty()) {
+                return;
+            }
+        }
+
+        appendMessagesJson(memoryId, messagesJson);
+    }
+
+    /**
+     * Appends the messages after the last stored one, creating only the new nodes
+     * and moving the last message relationship.
+     *
+     * @param memoryIdObj the memory ID
+     * @param messages    the new messages
+     */
+    public void appendMessages(Object memoryIdObj, List<ChatMessage> messages) {
+        String memoryId = toMemoryIdString(memoryIdObj);
+
+        ensureNotEmpty(messages, "messages");
+        appendMessagesJson(
+                memoryId,
+                messages.stream().map(ChatMessageSerializer::messageToJson).toList());
+    }
+
+    /**
+     * Returns the index of the first given message not already stored,
+     * or -1 if the stored messages are not followed by the given ones.
+     * <p>
+     * {@link dev.langchain4j.memory.ChatMemory} implementations keep a leading {@link SystemMessage}
+     * while evicting the messages after it, e.g. `[system, ai1, user2]` after a stored `[system, user1, ai1]`,
+     * so the leading system message is skipped when the whole messages don't overlap the stored ones.
+     * It is only skipped when it is the first stored message: a new system message replaces the stored history.
+     */
+    private int getNewMessagesStart(
+            Session session,
+            String memoryId,
+            List<String> stored,
+            List<ChatMessage> messages,
+            List<String> messagesJson) {
+        if (stored.isEmpty()) {
+            return 0;
+        }
+        int overlap = getOverlap(stored, messagesJson);
+        if (overlap > 0) {
+            return overlap;
+        }
+        if (messages.get(0) instanceof SystemMessage) {
+            overlap = getOverlap(stored, messagesJson.subList(1, messagesJson.size()));
+            if (overlap > 0 && messagesJson.get(0).equals(readFirstMessage(session, memoryId))) {
+                return overlap + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the serialized first message, walking back from the last message to the one without a previous message
+     */
+    private String readFirstMessage(Session session, String memoryId) {
+        Node memory = Cypher.node(memoryLabel).named("s");
+        Node lastNode = Cypher.anyNode().named("lastNode");
+        Node firstNode = Cypher.anyNode().named("firstNode");
+
+        /*
+        Build a
+        MATCH (s:<memoryLabel>)-[:<lastMessageRelType>]->(lastNode)
+        WHERE s.<idProperty> = $memoryId
+        MATCH (lastNode)<-[:<nextMessageRelType>*0..]-(firstNode)
+        WHERE NOT (firstNode)<-[:<nextMessageRelType>]-()
+        RETURN firstNode.<messageProperty> AS msg
+         */
+        Statement statement = match(memory.relationshipTo(lastNode, lastMessageRelType))
+                .where(memory.property(idProperty).isEqualTo(parameter("memoryId")))
+                .match(lastNode.relationshipFrom(firstNode, nextMessageRelType).min(0))
+                .where(Cypher.not(firstNode.relationshipFrom(anyNode(), nextMessageRelType).asCondition()))
+                .returning(firstNode.property(messageProperty).as("msg"))
+                .build();
+        String cypher = Renderer.getDefaultRenderer().render(statement);
+
+        return session.run(cypher, Map.of("memoryId", memoryId)).stream()
+                .map(i -> i.get("msg").asString(null))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the size of the longest suffix of the stored messages which is equal to a prefix of the new ones
+     */
+    private static int getOverlap(List<String> stored, List<String> messages) {
+        for (int overlap = Math.min(stored.size(), messages.size()); overlap > 0; overlap--) {
+            if (stored.subList(stored.size() - overlap, stored.size()).equals(messages.subList(0, overlap))) {
+                return overlap;
+            }
+        }
+        return 0;
+    }
+
+    private void appendMessagesJson(String memoryId, List<String> messagesJson) {
+        List<Map<String, String>> messagesValues =
+                messagesJson.stream().map(i -> Map.of(messageProperty, i)).toList();
 
         createSessionNode(memoryId);
 
@@ -247,37 +489,38 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
     public void deleteMessages(Object memoryIdObj) {
         String memoryId = toMemoryIdString(memoryIdObj);
         try (var session = session()) {
+            Map<String, Object> params = Map.of("memoryId", memoryId);
+
+            // delete the messages from the most recent one, `deleteBatchSize` of them per transaction
+            String deleteBatchQuery = String.format(
+                    DELETE_MESSAGES_BATCH,
+                    sanitize(memoryLabel),
+                    sanitize(lastMessageRelType),
+                    sanitize(idProperty),
+                    sanitize(nextMessageRelType),
+                    deleteBatchSize - 1);
+            int deleted;
+            do {
+                deleted = session.executeWrite(tx -> {
+                    Result result = tx.run(deleteBatchQuery, params);
+                    return result.hasNext() ? result.single().get("deleted").asInt() : 0;
+                });
+            } while (deleted > 0);
+
             /*
             build a:
-            MATCH (s:%1$s)
-            WHERE s.%4$s = $memoryId
-            OPTIONAL MATCH p=(s)-[lastRel:%2$s]->(lastNode)<-[:%3$s*0..]-()
-            WITH s, p, length(p) AS length ORDER BY length DESC LIMIT 1
-            DETACH DELETE s, p
+            MATCH (s:<memoryLabel>)
+            WHERE s.<idProperty> = $memoryId
+            DETACH DELETE s
              */
             Node firstNode = Cypher.node(memoryLabel).named("s");
-            Node lastNode = Cypher.anyNode().named("lastNode");
-            RelationshipChain rel = firstNode
-                    .relationshipTo(lastNode, lastMessageRelType)
-                    .named("lastRel")
-                    .relationshipFrom(anyNode(), nextMessageRelType)
-                    .min(0);
-            NamedPath p = Cypher.path("p").definedBy(rel);
             String query = match(firstNode)
                     .where(firstNode.property(idProperty).isEqualTo(parameter("memoryId")))
-                    .optionalMatch(p)
-                    .with(firstNode, p, raw("length(p)").as("length"))
-                    .orderBy(raw("length"))
-                    .descending()
-                    .limit(1)
-                    .detachDelete(firstNode, p)
+                    .detachDelete(firstNode)
                     .build()
                     .getCypher();
 
-            Map<String, Object> params =
-                    Map.of("memoryId", memoryId, "relType", lastMessageRelType, "label", memoryLabel);
-
-            session.run(query, params);
+            session.executeWrite(tx -> tx.run(query, params).consume());
 
         } catch (Neo4jException e) {
             getDescriptiveProcedureNotFoundError(e);
@@ -291,6 +534,11 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
         }
     }
 
+    private static String sanitize(String value) {
+        return SchemaNames.sanitize(value)
+                .orElseThrow(() -> new RuntimeException("The value " + value + " cannot be safely quoted"));
+    }
+
     private static String toMemoryIdString(Object memoryId) {
         boolean isNullOrEmpty = memoryId == null || memoryId.toString().trim().isEmpty();
         if (isNullOrEmpty) {
@@ -314,6 +562,8 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
         private String messageProperty;
         private String databaseName;
         private Integer size;
+        private boolean incrementalUpdates;
+        private Integer deleteBatchSize;
 
         /**
          * @param driver the {@link Driver} (required)
@@ -396,6 +646,23 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
             return this;
         }
 
+        /**
+         * @param incrementalUpdates if true, {@link Neo4jChatMemoryStore#updateMessages(Object, List)} treats the given messages
+         *                           as the whole current memory, and only appends the ones not already stored (default: false)
+         */
+        public Builder incrementalUpdates(boolean incrementalUpdates) {
+            this.incrementalUpdates = incrementalUpdates;
+            return this;
+        }
+
+        /**
+         * @param deleteBatchSize the optional number of messages deleted per transaction by {@link Neo4jChatMemoryStore#deleteMessages(Object)} (default: 1000)
+         */
+        public Builder deleteBatchSize(Integer deleteBatchSize) {
+            this.deleteBatchSize = deleteBatchSize;
+            return this;
+        }
+
         /**
          * Creates an instance a {@link Driver}, starting from uri, user and password
          *
@@ -419,7 +686,9 @@ public class Neo4jChatMemoryStore implements ChatMemoryStore {
                     idProperty,
                     messageProperty,
                     databaseName,
-                    size);
+                    size,
+                    incrementalUpdates,
+                    deleteBatchSize);
         }
     }
 }
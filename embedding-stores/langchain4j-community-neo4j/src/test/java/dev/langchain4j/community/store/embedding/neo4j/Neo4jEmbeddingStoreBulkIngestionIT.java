@@ -0,0 +1,157 @@
+package dev.langchain4j.community.store.embedding.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Neo4jContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Checks the bulk ingestion modes of {@link Neo4jEmbeddingStore#addAll}, and logs their ingestion metrics.
+ * By default a small number of rows is written, the `neo4jBenchmarkRows` system property turns it into a throughput
+ * benchmark, e.g. `-Dneo4jBenchmarkRows=20000`. The batch sizes are proportional to the number of rows.
+ */
+@Testcontainers
+class Neo4jEmbeddingStoreBulkIngestionIT {
+
+    private static final Logger log = LoggerFactory.getLogger(Neo4jEmbeddingStoreBulkIngestionIT.class);
+
+    private static final String NEO4J_VERSION = System.getProperty("neo4jVersion", "5.26");
+    private static final int ROWS = Integer.getInteger("neo4jBenchmarkRows", 100);
+    private static final int BATCH_SIZE = Math.max(1, ROWS / 10);
+    private static final int TRANSACTION_BATCH_SIZE = Math.max(1, ROWS / 20);
+    private static final int DIMENSION = 384;
+    private static final String USERNAME = "neo4j";
+    private static final String ADMIN_PASSWORD = "adminPass";
+
+    @Container
+    static Neo4jContainer<?> neo4jContainer =
+            new Neo4jContainer<>(DockerImageName.parse("neo4j:" + NEO4J_VERSION)).withAdminPassword(ADMIN_PASSWORD);
+
+    private static Driver driver;
+    private static List<String> ids;
+    private static List<Embedding> embeddings;
+    private static List<TextSegment> segments;
+
+    @BeforeAll
+    static void beforeAll() {
+        driver = GraphDatabase.driver(neo4jContainer.getBoltUrl(), AuthTokens.basic(USERNAME, ADMIN_PASSWORD));
+
+        Random random = new Random(42);
+        ids = IntStream.range(0, ROWS).mapToObj(i -> "id-" + i).toList();
+        segments = IntStream.range(0, ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i))
+                .toList();
+        embeddings = IntStream.range(0, ROWS)
+                .mapToObj(i -> {
+                    float[] vector = new float[DIMENSION];
+                    for (int j = 0; j < DIMENSION; j++) {
+                        vector[j] = random.nextFloat();
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        driver.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) CALL { WITH n DETACH DELETE n } IN TRANSACTIONS")
+                    .consume();
+        }
+    }
+
+    @Test
+    void should_ingest_sequentially() {
+        Neo4jEmbeddingStore embeddingStore = Neo4jEmbeddingStore.builder()
+                .driver(driver)
+                .dimension(DIMENSION)
+                .batchSize(BATCH_SIZE)
+                .build();
+
+        ingestAndCheck("sequential", embeddingStore);
+    }
+
+    @Test
+    void should_ingest_with_concurrent_writers() {
+        Neo4jEmbeddingStore embeddingStore = Neo4jEmbeddingStore.builder()
+                .driver(driver)
+                .dimension(DIMENSION)
+                .batchSize(BATCH_SIZE)
+                .writeConcurrency(4)
+                .maxInFlightBatches(8)
+                .build();
+
+        ingestAndCheck("concurrent", embeddingStore);
+    }
+
+    @Test
+    void should_ingest_with_call_in_transactions() {
+        Neo4jEmbeddingStore embeddingStore = Neo4jEmbeddingStore.builder()
+                .driver(driver)
+                .dimension(DIMENSION)
+                .batchSize(BATCH_SIZE * 5)
+                .callInTransactions(true)
+                .transactionBatchSize(TRANSACTION_BATCH_SIZE)
+                .build();
+
+        ingestAndCheck("call in transactions", embeddingStore);
+    }
+
+    @Test
+    void should_ingest_with_concurrent_writers_and_call_in_transactions() {
+        Neo4jEmbeddingStore embeddingStore = Neo4jEmbeddingStore.builder()
+                .driver(driver)
+                .dimension(DIMENSION)
+                .batchSize(BATCH_SIZE * 5 / 2)
+                .writeConcurrency(4)
+                .callInTransactions(true)
+                .transactionBatchSize(TRANSACTION_BATCH_SIZE)
+                .build();
+
+        ingestAndCheck("concurrent + call in transactions", embeddingStore);
+    }
+
+    private static void ingestAndCheck(String mode, Neo4jEmbeddingStore embeddingStore) {
+        embeddingStore.addAll(ids, embeddings, segments);
+
+        Neo4jIngestionMetrics metrics = embeddingStore.getIngestionMetrics();
+        log.info("[{}] {}", mode, metrics);
+
+        assertThat(metrics.getRows()).isEqualTo(ROWS);
+        assertThat(metrics.getFailedBatches()).isZero();
+        assertThat(metrics.getBatches()).isEqualTo((long) Math.ceil((double) ROWS / embeddingStore.getBatchSize()));
+
+        try (Session session = driver.session()) {
+            long count = session.run(
+                            "MATCH (n:Document) WHERE n.embedding IS NOT NULL AND size(n.embedding) = $dimension RETURN count(n)",
+                            Map.of("dimension", DIMENSION))
+                    .single()
+                    .get(0)
+                    .asLong();
+            assertThat(count).isEqualTo(ROWS);
+        }
+    }
+}
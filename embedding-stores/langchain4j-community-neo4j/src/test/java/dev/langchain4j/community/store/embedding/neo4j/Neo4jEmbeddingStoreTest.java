@@ -4,9 +4,11 @@ import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingStor
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_EMBEDDING_PROP;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_ID_PROP;
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jEmbeddingUtils.DEFAULT_TEXT_PROP;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.UNSUPPORTED_FILTER_TYPE_ERROR;
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.data.Percentage.withPercentage;
 
@@ -28,6 +30,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
@@ -148,6 +152,144 @@ class Neo4jEmbeddingStoreTest extends Neo4jEmbeddingStoreBaseTest {
         }
     }
 
+    @Test
+    void should_reuse_cached_search_queries() {
+        TextSegment segment = TextSegment.from(randomUUID(), Metadata.from(METADATA_KEY, "test-value"));
+        Embedding embedding = embeddingModel.embed(segment.text()).content();
+        String id = embeddingStore.add(embedding, segment);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(10)
+                .build();
+        EmbeddingSearchRequest requestWithFilter = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .filter(new IsEqualTo(METADATA_KEY, "test-value"))
+                .maxResults(10)
+                .build();
+
+        assertThat(embeddingStore.isVectorIndexSearchQueryValidated()).isFalse();
+        String filteredQuery = embeddingStore.getSearchQuery(requestWithFilter.filter());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(embeddingStore.search(request).matches())
+                    .extracting(EmbeddingMatch::embeddingId)
+                    .containsExactly(id);
+            assertThat(embeddingStore.search(requestWithFilter).matches())
+                    .extracting(EmbeddingMatch::embeddingId)
+                    .containsExactly(id);
+        }
+
+        assertThat(embeddingStore.isVectorIndexSearchQueryValidated()).isTrue();
+        // a filter of the same shape returns the cached query instance, its value is a parameter of the query
+        assertThat(embeddingStore.getSearchQuery(new IsEqualTo(METADATA_KEY, "other-value")))
+                .isSameAs(filteredQuery);
+        assertThat(embeddingStore
+                        .search(EmbeddingSearchRequest.builder()
+                                .queryEmbedding(embedding)
+                                .filter(new IsEqualTo(METADATA_KEY, "other-value"))
+                                .maxResults(10)
+                                .build())
+                        .matches())
+                .isEmpty();
+
+        embeddingStore.clearQueryCache();
+        assertThat(embeddingStore.isVectorIndexSearchQueryValidated()).isFalse();
+        assertThat(embeddingStore.getSearchQuery(requestWithFilter.filter()))
+                .isEqualTo(filteredQuery)
+                .isNotSameAs(filteredQuery);
+        assertThat(embeddingStore.search(requestWithFilter).matches())
+                .extracting(EmbeddingMatch::embeddingId)
+                .containsExactly(id);
+    }
+
+    @Test
+    void should_search_async_with_and_without_filter() {
+        TextSegment segment = TextSegment.from(randomUUID(), Metadata.from(METADATA_KEY, "test-value"));
+        Embedding embedding = embeddingModel.embed(segment.text()).content();
+        String id = embeddingStore.add(embedding, segment);
+        embeddingStore.add(embeddingModel.embed("other").content(), TextSegment.from("other"));
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(10)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches =
+                embeddingStore.searchAsync(request).toCompletableFuture().join().matches();
+        assertThat(matches).hasSize(2);
+        assertThat(matches).isEqualTo(embeddingStore.search(request).matches());
+
+        EmbeddingSearchRequest requestWithFilter = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .filter(new IsEqualTo(METADATA_KEY, "test-value"))
+                .maxResults(10)
+                .build();
+        List<EmbeddingMatch<TextSegment>> filteredMatches = embeddingStore
+                .searchAsync(requestWithFilter)
+                .toCompletableFuture()
+                .join()
+                .matches();
+        assertThat(filteredMatches).extracting(EmbeddingMatch::embeddingId).containsExactly(id);
+    }
+
+    @Test
+    void should_search_async_with_full_text() {
+        embeddingStore = Neo4jEmbeddingStore.builder()
+                .withBasicAuth(neo4jContainer.getBoltUrl(), USERNAME, ADMIN_PASSWORD)
+                .dimension(384)
+                .fullTextIndexName("movie_text_async")
+                .fullTextQuery("Matrix")
+                .autoCreateFullText(true)
+                .label(LABEL_TO_SANITIZE)
+                .build();
+
+        List<TextSegment> segments = List.of(TextSegment.from("The Matrix"), TextSegment.from("Top Gun"));
+        embeddingStore.addAll(embeddingModel.embedAll(segments).content(), segments);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddingModel.embed("Matrix").content())
+                .maxResults(1)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches =
+                embeddingStore.searchAsync(request).toCompletableFuture().join().matches();
+        assertThat(matches).isNotEmpty();
+        assertThat(matches).containsExactlyInAnyOrderElementsOf(embeddingStore.search(request).matches());
+    }
+
+    @Test
+    void should_fail_async_search_with_unsupported_filter() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddingModel.embed("test").content())
+                .filter(object -> true)
+                .maxResults(10)
+                .build();
+
+        CompletionStage<EmbeddingSearchResult<TextSegment>> result = embeddingStore.searchAsync(request);
+
+        assertThatThrownBy(() -> result.toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining(UNSUPPORTED_FILTER_TYPE_ERROR);
+    }
+
+    @Test
+    void should_fail_async_search_with_invalid_retrieval_query() {
+        embeddingStore = Neo4jEmbeddingStore.builder()
+                .withBasicAuth(neo4jContainer.getBoltUrl(), USERNAME, ADMIN_PASSWORD)
+                .dimension(384)
+                .retrievalQuery("RETURN {foo: 'bar'} AS invalidColumn")
+                .build();
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddingModel.embed("test").content())
+                .maxResults(10)
+                .build();
+
+        assertThatThrownBy(() -> embeddingStore.searchAsync(request).toCompletableFuture().join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining(COLUMNS_NOT_ALLOWED_ERR);
+    }
+
     @Test
     void should_add_embedding_with_segment_with_metadata_and_custom_id_prop() {
         String metadataPrefix = "metadata.";
@@ -487,7 +629,8 @@ class Neo4jEmbeddingStoreTest extends Neo4jEmbeddingStoreBaseTest {
                 IntStream.range(0, numElements).mapToObj(i -> "id-" + i).toList();
         List<Embedding> embeddings = embeddingModel.embedAll(embedded).content();
 
-        return Neo4jEmbeddingUtils.getRowsBatched(embeddingStore, ids, embeddings, embedded)
+        return Neo4jEmbeddingUtils.getRowsBatched(
+                        embeddingStore, ids, embeddings, embedded, embeddingStore.getBatchSize())
                 .toList();
     }
 
@@ -1,7 +1,10 @@
 package dev.langchain4j.community.store.embedding.neo4j;
 
 import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.UNSUPPORTED_FILTER_TYPE_ERROR;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.parametersOf;
+import static dev.langchain4j.community.store.embedding.neo4j.Neo4jFilterMapper.shapeOf;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 import static org.neo4j.cypherdsl.core.Cypher.node;
 
@@ -184,6 +187,38 @@ class Neo4jFilterMapperTest {
                         "MATCH (n:`Label`) WHERE ((n['key1'] = 'value1' AND n['key2'] > 'value2') OR NOT ((any(x IN ['1', '2'] WHERE x IN n['key3']) AND n['key4'] < 'value4'))) WITH n RETURN 1");
     }
 
+    @Test
+    void should_map_the_values_to_parameters() {
+        Filter filter = new Or(
+                new IsEqualTo("key1", "value1"), new Not(new IsIn("key2", Set.of(1))).and(new IsLessThan("key3", 3)));
+        Statement statement = Cypher.match(LABEL)
+                .where(new Neo4jFilterMapper(LABEL, true).getCondition(filter))
+                .with(LABEL)
+                .returning(Cypher.raw("1"))
+                .build();
+
+        assertThat(Renderer.getDefaultRenderer().render(statement))
+                .isEqualTo(
+                        "MATCH (n:`Label`) WHERE (n['key1'] = $filter_0 OR (NOT (any(x IN $filter_1 WHERE x IN n['key2'])) AND n['key3'] < $filter_2)) WITH n RETURN 1");
+        assertThat(parametersOf(filter))
+                .containsOnly(entry("filter_0", "value1"), entry("filter_1", List.of(1)), entry("filter_2", 3));
+    }
+
+    @Test
+    void should_give_the_same_shape_to_the_filters_with_other_values() {
+        Filter filter = new IsEqualTo("key1", "value1").and(new IsIn("key2", Set.of(1, 2)));
+        Filter otherValues = new IsEqualTo("key1", "other").and(new IsIn("key2", Set.of(3)));
+        Filter otherKey = new IsEqualTo("key3", "value1").and(new IsIn("key2", Set.of(1, 2)));
+        Filter otherComparison = new IsNotEqualTo("key1", "value1").and(new IsIn("key2", Set.of(1, 2)));
+        Filter otherOperator = new IsEqualTo("key1", "value1").or(new IsIn("key2", Set.of(1, 2)));
+
+        assertThat(shapeOf(filter))
+                .isEqualTo(shapeOf(otherValues))
+                .isNotEqualTo(shapeOf(otherKey))
+                .isNotEqualTo(shapeOf(otherComparison))
+                .isNotEqualTo(shapeOf(otherOperator));
+    }
+
     @Test
     void should_correctly_sanitize_key() {
         IsEqualTo filter = new IsEqualTo("k\\ ` ey", "value");
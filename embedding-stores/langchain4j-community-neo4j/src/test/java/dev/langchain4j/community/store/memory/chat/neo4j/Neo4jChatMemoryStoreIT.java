@@ -16,6 +16,8 @@ import dev.langchain4j.data.message.Content;
 import dev.langchain4j.data.message.ImageContent;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -334,6 +336,156 @@ class Neo4jChatMemoryStoreIT {
                 .isEqualTo(chatMessages1);
     }
 
+    @Test
+    void should_only_append_new_messages_with_incremental_updates() {
+        Neo4jChatMemoryStore memoryStore = Neo4jChatMemoryStore.builder()
+                .driver(driver)
+                .size(0)
+                .incrementalUpdates(true)
+                .build();
+
+        final List<ChatMessage> chatMessages = createChatMessages();
+        memoryStore.updateMessages(messageId, chatMessages);
+
+        // the whole memory is passed on every turn, as done by the ChatMemory implementations
+        chatMessages.add(new UserMessage("qux"));
+        memoryStore.updateMessages(messageId, chatMessages);
+        memoryStore.updateMessages(messageId, chatMessages);
+
+        List<ChatMessage> messages = memoryStore.getMessages(messageId);
+        assertThat(messages).hasSize(4).isEqualTo(chatMessages);
+
+        // a window which evicted the oldest message
+        final List<ChatMessage> window = new ArrayList<>(chatMessages.subList(1, chatMessages.size()));
+        window.add(new AiMessage("quux"));
+        memoryStore.updateMessages(messageId, window);
+
+        messages = memoryStore.getMessages(messageId);
+        final List<ChatMessage> expected = new ArrayList<>(chatMessages);
+        expected.add(new AiMessage("quux"));
+        assertThat(messages).hasSize(5).isEqualTo(expected);
+
+        final long messageNodes = driver.session()
+                .run("MATCH (n:Message) RETURN count(n) AS count")
+                .single()
+                .get("count")
+                .asLong();
+        assertThat(messageNodes).isEqualTo(5);
+    }
+
+    @Test
+    void should_not_duplicate_the_system_message_when_the_window_is_exceeded() {
+        Neo4jChatMemoryStore memoryStore = Neo4jChatMemoryStore.builder()
+                .driver(driver)
+                .size(0)
+                .incrementalUpdates(true)
+                .build();
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .id(messageId)
+                .maxMessages(3)
+                .chatMemoryStore(memoryStore)
+                .build();
+
+        final List<ChatMessage> chatMessages = List.of(
+                new SystemMessage("foo"),
+                new UserMessage("bar"),
+                new AiMessage("baz"),
+                new UserMessage("qux"),
+                new AiMessage("quux"));
+        // from the 4th message, the memory keeps the system message and evicts the ones after it
+        chatMessages.forEach(chatMemory::add);
+
+        assertThat(chatMemory.messages())
+                .containsExactly(chatMessages.get(0), chatMessages.get(3), chatMessages.get(4));
+        assertThat(memoryStore.getMessages(messageId)).isEqualTo(chatMessages);
+
+        final long messageNodes = driver.session()
+                .run("MATCH (n:Message) RETURN count(n) AS count")
+                .single()
+                .get("count")
+                .asLong();
+        assertThat(messageNodes).isEqualTo(5);
+
+        // messages which don't continue the stored history replace it
+        final List<ChatMessage> otherMessages = List.of(new SystemMessage("other"), new UserMessage("corge"));
+        memoryStore.updateMessages(messageId, otherMessages);
+        assertThat(memoryStore.getMessages(messageId)).isEqualTo(otherMessages);
+    }
+
+    @Test
+    void should_replace_the_history_when_the_system_message_changes() {
+        Neo4jChatMemoryStore memoryStore = Neo4jChatMemoryStore.builder()
+                .driver(driver)
+                .size(0)
+                .incrementalUpdates(true)
+                .build();
+
+        final List<ChatMessage> chatMessages = createChatMessages();
+        memoryStore.updateMessages(messageId, chatMessages);
+
+        // the stored messages after the system message are followed by the given ones, but the system message changed
+        final List<ChatMessage> messages = List.of(
+                new SystemMessage("other"), chatMessages.get(1), chatMessages.get(2), new UserMessage("qux"));
+        memoryStore.updateMessages(messageId, messages);
+
+        assertThat(memoryStore.getMessages(messageId)).isEqualTo(messages);
+        final long messageNodes = driver.session()
+                .run("MATCH (n:Message) RETURN count(n) AS count")
+                .single()
+                .get("count")
+                .asLong();
+        assertThat(messageNodes).isEqualTo(4);
+    }
+
+    @Test
+    void should_append_messages() {
+        final List<ChatMessage> chatMessages = createChatMessages();
+        memoryStore.appendMessages(messageId, chatMessages);
+        memoryStore.appendMessages(messageId, List.of(new UserMessage("qux")));
+
+        final List<ChatMessage> expected = new ArrayList<>(chatMessages);
+        expected.add(new UserMessage("qux"));
+        assertThat(memoryStore.getMessages(messageId)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_get_paginated_messages() {
+        final List<ChatMessage> chatMessages = new ArrayList<>();
+        chatMessages.addAll(createChatMessages());
+        chatMessages.addAll(createChatMessages());
+        chatMessages.add(new UserMessage("qux"));
+        memoryStore.updateMessages(messageId, chatMessages);
+
+        assertThat(memoryStore.getMessages(messageId, 0, 3)).isEqualTo(chatMessages.subList(4, 7));
+        assertThat(memoryStore.getMessages(messageId, 3, 3)).isEqualTo(chatMessages.subList(1, 4));
+        assertThat(memoryStore.getMessages(messageId, 6, 3)).isEqualTo(chatMessages.subList(0, 1));
+        assertThat(memoryStore.getMessages(messageId, 7, 3)).isEmpty();
+        assertThat(memoryStore.getMessages("notExistingId", 0, 3)).isEmpty();
+    }
+
+    @Test
+    void should_delete_messages_in_batches() {
+        Neo4jChatMemoryStore memoryStore = Neo4jChatMemoryStore.builder()
+                .driver(driver)
+                .size(0)
+                .deleteBatchSize(2)
+                .build();
+
+        final List<ChatMessage> chatMessages = new ArrayList<>();
+        chatMessages.addAll(createChatMessages());
+        chatMessages.addAll(createChatMessages());
+        chatMessages.add(new UserMessage("qux"));
+        memoryStore.updateMessages(messageId, chatMessages);
+        memoryStore.updateMessages("anotherId", createChatMessages());
+        assertThat(memoryStore.getMessages(messageId)).isEqualTo(chatMessages);
+
+        memoryStore.deleteMessages(messageId);
+
+        assertThat(memoryStore.getMessages(messageId)).isEmpty();
+        assertThat(memoryStore.getMessages("anotherId")).isEqualTo(createChatMessages());
+        memoryStore.deleteMessages("anotherId");
+    }
+
     @Test
     void getMessages_memoryId_null() {
         assertThatThrownBy(() -> memoryStore.getMessages(null))
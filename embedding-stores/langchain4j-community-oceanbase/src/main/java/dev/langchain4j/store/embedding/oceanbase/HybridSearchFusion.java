@@ -0,0 +1,90 @@
+package dev.langchain4j.store.embedding.oceanbase;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.stream.Collectors.toList;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Combines the matches of the vector and fulltext searches of an {@link OceanBaseEmbeddingStore} hybrid search.
+ */
+@FunctionalInterface
+public interface HybridSearchFusion {
+
+    int DEFAULT_RANK_CONSTANT = 60;
+
+    /**
+     * @param vectorMatches   the matches of the vector search, by decreasing score
+     * @param fulltextMatches the matches of the fulltext search, by decreasing score
+     * @param maxResults      the maximum number of matches to return
+     * @return the fused matches, by decreasing score
+     */
+    List<EmbeddingMatch<TextSegment>> fuse(
+            List<EmbeddingMatch<TextSegment>> vectorMatches,
+            List<EmbeddingMatch<TextSegment>> fulltextMatches,
+            int maxResults);
+
+    /**
+     * Reciprocal rank fusion with {@code k = 60}, the default strategy.
+     */
+    static HybridSearchFusion reciprocalRank() {
+        return reciprocalRank(DEFAULT_RANK_CONSTANT);
+    }
+
+    /**
+     * Reciprocal rank fusion: each match is scored {@code 1 / (k + rank)} in each search,
+     * and the sum is normalized so that the best match has a score of 1.
+     *
+     * @param k the rank constant, a higher value gives less weight to the first ranks
+     */
+    static HybridSearchFusion reciprocalRank(int k) {
+        return weightedReciprocalRank(0.5, k);
+    }
+
+    /**
+     * Reciprocal rank fusion where the ranks of the vector search are weighted by {@code vectorWeight},
+     * and the ranks of the fulltext search by {@code 1 - vectorWeight}.
+     *
+     * @param vectorWeight the weight of the vector search, between 0 and 1
+     * @param k            the rank constant, a higher value gives less weight to the first ranks
+     */
+    static HybridSearchFusion weightedReciprocalRank(double vectorWeight, int k) {
+        ensureBetween(vectorWeight, 0.0, 1.0, "vectorWeight");
+        ensureGreaterThanZero(k, "k");
+        double fulltextWeight = 1.0 - vectorWeight;
+        return (vectorMatches, fulltextMatches, maxResults) -> {
+            Map<String, EmbeddingMatch<TextSegment>> matchesById = new LinkedHashMap<>();
+            Map<String, Double> scores = new HashMap<>();
+            for (int i = 0; i < vectorMatches.size(); i++) {
+                EmbeddingMatch<TextSegment> match = vectorMatches.get(i);
+                matchesById.putIfAbsent(match.embeddingId(), match);
+                scores.merge(match.embeddingId(), vectorWeight / (k + i + 1), Double::sum);
+            }
+            for (int i = 0; i < fulltextMatches.size(); i++) {
+                EmbeddingMatch<TextSegment> match = fulltextMatches.get(i);
+                matchesById.putIfAbsent(match.embeddingId(), match);
+                scores.merge(match.embeddingId(), fulltextWeight / (k + i + 1), Double::sum);
+            }
+
+            double maxScore = scores.values().stream()
+                    .mapToDouble(Double::doubleValue)
+                    .max()
+                    .orElse(1.0);
+            return matchesById.values().stream()
+                    .sorted((m1, m2) -> Double.compare(scores.get(m2.embeddingId()), scores.get(m1.embeddingId())))
+                    .limit(maxResults)
+                    .map(match -> new EmbeddingMatch<>(
+                            maxScore > 0 ? scores.get(match.embeddingId()) / maxScore : 0.0,
+                            match.embeddingId(),
+                            match.embedding(),
+                            match.embedded()))
+                    .collect(toList());
+        };
+    }
+}
@@ -2,6 +2,7 @@ package dev.langchain4j.store.embedding.oceanbase;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.store.embedding.oceanbase.CollectionRequestBuilder.buildWhereExpression;
@@ -11,6 +12,8 @@ import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -22,7 +25,6 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -30,10 +32,14 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,8 +50,13 @@ import org.slf4j.LoggerFactory;
  * (provided inside an {@link EmbeddingSearchRequest}).
  * <br>
  * Uses direct JDBC + SQL instead of obvec_jdbc SDK.
+ * <br>
+ * The connections are taken from the {@link DataSource} given to the builder, or else from a pool
+ * created from the url, user and password, which is closed by {@link #close()}.
+ * The SQL of the insert, delete and unfiltered searches is built once, so that the driver can reuse
+ * the prepared statements of each pooled connection.
  */
-public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment>, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(OceanBaseEmbeddingStore.class);
 
@@ -54,14 +65,14 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
     private static final String DEFAULT_METADATA_FIELD_NAME = "metadata";
     private static final String DEFAULT_VECTOR_FIELD_NAME = "vector";
     private static final String DEFAULT_METRIC_TYPE = "cosine";
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
 
     private static final String DISTANCE_FUNCTION_COSINE = "cosine_distance";
     private static final String DISTANCE_FUNCTION_L2 = "l2_distance";
     private static final String DISTANCE_FUNCTION_INNER_PRODUCT = "inner_product";
 
-    private final String url;
-    private final String user;
-    private final String password;
+    private final DataSource dataSource;
+    private final boolean ownsDataSource;
     private final String tableName;
     private final String metricType;
     private final boolean retrieveEmbeddingsOnSearch;
@@ -69,10 +80,31 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final boolean enableHybridSearch;
     private final int dimension;
 
+    private final HybridSearchFusion hybridSearchFusion;
+    private final ExecutorService hybridSearchExecutor;
+
+    private final String insertSql;
+    private final String deleteByIdSql;
+    private final String fulltextSearchSql;
+    private volatile IndexMetadata indexMetadata;
+
+    /**
+     * The indexes of the table, and the unfiltered vector search built for them.
+     */
+    private record IndexMetadata(boolean vectorIndex, boolean fulltextIndex, String searchSql) {}
+
     public OceanBaseEmbeddingStore(Builder builder) {
-        this.url = ensureNotNull(builder.url, "url");
-        this.user = ensureNotNull(builder.user, "user");
-        this.password = ensureNotNull(builder.password, "password");
+        if (builder.dataSource != null) {
+            this.dataSource = builder.dataSource;
+            this.ownsDataSource = false;
+        } else {
+            this.dataSource = createDataSource(
+                    ensureNotNull(builder.url, "url"),
+                    ensureNotNull(builder.user, "user"),
+                    ensureNotNull(builder.password, "password"),
+                    ensureGreaterThanZero(getOrDefault(builder.maxPoolSize, DEFAULT_MAX_POOL_SIZE), "maxPoolSize"));
+            this.ownsDataSource = true;
+        }
         this.tableName = getOrDefault(builder.tableName, "default");
         this.metricType = getOrDefault(builder.metricType, DEFAULT_METRIC_TYPE);
         this.retrieveEmbeddingsOnSearch = getOrDefault(builder.retrieveEmbeddingsOnSearch, false);
@@ -82,6 +114,7 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
                 getOrDefault(builder.metadataFieldName, DEFAULT_METADATA_FIELD_NAME),
                 getOrDefault(builder.vectorFieldName, DEFAULT_VECTOR_FIELD_NAME));
         this.enableHybridSearch = getOrDefault(builder.enableHybridSearch, false);
+        this.hybridSearchFusion = getOrDefault(builder.hybridSearchFusion, HybridSearchFusion.reciprocalRank());
         this.dimension = ensureNotNull(builder.dimension, "dimension");
 
         initializeDatabase();
@@ -89,12 +122,75 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
         if (enableHybridSearch) {
             ensureFulltextIndexExists();
         }
+
+        this.insertSql = format(
+                "INSERT INTO `%s` (`%s`, `%s`, `%s`, `%s`) VALUES (?, ?, ?, ?)",
+                tableName,
+                fieldDefinition.getIdFieldName(),
+                fieldDefinition.getVectorFieldName(),
+                fieldDefinition.getTextFieldName(),
+                fieldDefinition.getMetadataFieldName());
+        this.deleteByIdSql = format("DELETE FROM `%s` WHERE `%s` = ?", tableName, fieldDefinition.getIdFieldName());
+        this.fulltextSearchSql = buildFulltextSearchSql(null);
+        refreshIndexMetadata();
+
+        if (enableHybridSearch) {
+            this.hybridSearchExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "langchain4j-oceanbase-hybrid-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.hybridSearchExecutor = null;
+        }
+    }
+
+    private static DataSource createDataSource(String url, String user, String password, int maxPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(1);
+        config.setPoolName("langchain4j-oceanbase");
+        // prepared once per connection and reused for the statements built in the constructor
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "256");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "4096");
+        // sends the batched inserts and deletes as multi-row statements
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        try {
+            return new HikariDataSource(config);
+        } catch (RuntimeException e) {
+            throw new OceanBaseRequestFailedException(format("Failed to connect to '%s'", url), e);
+        }
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Looks up the vector and fulltext indexes of the table again.
+     * <p>
+     * The indexes are looked up when the store is created, this is only needed if they are created or dropped
+     * outside of the store afterward.
+     */
+    public void refreshIndexMetadata() {
+        boolean vectorIndex = checkIndexExists(tableName.toLowerCase() + "_vidx") || hasVectorIndexOnColumn();
+        boolean fulltextIndex = enableHybridSearch
+                && (checkIndexExists(tableName.toLowerCase() + "_fts_idx") || hasFulltextIndexOnColumn());
+        if (enableHybridSearch && !fulltextIndex) {
+            log.warn(
+                    "Hybrid search is enabled but table '{}' has no fulltext index on column '{}', "
+                            + "only the vector search is performed",
+                    tableName,
+                    fieldDefinition.getTextFieldName());
+        }
+        this.indexMetadata = new IndexMetadata(vectorIndex, fulltextIndex, buildSearchSql(null, vectorIndex));
+    }
+
     private void initializeDatabase() {
         if (!tableExists()) {
             createTable();
@@ -186,6 +282,31 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
         return false;
     }
 
+    /**
+     * Whether a fulltext index of any name covers the text column, e.g. {@code FULLTEXT KEY `idx` (`text`)}
+     * in the table definition.
+     */
+    private boolean hasFulltextIndexOnColumn() {
+        String sql = "SHOW CREATE TABLE `" + tableName + "`";
+        String column = "`" + fieldDefinition.getTextFieldName().toLowerCase() + "`";
+        try (Connection connection = getConnection();
+                PreparedStatement pstmt = connection.prepareStatement(sql);
+                ResultSet rs = pstmt.executeQuery()) {
+            if (rs.next()) {
+                String createTableSql = rs.getString(2);
+                if (createTableSql != null) {
+                    return createTableSql
+                            .toLowerCase()
+                            .lines()
+                            .anyMatch(line -> line.contains("fulltext") && line.contains(column));
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to check fulltext index on table '{}': {}", tableName, e.getMessage());
+        }
+        return false;
+    }
+
     /**
      * Gets the OceanBase distance value for index creation.
      * OceanBase CREATE VECTOR INDEX requires distance values: l2, inner_product, or cosine.
@@ -233,7 +354,21 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url, user, password);
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Closes the connection pool, if it was created by this store.
+     * A {@link DataSource} given to the builder is left open.
+     */
+    @Override
+    public void close() {
+        if (hybridSearchExecutor != null) {
+            hybridSearchExecutor.shutdownNow();
+        }
+        if (ownsDataSource && dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
     }
 
     private void executeUpdate(String sql) {
@@ -290,16 +425,8 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
             return;
         }
 
-        String sql = format(
-                "INSERT INTO `%s` (`%s`, `%s`, `%s`, `%s`) VALUES (?, ?, ?, ?)",
-                tableName,
-                fieldDefinition.getIdFieldName(),
-                fieldDefinition.getVectorFieldName(),
-                fieldDefinition.getTextFieldName(),
-                fieldDefinition.getMetadataFieldName());
-
         try (Connection connection = getConnection();
-                PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                PreparedStatement pstmt = connection.prepareStatement(insertSql)) {
 
             for (int i = 0; i < ids.size(); i++) {
                 String id = ids.get(i);
@@ -307,7 +434,7 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
                 TextSegment textSegment =
                         (textSegments != null && i < textSegments.size()) ? textSegments.get(i) : null;
 
-                String vectorString = convertEmbeddingToString(embedding.vector());
+                String vectorString = toVectorLiteral(embedding.vector());
                 String text = textSegment != null ? textSegment.text() : "";
                 String metadataJson = serializeMetadata(textSegment != null ? textSegment.metadata() : null);
 
@@ -326,13 +453,22 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
-    private String convertEmbeddingToString(float[] embedding) {
-        return "["
-                + IntStream.range(0, embedding.length)
-                        .mapToObj(i -> String.valueOf(embedding[i]))
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse("")
-                + "]";
+    /**
+     * Formats the vector as the <code>[x,y,...]</code> literal accepted by the VECTOR columns and distance functions.
+     * <p>
+     * The driver has no binary encoding of the VECTOR type, so the literal is written in a single pass
+     * into a presized buffer.
+     */
+    static String toVectorLiteral(float[] vector) {
+        StringBuilder sb = new StringBuilder(vector.length * 12 + 2);
+        sb.append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(vector[i]);
+        }
+        return sb.append(']').toString();
     }
 
     private String serializeMetadata(Metadata metadata) {
@@ -370,15 +506,41 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private EmbeddingSearchResult<TextSegment> vectorSimilaritySearch(EmbeddingSearchRequest request) {
-        List<Float> queryVector = request.queryEmbedding().vectorAsList();
-        float[] vectorArray = new float[queryVector.size()];
-        for (int i = 0; i < queryVector.size(); i++) {
-            vectorArray[i] = queryVector.get(i);
+        String vectorString = toVectorLiteral(request.queryEmbedding().vector());
+        IndexMetadata indexMetadata = this.indexMetadata;
+        String finalSql = request.filter() == null
+                ? indexMetadata.searchSql()
+                : buildSearchSql(request.filter(), indexMetadata.vectorIndex());
+
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        try (Connection connection = getConnection();
+                PreparedStatement pstmt = connection.prepareStatement(finalSql)) {
+
+            pstmt.setString(1, vectorString);
+            pstmt.setString(2, vectorString);
+            pstmt.setString(3, vectorString);
+            pstmt.setInt(4, request.maxResults());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    EmbeddingMatch<TextSegment> match = extractMatchFromResultSet(rs, request);
+                    if (match != null && match.score() >= request.minScore()) {
+                        matches.add(match);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Failed to perform similarity search in table '{}'", tableName, e);
+            throw new OceanBaseRequestFailedException(
+                    format("Failed to perform similarity search in table '%s'", tableName), e);
         }
-        String vectorString = convertEmbeddingToString(vectorArray);
 
+        return new EmbeddingSearchResult<>(matches);
+    }
+
+    private String buildSearchSql(Filter filter, boolean useApproximateLimit) {
         String distanceFunc = getDistanceFunctionName(metricType);
-        String whereExpr = buildWhereExpression(request.filter(), fieldDefinition);
+        String whereExpr = buildWhereExpression(filter, fieldDefinition);
 
         StringBuilder sql = new StringBuilder();
         sql.append("SELECT `").append(fieldDefinition.getIdFieldName()).append("`, ");
@@ -413,54 +575,37 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
                 .append(fieldDefinition.getVectorFieldName())
                 .append("`, ?) ASC ");
 
-        boolean useApproximateLimit = checkIndexExists(tableName.toLowerCase() + "_vidx") || hasVectorIndexOnColumn();
         if (useApproximateLimit) {
             sql.append("APPROXIMATE LIMIT ?");
         } else {
             sql.append("LIMIT ?");
         }
-
-        String finalSql = sql.toString();
-        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
-        try (Connection connection = getConnection();
-                PreparedStatement pstmt = connection.prepareStatement(finalSql)) {
-
-            pstmt.setString(1, vectorString);
-            pstmt.setString(2, vectorString);
-            pstmt.setString(3, vectorString);
-            pstmt.setInt(4, request.maxResults());
-
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    EmbeddingMatch<TextSegment> match = extractMatchFromResultSet(rs, request);
-                    if (match != null && match.score() >= request.minScore()) {
-                        matches.add(match);
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            log.error("Failed to perform similarity search in table '{}'", tableName, e);
-            throw new OceanBaseRequestFailedException(
-                    format("Failed to perform similarity search in table '%s'", tableName), e);
-        }
-
-        return new EmbeddingSearchResult<>(matches);
+        return sql.toString();
     }
 
     private EmbeddingSearchResult<TextSegment> hybridSearch(EmbeddingSearchRequest request) {
-        // Perform vector similarity search
+        // The fulltext search runs on another connection while the vector search runs on this thread
+        Future<List<EmbeddingMatch<TextSegment>>> fulltextFuture = indexMetadata.fulltextIndex()
+                ? hybridSearchExecutor.submit(() -> performFulltextSearch(
+                        request.query(), request.queryEmbedding(), request.filter(), request.maxResults() * 2))
+                : CompletableFuture.completedFuture(List.of());
+
         EmbeddingSearchRequest vectorRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(request.queryEmbedding())
                 .filter(request.filter())
                 .maxResults(request.maxResults() * 2)
                 .minScore(0.0)
                 .build();
-        List<EmbeddingMatch<TextSegment>> vectorMatches =
-                vectorSimilaritySearch(vectorRequest).matches();
-        List<EmbeddingMatch<TextSegment>> fulltextMatches = performFulltextSearch(
-                request.query(), request.queryEmbedding(), request.filter(), request.maxResults() * 2);
+        List<EmbeddingMatch<TextSegment>> vectorMatches;
+        try {
+            vectorMatches = vectorSimilaritySearch(vectorRequest).matches();
+        } catch (RuntimeException e) {
+            fulltextFuture.cancel(true);
+            throw e;
+        }
+        List<EmbeddingMatch<TextSegment>> fulltextMatches = awaitFulltextSearch(fulltextFuture);
         List<EmbeddingMatch<TextSegment>> combinedMatches =
-                combineHybridResults(vectorMatches, fulltextMatches, request.maxResults());
+                hybridSearchFusion.fuse(vectorMatches, fulltextMatches, request.maxResults());
         List<EmbeddingMatch<TextSegment>> result = combinedMatches.stream()
                 .filter(match -> match.score() >= request.minScore())
                 .collect(toList());
@@ -470,32 +615,11 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     private List<EmbeddingMatch<TextSegment>> performFulltextSearch(
             String queryText, Embedding queryEmbedding, Filter filter, int maxResults) {
-        String whereExpr = buildWhereExpression(filter, fieldDefinition);
-
-        StringBuilder sql = new StringBuilder();
-        sql.append("SELECT `").append(fieldDefinition.getIdFieldName()).append("`, ");
-        sql.append("`").append(fieldDefinition.getTextFieldName()).append("`, ");
-        sql.append("`").append(fieldDefinition.getMetadataFieldName()).append("`");
-        if (retrieveEmbeddingsOnSearch) {
-            sql.append(", `").append(fieldDefinition.getVectorFieldName()).append("`");
-        }
-        sql.append(", MATCH(`")
-                .append(fieldDefinition.getTextFieldName())
-                .append("`) AGAINST(? IN NATURAL LANGUAGE MODE) as score ");
-        sql.append("FROM `").append(tableName).append("` ");
-        sql.append("WHERE MATCH(`")
-                .append(fieldDefinition.getTextFieldName())
-                .append("`) AGAINST(? IN NATURAL LANGUAGE MODE)");
-
-        if (whereExpr != null && !whereExpr.trim().isEmpty()) {
-            sql.append(" AND ").append(whereExpr);
-        }
-
-        sql.append(" ORDER BY score DESC LIMIT ?");
+        String sql = filter == null ? fulltextSearchSql : buildFulltextSearchSql(filter);
 
         List<EmbeddingMatch<TextSegment>> results = new ArrayList<>();
         try (Connection connection = getConnection();
-                PreparedStatement pstmt = connection.prepareStatement(sql.toString())) {
+                PreparedStatement pstmt = connection.prepareStatement(sql)) {
 
             pstmt.setString(1, queryText);
             pstmt.setString(2, queryText);
@@ -528,53 +652,53 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
         return results;
     }
 
-    private List<EmbeddingMatch<TextSegment>> combineHybridResults(
-            List<EmbeddingMatch<TextSegment>> vectorResults,
-            List<EmbeddingMatch<TextSegment>> fulltextResults,
-            int topK) {
-        Map<String, EmbeddingMatch<TextSegment>> docMap = new LinkedHashMap<>();
-        Map<String, Double> rrfScores = new HashMap<>();
+    private String buildFulltextSearchSql(Filter filter) {
+        String whereExpr = buildWhereExpression(filter, fieldDefinition);
 
-        final int k = 60;
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT `").append(fieldDefinition.getIdFieldName()).append("`, ");
+        sql.append("`").append(fieldDefinition.getTextFieldName()).append("`, ");
+        sql.append("`").append(fieldDefinition.getMetadataFieldName()).append("`");
+        if (retrieveEmbeddingsOnSearch) {
+            sql.append(", `").append(fieldDefinition.getVectorFieldName()).append("`");
+        }
+        sql.append(", MATCH(`")
+                .append(fieldDefinition.getTextFieldName())
+                .append("`) AGAINST(? IN NATURAL LANGUAGE MODE) as score ");
+        sql.append("FROM `").append(tableName).append("` ");
+        sql.append("WHERE MATCH(`")
+                .append(fieldDefinition.getTextFieldName())
+                .append("`) AGAINST(? IN NATURAL LANGUAGE MODE)");
 
-        for (int i = 0; i < vectorResults.size(); i++) {
-            EmbeddingMatch<TextSegment> match = vectorResults.get(i);
-            String id = match.embeddingId();
-            docMap.put(id, match);
-            int rank = i + 1;
-            rrfScores.put(id, rrfScores.getOrDefault(id, 0.0) + 1.0 / (k + rank));
+        if (whereExpr != null && !whereExpr.trim().isEmpty()) {
+            sql.append(" AND ").append(whereExpr);
         }
 
-        for (int i = 0; i < fulltextResults.size(); i++) {
-            EmbeddingMatch<TextSegment> match = fulltextResults.get(i);
-            String id = match.embeddingId();
-            if (!docMap.containsKey(id)) {
-                docMap.put(id, match);
+        sql.append(" ORDER BY score DESC LIMIT ?");
+        return sql.toString();
+    }
+
+    private List<EmbeddingMatch<TextSegment>> awaitFulltextSearch(
+            Future<List<EmbeddingMatch<TextSegment>>> fulltextFuture) {
+        try {
+            return fulltextFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fulltextFuture.cancel(true);
+            throw new OceanBaseRequestFailedException(
+                    format("Interrupted while waiting for the fulltext search in table '%s'", tableName), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-            int rank = i + 1;
-            rrfScores.put(id, rrfScores.getOrDefault(id, 0.0) + 1.0 / (k + rank));
-        }
-
-        double maxRrfScore = rrfScores.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .max()
-                .orElse(1.0);
-        return docMap.values().stream()
-                .sorted((d1, d2) -> Double.compare(
-                        rrfScores.getOrDefault(d2.embeddingId(), 0.0), rrfScores.getOrDefault(d1.embeddingId(), 0.0)))
-                .limit(topK)
-                .map(match -> {
-                    double normalizedScore =
-                            maxRrfScore > 0 ? rrfScores.getOrDefault(match.embeddingId(), 0.0) / maxRrfScore : 0.0;
-                    return new EmbeddingMatch<>(
-                            normalizedScore, match.embeddingId(), match.embedding(), match.embedded());
-                })
-                .collect(toList());
+            throw new OceanBaseRequestFailedException(
+                    format("Failed to perform fulltext search in table '%s'", tableName), e.getCause());
+        }
     }
 
     private void ensureFulltextIndexExists() {
         String indexName = tableName.toLowerCase() + "_fts_idx";
-        if (checkIndexExists(indexName)) {
+        if (checkIndexExists(indexName) || hasFulltextIndexOnColumn()) {
             return;
         }
 
@@ -738,10 +862,9 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
-        String sql = format("DELETE FROM `%s` WHERE `%s` = ?", tableName, fieldDefinition.getIdFieldName());
 
         try (Connection connection = getConnection();
-                PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                PreparedStatement pstmt = connection.prepareStatement(deleteByIdSql)) {
             for (String id : ids) {
                 pstmt.setString(1, id);
                 pstmt.addBatch();
@@ -785,6 +908,9 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String metadataFieldName;
         private String vectorFieldName;
         private Boolean enableHybridSearch;
+        private DataSource dataSource;
+        private Integer maxPoolSize;
+        private HybridSearchFusion hybridSearchFusion;
 
         public Builder url(String url) {
             this.url = url;
@@ -846,6 +972,33 @@ public class OceanBaseEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param dataSource the {@link DataSource} to take the connections from, which is not closed by the store.
+         *                   If set, {@code url}, {@code user} and {@code password} are ignored.
+         */
+        public Builder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        /**
+         * @param maxPoolSize the maximum number of connections of the pool created when no {@link DataSource}
+         *                    is set (default: 10)
+         */
+        public Builder maxPoolSize(Integer maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        /**
+         * @param hybridSearchFusion how the matches of the vector and fulltext searches are combined
+         *                           (default: {@link HybridSearchFusion#reciprocalRank()})
+         */
+        public Builder hybridSearchFusion(HybridSearchFusion hybridSearchFusion) {
+            this.hybridSearchFusion = hybridSearchFusion;
+            return this;
+        }
+
         public OceanBaseEmbeddingStore build() {
             return new OceanBaseEmbeddingStore(this);
         }
@@ -0,0 +1,50 @@
+package dev.langchain4j.store.embedding.oceanbase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HybridSearchFusionTest {
+
+    private final List<EmbeddingMatch<TextSegment>> vectorMatches = List.of(match("a"), match("b"), match("c"));
+    private final List<EmbeddingMatch<TextSegment>> fulltextMatches = List.of(match("c"), match("d"));
+
+    @Test
+    void test_reciprocal_rank_fusion() {
+        List<EmbeddingMatch<TextSegment>> fused =
+                HybridSearchFusion.reciprocalRank().fuse(vectorMatches, fulltextMatches, 3);
+
+        // c is ranked by both searches, b and d are tied and kept in the order of the searches
+        assertThat(fused).extracting(EmbeddingMatch::embeddingId).containsExactly("c", "a", "b");
+        assertThat(fused.get(0).score()).isEqualTo(1.0);
+        assertThat(fused.get(1).score()).isCloseTo((1.0 / 61) / (1.0 / 63 + 1.0 / 61), within(1e-9));
+        assertThat(fused.get(2).embedded()).isEqualTo(TextSegment.from("b"));
+    }
+
+    @Test
+    void test_weighted_reciprocal_rank_fusion() {
+        List<EmbeddingMatch<TextSegment>> vectorOnly =
+                HybridSearchFusion.weightedReciprocalRank(1.0, 60).fuse(vectorMatches, fulltextMatches, 10);
+        List<EmbeddingMatch<TextSegment>> fulltextFirst =
+                HybridSearchFusion.weightedReciprocalRank(0.2, 1).fuse(vectorMatches, fulltextMatches, 10);
+
+        assertThat(vectorOnly).extracting(EmbeddingMatch::embeddingId).startsWith("a", "b", "c");
+        assertThat(vectorOnly.get(3).score()).isZero();
+        assertThat(fulltextFirst).extracting(EmbeddingMatch::embeddingId).containsExactly("c", "d", "a", "b");
+    }
+
+    @Test
+    void test_invalid_weight() {
+        assertThatThrownBy(() -> HybridSearchFusion.weightedReciprocalRank(1.5, 60))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EmbeddingMatch<TextSegment> match(String id) {
+        return new EmbeddingMatch<>(0.5, id, null, TextSegment.from(id));
+    }
+}
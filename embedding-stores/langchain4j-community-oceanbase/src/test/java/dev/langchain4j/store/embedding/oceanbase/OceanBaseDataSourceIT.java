@@ -0,0 +1,123 @@
+package dev.langchain4j.store.embedding.oceanbase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration test for OceanBase embedding store with a {@link javax.sql.DataSource} given to the builder.
+ * <p>
+ * By default, integration tests will run a docker image of OceanBase using TestContainers.
+ * Alternatively, the tests can connect to an OceanBase instance if the following environment variables are configured:
+ * <ul>
+ *   <li>{@code OCEANBASE_URI}: JDBC url (e.g., "jdbc:oceanbase://127.0.0.1:2881/test")</li>
+ *   <li>{@code OCEANBASE_USER}: Username (e.g., "root@test")</li>
+ *   <li>{@code OCEANBASE_PASSWORD}: Password</li>
+ * </ul>
+ */
+class OceanBaseDataSourceIT {
+
+    private static final String TABLE_NAME = "test_data_source_" + System.currentTimeMillis();
+    private static final int DIMENSION = 8;
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void beforeAll() {
+        OceanBaseContainerTestBase.initContainer();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(OceanBaseContainerTestBase.getJdbcUrl());
+        config.setUsername(OceanBaseContainerTestBase.getUsername());
+        config.setPassword(OceanBaseContainerTestBase.getPassword());
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        dataSource.close();
+        OceanBaseContainerTestBase.stopContainer();
+    }
+
+    @Test
+    void test_store_with_data_source_is_not_closing_it() {
+        Random random = new Random(42);
+        List<Embedding> embeddings = IntStream.range(0, 20)
+                .mapToObj(i -> {
+                    float[] vector = new float[DIMENSION];
+                    for (int j = 0; j < DIMENSION; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    // small values are formatted in scientific notation
+                    vector[0] = 1e-6f * i;
+                    return Embedding.from(vector);
+                })
+                .toList();
+        List<TextSegment> segments = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> TextSegment.from("text-" + i))
+                .toList();
+
+        List<String> ids;
+        try (OceanBaseEmbeddingStore embeddingStore = embeddingStore()) {
+            ids = embeddingStore.addAll(embeddings, segments);
+
+            // more searches than pooled connections, to check that the connections are returned to the pool
+            for (int i = 0; i < 10; i++) {
+                List<EmbeddingMatch<TextSegment>> matches = embeddingStore
+                        .search(EmbeddingSearchRequest.builder()
+                                .queryEmbedding(embeddings.get(i))
+                                .maxResults(3)
+                                .build())
+                        .matches();
+
+                assertThat(matches).hasSize(3);
+                assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(i));
+                assertThat(matches.get(0).embedded()).isEqualTo(segments.get(i));
+            }
+        }
+
+        assertThat(dataSource.isClosed()).isFalse();
+
+        try (OceanBaseEmbeddingStore embeddingStore = embeddingStore()) {
+            embeddingStore.removeAll(ids.subList(0, 10));
+            List<EmbeddingMatch<TextSegment>> matches = embeddingStore
+                    .search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(embeddings.get(0))
+                            .maxResults(20)
+                            .build())
+                    .matches();
+
+            assertThat(matches)
+                    .extracting(EmbeddingMatch::embeddingId)
+                    .containsExactlyInAnyOrderElementsOf(ids.subList(10, 20));
+            embeddingStore.dropCollection(TABLE_NAME);
+        }
+    }
+
+    @Test
+    void test_vector_literal() {
+        assertThat(OceanBaseEmbeddingStore.toVectorLiteral(new float[0])).isEqualTo("[]");
+        assertThat(OceanBaseEmbeddingStore.toVectorLiteral(new float[] {1f, -0.5f, 1e-6f}))
+                .isEqualTo("[1.0,-0.5,1.0E-6]");
+    }
+
+    private static OceanBaseEmbeddingStore embeddingStore() {
+        return OceanBaseEmbeddingStore.builder()
+                .dataSource(dataSource)
+                .tableName(TABLE_NAME)
+                .dimension(DIMENSION)
+                .metricType("cosine")
+                .build();
+    }
+}
@@ -49,6 +49,7 @@ class OceanBaseEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
 
     @AfterAll
     static void afterAll() {
+        embeddingStore.close();
         OceanBaseContainerTestBase.stopContainer();
     }
 
@@ -68,6 +69,7 @@ class OceanBaseEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         // If table was dropped in afterEach, we recreate the store instance
         // which will automatically recreate the table in the constructor.
         // Recreating the store ensures the table exists for the test.
+        embeddingStore.close();
         embeddingStore = OceanBaseEmbeddingStore.builder()
                 .url(OceanBaseContainerTestBase.getJdbcUrl())
                 .user(OceanBaseContainerTestBase.getUsername())
@@ -91,6 +93,7 @@ class OceanBaseEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         } catch (Exception e) {
             // Ignore if table doesn't exist
         }
+        embeddingStore.close();
         // Recreate the store (and table) by creating a new instance
         embeddingStore = OceanBaseEmbeddingStore.builder()
                 .url(OceanBaseContainerTestBase.getJdbcUrl())
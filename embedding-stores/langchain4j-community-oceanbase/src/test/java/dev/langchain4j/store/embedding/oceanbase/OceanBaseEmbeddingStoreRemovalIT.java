@@ -44,6 +44,7 @@ class OceanBaseEmbeddingStoreRemovalIT extends EmbeddingStoreWithRemovalIT {
 
     @AfterAll
     static void afterAll() {
+        embeddingStore.close();
         OceanBaseContainerTestBase.stopContainer();
     }
 
@@ -65,6 +66,7 @@ class OceanBaseEmbeddingStoreRemovalIT extends EmbeddingStoreWithRemovalIT {
         } catch (Exception e) {
             // Ignore cleanup errors
         }
+        embeddingStore.close();
         // Recreate the store (and table) by creating a new instance
         embeddingStore = OceanBaseEmbeddingStore.builder()
                 .url(OceanBaseContainerTestBase.getJdbcUrl())
@@ -71,6 +71,7 @@ class OceanBaseFilterIT {
             } catch (Exception e) {
                 // Ignore cleanup errors
             }
+            embeddingStore.close();
         }
     }
 
@@ -234,6 +235,7 @@ class OceanBaseFilterIT {
     @Test
     void test_filter_with_hybrid_search() {
         // Add test documents
+        embeddingStore.close();
         embeddingStore = OceanBaseEmbeddingStore.builder()
                 .url(OceanBaseContainerTestBase.getJdbcUrl())
                 .user(OceanBaseContainerTestBase.getUsername())
@@ -9,6 +9,11 @@ import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2Quantize
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -66,6 +71,7 @@ class OceanBaseHybridSearchIT {
             } catch (Exception e) {
                 // Ignore cleanup errors
             }
+            embeddingStore.close();
         }
     }
 
@@ -157,4 +163,99 @@ class OceanBaseHybridSearchIT {
 
         assertThat(hybridResults.matches()).isNotEmpty();
     }
+
+    @Test
+    void test_hybrid_search_with_vector_only_fusion() {
+        embeddingStore.close();
+        embeddingStore = OceanBaseEmbeddingStore.builder()
+                .url(OceanBaseContainerTestBase.getJdbcUrl())
+                .user(OceanBaseContainerTestBase.getUsername())
+                .password(OceanBaseContainerTestBase.getPassword())
+                .tableName(TABLE_NAME)
+                .dimension(384)
+                .metricType("cosine")
+                .enableHybridSearch(true)
+                .hybridSearchFusion(HybridSearchFusion.weightedReciprocalRank(1.0, 60))
+                .build();
+
+        for (String text : List.of(
+                "Java is a programming language", "Python is great for data science", "Machine learning algorithms")) {
+            embeddingStore.add(embeddingModel.embed(text).content(), TextSegment.from(text));
+        }
+        embeddingStore.refreshIndexMetadata();
+
+        Embedding queryEmbedding = embeddingModel.embed("data science").content();
+        List<EmbeddingMatch<TextSegment>> vectorMatches = embeddingStore
+                .search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(queryEmbedding)
+                        .maxResults(3)
+                        .build())
+                .matches();
+        List<EmbeddingMatch<TextSegment>> hybridMatches = embeddingStore
+                .search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(queryEmbedding)
+                        .query("programming language")
+                        .maxResults(3)
+                        .build())
+                .matches();
+
+        // the fulltext matches are only added after the vector ones
+        assertThat(hybridMatches)
+                .extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(
+                        vectorMatches.stream().map(EmbeddingMatch::embeddingId).toList());
+    }
+
+    @Test
+    void test_hybrid_search_with_fulltext_index_of_another_name() throws SQLException {
+        String tableName = TABLE_NAME + "_custom_fts";
+        OceanBaseEmbeddingStore.Builder builder = OceanBaseEmbeddingStore.builder()
+                .url(OceanBaseContainerTestBase.getJdbcUrl())
+                .user(OceanBaseContainerTestBase.getUsername())
+                .password(OceanBaseContainerTestBase.getPassword())
+                .tableName(tableName)
+                .dimension(384)
+                .metricType("cosine");
+        // the table and its fulltext index are created outside of the hybrid search store
+        builder.build().close();
+        try (Connection connection = DriverManager.getConnection(
+                        OceanBaseContainerTestBase.getJdbcUrl(),
+                        OceanBaseContainerTestBase.getUsername(),
+                        OceanBaseContainerTestBase.getPassword());
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE FULLTEXT INDEX custom_text_idx ON `" + tableName + "` (`text`) WITH PARSER ngram");
+        }
+
+        try (OceanBaseEmbeddingStore hybridStore = builder.enableHybridSearch(true).build()) {
+            try (Connection connection = DriverManager.getConnection(
+                            OceanBaseContainerTestBase.getJdbcUrl(),
+                            OceanBaseContainerTestBase.getUsername(),
+                            OceanBaseContainerTestBase.getPassword());
+                    Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(
+                            "SHOW INDEX FROM `" + tableName + "` WHERE Key_name = '" + tableName + "_fts_idx'")) {
+                // the existing index is used, no other one is created
+                assertThat(rs.next()).isFalse();
+            }
+
+            String id = hybridStore.add(
+                    embeddingModel.embed("Java is a programming language").content(),
+                    TextSegment.from("Java is a programming language"));
+            hybridStore.add(
+                    embeddingModel.embed("Python is great for data science").content(),
+                    TextSegment.from("Python is great for data science"));
+
+            List<EmbeddingMatch<TextSegment>> matches = hybridStore
+                    .search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(embeddingModel.embed("programming language").content())
+                            .query("programming language")
+                            .maxResults(10)
+                            .build())
+                    .matches();
+
+            assertThat(matches).extracting(EmbeddingMatch::embeddingId).first().isEqualTo(id);
+            hybridStore.dropCollection(tableName);
+        }
+    }
 }
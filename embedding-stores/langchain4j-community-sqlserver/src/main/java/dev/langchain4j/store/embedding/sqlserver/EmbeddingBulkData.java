@@ -0,0 +1,112 @@
+package dev.langchain4j.store.embedding.sqlserver;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import java.sql.Types;
+import java.util.List;
+import java.util.Set;
+import microsoft.sql.Vector;
+
+/**
+ * <p>
+ *   Source of a {@link com.microsoft.sqlserver.jdbc.SQLServerBulkCopy} reading the rows of an
+ *   <em>addAll</em> call directly from its lists.
+ * </p>
+ * <p>
+ *   The rows are streamed: the vector of a row is created from the float array of its embedding when
+ *   the row is read, so the batch is never copied as a whole. The metadata is sent as NVARCHAR and
+ *   converted to JSON by SQL Server.
+ * </p>
+ */
+class EmbeddingBulkData implements ISQLServerBulkData {
+
+    private static final int ID = 1;
+    private static final int EMBEDDING = 2;
+    private static final int TEXT = 3;
+    private static final int METADATA = 4;
+
+    /**
+     * Bytes of a FLOAT32 dimension, the scale of a VECTOR column in the bulk copy metadata.
+     */
+    private static final int FLOAT32_SCALE = 4;
+
+    private final EmbeddingTable embeddingTable;
+    private final List<String> ids;
+    private final List<Embedding> embeddings;
+    private final List<TextSegment> textSegments;
+    private final int dimension;
+
+    private int row = -1;
+
+    /**
+     * Creates a source of the given rows.
+     *
+     * @param embeddingTable The table the rows are copied to.
+     * @param ids The ids of the rows.
+     * @param embeddings The embeddings of the rows, all of the same dimension.
+     * @param textSegments The text segments of the rows, or null to only copy the ids and embeddings.
+     */
+    EmbeddingBulkData(
+            EmbeddingTable embeddingTable,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> textSegments) {
+        this.embeddingTable = embeddingTable;
+        this.ids = ids;
+        this.embeddings = embeddings;
+        this.textSegments = textSegments;
+        this.dimension = embeddings.isEmpty() ? 0 : embeddings.get(0).dimension();
+    }
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+        return textSegments == null ? Set.of(ID, EMBEDDING) : Set.of(ID, EMBEDDING, TEXT, METADATA);
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return switch (column) {
+            case ID -> embeddingTable.idColumn();
+            case EMBEDDING -> embeddingTable.embeddingColumn();
+            case TEXT -> embeddingTable.textColumn();
+            case METADATA -> embeddingTable.metadataColumn();
+            default -> throw new IllegalArgumentException("Unknown column " + column);
+        };
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        return column == EMBEDDING ? microsoft.sql.Types.VECTOR : Types.NVARCHAR;
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        // 0 maps the NVARCHAR columns to NVARCHAR(MAX)
+        return column == EMBEDDING ? dimension : 0;
+    }
+
+    @Override
+    public int getScale(int column) {
+        return column == EMBEDDING ? FLOAT32_SCALE : 0;
+    }
+
+    @Override
+    public boolean next() {
+        return ++row < embeddings.size();
+    }
+
+    @Override
+    public Object[] getRowData() {
+        Float[] boxedVector = SQLServerEmbeddingStoreUtil.boxEmbeddings(embeddings.get(row).vector());
+        Vector vector = new Vector(boxedVector.length, Vector.VectorDimensionType.FLOAT32, boxedVector);
+        if (textSegments == null) {
+            return new Object[] {ids.get(row), vector};
+        }
+        TextSegment textSegment = textSegments.get(row);
+        String metadata = textSegment.metadata() != null
+                ? SQLServerEmbeddingStoreUtil.metadataToJson(textSegment.metadata())
+                : null;
+        return new Object[] {ids.get(row), vector, textSegment.text(), metadata};
+    }
+}
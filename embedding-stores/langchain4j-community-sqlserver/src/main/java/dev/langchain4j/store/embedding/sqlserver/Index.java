@@ -13,11 +13,16 @@ import javax.sql.DataSource;
  * </p>
  *   <ul>
  *     <li>{@link JSONIndexBuilder}</li>
+ *     <li>{@link VectorIndexBuilder}</li>
  *   </ul>
  * <p>
  *   {@link JSONIndexBuilder} allows to configure JSON indexes on the metadata
  *   column using SQL Server 2025 JSON index functionality.
  * </p>
+ * <p>
+ *   {@link VectorIndexBuilder} allows to configure a DiskANN vector index on the
+ *   embedding column, used by the approximate searches of the store.
+ * </p>
  */
 public class Index {
 
@@ -48,6 +53,15 @@ public class Index {
         return new JSONIndexBuilder();
     }
 
+    /**
+     * Creates a builder to configure a DiskANN vector index on the embedding column of
+     * the {@link EmbeddingTable}.
+     * @return A builder that allows to configure a vector index.
+     */
+    public static VectorIndexBuilder vectorIndexBuilder() {
+        return new VectorIndexBuilder();
+    }
+
     /**
      * Returns the name of the index.
      *
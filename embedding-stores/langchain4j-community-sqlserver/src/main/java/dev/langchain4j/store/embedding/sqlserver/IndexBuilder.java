@@ -4,8 +4,8 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * <p>
- *   Abstract class that contains common methods for IndexBuilders. SQL Server
- *   supports DiskANN vector indexes which can be implemented extending this class.
+ *   Abstract class that contains common methods for IndexBuilders: {@link JSONIndexBuilder}
+ *   for the metadata column and {@link VectorIndexBuilder} for DiskANN vector indexes.
  * </p>
  * @param <T> The index builder's type.
  */
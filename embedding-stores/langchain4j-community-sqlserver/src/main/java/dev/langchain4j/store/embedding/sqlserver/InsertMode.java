@@ -0,0 +1,15 @@
+package dev.langchain4j.store.embedding.sqlserver;
+
+/**
+ * Options which configure how {@link SQLServerEmbeddingStore} writes the embeddings of an <em>addAll</em> call.
+ */
+public enum InsertMode {
+
+    /** The rows are inserted with a batch of INSERT statements. */
+    BATCH,
+    /**
+     * The rows are streamed to the table with the bulk copy API of the driver, much faster for large batches.
+     * Existing ids are not replaced: a duplicate id fails the copy as it fails the INSERT statements.
+     */
+    BULK_COPY
+}
@@ -1,9 +1,14 @@
 package dev.langchain4j.store.embedding.sqlserver;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
 import com.microsoft.sqlserver.jdbc.SQLServerDataSource;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
@@ -29,20 +34,49 @@ import org.slf4j.LoggerFactory;
  * This implementation uses SQL Server database to store embeddings along with their associated text segments and metadata.
  * It leverages SQL Server 2025+'s native VECTOR data type and VECTOR_DISTANCE function for efficient similarity calculations.
  * </p>
+ * <p>
+ * When the table has a DiskANN vector index with the metric of the store, see {@link Index#vectorIndexBuilder()},
+ * the searches are approximate and use the VECTOR_SEARCH function. A search with a filter then fetches
+ * {@code filterOversampling} times more neighbours than requested and filters them, so it can return fewer results,
+ * see {@link Builder#filterOversampling(Integer)}. The vector index is looked up when the store is built,
+ * and again by {@link #refreshVectorIndex()}, e.g. once the index has been created on the filled table.
+ * </p>
  */
 public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     private static final Logger logger = LoggerFactory.getLogger(SQLServerEmbeddingStore.class);
 
+    /**
+     * Number of nearest neighbours fetched from the vector index per requested result when a filter is applied.
+     */
+    private static final int DEFAULT_FILTER_OVERSAMPLING = 10;
+
+    private static final int DEFAULT_BULK_COPY_BATCH_SIZE = 10_000;
+
     private final DataSource dataSource;
     private final EmbeddingTable embeddingTable;
     private final DistanceMetric metric;
+    private final InsertMode insertMode;
+    private final int bulkCopyBatchSize;
+    private final int filterOversampling;
+    private volatile boolean vectorIndex;
 
     private SQLServerEmbeddingStore(
-            DataSource dataSource, EmbeddingTable embeddingTable, List<Index> indexes, DistanceMetric metric) {
+            DataSource dataSource,
+            EmbeddingTable embeddingTable,
+            List<Index> indexes,
+            DistanceMetric metric,
+            InsertMode insertMode,
+            Integer bulkCopyBatchSize,
+            Integer filterOversampling) {
         this.dataSource = dataSource;
         this.embeddingTable = embeddingTable;
         this.metric = metric == null ? DistanceMetric.COSINE : metric;
+        this.insertMode = getOrDefault(insertMode, InsertMode.BATCH);
+        this.bulkCopyBatchSize = ensureGreaterThanZero(
+                getOrDefault(bulkCopyBatchSize, DEFAULT_BULK_COPY_BATCH_SIZE), "bulkCopyBatchSize");
+        this.filterOversampling = ensureGreaterThanZero(
+                getOrDefault(filterOversampling, DEFAULT_FILTER_OVERSAMPLING), "filterOversampling");
 
         try {
             embeddingTable.create(this.dataSource);
@@ -56,6 +90,41 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
         } catch (SQLException e) {
             throw new SQLServerLangChain4jException("Failed to create embedding table or indexes", e);
         }
+        this.vectorIndex = hasVectorIndex();
+    }
+
+    /**
+     * Looks up the vector indexes of the table again, so that the searches start or stop using the vector index
+     * created or dropped since the store was built.
+     *
+     * @return whether the searches use the vector index
+     */
+    public boolean refreshVectorIndex() {
+        vectorIndex = hasVectorIndex();
+        return vectorIndex;
+    }
+
+    /**
+     * Checks whether the table has a vector index with the metric of this store, which the searches can use.
+     */
+    private boolean hasVectorIndex() {
+        String sql = "SELECT distance_metric FROM sys.vector_indexes WHERE object_id = OBJECT_ID(?)";
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, embeddingTable.getQualifiedTableName());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (metric.getMetric().equalsIgnoreCase(resultSet.getString(1))) {
+                        logger.debug("Using the vector index of {}", embeddingTable.getQualifiedTableName());
+                        return true;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            // Servers without vector index support do not have the view
+            logger.debug("Failed to look up the vector indexes of {}", embeddingTable.getQualifiedTableName(), e);
+        }
+        return false;
     }
 
     /**
@@ -100,6 +169,15 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
         ensureNotNull(embeddings, "embeddings");
         String[] ids = new String[embeddings.size()];
 
+        if (insertMode == InsertMode.BULK_COPY) {
+            for (int i = 0; i < embeddings.size(); i++) {
+                ids[i] = randomUUID();
+                SQLServerEmbeddingStoreUtil.ensureIndexNotNull(embeddings, i, "embeddings");
+            }
+            bulkCopy(Arrays.asList(ids), embeddings, null);
+            return Arrays.asList(ids);
+        }
+
         String sql = String.format(
                 "INSERT INTO %s (%s, %s) VALUES (?, ?)",
                 embeddingTable.getQualifiedTableName(), embeddingTable.idColumn(), embeddingTable.embeddingColumn());
@@ -162,6 +240,21 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
             ids = new ArrayList<>(embeddings.size());
             generateIds = true;
         }
+
+        if (insertMode == InsertMode.BULK_COPY) {
+            for (int i = 0; i < embeddings.size(); i++) {
+                if (generateIds) {
+                    ids.add(randomUUID());
+                } else {
+                    SQLServerEmbeddingStoreUtil.ensureIndexNotNull(ids, i, "ids");
+                }
+                SQLServerEmbeddingStoreUtil.ensureIndexNotNull(embeddings, i, "embeddings");
+                SQLServerEmbeddingStoreUtil.ensureIndexNotNull(textSegments, i, "textSegments");
+            }
+            bulkCopy(ids, embeddings, textSegments);
+            return ids;
+        }
+
         try (Connection connection = dataSource.getConnection();
                 PreparedStatement statement = connection.prepareStatement(sql)) {
             for (int i = 0; i < embeddings.size(); i++) {
@@ -197,6 +290,40 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Streams the rows to the table with {@link SQLServerBulkCopy}, in batches of {@code bulkCopyBatchSize} rows.
+     *
+     * @param textSegments The text segments, or null to only copy the ids and embeddings.
+     */
+    private void bulkCopy(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        EmbeddingBulkData bulkData = new EmbeddingBulkData(embeddingTable, ids, embeddings, textSegments);
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+                SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+            options.setBatchSize(bulkCopyBatchSize);
+            options.setBulkCopyTimeout(0);
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(embeddingTable.getQualifiedTableName());
+            for (int column : bulkData.getColumnOrdinals()) {
+                bulkCopy.addColumnMapping(column, bulkData.getColumnName(column));
+            }
+            bulkCopy.writeToServer(bulkData);
+        } catch (SQLException e) {
+            logger.error("Failed to add embeddings", e);
+            throw new SQLServerLangChain4jException("Failed to add embeddings", e);
+        }
+        logger.debug(
+                "Copied {} rows to {} in {} ms",
+                embeddings.size(),
+                embeddingTable.getQualifiedTableName(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
         Embedding referenceEmbedding = request.queryEmbedding();
@@ -206,27 +333,10 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         SQLFilter sqlFilter = SQLFilters.create(filter, embeddingTable::mapMetadataKey);
 
-        // Build query using VECTOR_DISTANCE
-        String sql = String.format(
-                """
-                SELECT TOP (%d)
-                 VECTOR_DISTANCE('%s', %s, ?) AS distance,
-                 %s
-                 FROM %s
-                 %s
-                 ORDER BY distance ASC
-                """,
-                maxResults,
-                metric.getMetric(),
-                embeddingTable.embeddingColumn(),
-                String.join(
-                        ", ",
-                        embeddingTable.idColumn(),
-                        embeddingTable.embeddingColumn(),
-                        embeddingTable.textColumn(),
-                        embeddingTable.metadataColumn()),
-                embeddingTable.getQualifiedTableName(),
-                sqlFilter.asWhereClause());
+        // Build query using VECTOR_SEARCH on the vector index, or VECTOR_DISTANCE on every row
+        String sql = vectorIndex
+                ? createVectorSearchQuery(maxResults, filter != null, sqlFilter)
+                : createVectorDistanceQuery(maxResults, sqlFilter);
 
         List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
 
@@ -285,6 +395,66 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    /**
+     * Creates the exact search query, computing the distance of every row matching the filter.
+     */
+    private String createVectorDistanceQuery(int maxResults, SQLFilter sqlFilter) {
+        return String.format(
+                """
+                SELECT TOP (%d)
+                 VECTOR_DISTANCE('%s', %s, ?) AS distance,
+                 %s
+                 FROM %s
+                 %s
+                 ORDER BY distance ASC
+                """,
+                maxResults,
+                metric.getMetric(),
+                embeddingTable.embeddingColumn(),
+                String.join(
+                        ", ",
+                        embeddingTable.idColumn(),
+                        embeddingTable.embeddingColumn(),
+                        embeddingTable.textColumn(),
+                        embeddingTable.metadataColumn()),
+                embeddingTable.getQualifiedTableName(),
+                sqlFilter.asWhereClause());
+    }
+
+    /**
+     * Creates the approximate search query of the vector index. The filter is applied to the
+     * nearest neighbours returned by the index, oversampled by {@code filterOversampling}.
+     */
+    private String createVectorSearchQuery(int maxResults, boolean filtered, SQLFilter sqlFilter) {
+        return String.format(
+                """
+                SELECT TOP (%d)
+                 s.distance AS distance,
+                 %s
+                 FROM VECTOR_SEARCH(
+                  TABLE = %s AS t,
+                  COLUMN = %s,
+                  SIMILAR_TO = ?,
+                  METRIC = '%s',
+                  TOP_N = %d
+                 ) AS s
+                 %s
+                 ORDER BY s.distance ASC
+                """,
+                maxResults,
+                String.join(
+                        ", ",
+                        "t." + embeddingTable.idColumn(),
+                        "t." + embeddingTable.embeddingColumn(),
+                        "t." + embeddingTable.textColumn(),
+                        "t." + embeddingTable.metadataColumn()),
+                embeddingTable.getQualifiedTableName(),
+                embeddingTable.embeddingColumn(),
+                metric.getMetric(),
+                filtered ? maxResults * filterOversampling : maxResults,
+                sqlFilter.asWhereClause());
+    }
+
     @Override
     public void removeAll(Filter filter) {
 
@@ -403,6 +573,18 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
          * of embedding store objects for specific use cases.
          */
         protected DistanceMetric metric;
+        /**
+         * Defines how the embeddings of an <em>addAll</em> call are written, {@link InsertMode#BATCH} by default.
+         */
+        protected InsertMode insertMode;
+        /**
+         * Number of rows sent per batch by {@link InsertMode#BULK_COPY}.
+         */
+        protected Integer bulkCopyBatchSize;
+        /**
+         * Number of nearest neighbours fetched from the vector index per requested result by the filtered searches.
+         */
+        protected Integer filterOversampling;
 
         /**
          * Sets the embedding table to be used for storing embeddings in the SQL server.
@@ -453,6 +635,44 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * Sets how the embeddings of an <em>addAll</em> call are written. {@link InsertMode#BULK_COPY}
+         * streams them with the bulk copy API of the driver instead of a batch of INSERT statements.
+         *
+         * @param insertMode the {@link InsertMode} to be used, {@link InsertMode#BATCH} by default
+         * @return the {@code Builder} instance to allow for method chaining
+         */
+        public Builder insertMode(InsertMode insertMode) {
+            this.insertMode = insertMode;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows sent per batch by {@link InsertMode#BULK_COPY}.
+         *
+         * @param bulkCopyBatchSize the number of rows per batch, 10000 by default
+         * @return the {@code Builder} instance to allow for method chaining
+         */
+        public Builder bulkCopyBatchSize(Integer bulkCopyBatchSize) {
+            this.bulkCopyBatchSize = bulkCopyBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of nearest neighbours fetched from the vector index per requested result when a search
+         * has a filter. The filter is applied after the index search, to the {@code maxResults * filterOversampling}
+         * nearest neighbours, so a selective filter can return fewer than {@code maxResults} matches:
+         * a higher value finds more of them, at the cost of a slower search.
+         * Only used when the table has a vector index, the other searches are exact.
+         *
+         * @param filterOversampling the oversampling factor of the filtered searches, 10 by default
+         * @return the {@code Builder} instance to allow for method chaining
+         */
+        public Builder filterOversampling(Integer filterOversampling) {
+            this.filterOversampling = filterOversampling;
+            return this;
+        }
+
         /**
          * Builds and returns an instance of {@code SQLServerEmbeddingStore} based on the
          * properties configured in the {@code Builder}.
@@ -491,7 +711,8 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
         public SQLServerEmbeddingStore build() {
             ensureNotNull(dataSource, "dataSource");
             ensureNotNull(embeddingTable, "embeddingTable");
-            return new SQLServerEmbeddingStore(dataSource, embeddingTable, indexes, metric);
+            return new SQLServerEmbeddingStore(
+                    dataSource, embeddingTable, indexes, metric, insertMode, bulkCopyBatchSize, filterOversampling);
         }
     }
 
@@ -614,7 +835,8 @@ public class SQLServerEmbeddingStore implements EmbeddingStore<TextSegment> {
                 applyConnectionProperties(ds, connectionProperties);
             }
 
-            return new SQLServerEmbeddingStore(ds, embeddingTable, indexes, metric);
+            return new SQLServerEmbeddingStore(
+                    ds, embeddingTable, indexes, metric, insertMode, bulkCopyBatchSize, filterOversampling);
         }
 
         /**
@@ -0,0 +1,102 @@
+package dev.langchain4j.store.embedding.sqlserver;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * <p>
+ *   This index builder allows to configure a DiskANN vector index on the embedding column
+ *   of the {@link EmbeddingTable} using SQL Server 2025 CREATE VECTOR INDEX statement.
+ * </p>
+ * <p>
+ *   When the table has a vector index with the metric of the store, the searches use the
+ *   approximate nearest neighbour search of <em>VECTOR_SEARCH</em> instead of sorting the
+ *   <em>VECTOR_DISTANCE</em> of every row.
+ * </p>
+ * <p>
+ *   Vector indexes are a preview feature, enabled in the database with
+ *   <em>ALTER DATABASE SCOPED CONFIGURATION SET PREVIEW_FEATURES = ON</em>. Depending on the
+ *   SQL Server version, a table with a vector index may not accept data modifications, in which
+ *   case the index is best created once the embeddings are added.
+ * </p>
+ */
+public class VectorIndexBuilder extends IndexBuilder<VectorIndexBuilder> {
+
+    /**
+     * The distance metric of the index, which must be the metric of the store.
+     */
+    private DistanceMetric metric = DistanceMetric.COSINE;
+
+    /**
+     * The maximum degree of parallelism of the index build, or null for the default of the server.
+     */
+    private Integer maxDop;
+
+    VectorIndexBuilder() {}
+
+    /**
+     * Sets the distance metric of the index. The default is {@link DistanceMetric#COSINE}.
+     *
+     * @param metric The distance metric, which must be the metric of the store for the index to be used.
+     * @return This builder.
+     * @throws IllegalArgumentException If the metric is null.
+     */
+    public VectorIndexBuilder metric(DistanceMetric metric) {
+        ensureNotNull(metric, "metric");
+        this.metric = metric;
+        return this;
+    }
+
+    /**
+     * Sets the maximum degree of parallelism of the index build.
+     *
+     * @param maxDop The maximum number of processors used to build the index.
+     * @return This builder.
+     * @throws IllegalArgumentException If maxDop is not greater than zero.
+     */
+    public VectorIndexBuilder maxDop(Integer maxDop) {
+        this.maxDop = ensureGreaterThanZero(maxDop, "maxDop");
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Index build() {
+        if (CreateOption.CREATE_IF_NOT_EXISTS == createOption) {
+            throw new IllegalStateException("Unsupported CreateOption.CREATE_IF_NOT_EXISTS.");
+        }
+        return new Index(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getCreateIndexStatement(EmbeddingTable embeddingTable) {
+        return String.format(
+                "CREATE VECTOR INDEX %s ON %s(%s) WITH (METRIC = '%s', TYPE = 'DiskANN'%s)",
+                getIndexName(embeddingTable),
+                embeddingTable.getQualifiedTableName(),
+                embeddingTable.embeddingColumn(),
+                metric.getMetric(),
+                maxDop != null ? ", MAXDOP = " + maxDop : "");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     *   The index name is generated by concatenating "_VECTOR_" and the embedding column
+     *   name to the embedding table name.
+     * </p>
+     */
+    @Override
+    String getIndexName(EmbeddingTable embeddingTable) {
+        if (indexName == null) {
+            String column = embeddingTable.embeddingColumn().replace("[", "").replace("]", "");
+            indexName = buildIndexName(embeddingTable.name(), "_VECTOR_" + column.toUpperCase());
+        }
+        return indexName;
+    }
+}
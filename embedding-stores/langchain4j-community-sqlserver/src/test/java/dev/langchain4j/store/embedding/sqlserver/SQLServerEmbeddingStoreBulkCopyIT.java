@@ -0,0 +1,246 @@
+package dev.langchain4j.store.embedding.sqlserver;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static dev.langchain4j.store.embedding.sqlserver.util.SQLServerTestsUtil.getSqlServerDataSource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.microsoft.sqlserver.jdbc.SQLServerDataSource;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks the bulk copy ingestion and the vector index searches of {@link SQLServerEmbeddingStore}, and compares
+ * the ingestion throughput of both insert modes and the search latency with and without the vector index.
+ * The ingestion throughput comparison only runs when the `bulkBenchmarkRows` system property is set,
+ * e.g. `-DbulkBenchmarkRows=20000`, which also sets the size of the vector index search check (default: 2000 rows).
+ * The dimension can be changed via `bulkBenchmarkDimension`.
+ */
+@Testcontainers
+class SQLServerEmbeddingStoreBulkCopyIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(SQLServerEmbeddingStoreBulkCopyIT.class);
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("bulkBenchmarkRows", 2_000);
+    private static final int BENCHMARK_DIMENSION = Integer.getInteger("bulkBenchmarkDimension", 384);
+
+    private final SQLServerDataSource dataSource = getSqlServerDataSource();
+    private final Random random = new Random(42);
+
+    @Test
+    void bulk_copy_writes_the_same_rows_as_the_batch_insert() {
+        int dimension = 8;
+        List<String> ids = IntStream.range(0, 500).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(ids.size(), dimension);
+        List<TextSegment> segments = IntStream.range(0, ids.size())
+                .mapToObj(i -> i % 10 == 0
+                        ? TextSegment.from("text-" + i)
+                        : TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i).put("age", i)))
+                .toList();
+
+        SQLServerEmbeddingStore batchStore = createStore("batch_insert", dimension, InsertMode.BATCH);
+        SQLServerEmbeddingStore bulkCopyStore = createStore("bulk_copy", dimension, InsertMode.BULK_COPY);
+        batchStore.addAll(ids, embeddings, segments);
+        bulkCopyStore.addAll(ids, embeddings, segments);
+
+        for (int i = 0; i < 5; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 13))
+                    .maxResults(10)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> expected = batchStore.search(request).matches();
+
+            assertThat(expected).hasSize(10);
+            assertThat(bulkCopyStore.search(request).matches())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void bulk_copy_adds_embeddings_without_text_segments() {
+        int dimension = 8;
+        List<Embedding> embeddings = randomEmbeddings(100, dimension);
+        SQLServerEmbeddingStore store = createStore("bulk_copy_embeddings", dimension, InsertMode.BULK_COPY);
+
+        List<String> ids = store.addAll(embeddings);
+
+        EmbeddingMatch<TextSegment> match = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(42))
+                        .maxResults(1)
+                        .build())
+                .matches()
+                .get(0);
+        assertThat(ids).hasSize(100).doesNotHaveDuplicates();
+        assertThat(match.embeddingId()).isEqualTo(ids.get(42));
+        assertThat(match.embedded()).isNull();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bulkBenchmarkRows", matches = "\\d+")
+    void compare_the_batch_insert_and_bulk_copy_throughput() {
+        List<Embedding> embeddings = randomEmbeddings(BENCHMARK_ROWS, BENCHMARK_DIMENSION);
+        List<TextSegment> segments = IntStream.range(0, BENCHMARK_ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i)))
+                .toList();
+
+        for (InsertMode insertMode : InsertMode.values()) {
+            SQLServerEmbeddingStore store = createStore("insert_benchmark", BENCHMARK_DIMENSION, insertMode);
+
+            long start = System.nanoTime();
+            store.addAll(embeddings, segments);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            logger.info(
+                    "[{} rows, {} dimensions] {}: {} rows/s",
+                    BENCHMARK_ROWS,
+                    BENCHMARK_DIMENSION,
+                    insertMode,
+                    Math.round(BENCHMARK_ROWS / seconds));
+        }
+    }
+
+    @Test
+    void vector_index_search_finds_the_nearest_neighbours() throws SQLException {
+        enablePreviewFeatures();
+        List<Embedding> embeddings = randomEmbeddings(BENCHMARK_ROWS, BENCHMARK_DIMENSION);
+        List<TextSegment> segments = IntStream.range(0, BENCHMARK_ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("parity", i % 2 == 0 ? "even" : "odd")))
+                .toList();
+        SQLServerEmbeddingStore exactStore = createStore("vector_index", BENCHMARK_DIMENSION, InsertMode.BULK_COPY);
+        exactStore.addAll(embeddings, segments);
+
+        // the vector index is created once the rows are added, and used by the stores built or refreshed after it
+        SQLServerEmbeddingStore indexedStore = SQLServerEmbeddingStore.dataSourceBuilder()
+                .dataSource(dataSource)
+                .embeddingTable(embeddingTable("vector_index", BENCHMARK_DIMENSION, CreateOption.CREATE_NONE))
+                .addIndex(Index.vectorIndexBuilder()
+                        .createOption(CreateOption.CREATE_OR_REPLACE)
+                        .build())
+                .build();
+
+        long exactNanos = 0;
+        long indexedNanos = 0;
+        int found = 0;
+        int queries = 20;
+        for (int i = 0; i < queries; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * (BENCHMARK_ROWS / queries)))
+                    .maxResults(10)
+                    .build();
+
+            long start = System.nanoTime();
+            List<EmbeddingMatch<TextSegment>> expected = exactStore.search(request).matches();
+            exactNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<EmbeddingMatch<TextSegment>> approximate = indexedStore.search(request).matches();
+            indexedNanos += System.nanoTime() - start;
+
+            assertThat(approximate).hasSize(10);
+            // the query embedding itself is always the nearest neighbour
+            assertThat(approximate.get(0).embeddingId()).isEqualTo(expected.get(0).embeddingId());
+            List<String> expectedIds = expected.stream().map(EmbeddingMatch::embeddingId).toList();
+            found += (int) approximate.stream()
+                    .filter(match -> expectedIds.contains(match.embeddingId()))
+                    .count();
+        }
+        double recall = found / (queries * 10.0);
+        logger.info(
+                "[{} rows, {} dimensions] exact search: {} ms, vector index search: {} ms, recall@10: {}",
+                BENCHMARK_ROWS,
+                BENCHMARK_DIMENSION,
+                exactNanos / queries / 1_000_000.0,
+                indexedNanos / queries / 1_000_000.0,
+                recall);
+        assertThat(recall).isGreaterThan(0.5);
+
+        List<EmbeddingMatch<TextSegment>> filtered = indexedStore
+                .search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(0))
+                        .maxResults(10)
+                        .filter(metadataKey("parity").isEqualTo("odd"))
+                        .build())
+                .matches();
+        assertThat(filtered)
+                .isNotEmpty()
+                .allMatch(match -> "odd".equals(match.embedded().metadata().getString("parity")));
+
+        // half of the 20 * 10 nearest neighbours fetched from the index are expected to match the filter
+        SQLServerEmbeddingStore oversampledStore = SQLServerEmbeddingStore.dataSourceBuilder()
+                .dataSource(dataSource)
+                .embeddingTable(embeddingTable("vector_index", BENCHMARK_DIMENSION, CreateOption.CREATE_NONE))
+                .filterOversampling(20)
+                .build();
+        List<EmbeddingMatch<TextSegment>> oversampled = oversampledStore
+                .search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(0))
+                        .maxResults(10)
+                        .filter(metadataKey("parity").isEqualTo("odd"))
+                        .build())
+                .matches();
+        assertThat(oversampled)
+                .hasSize(10)
+                .allMatch(match -> "odd".equals(match.embedded().metadata().getString("parity")));
+
+        // the store built before the vector index uses it once refreshed
+        assertThat(exactStore.refreshVectorIndex()).isTrue();
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(10)
+                .build();
+        assertThat(exactStore.search(request).matches())
+                .usingRecursiveComparison()
+                .isEqualTo(indexedStore.search(request).matches());
+    }
+
+    private SQLServerEmbeddingStore createStore(String tableName, int dimension, InsertMode insertMode) {
+        return SQLServerEmbeddingStore.dataSourceBuilder()
+                .dataSource(dataSource)
+                .embeddingTable(embeddingTable(tableName, dimension, CreateOption.CREATE_OR_REPLACE))
+                .insertMode(insertMode)
+                .build();
+    }
+
+    private static EmbeddingTable embeddingTable(String tableName, int dimension, CreateOption createOption) {
+        return EmbeddingTable.builder()
+                .name(tableName)
+                .createOption(createOption)
+                .dimension(dimension)
+                .build();
+    }
+
+    private void enablePreviewFeatures() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("ALTER DATABASE SCOPED CONFIGURATION SET PREVIEW_FEATURES = ON");
+        }
+    }
+
+    private List<Embedding> randomEmbeddings(int count, int dimension) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    float[] vector = new float[dimension];
+                    for (int j = 0; j < dimension; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+    }
+}
@@ -21,6 +21,9 @@ import dev.langchain4j.http.client.log.LoggingHttpClient;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 class VearchClient {
 
@@ -29,6 +32,7 @@ class VearchClient {
     private final HttpClient httpClient;
     private final String baseUrl;
     private final Map<String, String> defaultHeaders;
+    private final Executor executor;
 
     public VearchClient(Builder builder) {
         HttpClientBuilder httpClientBuilder =
@@ -49,6 +53,18 @@ class VearchClient {
 
         this.baseUrl = ensureTrailingForwardSlash(ensureNotBlank(builder.baseUrl, "baseUrl"));
         this.defaultHeaders = copyIfNotNull(builder.customHeaders);
+        this.executor = getOrDefault(builder.executor, VearchClient::createDefaultExecutor);
+    }
+
+    /**
+     * The blocking HTTP calls of the async methods must not run on the common pool.
+     */
+    private static Executor createDefaultExecutor() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-vearch");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public List<ListDatabaseResponse> listDatabase() {
@@ -151,6 +167,10 @@ class VearchClient {
         }
     }
 
+    public CompletableFuture<Void> upsertAsync(UpsertRequest request) {
+        return CompletableFuture.runAsync(() -> upsert(request), executor);
+    }
+
     public SearchResponse search(SearchRequest request) {
 
         HttpRequest httpRequest = HttpRequest.builder()
@@ -172,6 +192,10 @@ class VearchClient {
         return response.getData();
     }
 
+    public CompletableFuture<SearchResponse> searchAsync(SearchRequest request) {
+        return CompletableFuture.supplyAsync(() -> search(request), executor);
+    }
+
     public void deleteSpace(String databaseName, String spaceName) {
         HttpRequest httpRequest = HttpRequest.builder()
                 .method(DELETE)
@@ -194,6 +218,7 @@ class VearchClient {
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
+        private Executor executor;
 
         Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
             this.httpClientBuilder = httpClientBuilder;
@@ -225,6 +250,11 @@ class VearchClient {
             return this;
         }
 
+        Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         VearchClient build() {
             return new VearchClient(this);
         }
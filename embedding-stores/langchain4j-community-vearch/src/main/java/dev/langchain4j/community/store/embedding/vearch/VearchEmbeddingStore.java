@@ -6,29 +6,42 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
 import static dev.langchain4j.store.embedding.CosineSimilarity.fromRelevanceScore;
+import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Represent a <a href="https://vearch.github.io/home">Vearch</a> index as an {@link EmbeddingStore}.
@@ -36,9 +49,23 @@ import java.util.Map;
  * <p>Current implementation assumes the index uses the cosine distance metric.</p>
  *
  * <p>Supported Vearch version: 3.4.x and 3.5.x</p>
+ *
+ * <p>The documents of {@code addAll} are upserted in chunks, bounded by {@link Builder#upsertBatchSize(Integer)}
+ * documents and an estimated {@link Builder#upsertMaxPayloadBytes(Integer)} bytes. Up to
+ * {@link Builder#upsertConcurrency(Integer)} chunks are sent at the same time, and a chunk failing on an I/O error,
+ * a timeout or a server error is sent again up to {@link Builder#maxRetries(Integer)} times.</p>
  */
 public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
 
+    private static final Logger log = LoggerFactory.getLogger(VearchEmbeddingStore.class);
+
+    private static final int DEFAULT_UPSERT_BATCH_SIZE = 500;
+    private static final int DEFAULT_UPSERT_MAX_PAYLOAD_BYTES = 8 * 1024 * 1024;
+    /**
+     * The backoff stops doubling after this number of retries, not to overflow.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
     private final VearchConfig vearchConfig;
     private final VearchClient vearchClient;
     /**
@@ -46,6 +73,12 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     private final boolean normalizeEmbeddings;
 
+    private final int upsertBatchSize;
+    private final int upsertMaxPayloadBytes;
+    private final int upsertConcurrency;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
     public VearchEmbeddingStore(
             HttpClientBuilder httpClientBuilder,
             Map<String, String> customHeaders,
@@ -55,18 +88,39 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
             boolean normalizeEmbeddings,
             boolean logRequests,
             boolean logResponses) {
-        // Step 0: initialize some attribute
-        baseUrl = ensureNotNull(baseUrl, "baseUrl");
-        this.vearchConfig = ensureNotNull(vearchConfig, "vearchConfig");
-        this.normalizeEmbeddings = normalizeEmbeddings;
-
-        vearchClient = VearchClient.builder()
+        this(builder()
                 .httpClientBuilder(httpClientBuilder)
                 .customHeaders(customHeaders)
                 .baseUrl(baseUrl)
-                .timeout(getOrDefault(timeout, ofSeconds(60)))
+                .timeout(timeout)
+                .vearchConfig(vearchConfig)
+                .normalizeEmbeddings(normalizeEmbeddings)
                 .logRequests(logRequests)
-                .logResponses(logResponses)
+                .logResponses(logResponses));
+    }
+
+    private VearchEmbeddingStore(Builder builder) {
+        // Step 0: initialize some attribute
+        String baseUrl = ensureNotNull(builder.baseUrl, "baseUrl");
+        this.vearchConfig = ensureNotNull(builder.vearchConfig, "vearchConfig");
+        this.normalizeEmbeddings = builder.normalizeEmbeddings;
+        this.upsertBatchSize = ensureGreaterThanZero(
+                getOrDefault(builder.upsertBatchSize, DEFAULT_UPSERT_BATCH_SIZE), "upsertBatchSize");
+        this.upsertMaxPayloadBytes = ensureGreaterThanZero(
+                getOrDefault(builder.upsertMaxPayloadBytes, DEFAULT_UPSERT_MAX_PAYLOAD_BYTES), "upsertMaxPayloadBytes");
+        this.upsertConcurrency = ensureGreaterThanZero(getOrDefault(builder.upsertConcurrency, 1), "upsertConcurrency");
+        this.maxRetries = getOrDefault(builder.maxRetries, 3);
+        ensureTrue(maxRetries >= 0, "maxRetries must not be negative");
+        this.retryBackoff = getOrDefault(builder.retryBackoff, ofMillis(200));
+
+        vearchClient = VearchClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .customHeaders(builder.customHeaders)
+                .baseUrl(baseUrl)
+                .timeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(builder.logRequests)
+                .logResponses(builder.logResponses)
+                .executor(builder.executor)
                 .build();
 
         // Step 1: check whether db exist, if not, create it
@@ -119,13 +173,29 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        SearchResponse response = vearchClient.search(toSearchRequest(request));
+        return toSearchResult(response);
+    }
+
+    /**
+     * Asynchronous variant of {@link #search(EmbeddingSearchRequest)}, the request is sent on the executor of the
+     * store, see {@link Builder#executor(Executor)}.
+     *
+     * @param request the search request
+     * @return the future of the search result
+     */
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+        return vearchClient.searchAsync(toSearchRequest(request)).thenApply(this::toSearchResult);
+    }
+
+    private SearchRequest toSearchRequest(EmbeddingSearchRequest request) {
         double minSimilarity = fromRelevanceScore(request.minScore());
         List<String> fields =
                 new ArrayList<>(Arrays.asList(vearchConfig.getTextFieldName(), vearchConfig.getEmbeddingFieldName()));
         if (!isNullOrEmpty(vearchConfig.getMetadataFieldNames())) {
             fields.addAll(vearchConfig.getMetadataFieldNames());
         }
-        SearchRequest vearchRequest = SearchRequest.builder()
+        return SearchRequest.builder()
                 .dbName(vearchConfig.getDatabaseName())
                 .spaceName(vearchConfig.getSpaceName())
                 .vectors(singletonList(SearchRequest.Vector.builder()
@@ -138,8 +208,9 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                 .limit(request.maxResults())
                 .indexParams(vearchConfig.getSearchIndexParam())
                 .build();
+    }
 
-        SearchResponse response = vearchClient.search(vearchRequest);
+    private EmbeddingSearchResult<TextSegment> toSearchResult(SearchResponse response) {
         List<EmbeddingMatch<TextSegment>> matches =
                 toEmbeddingMatch(response.getDocuments().get(0));
         return new EmbeddingSearchResult<>(matches);
@@ -162,35 +233,131 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                 embedded == null || embeddings.size() == embedded.size(),
                 "embeddings size is not equal to embedded size");
 
-        List<Map<String, Object>> documents = new ArrayList<>(ids.size());
-        for (int i = 0; i < ids.size(); i++) {
-            TextSegment textSegment = embedded == null ? null : embedded.get(i);
-            Map<String, Object> document = new HashMap<>(4);
-            document.put(DEFAULT_ID_FIELD_NAME, ids.get(i));
-            Embedding embedding = embeddings.get(i);
-            if (normalizeEmbeddings) {
-                embedding.normalize();
-            }
-            document.put(vearchConfig.getEmbeddingFieldName(), embedding.vector());
-
-            if (textSegment != null) {
-                String text = textSegment.text();
-                Map<String, Object> metadata = textSegment.metadata().toMap();
-                document.put(vearchConfig.getTextFieldName(), text);
-                if (metadata != null && !metadata.isEmpty()) {
-                    document.putAll(metadata);
+        Semaphore permits = new Semaphore(upsertConcurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<Map<String, Object>> chunk = new ArrayList<>();
+        long chunkBytes = 0;
+        try {
+            for (int i = 0; i < ids.size() && failure.get() == null; i++) {
+                Map<String, Object> document =
+                        toDocument(ids.get(i), embeddings.get(i), embedded == null ? null : embedded.get(i));
+                int documentBytes = estimatedSize(embeddings.get(i), embedded == null ? null : embedded.get(i));
+                if (!chunk.isEmpty()
+                        && (chunk.size() == upsertBatchSize || chunkBytes + documentBytes > upsertMaxPayloadBytes)) {
+                    futures.add(upsertChunk(chunk, permits, failure));
+                    chunk = new ArrayList<>();
+                    chunkBytes = 0;
                 }
+                chunk.add(document);
+                chunkBytes += documentBytes;
+            }
+            if (!chunk.isEmpty() && failure.get() == null) {
+                futures.add(upsertChunk(chunk, permits, failure));
             }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Map<String, Object> toDocument(String id, Embedding embedding, TextSegment textSegment) {
+        Map<String, Object> document = new HashMap<>(4);
+        document.put(DEFAULT_ID_FIELD_NAME, id);
+        document.put(
+                vearchConfig.getEmbeddingFieldName(), normalizeEmbeddings ? normalized(embedding) : embedding.vector());
+
+        if (textSegment != null) {
+            String text = textSegment.text();
+            Map<String, Object> metadata = textSegment.metadata().toMap();
+            document.put(vearchConfig.getTextFieldName(), text);
+            if (metadata != null && !metadata.isEmpty()) {
+                document.putAll(metadata);
+            }
+        }
+        return document;
+    }
 
-            documents.add(document);
+    /**
+     * Estimates the size of a document without serializing it: 4 bytes per dimension, plus the lengths of the text
+     * and of the metadata keys and values.
+     */
+    private static int estimatedSize(Embedding embedding, TextSegment textSegment) {
+        int size = 4 * embedding.dimension();
+        if (textSegment != null) {
+            size += textSegment.text().length();
+            for (Map.Entry<String, Object> entry : textSegment.metadata().toMap().entrySet()) {
+                size += entry.getKey().length() + String.valueOf(entry.getValue()).length();
+            }
         }
+        return size;
+    }
 
+    /**
+     * Normalizes a copy of the vector, the embedding of the caller is left unchanged.
+     */
+    private static float[] normalized(Embedding embedding) {
+        Embedding copy = Embedding.from(embedding.vector().clone());
+        copy.normalize();
+        return copy.vector();
+    }
+
+    /**
+     * Sends the chunk once a permit is available, the permit is released when the upsert completes.
+     */
+    private CompletableFuture<Void> upsertChunk(
+            List<Map<String, Object>> documents, Semaphore permits, AtomicReference<Throwable> failure)
+            throws InterruptedException {
         UpsertRequest request = UpsertRequest.builder()
                 .dbName(vearchConfig.getDatabaseName())
                 .spaceName(vearchConfig.getSpaceName())
                 .documents(documents)
                 .build();
-        vearchClient.upsert(request);
+        permits.acquire();
+        return upsertWithRetries(request, 0).whenComplete((ignored, error) -> {
+            if (error != null) {
+                failure.compareAndSet(null, error);
+            }
+            permits.release();
+        });
+    }
+
+    private CompletableFuture<Void> upsertWithRetries(UpsertRequest request, int attempt) {
+        return vearchClient.upsertAsync(request).exceptionallyCompose(error -> {
+            if (attempt >= maxRetries || !isRetriable(error)) {
+                return CompletableFuture.failedFuture(error);
+            }
+            long delay = retryBackoff.toMillis() << Math.min(attempt, MAX_BACKOFF_SHIFT);
+            log.warn(
+                    "Failed to upsert {} documents, retrying in {} ms (attempt {} of {})",
+                    request.getDocuments().size(),
+                    delay,
+                    attempt + 1,
+                    maxRetries,
+                    error);
+            Executor delayed = CompletableFuture.delayedExecutor(delay, MILLISECONDS);
+            return CompletableFuture.runAsync(() -> {}, delayed)
+                    .thenCompose(ignored -> upsertWithRetries(request, attempt + 1));
+        });
+    }
+
+    /**
+     * Whether the upsert failed on an I/O error, a timeout or a server error, which may not happen again.
+     * The errors reported by Vearch for the request itself are not retried.
+     */
+    private static boolean isRetriable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof HttpException httpException) {
+                return httpException.statusCode() >= 500;
+            }
+        }
+        return false;
     }
 
     private boolean isDatabaseExist(String databaseName) {
@@ -268,6 +435,12 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         private boolean normalizeEmbeddings;
         private boolean logRequests;
         private boolean logResponses;
+        private Integer upsertBatchSize;
+        private Integer upsertMaxPayloadBytes;
+        private Integer upsertConcurrency;
+        private Integer maxRetries;
+        private Duration retryBackoff;
+        private Executor executor;
 
         public Builder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
             this.httpClientBuilder = httpClientBuilder;
@@ -315,16 +488,78 @@ public class VearchEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * Set the maximum number of documents of an upsert request, {@code addAll} splits larger batches
+         *
+         * @param upsertBatchSize maximum number of documents per upsert request, default 500
+         * @return builder
+         */
+        public Builder upsertBatchSize(Integer upsertBatchSize) {
+            this.upsertBatchSize = upsertBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of the documents of an upsert request, {@code addAll} splits larger batches.
+         * The size of a document is estimated as 4 bytes per dimension plus the lengths of its text and metadata,
+         * a single document larger than this size is sent alone.
+         *
+         * @param upsertMaxPayloadBytes maximum estimated number of bytes per upsert request, default 8 MiB
+         * @return builder
+         */
+        public Builder upsertMaxPayloadBytes(Integer upsertMaxPayloadBytes) {
+            this.upsertMaxPayloadBytes = upsertMaxPayloadBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of upsert requests of an {@code addAll} call sent at the same time
+         *
+         * @param upsertConcurrency maximum number of concurrent upsert requests, default 1
+         * @return builder
+         */
+        public Builder upsertConcurrency(Integer upsertConcurrency) {
+            this.upsertConcurrency = upsertConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the number of times an upsert request failing on an I/O error, a timeout or a server error is sent again
+         *
+         * @param maxRetries number of retries of a failed upsert request, default 3
+         * @return builder
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set the delay before the first retry of a failed upsert request, doubled on every retry up to 1024 times the
+         * initial delay
+         *
+         * @param retryBackoff delay before the first retry, default 200 ms
+         * @return builder
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * Set the executor sending the requests of {@code addAll} and
+         * {@link VearchEmbeddingStore#searchAsync(EmbeddingSearchRequest)}
+         *
+         * @param executor executor of the HTTP requests, default a cached pool of daemon threads
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public VearchEmbeddingStore build() {
-            return new VearchEmbeddingStore(
-                    httpClientBuilder,
-                    customHeaders,
-                    baseUrl,
-                    timeout,
-                    vearchConfig,
-                    normalizeEmbeddings,
-                    logRequests,
-                    logResponses);
+            return new VearchEmbeddingStore(this);
         }
     }
 }
@@ -12,9 +12,12 @@ import dev.langchain4j.community.store.embedding.vearch.index.HNSWParam;
 import dev.langchain4j.community.store.embedding.vearch.index.Index;
 import dev.langchain4j.community.store.embedding.vearch.index.IndexType;
 import dev.langchain4j.community.store.embedding.vearch.index.search.HNSWSearchParam;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreIT;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithoutMetadataIT;
@@ -24,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,8 @@ class VearchEmbeddingStoreIT extends EmbeddingStoreIT {
 
     VearchEmbeddingStore embeddingStore;
 
+    VearchConfig vearchConfig;
+
     EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
 
     /**
@@ -147,7 +153,7 @@ class VearchEmbeddingStoreIT extends EmbeddingStoreIT {
 
         // init vearch config
         spaceName = "embedding_space_" + ThreadLocalRandom.current().nextInt(0, Integer.MAX_VALUE);
-        VearchConfig vearchConfig = VearchConfig.builder()
+        vearchConfig = VearchConfig.builder()
                 .databaseName(databaseName)
                 .spaceName(spaceName)
                 .textFieldName(textFieldName)
@@ -212,4 +218,61 @@ class VearchEmbeddingStoreIT extends EmbeddingStoreIT {
         List<ListSpaceResponse> actual = vearchClient.listSpaceOfDatabase(databaseName);
         assertThat(actual.stream().map(ListSpaceResponse::getSpaceName)).doesNotContain(spaceName);
     }
+
+    @Test
+    void should_add_all_in_concurrent_chunks_without_mutating_the_embeddings() {
+        VearchEmbeddingStore chunkedStore = VearchEmbeddingStore.builder()
+                .vearchConfig(vearchConfig)
+                .baseUrl(baseUrl)
+                .normalizeEmbeddings(true)
+                .upsertBatchSize(7)
+                .upsertMaxPayloadBytes(64 * 1024)
+                .upsertConcurrency(3)
+                .build();
+        List<TextSegment> segments = IntStream.range(0, 50)
+                .mapToObj(i -> TextSegment.from("text " + i))
+                .toList();
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content().stream()
+                .map(embedding -> Embedding.from(scaled(embedding.vector(), 3)))
+                .toList();
+        List<float[]> vectors = embeddings.stream().map(embedding -> embedding.vector().clone()).toList();
+
+        List<String> ids = chunkedStore.addAll(embeddings, segments);
+
+        assertThat(embeddings).extracting(Embedding::vector).containsExactlyElementsOf(vectors);
+        for (int i = 0; i < ids.size(); i += 10) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddingModel.embed(segments.get(i)).content())
+                    .maxResults(1)
+                    .build();
+            List<EmbeddingMatch<TextSegment>> matches = chunkedStore.search(request).matches();
+            assertThat(matches).hasSize(1);
+            assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(i));
+        }
+    }
+
+    @Test
+    void should_search_async() {
+        TextSegment segment = TextSegment.from("hello");
+        Embedding embedding = embeddingModel.embed(segment).content();
+        String id = embeddingStore.add(embedding, segment);
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build();
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.searchAsync(request).join().matches();
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(id);
+        assertThat(matches).usingRecursiveComparison().isEqualTo(embeddingStore.search(request).matches());
+    }
+
+    private static float[] scaled(float[] vector, float factor) {
+        float[] scaled = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            scaled[i] = vector[i] * factor;
+        }
+        return scaled;
+    }
 }
@@ -0,0 +1,234 @@
+package dev.langchain4j.community.store.embedding.vearch;
+
+import static dev.langchain4j.community.store.embedding.vearch.VearchConfig.DEFAULT_ID_FIELD_NAME;
+import static dev.langchain4j.community.store.embedding.vearch.VearchConfig.DEFAULT_TEXT_FIELD_NAME;
+import static dev.langchain4j.community.store.embedding.vearch.VearchJsonUtils.fromJson;
+import static dev.langchain4j.community.store.embedding.vearch.VearchJsonUtils.toJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the chunks and the retries of the upserts of {@link VearchEmbeddingStore#addAll(List, List, List)} against
+ * a stubbed Vearch server.
+ */
+class VearchEmbeddingStoreUpsertTest {
+
+    private static final String DATABASE_NAME = "embedding_db";
+    private static final String SPACE_NAME = "embedding_space";
+
+    @Test
+    void should_split_the_documents_by_payload_size() {
+        StubHttpClient httpClient = new StubHttpClient(0, 200);
+        int maxPayloadBytes = 200;
+        VearchEmbeddingStore store = store(httpClient)
+                .upsertBatchSize(1_000)
+                .upsertMaxPayloadBytes(maxPayloadBytes)
+                .upsertConcurrency(4)
+                .build();
+
+        List<String> ids = store.addAll(embeddings(50), segments(50));
+
+        assertThat(httpClient.upserts).hasSizeGreaterThan(1);
+        assertThat(httpClient.upserts).allSatisfy(request -> {
+            assertThat(request.getDocuments()).isNotEmpty();
+            assertThat(estimatedPayloadBytes(request)).isLessThanOrEqualTo(maxPayloadBytes);
+        });
+        assertThat(httpClient.upserts.stream()
+                        .flatMap(request -> request.getDocuments().stream())
+                        .map(document -> document.get(DEFAULT_ID_FIELD_NAME)))
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void should_split_the_documents_by_batch_size() {
+        StubHttpClient httpClient = new StubHttpClient(0, 200);
+        VearchEmbeddingStore store = store(httpClient).upsertBatchSize(7).build();
+
+        store.addAll(embeddings(50), segments(50));
+
+        assertThat(httpClient.upserts)
+                .extracting(request -> request.getDocuments().size())
+                .containsExactly(7, 7, 7, 7, 7, 7, 7, 1);
+    }
+
+    @Test
+    void should_retry_an_upsert_failed_by_a_server_error() {
+        StubHttpClient httpClient = new StubHttpClient(2, 503);
+        VearchEmbeddingStore store = store(httpClient)
+                .maxRetries(2)
+                .retryBackoff(Duration.ofMillis(1))
+                .build();
+
+        List<String> ids = store.addAll(embeddings(3), segments(3));
+
+        assertThat(httpClient.upsertAttempts).hasValue(3);
+        assertThat(httpClient.upserts).hasSize(1);
+        assertThat(httpClient.upserts.get(0).getDocuments())
+                .extracting(document -> document.get(DEFAULT_ID_FIELD_NAME))
+                .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void should_fail_when_the_retries_are_exhausted() {
+        StubHttpClient httpClient = new StubHttpClient(Integer.MAX_VALUE, 503);
+        VearchEmbeddingStore store = store(httpClient)
+                .maxRetries(1)
+                .retryBackoff(Duration.ofMillis(1))
+                .build();
+
+        assertThatThrownBy(() -> store.addAll(embeddings(3), segments(3)))
+                .isInstanceOf(HttpException.class)
+                .hasMessageContaining("upsert failed");
+        assertThat(httpClient.upsertAttempts).hasValue(2);
+        assertThat(httpClient.upserts).isEmpty();
+    }
+
+    @Test
+    void should_not_retry_an_upsert_rejected_by_vearch() {
+        StubHttpClient httpClient = new StubHttpClient(Integer.MAX_VALUE, 200);
+        VearchEmbeddingStore store = store(httpClient)
+                .maxRetries(3)
+                .retryBackoff(Duration.ofMillis(1))
+                .build();
+
+        assertThatThrownBy(() -> store.addAll(embeddings(3), segments(3)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("upsert failed");
+        assertThat(httpClient.upsertAttempts).hasValue(1);
+        assertThat(httpClient.upserts).isEmpty();
+    }
+
+    private static VearchEmbeddingStore.Builder store(HttpClient httpClient) {
+        return VearchEmbeddingStore.builder()
+                .httpClientBuilder(new StubHttpClientBuilder(httpClient))
+                .baseUrl("http://localhost:9001")
+                .vearchConfig(VearchConfig.builder()
+                        .databaseName(DATABASE_NAME)
+                        .spaceName(SPACE_NAME)
+                        .dimension(4)
+                        .build());
+    }
+
+    private static int estimatedPayloadBytes(UpsertRequest request) {
+        // 4 bytes per dimension and the text, the segments have no metadata
+        return request.getDocuments().stream()
+                .mapToInt(document -> 4 * 4 + ((String) document.get(DEFAULT_TEXT_FIELD_NAME)).length())
+                .sum();
+    }
+
+    private static List<Embedding> embeddings(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Embedding.from(new float[] {0.25f, 0.5f, i % 4 * 0.25f, 1.0f}))
+                .toList();
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from("text-" + i))
+                .toList();
+    }
+
+    /**
+     * Answers the requests of the store, an existing space and upserts failing the given number of times,
+     * with an error code of Vearch if the failure status is 200, otherwise with the failure status.
+     */
+    private static class StubHttpClient implements HttpClient {
+
+        private final int failures;
+        private final int failureStatus;
+        private final AtomicInteger upsertAttempts = new AtomicInteger();
+        private final List<UpsertRequest> upserts = new CopyOnWriteArrayList<>();
+
+        StubHttpClient(int failures, int failureStatus) {
+            this.failures = failures;
+            this.failureStatus = failureStatus;
+        }
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            String url = request.url();
+            if (url.endsWith("/dbs")) {
+                return response(0, List.of(Map.of("name", DATABASE_NAME)));
+            } else if (url.endsWith("/dbs/" + DATABASE_NAME + "/spaces")) {
+                return response(0, List.of(Map.of("space_name", SPACE_NAME)));
+            } else if (url.endsWith("/document/upsert")) {
+                if (upsertAttempts.incrementAndGet() <= failures) {
+                    if (failureStatus != 200) {
+                        throw new HttpException(failureStatus, "upsert failed");
+                    }
+                    return response(1, null);
+                }
+                upserts.add(fromJson(request.body(), UpsertRequest.class));
+                return response(0, Map.of("total", 0));
+            }
+            throw new UnsupportedOperationException(url);
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new UnsupportedOperationException("SSE not supported");
+        }
+
+        private static SuccessfulHttpResponse response(int code, Object data) {
+            return SuccessfulHttpResponse.builder()
+                    .statusCode(200)
+                    .body(toJson(new ResponseWrapper<>(code, code == 0 ? "success" : "upsert failed", data)))
+                    .build();
+        }
+    }
+
+    private static class StubHttpClientBuilder implements HttpClientBuilder {
+
+        private final HttpClient httpClient;
+        private Duration connectTimeout;
+        private Duration readTimeout;
+
+        StubHttpClientBuilder(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public Duration connectTimeout() {
+            return connectTimeout;
+        }
+
+        @Override
+        public HttpClientBuilder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        @Override
+        public Duration readTimeout() {
+            return readTimeout;
+        }
+
+        @Override
+        public HttpClientBuilder readTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        @Override
+        public HttpClient build() {
+            return httpClient;
+        }
+    }
+}
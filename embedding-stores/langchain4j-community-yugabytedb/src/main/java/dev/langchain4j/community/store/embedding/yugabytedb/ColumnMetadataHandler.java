@@ -47,8 +47,14 @@ class ColumnMetadataHandler implements MetadataHandler {
                 .map(MetadataColumnDefinition::getName)
                 .collect(Collectors.toList());
         this.filterMapper = new ColumnFilterMapper();
-        this.indexes = getOrDefault(config.indexes(), Collections.emptyList());
-        this.indexType = config.indexType();
+        if (config.deriveIndexes()) {
+            // A B-tree index per column, matching the comparisons of the filters
+            this.indexes = this.columnsName;
+            this.indexType = "BTREE";
+        } else {
+            this.indexes = getOrDefault(config.indexes(), Collections.emptyList());
+            this.indexType = config.indexType();
+        }
     }
 
     @Override
@@ -70,19 +76,26 @@ class ColumnMetadataHandler implements MetadataHandler {
 
     @Override
     public void createMetadataIndexes(Statement statement, String table) throws SQLException {
-        String indexTypeSql = indexType == null ? "" : "USING " + indexType;
-        this.indexes.stream().map(String::trim).forEach(index -> {
-            // Clean table name for index naming (remove schema prefixes, dots, etc.)
-            String cleanTableName = table.replaceAll("[^a-zA-Z0-9_]", "_");
-            String indexName = String.format("idx_%s_%s", cleanTableName, index);
-            String indexSql = String.format(
-                    "CREATE INDEX IF NOT EXISTS %s ON %s %s ( %s )", indexName, table, indexTypeSql, index);
+        for (String indexSql : indexDefinitions(table)) {
             try {
                 statement.executeUpdate(indexSql);
             } catch (SQLException e) {
-                throw new RuntimeException(String.format("Cannot create index %s: %s", index, e.getMessage()), e);
+                throw new RuntimeException(String.format("Cannot create index %s: %s", indexSql, e.getMessage()), e);
             }
-        });
+        }
+    }
+
+    @Override
+    public List<String> indexDefinitions(String table) {
+        String indexTypeSql = indexType == null ? "" : "USING " + indexType;
+        // Clean table name for index naming (remove schema prefixes, dots, etc.)
+        String cleanTableName = table.replaceAll("[^a-zA-Z0-9_]", "_");
+        return this.indexes.stream()
+                .map(String::trim)
+                .map(index -> String.format(
+                        "CREATE INDEX IF NOT EXISTS %s ON %s %s ( %s )",
+                        String.format("idx_%s_%s", cleanTableName, index), table, indexTypeSql, index))
+                .collect(Collectors.toList());
     }
 
     @Override
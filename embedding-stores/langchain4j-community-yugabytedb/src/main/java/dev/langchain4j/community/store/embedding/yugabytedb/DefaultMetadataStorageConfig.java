@@ -18,12 +18,14 @@ public class DefaultMetadataStorageConfig implements MetadataStorageConfig {
     private final List<String> columnDefinitions;
     private final List<String> indexes;
     private final String indexType;
+    private final boolean deriveIndexes;
 
     private DefaultMetadataStorageConfig(Builder builder) {
         this.storageMode = ensureNotNull(builder.storageMode, "storageMode");
         this.columnDefinitions = ensureNotEmpty(builder.columnDefinitions, "columnDefinitions");
         this.indexes = builder.indexes;
         this.indexType = builder.indexType;
+        this.deriveIndexes = builder.deriveIndexes;
     }
 
     /**
@@ -105,11 +107,17 @@ public class DefaultMetadataStorageConfig implements MetadataStorageConfig {
         return indexType;
     }
 
+    @Override
+    public boolean deriveIndexes() {
+        return deriveIndexes;
+    }
+
     public static class Builder {
         private MetadataStorageMode storageMode = MetadataStorageMode.COMBINED_JSONB;
         private List<String> columnDefinitions = List.of("metadata JSONB");
         private List<String> indexes = List.of("metadata");
         private String indexType = "GIN";
+        private boolean deriveIndexes = false;
 
         public Builder storageMode(MetadataStorageMode storageMode) {
             this.storageMode = storageMode;
@@ -131,6 +139,17 @@ public class DefaultMetadataStorageConfig implements MetadataStorageConfig {
             return this;
         }
 
+        /**
+         * Derives the metadata indexes from the storage mode, see {@link MetadataStorageConfig#deriveIndexes()}.
+         *
+         * @param deriveIndexes whether to derive the indexes
+         * @return this builder
+         */
+        public Builder deriveIndexes(boolean deriveIndexes) {
+            this.deriveIndexes = deriveIndexes;
+            return this;
+        }
+
         public DefaultMetadataStorageConfig build() {
             return new DefaultMetadataStorageConfig(this);
         }
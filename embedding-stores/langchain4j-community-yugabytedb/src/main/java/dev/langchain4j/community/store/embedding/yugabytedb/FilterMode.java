@@ -0,0 +1,41 @@
+package dev.langchain4j.community.store.embedding.yugabytedb;
+
+/**
+ * How {@link YugabyteDBEmbeddingStore#search(dev.langchain4j.store.embedding.EmbeddingSearchRequest)}
+ * combines the metadata filter of a request with the nearest neighbour search.
+ * <p>
+ * Default value: INLINE
+ */
+public enum FilterMode {
+
+    /**
+     * The filter is a <code>WHERE</code> clause of the nearest neighbour query, and the planner chooses the plan.
+     */
+    INLINE,
+
+    /**
+     * The rows matching the filter are selected first, typically with a metadata index, then sorted by distance.
+     * <p>
+     * The results are exact, the cost grows with the number of matching rows:
+     * best for selective filters, such as a tenant among many.
+     */
+    PRE_FILTER,
+
+    /**
+     * The nearest neighbours are selected first, typically with the vector index, then filtered.
+     * <p>
+     * Several times more candidates than requested are fetched, see
+     * {@link YugabyteDBEmbeddingStore.Builder#postFilterOversampling(Integer)}, but fewer results than requested
+     * can still be returned when the filter rejects most of them: best for filters matching most rows.
+     */
+    POST_FILTER,
+
+    /**
+     * Chooses between {@link #PRE_FILTER} and {@link #POST_FILTER} from the selectivity of the filter estimated by
+     * the planner, see {@link YugabyteDBEmbeddingStore.Builder#preFilterThreshold(Double)}.
+     * <p>
+     * A post-filtered search returning fewer results than requested is run again pre-filtered, and the filter is
+     * inlined when the table has no statistics yet.
+     */
+    AUTO
+}
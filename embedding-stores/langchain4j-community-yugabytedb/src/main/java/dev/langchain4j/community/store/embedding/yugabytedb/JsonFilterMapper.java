@@ -59,7 +59,7 @@ class JsonFilterMapper extends YugabyteDBFilterMapper {
      * @return sanitized key
      * @throws IllegalArgumentException if key contains invalid characters
      */
-    private String sanitizeJsonKey(String key) {
+    String sanitizeJsonKey(String key) {
         if (key == null || key.trim().isEmpty()) {
             throw new IllegalArgumentException("JSON key cannot be null or empty");
         }
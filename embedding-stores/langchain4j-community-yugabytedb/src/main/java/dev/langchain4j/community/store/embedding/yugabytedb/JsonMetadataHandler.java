@@ -69,6 +69,11 @@ class JsonMetadataHandler implements MetadataHandler {
         // Index validation is done in constructor to fail fast
     }
 
+    @Override
+    public List<String> indexDefinitions(String table) {
+        return Collections.emptyList();
+    }
+
     @Override
     public String whereClause(Filter filter) {
         return filterMapper.map(filter);
@@ -0,0 +1,48 @@
+package dev.langchain4j.community.store.embedding.yugabytedb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filter mapper for COMBINED_JSONB metadata storage mode.
+ * <p>
+ * Maps the equality filters to the JSONB containment operator, e.g. {@code metadata @> '{"tenant":"acme"}'},
+ * which a GIN index on the metadata column can serve, unlike the extracted and cast values of {@link JsonFilterMapper}.
+ * <p>
+ * The metadata values are stored as JSON strings, so only the value types whose string form is canonical
+ * are mapped to containment: the other ones keep the typed comparison.
+ */
+class JsonbFilterMapper extends JsonFilterMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Set<Class<?>> CONTAINMENT_TYPES = Set.of(String.class, UUID.class, Integer.class, Long.class);
+
+    /**
+     * Creates a new JsonbFilterMapper for the specified metadata column.
+     *
+     * @param metadataColumnName the name of the JSONB metadata column (e.g., "metadata")
+     */
+    public JsonbFilterMapper(String metadataColumnName) {
+        super(metadataColumnName);
+    }
+
+    @Override
+    String mapEqual(IsEqualTo isEqualTo) {
+        Object value = isEqualTo.comparisonValue();
+        if (!CONTAINMENT_TYPES.contains(value.getClass())) {
+            return super.mapEqual(isEqualTo);
+        }
+        try {
+            String json = OBJECT_MAPPER.writeValueAsString(
+                    Map.of(sanitizeJsonKey(isEqualTo.key()), value.toString()));
+            return String.format("%s @> %s::jsonb", getMetadataColumnName(), formatValue(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot map the filter " + isEqualTo, e);
+        }
+    }
+}
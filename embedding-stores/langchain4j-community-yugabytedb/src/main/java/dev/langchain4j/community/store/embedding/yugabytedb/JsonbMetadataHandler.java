@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.store.embedding.filter.Filter;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +33,7 @@ class JsonbMetadataHandler implements MetadataHandler {
 
     private final MetadataColumnDefinition columnDefinition;
     private final String columnName;
-    private final JsonFilterMapper filterMapper;
+    private final JsonbFilterMapper filterMapper;
     private final List<String> indexes;
     private final String indexType;
 
@@ -53,9 +54,16 @@ class JsonbMetadataHandler implements MetadataHandler {
             throw new RuntimeException("Column definition type should be JSONB for COMBINED_JSONB storage mode");
         }
         this.columnName = this.columnDefinition.getName();
-        this.filterMapper = new JsonFilterMapper(columnName);
-        this.indexes = getOrDefault(config.indexes(), Collections.emptyList());
-        this.indexType = getOrDefault(config.indexType(), "GIN");
+        this.filterMapper = new JsonbFilterMapper(columnName);
+        if (config.deriveIndexes()) {
+            // The containment predicates of the equality filters are served by jsonb_path_ops,
+            // which is smaller and faster than the default operator class
+            this.indexes = Collections.singletonList(columnName + " jsonb_path_ops");
+            this.indexType = "GIN";
+        } else {
+            this.indexes = getOrDefault(config.indexes(), Collections.emptyList());
+            this.indexType = getOrDefault(config.indexType(), "GIN");
+        }
     }
 
     @Override
@@ -70,19 +78,27 @@ class JsonbMetadataHandler implements MetadataHandler {
 
     @Override
     public void createMetadataIndexes(Statement statement, String table) throws SQLException {
-        String indexTypeSql = indexType != null ? "USING " + indexType : "";
-        for (String index : this.indexes) {
-            String indexName = formatIndexName(table, index.trim());
+        for (String indexSql : indexDefinitions(table)) {
             try {
-                String indexSql = String.format(
-                        "CREATE INDEX IF NOT EXISTS %s ON %s %s (%s)", indexName, table, indexTypeSql, index);
                 statement.executeUpdate(indexSql);
             } catch (SQLException e) {
-                throw new RuntimeException(String.format("Cannot create index %s: %s", indexName, e.getMessage()), e);
+                throw new RuntimeException(String.format("Cannot create index %s: %s", indexSql, e.getMessage()), e);
             }
         }
     }
 
+    @Override
+    public List<String> indexDefinitions(String table) {
+        String indexTypeSql = indexType != null ? "USING " + indexType : "";
+        List<String> definitions = new ArrayList<>();
+        for (String index : this.indexes) {
+            String indexName = formatIndexName(table, index.trim());
+            definitions.add(String.format(
+                    "CREATE INDEX IF NOT EXISTS %s ON %s %s (%s)", indexName, table, indexTypeSql, index));
+        }
+        return definitions;
+    }
+
     @Override
     public String whereClause(Filter filter) {
         return filterMapper.map(filter);
@@ -140,6 +156,11 @@ class JsonbMetadataHandler implements MetadataHandler {
             String path = index.substring(index.indexOf("->") + 2);
             path = path.replaceAll("[^a-zA-Z0-9_]", ""); // Remove special characters
             baseIndexName = cleanTableName + "_" + columnName + "_" + path + "_idx";
+        } else if (index.endsWith(" jsonb_path_ops")) {
+            // For the column with the jsonb_path_ops operator class
+            String cleanIndex = index.substring(0, index.length() - " jsonb_path_ops".length())
+                    .replaceAll("[^a-zA-Z0-9_]", "");
+            baseIndexName = cleanTableName + "_" + cleanIndex + "_path_ops_idx";
         } else {
             // For simple column names or full column reference
             String cleanIndex = index.replaceAll("[^a-zA-Z0-9_]", "");
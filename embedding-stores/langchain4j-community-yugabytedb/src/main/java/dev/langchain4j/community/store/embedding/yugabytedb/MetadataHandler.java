@@ -41,6 +41,17 @@ public interface MetadataHandler {
      */
     void createMetadataIndexes(Statement statement, String table) throws SQLException;
 
+    /**
+     * Returns the statements creating the metadata indexes of a table.
+     * <p>
+     * These are the statements run by {@link #createMetadataIndexes(Statement, String)}, either configured or
+     * derived from the storage mode, see {@link MetadataStorageConfig#deriveIndexes()}.
+     *
+     * @param table the table name
+     * @return the CREATE INDEX statements, empty if there is no index
+     */
+    List<String> indexDefinitions(String table);
+
     /**
      * Returns the list of metadata column names.
      * <p>
@@ -59,4 +59,20 @@ public interface MetadataStorageConfig {
      * @return the index type (e.g., "BTREE", "GIN", "HASH")
      */
     String indexType();
+
+    /**
+     * Whether the metadata indexes are derived from the storage mode instead of {@link #indexes()} and
+     * {@link #indexType()}, so that they match the predicates of the metadata filters:
+     * <ul>
+     * <li>COLUMN_PER_KEY: a B-tree index per metadata column</li>
+     * <li>COMBINED_JSONB: a GIN index with the {@code jsonb_path_ops} operator class, serving the containment
+     * predicates of the equality filters</li>
+     * <li>COMBINED_JSON: no index</li>
+     * </ul>
+     *
+     * @return true to derive the indexes, false (default) to use the configured ones
+     */
+    default boolean deriveIndexes() {
+        return false;
+    }
 }
@@ -1,7 +1,10 @@
 package dev.langchain4j.community.store.embedding.yugabytedb;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
@@ -21,9 +24,21 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * YugabyteDB EmbeddingStore Implementation
@@ -38,12 +53,63 @@ import java.util.List;
  *     .schema(schema)
  *     .build();
  * }</pre>
+ * Several queries can be sent in a single statement with {@link #searchAll(List)},
+ * which saves a distributed round-trip per query.
+ * Large {@code addAll} calls can be split in batches upserted concurrently, see {@link Builder#bulkBatchSize(Integer)}.
+ * The metadata filters of the searches can be applied before or after the nearest neighbour search,
+ * see {@link Builder#filterMode(FilterMode)}.
  */
 public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
 
+    private static final Logger logger = LoggerFactory.getLogger(YugabyteDBEmbeddingStore.class);
+
+    static final String EF_SEARCH_PARAMETER = "ybhnsw.ef_search";
+
+    /**
+     * The SQL states of the conflicts worth retrying: serialization failure and deadlock.
+     */
+    private static final String SERIALIZATION_FAILURE = "40001";
+
+    private static final String DEADLOCK_DETECTED = "40P01";
+
+    /**
+     * The backoff stops doubling after this number of retries, not to overflow.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    /**
+     * The maximum number of bind parameters of a statement in the PostgreSQL protocol.
+     */
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
+    private static final int MAX_POST_FILTER_CANDIDATES = 10_000;
+
+    private static final int SELECTIVITY_CACHE_SIZE = 256;
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*([0-9.eE+]+)");
+
     private final YugabyteDBEngine engine;
     private final YugabyteDBSchema schema;
     private final MetadataHandler metadataHandler;
+    private final Integer efSearch;
+    private final Integer bulkBatchSize;
+    private final int bulkConcurrency;
+    private final boolean multiRowInsert;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final FilterMode filterMode;
+    private final double preFilterThreshold;
+    private final int postFilterOversampling;
+
+    /**
+     * The selectivities estimated by {@link FilterMode#AUTO}, by WHERE clause, least recently used first
+     */
+    private final Map<String, Double> selectivities = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+            return size() > SELECTIVITY_CACHE_SIZE;
+        }
+    };
 
     /**
      * Constructor for YugabyteDBEmbeddingStore
@@ -54,6 +120,29 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         this.engine = builder.engine;
         this.schema = builder.schema;
         this.metadataHandler = MetadataHandlerFactory.create(builder.metadataStorageConfig);
+        this.efSearch = builder.efSearch != null ? ensureGreaterThanZero(builder.efSearch, "efSearch") : null;
+        this.bulkBatchSize =
+                builder.bulkBatchSize != null ? ensureGreaterThanZero(builder.bulkBatchSize, "bulkBatchSize") : null;
+        this.bulkConcurrency = ensureGreaterThanZero(getOrDefault(builder.bulkConcurrency, 1), "bulkConcurrency");
+        this.multiRowInsert = getOrDefault(builder.multiRowInsert, false);
+        this.maxRetries = getOrDefault(builder.maxRetries, 3);
+        this.retryBackoff = getOrDefault(builder.retryBackoff, Duration.ofMillis(100));
+        this.filterMode = getOrDefault(builder.filterMode, FilterMode.INLINE);
+        this.preFilterThreshold =
+                ensureBetween(getOrDefault(builder.preFilterThreshold, 0.05), 0.0, 1.0, "preFilterThreshold");
+        this.postFilterOversampling =
+                ensureGreaterThanZero(getOrDefault(builder.postFilterOversampling, 10), "postFilterOversampling");
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries cannot be negative");
+        }
+        if (retryBackoff.isNegative()) {
+            throw new IllegalArgumentException("retryBackoff cannot be negative");
+        }
+        if (multiRowInsert && bulkBatchSize != null && bulkBatchSize * parametersPerRow() > MAX_BIND_PARAMETERS) {
+            throw new IllegalArgumentException(String.format(
+                    "bulkBatchSize %d exceeds the %d bind parameters of a multi-row insert, use at most %d",
+                    bulkBatchSize, MAX_BIND_PARAMETERS, MAX_BIND_PARAMETERS / parametersPerRow()));
+        }
 
         if (schema.isCreateTableIfNotExists()) {
             createTableIfNotExists();
@@ -118,67 +207,196 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        Embedding referenceEmbedding = request.queryEmbedding();
-        int maxResults = request.maxResults();
-        double minScore = request.minScore();
-        Filter filter = request.filter();
+        try (Connection connection = engine.getConnection()) {
+            try {
+                beginSearch(connection);
 
-        // Create dynamic search SQL that works with metadata handler
-        String sql = createSearchSql();
+                // Register PGvector types for this connection before using prepared statements
+                registerPGVectorTypes(connection);
+
+                List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+                for (EmbeddingMatch<TextSegment> match : searchInternal(connection, request)) {
+                    if (match.score() >= request.minScore()) {
+                        matches.add(match);
+                    }
+                }
+                endSearch(connection);
+                return new EmbeddingSearchResult<>(matches);
+            } finally {
+                resetSearch(connection);
+            }
+        } catch (SQLException e) {
+            throw new YugabyteDBRequestFailedException("Failed to search embeddings", e);
+        } catch (YugabyteDBRequestFailedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new YugabyteDBRequestFailedException("Failed to search embeddings", e);
+        }
+    }
 
-        if (filter != null) {
-            String whereClause = metadataHandler.whereClause(filter);
-            sql += " WHERE " + whereClause;
+    /**
+     * Runs a search with the filter mode of the store, see {@link FilterMode}.
+     * The matches below the minimum score of the request are not removed yet,
+     * so that a short post-filtered result can be told from a high minimum score.
+     */
+    private List<EmbeddingMatch<TextSegment>> searchInternal(Connection connection, EmbeddingSearchRequest request)
+            throws SQLException {
+        int maxResults = request.maxResults();
+        if (request.filter() == null || filterMode == FilterMode.INLINE) {
+            return executeSearch(connection, request, FilterMode.INLINE, 0);
+        }
+        if (filterMode != FilterMode.AUTO) {
+            return executeSearch(connection, request, filterMode, maxResults * postFilterOversampling);
         }
 
-        sql += String.format(" ORDER BY %s %s ? LIMIT ?", schema.getEmbeddingColumn(), schema.getDistanceFunction());
+        Double selectivity = estimateSelectivity(connection, request.filter());
+        if (selectivity == null) {
+            return executeSearch(connection, request, FilterMode.INLINE, 0);
+        }
+        if (selectivity <= preFilterThreshold) {
+            return executeSearch(connection, request, FilterMode.PRE_FILTER, 0);
+        }
 
-        try (Connection connection = engine.getConnection();
-                PreparedStatement statement = connection.prepareStatement(sql)) {
+        // enough candidates to expect twice the requested results after filtering
+        int candidates = (int) Math.min(MAX_POST_FILTER_CANDIDATES, Math.ceil(2 * maxResults / selectivity));
+        List<EmbeddingMatch<TextSegment>> matches =
+                executeSearch(connection, request, FilterMode.POST_FILTER, candidates);
+        if (matches.size() < maxResults) {
+            logger.debug(
+                    "Post-filtered search returned {} of {} results, searching again pre-filtered",
+                    matches.size(),
+                    maxResults);
+            return executeSearch(connection, request, FilterMode.PRE_FILTER, 0);
+        }
+        return matches;
+    }
 
-            // Register PGvector types for this connection before using prepared statements
-            registerPGVectorTypes(connection);
+    /**
+     * Runs a search query, {@code candidates} being the number of nearest neighbours filtered by
+     * {@link FilterMode#POST_FILTER}.
+     */
+    private List<EmbeddingMatch<TextSegment>> executeSearch(
+            Connection connection, EmbeddingSearchRequest request, FilterMode mode, int candidates)
+            throws SQLException {
+        Filter filter = request.filter();
+        String sql = createSearchSql(mode, filter);
 
-            List<Float> vectorList = referenceEmbedding.vectorAsList();
-            float[] vectorArray = new float[vectorList.size()];
-            for (int i = 0; i < vectorList.size(); i++) {
-                vectorArray[i] = vectorList.get(i);
-            }
-            PGvector queryVector = new PGvector(vectorArray);
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            PGvector queryVector = new PGvector(request.queryEmbedding().vector());
             int paramIndex = 1;
             setPGVectorParameter(statement, paramIndex++, queryVector);
 
-            if (filter != null) {
-                paramIndex = metadataHandler.setFilterParameters(statement, filter, paramIndex);
-                setPGVectorParameter(statement, paramIndex++, queryVector);
-                statement.setInt(paramIndex, maxResults);
-            } else {
-                setPGVectorParameter(statement, paramIndex++, queryVector);
-                statement.setInt(paramIndex, maxResults);
+            switch (mode) {
+                case PRE_FILTER -> {
+                    paramIndex = metadataHandler.setFilterParameters(statement, filter, paramIndex);
+                    statement.setInt(paramIndex, request.maxResults());
+                }
+                case POST_FILTER -> {
+                    setPGVectorParameter(statement, paramIndex++, queryVector);
+                    statement.setInt(paramIndex++, candidates);
+                    paramIndex = metadataHandler.setFilterParameters(statement, filter, paramIndex);
+                    statement.setInt(paramIndex, request.maxResults());
+                }
+                default -> {
+                    if (filter != null) {
+                        paramIndex = metadataHandler.setFilterParameters(statement, filter, paramIndex);
+                    }
+                    setPGVectorParameter(statement, paramIndex++, queryVector);
+                    statement.setInt(paramIndex, request.maxResults());
+                }
             }
 
             try (ResultSet resultSet = statement.executeQuery()) {
-                List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
-
                 while (resultSet.next()) {
-                    String id = resultSet.getString(schema.getIdColumn());
-                    String content = resultSet.getString(schema.getContentColumn());
-                    double distance = resultSet.getDouble("distance");
-
-                    double score = calculateScore(distance);
-                    if (score < minScore) {
-                        continue;
-                    }
+                    matches.add(toMatch(resultSet, Double.NEGATIVE_INFINITY));
+                }
+            }
+        }
+        return matches;
+    }
 
-                    Embedding embedding = extractEmbeddingFromResultSet(resultSet, schema.getEmbeddingColumn());
+    /**
+     * Estimates the fraction of the rows matching a filter from the row counts of the planner.
+     * The estimates are cached by WHERE clause, as the selectivity of a filter changes slowly.
+     *
+     * @return the selectivity, or null if the table has no statistics yet
+     */
+    private Double estimateSelectivity(Connection connection, Filter filter) throws SQLException {
+        String whereClause = metadataHandler.whereClause(filter);
+        synchronized (selectivities) {
+            Double selectivity = selectivities.get(whereClause);
+            if (selectivity != null) {
+                return selectivity;
+            }
+        }
 
-                    Metadata metadata = metadataHandler.fromResultSet(resultSet);
-                    TextSegment textSegment = isNotNullOrBlank(content) ? TextSegment.from(content, metadata) : null;
+        double tableRows = 0;
+        try (PreparedStatement statement =
+                connection.prepareStatement("SELECT reltuples FROM pg_class WHERE oid = ?::regclass")) {
+            statement.setString(1, schema.getFullTableName());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    tableRows = resultSet.getDouble(1);
+                }
+            }
+        }
+        if (tableRows <= 0) {
+            return null;
+        }
 
-                    matches.add(new EmbeddingMatch<>(score, id, embedding, textSegment));
+        String sql = String.format(
+                "EXPLAIN (FORMAT JSON) SELECT 1 FROM %s WHERE %s", schema.getFullTableName(), whereClause);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            metadataHandler.setFilterParameters(statement, filter, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Matcher planRows = PLAN_ROWS.matcher(resultSet.next() ? resultSet.getString(1) : "");
+                if (!planRows.find()) {
+                    return null;
                 }
+                double selectivity = Math.min(1.0, Double.parseDouble(planRows.group(1)) / tableRows);
+                synchronized (selectivities) {
+                    selectivities.put(whereClause, selectivity);
+                }
+                return selectivity;
+            }
+        }
+    }
 
-                return new EmbeddingSearchResult<>(matches);
+    /**
+     * Searches the nearest embeddings of several queries in a single statement.
+     * <p>
+     * The query vectors are sent as an array, unnested, and joined <code>LATERAL</code> to the nearest neighbour
+     * subquery, so the queries cost one round-trip instead of one each. The requests with the same filter share a
+     * statement, each request keeps its own <code>maxResults</code> and <code>minScore</code>.
+     *
+     * @param requests the search requests
+     * @return the results, in the order of the requests
+     */
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("requests cannot be null or empty");
+        }
+
+        Map<Filter, List<Integer>> requestsByFilter = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            requestsByFilter
+                    .computeIfAbsent(requests.get(i).filter(), filter -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<List<EmbeddingMatch<TextSegment>>> matches = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            matches.add(new ArrayList<>());
+        }
+
+        try (Connection connection = engine.getConnection()) {
+            try {
+                beginSearch(connection);
+                searchAllInternal(connection, requests, requestsByFilter, matches);
+                endSearch(connection);
+            } finally {
+                resetSearch(connection);
             }
         } catch (SQLException e) {
             throw new YugabyteDBRequestFailedException("Failed to search embeddings", e);
@@ -187,6 +405,99 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         } catch (Exception e) {
             throw new YugabyteDBRequestFailedException("Failed to search embeddings", e);
         }
+
+        return matches.stream().map(EmbeddingSearchResult::new).collect(toList());
+    }
+
+    private void searchAllInternal(
+            Connection connection,
+            List<EmbeddingSearchRequest> requests,
+            Map<Filter, List<Integer>> requestsByFilter,
+            List<List<EmbeddingMatch<TextSegment>>> matches)
+            throws SQLException {
+        for (Map.Entry<Filter, List<Integer>> entry : requestsByFilter.entrySet()) {
+            Filter filter = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+
+            try (PreparedStatement statement = connection.prepareStatement(createBatchSearchSql(filter))) {
+                String[] vectors = new String[indexes.size()];
+                Integer[] limits = new Integer[indexes.size()];
+                for (int i = 0; i < indexes.size(); i++) {
+                    EmbeddingSearchRequest request = requests.get(indexes.get(i));
+                    vectors[i] = new PGvector(request.queryEmbedding().vector()).toString();
+                    limits[i] = request.maxResults();
+                }
+                statement.setArray(1, connection.createArrayOf("text", vectors));
+                statement.setArray(2, connection.createArrayOf("int4", limits));
+                if (filter != null) {
+                    metadataHandler.setFilterParameters(statement, filter, 3);
+                }
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        // the ordinality of the unnested arrays starts at 1
+                        int requestIndex = indexes.get(resultSet.getInt("query_index") - 1);
+                        EmbeddingMatch<TextSegment> match =
+                                toMatch(resultSet, requests.get(requestIndex).minScore());
+                        if (match != null) {
+                            matches.get(requestIndex).add(match);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the transaction of a search when <code>ef_search</code> is configured,
+     * as <code>SET LOCAL</code> only applies within a transaction.
+     */
+    private void beginSearch(Connection connection) throws SQLException {
+        if (efSearch == null) {
+            return;
+        }
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("SET LOCAL %s = %d", EF_SEARCH_PARAMETER, efSearch));
+        }
+    }
+
+    private void endSearch(Connection connection) throws SQLException {
+        if (efSearch != null) {
+            connection.commit();
+        }
+    }
+
+    /**
+     * Ends the transaction of a search, which is rolled back if the search failed,
+     * and restores the auto-commit of the connection.
+     */
+    private void resetSearch(Connection connection) throws SQLException {
+        if (efSearch != null && !connection.getAutoCommit()) {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Returns the match of the current row, or null if its score is below {@code minScore}.
+     */
+    private EmbeddingMatch<TextSegment> toMatch(ResultSet resultSet, double minScore) throws SQLException {
+        String id = resultSet.getString(schema.getIdColumn());
+        String content = resultSet.getString(schema.getContentColumn());
+        double distance = resultSet.getDouble("distance");
+
+        double score = calculateScore(distance);
+        if (score < minScore) {
+            return null;
+        }
+
+        Embedding embedding = extractEmbeddingFromResultSet(resultSet, schema.getEmbeddingColumn());
+
+        Metadata metadata = metadataHandler.fromResultSet(resultSet);
+        TextSegment textSegment = isNotNullOrBlank(content) ? TextSegment.from(content, metadata) : null;
+
+        return new EmbeddingMatch<>(score, id, embedding, textSegment);
     }
 
     @Override
@@ -256,8 +567,13 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private void addAllInternal(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        if (bulkBatchSize != null && ids.size() > 1) {
+            bulkAddAll(ids, embeddings, textSegments);
+            return;
+        }
+
         // Create dynamic INSERT SQL with metadata handler
-        String insertSql = createInsertSql();
+        String insertSql = createInsertSql(1);
 
         try (Connection connection = engine.getConnection();
                 PreparedStatement statement = connection.prepareStatement(insertSql)) {
@@ -266,27 +582,8 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             registerPGVectorTypes(connection);
 
             for (int i = 0; i < embeddings.size(); i++) {
-                String id = ids.get(i);
-                Embedding embedding = embeddings.get(i);
                 TextSegment textSegment = textSegments != null ? textSegments.get(i) : null;
-
-                int paramIndex = 1;
-                statement.setObject(paramIndex++, java.util.UUID.fromString(id));
-                statement.setString(paramIndex++, textSegment != null ? textSegment.text() : null);
-
-                // Use metadata handler to set metadata parameters
-                Metadata metadata = textSegment != null ? textSegment.metadata() : new Metadata();
-                paramIndex = metadataHandler.setMetadata(statement, paramIndex, metadata);
-
-                // Set embedding vector
-                List<Float> embeddingList = embedding.vectorAsList();
-                float[] embeddingArray = new float[embeddingList.size()];
-                for (int j = 0; j < embeddingList.size(); j++) {
-                    embeddingArray[j] = embeddingList.get(j);
-                }
-                PGvector vector = new PGvector(embeddingArray);
-                setPGVectorParameter(statement, paramIndex, vector);
-
+                setRowParameters(statement, 1, ids.get(i), embeddings.get(i), textSegment);
                 statement.addBatch();
             }
 
@@ -300,6 +597,182 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    /**
+     * Upserts the rows in batches of {@code bulkBatchSize}, each one in its own transaction,
+     * on up to {@code bulkConcurrency} pooled connections.
+     * An id given several times is only written once, with its last values,
+     * so no statement or pair of concurrent batches updates the same row twice.
+     * <p>
+     * The call is not atomic: when a batch fails, the batches already committed are kept, the pending ones are
+     * cancelled, and the failure is thrown. Since the rows are upserted, the call can be retried as a whole.
+     */
+    private void bulkAddAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        Map<String, Integer> lastRows = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            lastRows.put(ids.get(i), i);
+        }
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (lastRows.get(ids.get(i)) == i) {
+                rows.add(i);
+            }
+        }
+
+        if (bulkConcurrency == 1 || rows.size() <= bulkBatchSize) {
+            for (int from = 0; from < rows.size(); from += bulkBatchSize) {
+                List<Integer> batch = rows.subList(from, Math.min(from + bulkBatchSize, rows.size()));
+                upsertBatch(batch, ids, embeddings, textSegments);
+            }
+            return;
+        }
+
+        // the fixed pool bounds the number of batches written at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(bulkConcurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < rows.size(); from += bulkBatchSize) {
+                List<Integer> batch = rows.subList(from, Math.min(from + bulkBatchSize, rows.size()));
+                futures.add(executor.submit(() -> upsertBatch(batch, ids, embeddings, textSegments)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new YugabyteDBRequestFailedException("Interrupted while adding embeddings", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new YugabyteDBRequestFailedException("Failed to add embeddings", e.getCause());
+        } finally {
+            // cancels the pending batches after a failure
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Upserts a batch of rows, retrying it with an exponential backoff when it fails on a transient conflict.
+     */
+    private void upsertBatch(
+            List<Integer> rows, List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try (Connection connection = engine.getConnection()) {
+                writeBatch(connection, rows, ids, embeddings, textSegments);
+                if (logger.isDebugEnabled()) {
+                    long elapsed = System.nanoTime() - start;
+                    logger.debug(
+                            "Upserted {} rows in {} ms ({} rows/s, {} attempt(s))",
+                            rows.size(),
+                            elapsed / 1_000_000,
+                            Math.round(rows.size() * 1e9 / Math.max(elapsed, 1)),
+                            attempt);
+                }
+                return;
+            } catch (SQLException e) {
+                if (attempt > maxRetries || !isTransientConflict(e)) {
+                    throw new YugabyteDBRequestFailedException("Failed to add embeddings", e);
+                }
+                long backoff = retryBackoff.toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+                logger.debug(
+                        "Retrying a batch of {} rows in {} ms after a conflict: {}",
+                        rows.size(),
+                        backoff,
+                        e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new YugabyteDBRequestFailedException("Interrupted while adding embeddings", ie);
+                }
+            }
+        }
+    }
+
+    private void writeBatch(
+            Connection connection,
+            List<Integer> rows,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> textSegments)
+            throws SQLException {
+        registerPGVectorTypes(connection);
+        connection.setAutoCommit(false);
+        try {
+            if (multiRowInsert) {
+                try (PreparedStatement statement = connection.prepareStatement(createInsertSql(rows.size()))) {
+                    int paramIndex = 1;
+                    for (int row : rows) {
+                        TextSegment textSegment = textSegments != null ? textSegments.get(row) : null;
+                        paramIndex = setRowParameters(
+                                statement, paramIndex, ids.get(row), embeddings.get(row), textSegment);
+                    }
+                    statement.executeUpdate();
+                }
+            } else {
+                try (PreparedStatement statement = connection.prepareStatement(createInsertSql(1))) {
+                    for (int row : rows) {
+                        TextSegment textSegment = textSegments != null ? textSegments.get(row) : null;
+                        setRowParameters(statement, 1, ids.get(row), embeddings.get(row), textSegment);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Returns whether the failure, or one of the failures chained to it by a batch, is a conflict worth retrying.
+     */
+    private static boolean isTransientConflict(SQLException e) {
+        for (SQLException cause = e; cause != null; cause = cause.getNextException()) {
+            String sqlState = cause.getSQLState();
+            if (SERIALIZATION_FAILURE.equals(sqlState) || DEADLOCK_DETECTED.equals(sqlState)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the parameters of a row of the insert statement, starting at {@code paramIndex}
+     *
+     * @return the index of the parameter following the row
+     */
+    private int setRowParameters(
+            PreparedStatement statement, int paramIndex, String id, Embedding embedding, TextSegment textSegment)
+            throws SQLException {
+        statement.setObject(paramIndex++, java.util.UUID.fromString(id));
+        statement.setString(paramIndex++, textSegment != null ? textSegment.text() : null);
+
+        // Use metadata handler to set metadata parameters
+        Metadata metadata = textSegment != null ? textSegment.metadata() : new Metadata();
+        paramIndex = metadataHandler.setMetadata(statement, paramIndex, metadata);
+
+        // Set embedding vector
+        setPGVectorParameter(statement, paramIndex++, new PGvector(embedding.vector()));
+        return paramIndex;
+    }
+
+    /**
+     * The number of bind parameters of a row: id, content, metadata columns and embedding
+     */
+    private int parametersPerRow() {
+        return metadataHandler.columnsNames().size() + 3;
+    }
+
     /**
      * Safely registers PGvector types for both PostgreSQL and YugabyteDB Smart Driver connections
      */
@@ -384,9 +857,9 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     /**
-     * Creates dynamic INSERT SQL that works with the metadata handler
+     * Creates dynamic INSERT SQL of {@code rows} rows that works with the metadata handler
      */
-    private String createInsertSql() {
+    private String createInsertSql(int rows) {
         List<String> metadataColumns = metadataHandler.columnsNames();
 
         // Build column names
@@ -406,6 +879,11 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
         placeholders.append(", ?::vector"); // embedding
 
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            values.append(i > 0 ? ", (" : "(").append(placeholders).append(")");
+        }
+
         // Build update clause
         String updateClause = schema.getContentColumn() + " = EXCLUDED."
                 + schema.getContentColumn()
@@ -415,8 +893,33 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
                 + " = EXCLUDED." + schema.getEmbeddingColumn();
 
         return String.format(
-                "INSERT INTO %s (%s) VALUES (%s) " + "ON CONFLICT (%s) DO UPDATE SET %s",
-                schema.getFullTableName(), columns, placeholders, schema.getIdColumn(), updateClause);
+                "INSERT INTO %s (%s) VALUES %s " + "ON CONFLICT (%s) DO UPDATE SET %s",
+                schema.getFullTableName(), columns, values, schema.getIdColumn(), updateClause);
+    }
+
+    /**
+     * Creates the search SQL of a filter mode:
+     * <ul>
+     * <li>INLINE: the filter is the WHERE clause of the nearest neighbour query</li>
+     * <li>PRE_FILTER: the filtered rows are sorted by distance, <code>OFFSET 0</code> keeps the planner from
+     * merging the subquery and scanning the vector index</li>
+     * <li>POST_FILTER: the nearest candidates are filtered</li>
+     * </ul>
+     */
+    private String createSearchSql(FilterMode mode, Filter filter) {
+        String select = createSearchSql();
+        String orderBy = String.format(" ORDER BY %s %s ?", schema.getEmbeddingColumn(), schema.getDistanceFunction());
+        String whereClause = filter != null ? metadataHandler.whereClause(filter) : null;
+
+        return switch (mode) {
+            case PRE_FILTER ->
+                String.format("SELECT * FROM (%s WHERE %s OFFSET 0) f ORDER BY distance LIMIT ?", select, whereClause);
+            case POST_FILTER ->
+                String.format(
+                        "SELECT * FROM (%s%s LIMIT ?) c WHERE %s ORDER BY distance LIMIT ?",
+                        select, orderBy, whereClause);
+            default -> select + (whereClause != null ? " WHERE " + whereClause : "") + orderBy + " LIMIT ?";
+        };
     }
 
     /**
@@ -440,6 +943,59 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         return String.format("SELECT %s FROM %s", columns, schema.getFullTableName());
     }
 
+    /**
+     * Creates the search SQL of {@link #searchAll(List)}: the query vectors and their limits are unnested,
+     * and each one is joined LATERAL to its nearest neighbours
+     */
+    private String createBatchSearchSql(Filter filter) {
+        List<String> metadataColumns = metadataHandler.columnsNames();
+
+        StringBuilder columns = new StringBuilder();
+        columns.append(schema.getIdColumn()).append(", ");
+        columns.append(schema.getContentColumn()).append(", ");
+        for (String col : metadataColumns) {
+            columns.append(col).append(", ");
+        }
+        columns.append(schema.getEmbeddingColumn()).append(", ");
+        columns.append(schema.getEmbeddingColumn())
+                .append(" ")
+                .append(schema.getDistanceFunction())
+                .append(" q.query_vector AS distance");
+
+        String whereClause = filter != null ? " WHERE " + metadataHandler.whereClause(filter) : "";
+
+        return String.format(
+                "SELECT q.query_index, r.* FROM ("
+                        + "SELECT v::vector AS query_vector, l AS max_results, i AS query_index "
+                        + "FROM unnest(?::text[], ?::int[]) WITH ORDINALITY AS u(v, l, i)) q "
+                        + "CROSS JOIN LATERAL ("
+                        + "SELECT %s FROM %s%s ORDER BY %s %s q.query_vector LIMIT q.max_results) r "
+                        + "ORDER BY q.query_index, r.distance",
+                columns,
+                schema.getFullTableName(),
+                whereClause,
+                schema.getEmbeddingColumn(),
+                schema.getDistanceFunction());
+    }
+
+    /**
+     * Creates the metadata indexes of the table if they do not exist,
+     * see {@link MetadataHandler#indexDefinitions(String)}.
+     * The indexes are also created with the table, this creates them on a table created beforehand.
+     */
+    public void createMetadataIndexes() {
+        try (Connection connection = engine.getConnection();
+                Statement statement = connection.createStatement()) {
+            metadataHandler.createMetadataIndexes(statement, schema.getFullTableName());
+        } catch (SQLException e) {
+            throw new YugabyteDBRequestFailedException("Failed to create metadata indexes", e);
+        } catch (YugabyteDBRequestFailedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new YugabyteDBRequestFailedException("Failed to create metadata indexes", e);
+        }
+    }
+
     public void createTableIfNotExists() {
         try (Connection connection = engine.getConnection();
                 Statement statement = connection.createStatement()) {
@@ -502,6 +1058,15 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
         private YugabyteDBSchema schema;
         private MetadataStorageConfig metadataStorageConfig;
         private YugabyteDBSchema.Builder schemaBuilder;
+        private Integer efSearch;
+        private Integer bulkBatchSize;
+        private Integer bulkConcurrency;
+        private Boolean multiRowInsert;
+        private Integer maxRetries;
+        private Duration retryBackoff;
+        private FilterMode filterMode;
+        private Double preFilterThreshold;
+        private Integer postFilterOversampling;
 
         public Builder engine(YugabyteDBEngine engine) {
             this.engine = engine;
@@ -594,6 +1159,122 @@ public class YugabyteDBEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * Configure the size of the dynamic candidate list of the HNSW index searches.
+         * It is set with <code>SET LOCAL</code> in the transaction of each search, a higher value gives a better
+         * recall but slower searches. By default, the value of the session is used.
+         *
+         * @param efSearch the <code>ef_search</code> of the searches
+         * @return this builder
+         */
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * Configure the size of the batches of the bulk upserts.
+         * When set, the rows of an {@code addAll} call are de-duplicated by id, keeping the last occurrence,
+         * and written in batches of this size, each one in its own transaction, which is retried when it fails
+         * on a transient conflict. By default, all the rows are written in a single JDBC batch.
+         * <p>
+         * The batches are committed independently: if one fails, {@code addAll} throws and the batches already
+         * committed stay in the table, so a failed call should be retried with the same ids.
+         *
+         * @param bulkBatchSize the number of rows per batch
+         * @return this builder
+         */
+        public Builder bulkBatchSize(Integer bulkBatchSize) {
+            this.bulkBatchSize = bulkBatchSize;
+            return this;
+        }
+
+        /**
+         * Configure the number of pooled connections upserting the batches in parallel.
+         * The rows are spread over the tablets by their id, so concurrent batches rarely conflict.
+         * Only used with {@link #bulkBatchSize(Integer)}, and bounded by the pool size of the engine.
+         *
+         * @param bulkConcurrency (Default: 1) the number of concurrent batches
+         * @return this builder
+         */
+        public Builder bulkConcurrency(Integer bulkConcurrency) {
+            this.bulkConcurrency = bulkConcurrency;
+            return this;
+        }
+
+        /**
+         * Configure whether a batch is sent as a single multi-row <code>INSERT ... VALUES (...), (...)</code>
+         * instead of a JDBC batch of single-row statements.
+         * Only used with {@link #bulkBatchSize(Integer)}, whose rows must then fit in 65535 bind parameters.
+         *
+         * @param multiRowInsert (Default: false) whether to use multi-row inserts
+         * @return this builder
+         */
+        public Builder multiRowInsert(Boolean multiRowInsert) {
+            this.multiRowInsert = multiRowInsert;
+            return this;
+        }
+
+        /**
+         * Configure how many times a batch failing on a serialization failure or a deadlock is retried.
+         * Only used with {@link #bulkBatchSize(Integer)}.
+         *
+         * @param maxRetries (Default: 3) the maximum number of retries of a batch
+         * @return this builder
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Configure the delay before the first retry of a batch, doubled at each following retry up to 1024 times
+         * the initial backoff.
+         *
+         * @param retryBackoff (Default: 100 ms) the initial backoff
+         * @return this builder
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * Configure how the metadata filters are combined with the nearest neighbour search, see {@link FilterMode}.
+         * The selective filters are faster pre-filtered with a metadata index, see
+         * {@link DefaultMetadataStorageConfig.Builder#deriveIndexes(boolean)}.
+         *
+         * @param filterMode (Default: INLINE) the filter mode of the searches
+         * @return this builder
+         */
+        public Builder filterMode(FilterMode filterMode) {
+            this.filterMode = filterMode;
+            return this;
+        }
+
+        /**
+         * Configure the estimated fraction of matching rows under which {@link FilterMode#AUTO} pre-filters.
+         *
+         * @param preFilterThreshold (Default: 0.05) the selectivity threshold, between 0 and 1
+         * @return this builder
+         */
+        public Builder preFilterThreshold(Double preFilterThreshold) {
+            this.preFilterThreshold = preFilterThreshold;
+            return this;
+        }
+
+        /**
+         * Configure how many times the requested results are fetched as candidates by {@link FilterMode#POST_FILTER}.
+         * The vector index may return at most <code>ef_search</code> candidates, see {@link #efSearch(Integer)}.
+         *
+         * @param postFilterOversampling (Default: 10) the number of candidates per requested result
+         * @return this builder
+         */
+        public Builder postFilterOversampling(Integer postFilterOversampling) {
+            this.postFilterOversampling = postFilterOversampling;
+            return this;
+        }
+
         public Builder createTableIfNotExists(boolean createTableIfNotExists) {
             ensureSchemaBuilder().createTableIfNotExists(createTableIfNotExists);
             return this;
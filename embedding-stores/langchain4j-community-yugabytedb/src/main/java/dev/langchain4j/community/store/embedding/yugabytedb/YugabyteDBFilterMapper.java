@@ -67,7 +67,7 @@ abstract class YugabyteDBFilterMapper {
         return format("%s is not null and %s ~ %s", key, key, formatValue(containsString.comparisonValue()));
     }
 
-    private String mapEqual(IsEqualTo isEqualTo) {
+    String mapEqual(IsEqualTo isEqualTo) {
         String key = formatKey(isEqualTo.key(), isEqualTo.comparisonValue().getClass());
         return format("%s is not null and %s = %s", key, key, formatValue(isEqualTo.comparisonValue()));
     }
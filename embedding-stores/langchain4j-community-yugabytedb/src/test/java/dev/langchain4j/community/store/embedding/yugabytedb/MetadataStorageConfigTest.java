@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.logical.Not;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -102,4 +106,63 @@ class MetadataStorageConfigTest {
         MetadataHandler jsonbHandler = MetadataHandlerFactory.create(jsonbConfig);
         assertThat(jsonbHandler).isInstanceOf(JsonbMetadataHandler.class);
     }
+
+    @Test
+    void configuredIndexDefinitions() {
+        MetadataHandler jsonbHandler = MetadataHandlerFactory.create(DefaultMetadataStorageConfig.combinedJsonb());
+        assertThat(jsonbHandler.indexDefinitions("public.docs"))
+                .containsExactly(
+                        "CREATE INDEX IF NOT EXISTS public_docs_metadata_idx ON public.docs USING GIN (metadata)");
+
+        MetadataHandler columnHandler = MetadataHandlerFactory.create(
+                DefaultMetadataStorageConfig.columnPerKey(Arrays.asList("tenant TEXT", "year INTEGER")));
+        assertThat(columnHandler.indexDefinitions("docs")).isEmpty();
+
+        MetadataHandler jsonHandler = MetadataHandlerFactory.create(DefaultMetadataStorageConfig.combinedJson());
+        assertThat(jsonHandler.indexDefinitions("docs")).isEmpty();
+    }
+
+    @Test
+    void derivedIndexDefinitions() {
+        MetadataStorageConfig jsonbConfig =
+                DefaultMetadataStorageConfig.builder().deriveIndexes(true).build();
+        assertThat(MetadataHandlerFactory.create(jsonbConfig).indexDefinitions("public.docs"))
+                .containsExactly("CREATE INDEX IF NOT EXISTS public_docs_metadata_path_ops_idx ON public.docs "
+                        + "USING GIN (metadata jsonb_path_ops)");
+
+        MetadataStorageConfig columnConfig = DefaultMetadataStorageConfig.builder()
+                .storageMode(MetadataStorageMode.COLUMN_PER_KEY)
+                .columnDefinitions(Arrays.asList("tenant TEXT", "year INTEGER"))
+                .deriveIndexes(true)
+                .build();
+        assertThat(MetadataHandlerFactory.create(columnConfig).indexDefinitions("docs"))
+                .containsExactly(
+                        "CREATE INDEX IF NOT EXISTS idx_docs_tenant ON docs USING BTREE ( tenant )",
+                        "CREATE INDEX IF NOT EXISTS idx_docs_year ON docs USING BTREE ( year )");
+    }
+
+    @Test
+    void jsonbEqualityFiltersUseContainment() {
+        MetadataHandler handler = MetadataHandlerFactory.create(DefaultMetadataStorageConfig.combinedJsonb());
+        UUID uuid = UUID.fromString("6f1c1d62-4a0e-4d4c-9a1a-4e7c8a0d2b11");
+
+        assertThat(handler.whereClause(new IsEqualTo("tenant", "o'neil")))
+                .isEqualTo("metadata @> '{\"tenant\":\"o''neil\"}'::jsonb");
+        assertThat(handler.whereClause(new IsEqualTo("year", 2024)))
+                .isEqualTo("metadata @> '{\"year\":\"2024\"}'::jsonb");
+        assertThat(handler.whereClause(new IsEqualTo("uid", uuid)))
+                .isEqualTo("metadata @> '{\"uid\":\"" + uuid + "\"}'::jsonb");
+        assertThat(handler.whereClause(new Not(new IsEqualTo("tenant", "acme"))))
+                .isEqualTo("not(metadata @> '{\"tenant\":\"acme\"}'::jsonb)");
+
+        // the string form of floating point values is not canonical
+        assertThat(handler.whereClause(new IsEqualTo("score", 0.5)))
+                .isEqualTo("(metadata->>'score')::float8 is not null and (metadata->>'score')::float8 = 0.5");
+        assertThat(handler.whereClause(new IsGreaterThan("year", 2000))).isEqualTo("(metadata->>'year')::int > 2000");
+
+        // JSON has no containment operator
+        MetadataHandler jsonHandler = MetadataHandlerFactory.create(DefaultMetadataStorageConfig.combinedJson());
+        assertThat(jsonHandler.whereClause(new IsEqualTo("tenant", "acme")))
+                .isEqualTo("(metadata->>'tenant')::text is not null and (metadata->>'tenant')::text = 'acme'");
+    }
 }
@@ -0,0 +1,110 @@
+package dev.langchain4j.community.store.embedding.yugabytedb;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests {@link YugabyteDBEmbeddingStore#searchAll(List)} against the individual searches.
+ */
+class YugabyteDBBatchSearchIT extends YugabyteDBTestBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(YugabyteDBBatchSearchIT.class);
+
+    @AfterEach
+    void cleanup() {
+        dropTestTables("batch_search_test", "batch_search_ef_test");
+    }
+
+    @Test
+    void should_return_the_matches_of_the_individual_searches() {
+        YugabyteDBEmbeddingStore store = createStore("batch_search_test");
+        List<Embedding> embeddings = addDocuments(store, 100);
+
+        List<EmbeddingSearchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            EmbeddingSearchRequest.EmbeddingSearchRequestBuilder request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 7))
+                    .maxResults(3 + i % 4)
+                    .minScore(i % 2 == 0 ? 0.0 : 0.8);
+            if (i % 3 == 0) {
+                request.filter(metadataKey("category").isEqualTo("category-" + (i % 5)));
+            }
+            requests.add(request.build());
+        }
+
+        long start = System.nanoTime();
+        List<EmbeddingSearchResult<TextSegment>> expected = new ArrayList<>();
+        for (EmbeddingSearchRequest request : requests) {
+            expected.add(store.search(request));
+        }
+        long individualTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<EmbeddingSearchResult<TextSegment>> actual = store.searchAll(requests);
+        long batchTime = System.nanoTime() - start;
+
+        logger.info(
+                "[TEST] {} queries: individual searches in {} ms, batch search in {} ms",
+                requests.size(),
+                individualTime / 1_000_000,
+                batchTime / 1_000_000);
+
+        assertThat(actual).hasSameSizeAs(requests);
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(actual.get(i).matches())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected.get(i).matches());
+            assertThat(actual.get(i).matches()).hasSizeLessThanOrEqualTo(requests.get(i).maxResults());
+        }
+    }
+
+    @Test
+    void should_search_with_ef_search() {
+        createStore("batch_search_ef_test");
+        YugabyteDBEmbeddingStore store = YugabyteDBEmbeddingStore.builder()
+                .engine(engine)
+                .schema(YugabyteDBSchema.builder()
+                        .tableName("batch_search_ef_test")
+                        .dimension(384)
+                        .createTableIfNotExists(false)
+                        .build())
+                .efSearch(64)
+                .build();
+        List<Embedding> embeddings = addDocuments(store, 20);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(0))
+                .maxResults(5)
+                .build();
+
+        assertThat(store.search(request).matches()).hasSize(5);
+        assertThat(store.searchAll(List.of(request, request)))
+                .allSatisfy(result -> assertThat(result.matches()).hasSize(5));
+    }
+
+    private List<Embedding> addDocuments(YugabyteDBEmbeddingStore store, int count) {
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TextSegment segment = TextSegment.from(
+                    "Batch search document " + i + " about topic " + (i % 10),
+                    new Metadata().put("category", "category-" + (i % 5)));
+            segments.add(segment);
+            embeddings.add(embeddingModel.embed(segment).content());
+        }
+        store.addAll(embeddings, segments);
+        return embeddings;
+    }
+}
@@ -0,0 +1,244 @@
+package dev.langchain4j.community.store.embedding.yugabytedb;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks the bulk upserts of {@link YugabyteDBEmbeddingStore} against the single batch insert,
+ * and compares their throughput.
+ * PostgreSQL with pgvector stands in for YugabyteDB, so the tests can run locally in seconds.
+ * The throughput comparison only runs when the `bulkBenchmarkRows` system property is set,
+ * e.g. `-DbulkBenchmarkRows=20000`, the dimension can be changed via `bulkBenchmarkDimension`.
+ */
+@Testcontainers
+class YugabyteDBBulkUpsertIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(YugabyteDBBulkUpsertIT.class);
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("bulkBenchmarkRows", 100);
+    private static final int BENCHMARK_DIMENSION = Integer.getInteger("bulkBenchmarkDimension", 384);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("pgvector/pgvector:pg16");
+
+    private static YugabyteDBEngine engine;
+
+    private final Random random = new Random(42);
+
+    @BeforeAll
+    static void beforeAll() {
+        engine = YugabyteDBEngine.builder()
+                .host(postgres.getHost())
+                .port(postgres.getFirstMappedPort())
+                .database("test")
+                .username("test")
+                .password("test")
+                .usePostgreSQLDriver(true)
+                .maxPoolSize(8)
+                .minPoolSize(1)
+                .build();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        engine.close();
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        try (Connection connection = engine.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String table : List.of("single_batch", "bulk_batch", "bulk_multi_row", "bulk_upsert", "benchmark")) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+        }
+    }
+
+    @Test
+    void should_write_the_same_rows_as_the_single_batch() {
+        int dimension = 8;
+        List<String> ids = IntStream.range(0, 500).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(ids.size(), dimension);
+        List<TextSegment> segments = IntStream.range(0, ids.size())
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i).put("age", i)))
+                .toList();
+
+        YugabyteDBEmbeddingStore singleBatchStore = createStore("single_batch", dimension).build();
+        YugabyteDBEmbeddingStore batchStore = createStore("bulk_batch", dimension)
+                .bulkBatchSize(64)
+                .bulkConcurrency(4)
+                .build();
+        YugabyteDBEmbeddingStore multiRowStore = createStore("bulk_multi_row", dimension)
+                .bulkBatchSize(64)
+                .bulkConcurrency(4)
+                .multiRowInsert(true)
+                .build();
+        singleBatchStore.addAll(ids, embeddings, segments);
+        batchStore.addAll(ids, embeddings, segments);
+        multiRowStore.addAll(ids, embeddings, segments);
+
+        for (int i = 0; i < 5; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i * 13))
+                    .maxResults(10)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> expected = singleBatchStore.search(request).matches();
+
+            assertThat(expected).hasSize(10);
+            assertThat(batchStore.search(request).matches())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+            assertThat(multiRowStore.search(request).matches())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void should_keep_the_last_occurrence_of_a_repeated_id() throws SQLException {
+        int dimension = 8;
+        List<String> ids = IntStream.range(0, 100).mapToObj(i -> randomUUID()).toList();
+        YugabyteDBEmbeddingStore store = createStore("bulk_upsert", dimension)
+                .bulkBatchSize(16)
+                .bulkConcurrency(2)
+                .multiRowInsert(true)
+                .build();
+        store.addAll(
+                ids,
+                randomEmbeddings(ids.size(), dimension),
+                ids.stream().map(id -> TextSegment.from("original")).toList());
+
+        // the first half again with new texts, and the last row twice
+        List<String> upsertIds = new ArrayList<>(ids.subList(0, 50));
+        upsertIds.add(ids.get(99));
+        upsertIds.add(ids.get(99));
+        List<Embedding> upsertEmbeddings = randomEmbeddings(upsertIds.size(), dimension);
+        List<TextSegment> upsertSegments = IntStream.range(0, upsertIds.size())
+                .mapToObj(i -> TextSegment.from("updated-" + i))
+                .toList();
+        store.addAll(upsertIds, upsertEmbeddings, upsertSegments);
+
+        try (Connection connection = engine.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT count(*), count(*) FILTER (WHERE content LIKE 'updated-%') FROM bulk_upsert")) {
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).isEqualTo(100);
+            assertThat(resultSet.getInt(2)).isEqualTo(51);
+        }
+
+        EmbeddingMatch<TextSegment> match = store.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(upsertEmbeddings.get(51))
+                        .maxResults(1)
+                        .build())
+                .matches()
+                .get(0);
+        assertThat(match.embeddingId()).isEqualTo(ids.get(99));
+        assertThat(match.embedded().text()).isEqualTo("updated-51");
+    }
+
+    @Test
+    void should_reject_a_multi_row_batch_exceeding_the_bind_parameters() {
+        assertThatThrownBy(() -> createStore("bulk_multi_row", 8)
+                        .bulkBatchSize(20_000)
+                        .multiRowInsert(true)
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bind parameters");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "bulkBenchmarkRows", matches = "\\d+")
+    void should_compare_the_single_batch_and_bulk_upsert_throughput() {
+        List<String> ids =
+                IntStream.range(0, BENCHMARK_ROWS).mapToObj(i -> randomUUID()).toList();
+        List<Embedding> embeddings = randomEmbeddings(BENCHMARK_ROWS, BENCHMARK_DIMENSION);
+        List<TextSegment> segments = IntStream.range(0, BENCHMARK_ROWS)
+                .mapToObj(i -> TextSegment.from("text-" + i, new Metadata().put("name", "name-" + i)))
+                .toList();
+
+        benchmark("single batch", createStore("benchmark", BENCHMARK_DIMENSION), ids, embeddings, segments);
+        for (int batchSize : new int[] {500, 2_000}) {
+            for (boolean multiRowInsert : new boolean[] {false, true}) {
+                for (int concurrency : new int[] {1, 4}) {
+                    YugabyteDBEmbeddingStore.Builder builder = createStore("benchmark", BENCHMARK_DIMENSION)
+                            .bulkBatchSize(batchSize)
+                            .bulkConcurrency(concurrency)
+                            .multiRowInsert(multiRowInsert);
+                    String mode = String.format(
+                            "batch size %d, %s x%d",
+                            batchSize, multiRowInsert ? "multi-row" : "JDBC batch", concurrency);
+                    benchmark(mode, builder, ids, embeddings, segments);
+                }
+            }
+        }
+    }
+
+    private void benchmark(
+            String mode,
+            YugabyteDBEmbeddingStore.Builder builder,
+            List<String> ids,
+            List<Embedding> embeddings,
+            List<TextSegment> segments) {
+        YugabyteDBEmbeddingStore store = builder.build();
+        store.removeAll();
+
+        long start = System.nanoTime();
+        store.addAll(ids, embeddings, segments);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        logger.info(
+                "[{} rows, {} dimensions] {}: {} rows/s",
+                ids.size(),
+                BENCHMARK_DIMENSION,
+                mode,
+                Math.round(ids.size() / seconds));
+    }
+
+    private static YugabyteDBEmbeddingStore.Builder createStore(String tableName, int dimension) {
+        return YugabyteDBEmbeddingStore.builder()
+                .engine(engine)
+                .tableName(tableName)
+                .dimension(dimension)
+                .metricType(MetricType.COSINE)
+                .createTableIfNotExists(true);
+    }
+
+    private List<Embedding> randomEmbeddings(int count, int dimension) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    float[] vector = new float[dimension];
+                    for (int j = 0; j < dimension; j++) {
+                        vector[j] = random.nextFloat() * 2 - 1;
+                    }
+                    return Embedding.from(vector);
+                })
+                .toList();
+    }
+}
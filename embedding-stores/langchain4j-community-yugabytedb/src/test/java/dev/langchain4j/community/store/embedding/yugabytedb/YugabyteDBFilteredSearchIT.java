@@ -0,0 +1,178 @@
+package dev.langchain4j.community.store.embedding.yugabytedb;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests the derived metadata indexes and the filter modes of {@link YugabyteDBEmbeddingStore}
+ * on tenant-partitioned data, against the exact results of the inline filter without vector index.
+ */
+class YugabyteDBFilteredSearchIT extends YugabyteDBTestBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(YugabyteDBFilteredSearchIT.class);
+
+    private static final int DIMENSION = 16;
+    private static final int TENANTS = 50;
+    private static final int ROWS = 2_000;
+
+    private final Random random = new Random(42);
+
+    @AfterEach
+    void cleanup() {
+        dropTestTables("filtered_search_jsonb_test", "filtered_search_column_test");
+    }
+
+    @Test
+    void should_return_the_exact_matches_with_every_filter_mode_on_jsonb_metadata() throws SQLException {
+        MetadataStorageConfig config =
+                DefaultMetadataStorageConfig.builder().deriveIndexes(true).build();
+
+        assertExactMatchesWithEveryFilterMode("filtered_search_jsonb_test", config);
+        assertThat(indexDefinitions("filtered_search_jsonb_test")).anyMatch(index -> index.contains("jsonb_path_ops"));
+    }
+
+    @Test
+    void should_return_the_exact_matches_with_every_filter_mode_on_metadata_columns() throws SQLException {
+        MetadataStorageConfig config = DefaultMetadataStorageConfig.builder()
+                .storageMode(MetadataStorageMode.COLUMN_PER_KEY)
+                .columnDefinitions(List.of("tenant TEXT", "category TEXT"))
+                .deriveIndexes(true)
+                .build();
+
+        assertExactMatchesWithEveryFilterMode("filtered_search_column_test", config);
+        assertThat(indexDefinitions("filtered_search_column_test"))
+                .anyMatch(index -> index.contains("idx_filtered_search_column_test_tenant"))
+                .anyMatch(index -> index.contains("idx_filtered_search_column_test_category"));
+    }
+
+    private void assertExactMatchesWithEveryFilterMode(String tableName, MetadataStorageConfig config)
+            throws SQLException {
+        List<Embedding> embeddings = addDocuments(createStore(tableName, config, FilterMode.INLINE, true));
+        analyze(tableName);
+
+        List<Filter> filters = List.of(
+                // one tenant out of 50: pre-filtered by AUTO
+                metadataKey("tenant").isEqualTo("tenant-7"),
+                // half of the rows: post-filtered by AUTO
+                metadataKey("category").isEqualTo("even"),
+                metadataKey("tenant").isEqualTo("tenant-7").and(metadataKey("category").isEqualTo("odd")));
+
+        YugabyteDBEmbeddingStore exactStore = createStore(tableName, config, FilterMode.INLINE, false);
+        YugabyteDBEmbeddingStore preFilterStore = createStore(tableName, config, FilterMode.PRE_FILTER, false);
+        YugabyteDBEmbeddingStore postFilterStore = createStore(tableName, config, FilterMode.POST_FILTER, false);
+        YugabyteDBEmbeddingStore autoStore = createStore(tableName, config, FilterMode.AUTO, false);
+
+        for (Filter filter : filters) {
+            for (int i = 0; i < 3; i++) {
+                EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddings.get(i * 101))
+                        .maxResults(10)
+                        .filter(filter)
+                        .build();
+
+                List<EmbeddingMatch<TextSegment>> expected = exactStore.search(request).matches();
+                List<EmbeddingMatch<TextSegment>> postFiltered = postFilterStore.search(request).matches();
+
+                assertThat(expected).isNotEmpty();
+                assertThat(preFilterStore.search(request).matches())
+                        .usingRecursiveComparison()
+                        .isEqualTo(expected);
+                assertThat(autoStore.search(request).matches())
+                        .usingRecursiveComparison()
+                        .isEqualTo(expected);
+                // the candidates are exact without vector index, but may not contain all the matches
+                assertThat(postFiltered)
+                        .usingRecursiveComparison()
+                        .isEqualTo(expected.subList(0, postFiltered.size()));
+            }
+
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(0))
+                    .maxResults(10)
+                    .filter(filter)
+                    .build();
+            logger.info(
+                    "[TEST] {}: inline {} ms, pre-filter {} ms, post-filter {} ms, auto {} ms",
+                    filter,
+                    time(exactStore, request),
+                    time(preFilterStore, request),
+                    time(postFilterStore, request),
+                    time(autoStore, request));
+        }
+    }
+
+    private YugabyteDBEmbeddingStore createStore(
+            String tableName, MetadataStorageConfig config, FilterMode filterMode, boolean createTable) {
+        return YugabyteDBEmbeddingStore.builder()
+                .engine(engine)
+                .tableName(tableName)
+                .dimension(DIMENSION)
+                .metricType(MetricType.COSINE)
+                .metadataStorageConfig(config)
+                .filterMode(filterMode)
+                .createTableIfNotExists(createTable)
+                .build();
+    }
+
+    private List<Embedding> addDocuments(YugabyteDBEmbeddingStore store) {
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            float[] vector = new float[DIMENSION];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = random.nextFloat() * 2 - 1;
+            }
+            embeddings.add(Embedding.from(vector));
+            Metadata metadata = new Metadata()
+                    .put("tenant", "tenant-" + (i % TENANTS))
+                    .put("category", i % 2 == 0 ? "even" : "odd");
+            segments.add(TextSegment.from("Document " + i, metadata));
+        }
+        store.addAll(embeddings, segments);
+        return embeddings;
+    }
+
+    private void analyze(String tableName) throws SQLException {
+        try (Connection connection = engine.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + tableName);
+        }
+    }
+
+    private List<String> indexDefinitions(String tableName) throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        try (Connection connection = engine.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT indexdef FROM pg_indexes WHERE tablename = '" + tableName + "'")) {
+            while (resultSet.next()) {
+                definitions.add(resultSet.getString(1));
+            }
+        }
+        return definitions;
+    }
+
+    private long time(YugabyteDBEmbeddingStore store, EmbeddingSearchRequest request) {
+        long start = System.nanoTime();
+        store.search(request);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
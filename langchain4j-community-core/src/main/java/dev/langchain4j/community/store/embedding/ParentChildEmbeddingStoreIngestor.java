@@ -1,8 +1,11 @@
 package dev.langchain4j.community.store.embedding;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static java.util.stream.Collectors.toList;
 
 import dev.langchain4j.Experimental;
+import dev.langchain4j.community.store.embedding.ParentChildIngestionMetrics.Stage;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
@@ -17,7 +20,16 @@ import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 import dev.langchain4j.store.embedding.IngestionResult;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +47,15 @@ import org.slf4j.LoggerFactory;
  * embedding generation and storage—for example, splitting chapters into paragraphs and then embedding
  * both levels separately.
  * </p>
+ * <p>
+ * By default, the child segments of each parent are embedded and stored one parent at a time.
+ * When {@code pipelined} is enabled, the ingestion runs as a staged pipeline instead:
+ * the child segments of consecutive parents are grouped into batches of up to {@code embeddingBatchSize} segments,
+ * which are embedded by {@code embeddingConcurrency} workers and stored by {@code storeConcurrency} workers.
+ * At most {@code queueCapacity} batches wait in front of each of the two stages, so that a slow embedding model
+ * or store throttles the splitting instead of buffering the whole corpus in memory.
+ * The per-stage counters are available via {@link #getIngestionMetrics()}.
+ * </p>
  *
  * @see EmbeddingStoreIngestor
  * @since 1.1.0-beta7
@@ -43,14 +64,27 @@ import org.slf4j.LoggerFactory;
 public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(ParentChildEmbeddingStoreIngestor.class);
-    private final DocumentTransformer documentTransformer;
-    private final DocumentSplitter documentSplitter;
+
+    public static final int DEFAULT_EMBEDDING_BATCH_SIZE = 64;
+    public static final int DEFAULT_EMBEDDING_CONCURRENCY = 1;
+    public static final int DEFAULT_STORE_CONCURRENCY = 1;
+    public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+    protected final DocumentTransformer documentTransformer;
+    protected final DocumentSplitter documentSplitter;
     protected TextSegmentTransformer textSegmentTransformer;
     protected TextSegmentTransformer childTextSegmentTransformer;
-    private final EmbeddingModel embeddingModel;
+    protected final EmbeddingModel embeddingModel;
     protected EmbeddingStore<TextSegment> embeddingStore;
 
-    private final DocumentSplitter documentChildSplitter;
+    protected final DocumentSplitter documentChildSplitter;
+
+    private final boolean pipelined;
+    private final int embeddingBatchSize;
+    private final int embeddingConcurrency;
+    private final int storeConcurrency;
+    private final int queueCapacity;
+    private final ParentChildIngestionMetrics ingestionMetrics = new ParentChildIngestionMetrics();
 
     /**
      * Create an instance of ParentChildEmbeddingStoreIngestor, which processes documents through a pipeline
@@ -73,6 +107,51 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
             EmbeddingModel embeddingModel,
             EmbeddingStore<TextSegment> embeddingStore,
             DocumentSplitter documentChildSplitter) {
+        this(
+                documentTransformer,
+                documentSplitter,
+                textSegmentTransformer,
+                childTextSegmentTransformer,
+                embeddingModel,
+                embeddingStore,
+                documentChildSplitter,
+                false,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    /**
+     * Create an instance of ParentChildEmbeddingStoreIngestor, optionally running the embedding and storage
+     * of the segments as a concurrent pipeline.
+     *
+     * @param documentTransformer         The {@link DocumentTransformer} to preprocess or normalize documents before splitting.
+     * @param documentSplitter            The {@link DocumentSplitter} used to split documents into higher-level (parent) segments.
+     * @param textSegmentTransformer      The {@link TextSegmentTransformer} applied to each parent segment before embedding.
+     * @param childTextSegmentTransformer The {@link TextSegmentTransformer} applied to child segments derived from parents.
+     * @param embeddingModel              The {@link EmbeddingModel} used to generate vector embeddings for both parent and child segments.
+     * @param embeddingStore              The {@link EmbeddingStore} used to persist the generated embeddings.
+     * @param documentChildSplitter       The {@link DocumentSplitter} responsible for generating child segments from parent segments.
+     * @param pipelined                   Whether the segments are embedded and stored by a concurrent, batched pipeline.
+     * @param embeddingBatchSize          The maximum number of segments sent in a single {@code embedAll} call in pipelined mode. Default: {@value #DEFAULT_EMBEDDING_BATCH_SIZE}
+     * @param embeddingConcurrency        The number of concurrent embedding workers in pipelined mode. Default: {@value #DEFAULT_EMBEDDING_CONCURRENCY}
+     * @param storeConcurrency            The number of concurrent store workers in pipelined mode. Default: {@value #DEFAULT_STORE_CONCURRENCY}
+     * @param queueCapacity               The maximum number of batches waiting in front of each stage in pipelined mode. Default: {@value #DEFAULT_QUEUE_CAPACITY}
+     */
+    public ParentChildEmbeddingStoreIngestor(
+            DocumentTransformer documentTransformer,
+            DocumentSplitter documentSplitter,
+            TextSegmentTransformer textSegmentTransformer,
+            TextSegmentTransformer childTextSegmentTransformer,
+            EmbeddingModel embeddingModel,
+            EmbeddingStore<TextSegment> embeddingStore,
+            DocumentSplitter documentChildSplitter,
+            boolean pipelined,
+            Integer embeddingBatchSize,
+            Integer embeddingConcurrency,
+            Integer storeConcurrency,
+            Integer queueCapacity) {
         super(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore);
         this.documentTransformer = documentTransformer;
         this.documentSplitter = documentSplitter;
@@ -81,6 +160,22 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
         this.embeddingModel = embeddingModel;
         this.embeddingStore = embeddingStore;
         this.documentChildSplitter = documentChildSplitter;
+        this.pipelined = pipelined;
+        this.embeddingBatchSize = ensureGreaterThanZero(
+                getOrDefault(embeddingBatchSize, DEFAULT_EMBEDDING_BATCH_SIZE), "embeddingBatchSize");
+        this.embeddingConcurrency = ensureGreaterThanZero(
+                getOrDefault(embeddingConcurrency, DEFAULT_EMBEDDING_CONCURRENCY), "embeddingConcurrency");
+        this.storeConcurrency =
+                ensureGreaterThanZero(getOrDefault(storeConcurrency, DEFAULT_STORE_CONCURRENCY), "storeConcurrency");
+        this.queueCapacity =
+                ensureGreaterThanZero(getOrDefault(queueCapacity, DEFAULT_QUEUE_CAPACITY), "queueCapacity");
+    }
+
+    /**
+     * @return the per-stage counters collected while ingesting in pipelined mode
+     */
+    public ParentChildIngestionMetrics getIngestionMetrics() {
+        return ingestionMetrics;
     }
 
     @Override
@@ -104,6 +199,10 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
             log.debug("Text segments were transformed into {} text segments", documents.size());
         }
 
+        if (pipelined) {
+            return ingestPipelined(segments);
+        }
+
         if (documentChildSplitter != null) {
             TokenUsage totalUsage = new TokenUsage();
             for (TextSegment segment : segments) {
@@ -136,6 +235,157 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
         return new IngestionResult(embeddingsResponse.tokenUsage());
     }
 
+    /**
+     * Runs the split → transform → embed → store stages concurrently.
+     * The calling thread splits and transforms the parents, and groups their children into batches, which are
+     * handed over to the embedding workers and then to the store workers.
+     * Each hand-over blocks once {@code queueCapacity} batches are waiting for the next stage.
+     */
+    private IngestionResult ingestPipelined(List<TextSegment> parents) {
+        log.debug("Starting pipelined ingestion of {} text segments", parents.size());
+        long start = System.nanoTime();
+
+        Pipeline pipeline = new Pipeline();
+        try {
+            List<TextSegment> batch = new ArrayList<>(embeddingBatchSize);
+            for (TextSegment parent : parents) {
+                if (pipeline.failed()) {
+                    break;
+                }
+                for (TextSegment child : splitAndTransform(parent)) {
+                    batch.add(child);
+                    if (batch.size() == embeddingBatchSize) {
+                        pipeline.submit(batch);
+                        batch = new ArrayList<>(embeddingBatchSize);
+                    }
+                }
+            }
+            if (!batch.isEmpty() && !pipeline.failed()) {
+                pipeline.submit(batch);
+            }
+            return new IngestionResult(pipeline.await());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while ingesting the text segments", e);
+        } finally {
+            pipeline.shutdown();
+            ingestionMetrics.recordElapsed(System.nanoTime() - start);
+            log.debug("Finished pipelined ingestion: {}", ingestionMetrics);
+        }
+    }
+
+    private List<TextSegment> splitAndTransform(TextSegment parent) {
+        if (documentChildSplitter == null) {
+            return List.of(parent);
+        }
+
+        long start = System.nanoTime();
+        // Convert back to Document to apply DocumentSplitter
+        Document parentDoc = Document.from(parent.text(), parent.metadata());
+        List<TextSegment> childSegments = documentChildSplitter.split(parentDoc);
+        ingestionMetrics.record(Stage.SPLIT, childSegments.size(), System.nanoTime() - start);
+
+        if (childTextSegmentTransformer == null) {
+            return childSegments;
+        }
+        start = System.nanoTime();
+        childSegments = childSegments.stream()
+                .map(childTextSegmentTransformer::transform)
+                .toList();
+        ingestionMetrics.record(Stage.TRANSFORM, childSegments.size(), System.nanoTime() - start);
+        return childSegments;
+    }
+
+    /**
+     * The embedding and store stages of a single {@code ingest} call.
+     * The semaphores bound the number of batches submitted to each stage and not completed yet.
+     */
+    private class Pipeline {
+
+        private final ExecutorService embeddingExecutor = Executors.newFixedThreadPool(embeddingConcurrency);
+        private final ExecutorService storeExecutor = Executors.newFixedThreadPool(storeConcurrency);
+        private final Semaphore embeddingQueue = new Semaphore(queueCapacity);
+        private final Semaphore storeQueue = new Semaphore(queueCapacity);
+        private final List<Future<?>> embeddingFutures = new ArrayList<>();
+        private final Queue<Future<?>> storeFutures = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final AtomicReference<TokenUsage> totalUsage = new AtomicReference<>(new TokenUsage());
+
+        private boolean failed() {
+            return failure.get() != null;
+        }
+
+        private void submit(List<TextSegment> segments) throws InterruptedException {
+            embeddingQueue.acquire();
+            embeddingFutures.add(embeddingExecutor.submit(() -> embed(segments)));
+        }
+
+        private Void embed(List<TextSegment> segments) throws InterruptedException {
+            try {
+                if (failed()) {
+                    return null;
+                }
+                long start = System.nanoTime();
+                Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
+                ingestionMetrics.record(Stage.EMBED, segments.size(), System.nanoTime() - start);
+                totalUsage.accumulateAndGet(embeddingsResponse.tokenUsage(), TokenUsage::add);
+
+                // the embedding permit is held until the store stage has room, so that backpressure propagates
+                storeQueue.acquire();
+                storeFutures.add(storeExecutor.submit(() -> store(embeddingsResponse.content(), segments)));
+                return null;
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                embeddingQueue.release();
+            }
+        }
+
+        private Void store(List<Embedding> embeddings, List<TextSegment> segments) {
+            try {
+                if (failed()) {
+                    return null;
+                }
+                long start = System.nanoTime();
+                embeddingStore.addAll(embeddings, segments);
+                ingestionMetrics.record(Stage.STORE, segments.size(), System.nanoTime() - start);
+                return null;
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                storeQueue.release();
+            }
+        }
+
+        private TokenUsage await() throws InterruptedException {
+            try {
+                // all the store tasks are submitted once the embedding tasks are done
+                for (Future<?> future : embeddingFutures) {
+                    future.get();
+                }
+                for (Future<?> future : storeFutures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                if (failed()) {
+                    throw failure.get();
+                }
+                throw new RuntimeException(e.getCause());
+            }
+            if (failed()) {
+                throw failure.get();
+            }
+            return totalUsage.get();
+        }
+
+        private void shutdown() {
+            embeddingExecutor.shutdownNow();
+            storeExecutor.shutdownNow();
+        }
+    }
+
     public static ParentChildEmbeddingStoreIngestor.Builder builder() {
         return new ParentChildEmbeddingStoreIngestor.Builder();
     }
@@ -149,6 +399,11 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
         public TextSegmentTransformer childTextSegmentTransformer;
         public EmbeddingModel embeddingModel;
         public EmbeddingStore<TextSegment> embeddingStore;
+        public boolean pipelined;
+        public Integer embeddingBatchSize;
+        public Integer embeddingConcurrency;
+        public Integer storeConcurrency;
+        public Integer queueCapacity;
 
         protected B self() {
             return (B) this;
@@ -181,6 +436,63 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
             return self();
         }
 
+        /**
+         * Sets whether the segments are embedded and stored by a concurrent, batched pipeline. Default: {@code false}
+         *
+         * @param pipelined whether the pipelined mode is enabled.
+         * @return {@code this}
+         */
+        public B pipelined(boolean pipelined) {
+            this.pipelined = pipelined;
+            return self();
+        }
+
+        /**
+         * Sets the maximum number of segments, possibly from different parents, sent in a single
+         * {@code embedAll} call in pipelined mode. Default: {@value #DEFAULT_EMBEDDING_BATCH_SIZE}
+         *
+         * @param embeddingBatchSize the embedding batch size.
+         * @return {@code this}
+         */
+        public B embeddingBatchSize(Integer embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+            return self();
+        }
+
+        /**
+         * Sets the number of concurrent embedding workers in pipelined mode. Default: {@value #DEFAULT_EMBEDDING_CONCURRENCY}
+         *
+         * @param embeddingConcurrency the number of embedding workers.
+         * @return {@code this}
+         */
+        public B embeddingConcurrency(Integer embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return self();
+        }
+
+        /**
+         * Sets the number of concurrent store workers in pipelined mode. Default: {@value #DEFAULT_STORE_CONCURRENCY}
+         *
+         * @param storeConcurrency the number of store workers.
+         * @return {@code this}
+         */
+        public B storeConcurrency(Integer storeConcurrency) {
+            this.storeConcurrency = storeConcurrency;
+            return self();
+        }
+
+        /**
+         * Sets the maximum number of batches waiting in front of the embedding and the store stages
+         * in pipelined mode. Default: {@value #DEFAULT_QUEUE_CAPACITY}
+         *
+         * @param queueCapacity the queue capacity.
+         * @return {@code this}
+         */
+        public B queueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return self();
+        }
+
         /**
          * Sets the document transformer. Optional.
          *
@@ -259,7 +571,12 @@ public class ParentChildEmbeddingStoreIngestor extends EmbeddingStoreIngestor {
                     childTextSegmentTransformer,
                     embeddingModel,
                     embeddingStore,
-                    documentChildSplitter);
+                    documentChildSplitter,
+                    pipelined,
+                    embeddingBatchSize,
+                    embeddingConcurrency,
+                    storeConcurrency,
+                    queueCapacity);
         }
     }
 }
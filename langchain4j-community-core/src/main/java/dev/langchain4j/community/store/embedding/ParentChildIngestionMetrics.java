@@ -0,0 +1,141 @@
+package dev.langchain4j.community.store.embedding;
+
+import dev.langchain4j.Experimental;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative, thread-safe per-stage counters collected by {@link ParentChildEmbeddingStoreIngestor}
+ * while running in pipelined mode.
+ * <p>
+ * A single instance is shared by all the {@code ingest} calls of an ingestor, and can be obtained via
+ * {@link ParentChildEmbeddingStoreIngestor#getIngestionMetrics()}.
+ */
+@Experimental
+public class ParentChildIngestionMetrics {
+
+    /**
+     * The stages of the ingestion pipeline.
+     */
+    public enum Stage {
+        /**
+         * Splitting of the parent segments into child segments.
+         */
+        SPLIT,
+        /**
+         * Transformation of the child segments.
+         */
+        TRANSFORM,
+        /**
+         * Calls to {@code EmbeddingModel.embedAll}.
+         */
+        EMBED,
+        /**
+         * Calls to {@code EmbeddingStore.addAll}.
+         */
+        STORE
+    }
+
+    private final Map<Stage, StageCounters> stages = new EnumMap<>(Stage.class);
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    public ParentChildIngestionMetrics() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new StageCounters());
+        }
+    }
+
+    void record(Stage stage, int items, long nanos) {
+        StageCounters counters = stages.get(stage);
+        counters.calls.increment();
+        counters.items.add(items);
+        counters.nanos.add(nanos);
+    }
+
+    void recordElapsed(long nanos) {
+        elapsedNanos.add(nanos);
+    }
+
+    /**
+     * @param stage the pipeline stage
+     * @return the number of calls made by the stage
+     */
+    public long getCalls(Stage stage) {
+        return stages.get(stage).calls.sum();
+    }
+
+    /**
+     * @param stage the pipeline stage
+     * @return the number of segments produced by the stage
+     */
+    public long getItems(Stage stage) {
+        return stages.get(stage).items.sum();
+    }
+
+    /**
+     * @param stage the pipeline stage
+     * @return the average duration of a single call of the stage, in milliseconds
+     */
+    public double getAverageLatencyMillis(Stage stage) {
+        long calls = getCalls(stage);
+        return calls == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(stages.get(stage).nanos.sum()) / 1000 / calls;
+    }
+
+    /**
+     * @param stage the pipeline stage
+     * @return the segments processed by the stage per second of wall-clock time spent in {@code ingest}
+     */
+    public double getItemsPerSecond(Stage stage) {
+        long nanos = elapsedNanos.sum();
+        return nanos == 0 ? 0 : getItems(stage) * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * @return the wall-clock time spent in {@code ingest}, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum());
+    }
+
+    /**
+     * Resets all the counters
+     */
+    public void reset() {
+        stages.values().forEach(StageCounters::reset);
+        elapsedNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ParentChildIngestionMetrics{elapsedMillis=" + getElapsedMillis());
+        for (Stage stage : Stage.values()) {
+            builder.append(", ")
+                    .append(stage.name().toLowerCase())
+                    .append("={calls=")
+                    .append(getCalls(stage))
+                    .append(", items=")
+                    .append(getItems(stage))
+                    .append(", averageLatencyMillis=")
+                    .append(getAverageLatencyMillis(stage))
+                    .append(", itemsPerSecond=")
+                    .append(getItemsPerSecond(stage))
+                    .append('}');
+        }
+        return builder.append('}').toString();
+    }
+
+    private static class StageCounters {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void reset() {
+            calls.reset();
+            items.reset();
+            nanos.reset();
+        }
+    }
+}
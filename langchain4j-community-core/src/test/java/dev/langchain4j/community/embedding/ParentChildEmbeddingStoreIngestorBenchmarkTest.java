@@ -0,0 +1,128 @@
+package dev.langchain4j.community.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.community.store.embedding.ParentChildEmbeddingStoreIngestor;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the sequential and the pipelined modes of {@link ParentChildEmbeddingStoreIngestor},
+ * using an embedding model and an embedding store with an injected per-call latency.
+ * It only runs when the number of parents is set via the `parentChildBenchmarkParents` system property,
+ * e.g. `-DparentChildBenchmarkParents=100`.
+ */
+@EnabledIfSystemProperty(named = "parentChildBenchmarkParents", matches = "\\d+")
+class ParentChildEmbeddingStoreIngestorBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ParentChildEmbeddingStoreIngestorBenchmarkTest.class);
+
+    private static final int PARENTS = Integer.getInteger("parentChildBenchmarkParents", 100);
+    private static final int CHILDREN_PER_PARENT = 4;
+    private static final long EMBEDDING_LATENCY_MILLIS = 5;
+    private static final long STORE_LATENCY_MILLIS = 5;
+
+    private static final List<Document> documents = IntStream.range(0, PARENTS)
+            .mapToObj(i -> Document.from("first second third fourth " + i))
+            .toList();
+
+    private static final DocumentSplitter parentSplitter = document -> List.of(document.toTextSegment());
+
+    private static final DocumentSplitter childSplitter = document -> Stream.of(document.text().split(" "))
+            .limit(CHILDREN_PER_PARENT)
+            .map(TextSegment::from)
+            .toList();
+
+    @Test
+    void should_compare_sequential_and_pipelined_ingestion() {
+        LatencyEmbeddingStore sequentialStore = new LatencyEmbeddingStore();
+        long start = System.nanoTime();
+        ParentChildEmbeddingStoreIngestor.builder()
+                .documentSplitter(parentSplitter)
+                .documentChildSplitter(childSplitter)
+                .childTextSegmentTransformer(segment -> segment)
+                .embeddingModel(new LatencyEmbeddingModel())
+                .embeddingStore(sequentialStore)
+                .build()
+                .ingest(documents);
+        long sequentialMillis = (System.nanoTime() - start) / 1_000_000;
+
+        LatencyEmbeddingStore pipelinedStore = new LatencyEmbeddingStore();
+        ParentChildEmbeddingStoreIngestor pipelined = ParentChildEmbeddingStoreIngestor.builder()
+                .documentSplitter(parentSplitter)
+                .documentChildSplitter(childSplitter)
+                .embeddingModel(new LatencyEmbeddingModel())
+                .embeddingStore(pipelinedStore)
+                .pipelined(true)
+                .embeddingBatchSize(32)
+                .embeddingConcurrency(4)
+                .storeConcurrency(2)
+                .build();
+        start = System.nanoTime();
+        pipelined.ingest(documents);
+        long pipelinedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info(
+                "[{} parents, {} children] sequential: {} ms, pipelined: {} ms, {}",
+                PARENTS,
+                PARENTS * CHILDREN_PER_PARENT,
+                sequentialMillis,
+                pipelinedMillis,
+                pipelined.getIngestionMetrics());
+
+        assertThat(sequentialStore.count(PARENTS * CHILDREN_PER_PARENT)).isEqualTo(PARENTS * CHILDREN_PER_PARENT);
+        assertThat(pipelinedStore.count(PARENTS * CHILDREN_PER_PARENT)).isEqualTo(PARENTS * CHILDREN_PER_PARENT);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class LatencyEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            sleep(EMBEDDING_LATENCY_MILLIS);
+            return Response.from(textSegments.stream()
+                    .map(segment -> Embedding.from(new float[] {1, segment.text().length()}))
+                    .toList());
+        }
+    }
+
+    private static class LatencyEmbeddingStore extends InMemoryEmbeddingStore<TextSegment> {
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+            sleep(STORE_LATENCY_MILLIS);
+            return super.addAll(embeddings, embedded);
+        }
+
+        private int count(int maxResults) {
+            return search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(Embedding.from(new float[] {1, 1}))
+                            .maxResults(maxResults)
+                            .minScore(0.0)
+                            .build())
+                    .matches()
+                    .size();
+        }
+    }
+}
@@ -4,13 +4,16 @@ import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import dev.langchain4j.community.store.embedding.ParentChildEmbeddingStoreIngestor;
+import dev.langchain4j.community.store.embedding.ParentChildIngestionMetrics;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
@@ -24,6 +27,10 @@ import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.IngestionResult;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
@@ -247,4 +254,140 @@ class ParentChildEmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_batch_children_of_different_parents_in_pipelined_mode() {
+
+        // given
+        List<Document> documents = IntStream.range(0, 10)
+                .mapToObj(i -> Document.from("parent" + i + " has three children"))
+                .toList();
+
+        DocumentSplitter documentSplitter = document -> List.of(document.toTextSegment());
+        DocumentSplitter documentChildSplitter = document -> Stream.of(document.text().split(" "))
+                .limit(3)
+                .map(TextSegment::from)
+                .toList();
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(any())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(segments.size(), 0));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        ParentChildEmbeddingStoreIngestor ingestor = ParentChildEmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .documentChildSplitter(documentChildSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .pipelined(true)
+                .embeddingBatchSize(8)
+                .embeddingConcurrency(2)
+                .storeConcurrency(2)
+                .queueCapacity(1)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents);
+
+        // then 30 children in batches of 8
+        assertThat(ingestionResult.tokenUsage().inputTokenCount()).isEqualTo(30);
+        verify(embeddingModel, times(4)).embedAll(any());
+        verify(embeddingStore, times(4)).addAll(any(), any());
+
+        ParentChildIngestionMetrics metrics = ingestor.getIngestionMetrics();
+        assertThat(metrics.getCalls(ParentChildIngestionMetrics.Stage.SPLIT)).isEqualTo(10);
+        assertThat(metrics.getItems(ParentChildIngestionMetrics.Stage.SPLIT)).isEqualTo(30);
+        assertThat(metrics.getCalls(ParentChildIngestionMetrics.Stage.TRANSFORM)).isZero();
+        assertThat(metrics.getCalls(ParentChildIngestionMetrics.Stage.EMBED)).isEqualTo(4);
+        assertThat(metrics.getItems(ParentChildIngestionMetrics.Stage.EMBED)).isEqualTo(30);
+        assertThat(metrics.getCalls(ParentChildIngestionMetrics.Stage.STORE)).isEqualTo(4);
+        assertThat(metrics.getItems(ParentChildIngestionMetrics.Stage.STORE)).isEqualTo(30);
+    }
+
+    @Test
+    void should_embed_batches_concurrently_up_to_the_embedding_concurrency_in_pipelined_mode() {
+
+        // given
+        List<Document> documents = IntStream.range(0, 32)
+                .mapToObj(i -> Document.from("Document " + i))
+                .toList();
+
+        // the first two calls only return once both are running
+        CountDownLatch concurrentCalls = new CountDownLatch(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                concurrentCalls.countDown();
+                if (!concurrentCalls.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("the embedding calls were not concurrent");
+                }
+                List<TextSegment> segments = invocation.getArgument(0);
+                List<Embedding> embeddings = segments.stream()
+                        .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                        .toList();
+                return Response.from(embeddings, new TokenUsage(segments.size(), 0));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        ParentChildEmbeddingStoreIngestor ingestor = ParentChildEmbeddingStoreIngestor.builder()
+                .documentSplitter(document -> List.of(document.toTextSegment()))
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .pipelined(true)
+                .embeddingBatchSize(4)
+                .embeddingConcurrency(2)
+                .build();
+
+        // when
+        ingestor.ingest(documents);
+
+        // then
+        verify(embeddingModel, times(8)).embedAll(any());
+        verify(embeddingStore, times(8)).addAll(any(), any());
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_propagate_embedding_failure_in_pipelined_mode() {
+
+        // given
+        List<Document> documents = IntStream.range(0, 20)
+                .mapToObj(i -> Document.from("Document " + i))
+                .toList();
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(any())).thenThrow(new IllegalStateException("embedding failed"));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        ParentChildEmbeddingStoreIngestor ingestor = ParentChildEmbeddingStoreIngestor.builder()
+                .documentSplitter(document -> List.of(document.toTextSegment()))
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .pipelined(true)
+                .embeddingBatchSize(2)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(documents))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("embedding failed");
+        verifyNoMoreInteractions(embeddingStore);
+    }
 }
@@ -51,6 +51,9 @@ public class OceanBaseEmbeddingStoreAutoConfiguration {
         if (properties.getEnableHybridSearch() != null) {
             builder.enableHybridSearch(properties.getEnableHybridSearch());
         }
+        if (properties.getMaxPoolSize() != null) {
+            builder.maxPoolSize(properties.getMaxPoolSize());
+        }
 
         return builder.build();
     }
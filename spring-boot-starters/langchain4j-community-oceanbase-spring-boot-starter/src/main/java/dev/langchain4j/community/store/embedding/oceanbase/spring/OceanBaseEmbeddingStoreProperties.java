@@ -19,6 +19,7 @@ public class OceanBaseEmbeddingStoreProperties {
     private String metadataFieldName;
     private String vectorFieldName;
     private Boolean enableHybridSearch;
+    private Integer maxPoolSize;
 
     public String getUrl() {
         return url;
@@ -115,4 +116,12 @@ public class OceanBaseEmbeddingStoreProperties {
     public void setEnableHybridSearch(Boolean enableHybridSearch) {
         this.enableHybridSearch = enableHybridSearch;
     }
+
+    public Integer getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
 }